@@ -30,8 +30,9 @@ public abstract class ExcludingPatternFilter implements Filter {
     
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
-        final String url = ((HttpServletRequest) request).getRequestURL().toString();
-        if (matchExcludePatterns(url)) {
+        // the path given by the container is already decoded and normalized: no need to parse the request URL
+        final String path = URLExcludePattern.getRequestPath((HttpServletRequest) request);
+        if (matchExcludePatterns(path)) {
             excludePatternFiltering(request, response, chain);
         } else {
             proceedWithFiltering(request, response, chain);
@@ -54,7 +55,7 @@ public abstract class ExcludingPatternFilter implements Filter {
      * check the given url against the local url exclude pattern
      *
      * @param url
-     *        the url to check
+     *        the url or the normalized path to check
      * @return true if the url match the pattern
      */
     public boolean matchExcludePatterns(final String url) {
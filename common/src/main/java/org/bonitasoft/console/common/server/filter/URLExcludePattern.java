@@ -7,9 +7,13 @@ import java.util.logging.Logger;
 import java.util.regex.Pattern;
 
 import javax.servlet.FilterConfig;
+import javax.servlet.http.HttpServletRequest;
 
 import org.apache.commons.lang3.StringUtils;
 
+/**
+ * Exclude pattern of a filter, compiled once when the filter is initialized
+ */
 public class URLExcludePattern {
 
     /** the Pattern of url not to filter */
@@ -41,43 +45,67 @@ public class URLExcludePattern {
         return null;
     }
 
+    /**
+     * @return the path of the request within the server (context path, servlet path and path info), as decoded and
+     *         normalized by the container
+     */
+    public static String getRequestPath(final HttpServletRequest request) {
+        final String contextPath = StringUtils.defaultString(request.getContextPath());
+        final String servletPath = StringUtils.defaultString(request.getServletPath());
+        final String pathInfo = request.getPathInfo();
+        return pathInfo == null ? contextPath + servletPath : contextPath + servletPath + pathInfo;
+    }
+
     /**
      * check the given url against the local url exclude pattern
      *
      * @param url
-     *        the url to check
+     *        the url or the normalized path to check
      * @return true if the url match the pattern
      */
     public boolean matchExcludePatterns(final String url) {
-        try {
-            boolean isExcluded;
-            if (getExcludePattern() == null) {
-                isExcluded = false;
+        final Pattern pattern = getExcludePattern();
+        final boolean isExcluded;
+        if (pattern == null) {
+            isExcluded = false;
+        } else if (isNormalizedPath(url)) {
+            isExcluded = pattern.matcher(url).find();
+        } else {
+            isExcluded = matchURL(pattern, url);
+        }
+        if (LOGGER.isLoggable(Level.FINE)) {
+            if (isExcluded) {
+                LOGGER.log(Level.FINE, " Exclude pattern match with this url:" + url);
             } else {
-                String path = new URL(url).getPath();
-                // interprete ../
-                String normalizedPath = new URI(url).normalize().getPath();
-                isExcluded = getExcludePattern().matcher(path).find()
-                        && getExcludePattern().matcher(normalizedPath).find();
+                LOGGER.log(Level.FINE, " Exclude pattern does not match with this url:" + url);
             }
-            if (LOGGER.isLoggable(Level.FINE)) {
-                if (isExcluded) {
-                    LOGGER.log(Level.FINE, " Exclude pattern match with this url:" + url);
-                } else {
-                    LOGGER.log(Level.FINE, " Exclude pattern does not match with this url:" + url);
-                }
-            }
-            return isExcluded;
+        }
+        return isExcluded;
+    }
+
+    /**
+     * a path without query, path parameters, encoded characters nor dot segments can be matched as is
+     */
+    private boolean isNormalizedPath(final String url) {
+        return url.startsWith("/") && !url.contains("/.") && url.indexOf(';') < 0 && url.indexOf('%') < 0 && url.indexOf('?') < 0;
+    }
+
+    private boolean matchURL(final Pattern pattern, final String url) {
+        try {
+            final URI uri = new URI(url);
+            String path = uri.isAbsolute() ? new URL(url).getPath() : uri.getRawPath();
+            // interprete ../
+            String normalizedPath = uri.normalize().getPath();
+            return pattern.matcher(path).find() && pattern.matcher(normalizedPath).find();
         } catch (final Exception e) {
             if (LOGGER.isLoggable(Level.INFO)) {
                 LOGGER.log(Level.INFO, "impossible to get URL from given input [" + url + "]:" + e);
             }
-            return getExcludePattern().matcher(url).find();
-
+            return pattern.matcher(url).find();
         }
     }
 
     public Pattern getExcludePattern() {
         return excludePattern;
     }
-}
\ No newline at end of file
+}
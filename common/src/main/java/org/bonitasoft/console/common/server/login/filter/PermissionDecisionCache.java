@@ -0,0 +1,363 @@
+/**
+ * Copyright (C) 2022 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.console.common.server.login.filter;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.bonitasoft.console.common.server.preferences.properties.ConfigurationFilesManager;
+import org.bonitasoft.console.common.server.preferences.properties.PropertiesFactory;
+import org.bonitasoft.console.common.server.preferences.properties.SecurityProperties;
+import org.bonitasoft.console.common.server.preferences.properties.TenantConfigurationListener;
+import org.bonitasoft.engine.api.permission.APICallContext;
+import org.bonitasoft.engine.session.APISession;
+
+/**
+ * Tenant scoped cache of the REST API authorization decisions returned by the engine.<br>
+ * Decisions are kept for a configurable time to live and the number of entries is bounded (least recently used entries
+ * are evicted first). The query string and a hash of the body are only part of the key of the resources having a
+ * dynamic check since static permissions do not depend on them.<br>
+ * The caches are reconfigured and emptied whenever the configuration of their tenant changes (see
+ * {@link TenantConfigurationListener}). A decision computed before an invalidation is not cached.
+ */
+public class PermissionDecisionCache {
+
+    /**
+     * Configuration file listing the resources protected by a dynamic check
+     */
+    public static final String DYNAMIC_PERMISSIONS_CHECKS_FILE_NAME = "dynamic-permissions-checks.properties";
+
+    private static final Logger LOGGER = Logger.getLogger(PermissionDecisionCache.class.getName());
+
+    private static final Map<Long, PermissionDecisionCache> INSTANCES = new ConcurrentHashMap<>();
+
+    static {
+        ConfigurationFilesManager.getInstance().addTenantConfigurationListener(PermissionDecisionCache::reconfigure);
+    }
+
+    private final long tenantId;
+
+    private volatile long timeToLive;
+
+    private volatile int maxSize;
+
+    /*
+     * Incremented on each invalidation, guarded by the decisions lock
+     */
+    private long generation = 0;
+
+    private final Map<Key, Decision> decisions;
+
+    private volatile Set<String> dynamicallyCheckedResources;
+
+    private final AtomicLong hitCount = new AtomicLong();
+
+    private final AtomicLong missCount = new AtomicLong();
+
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    public static PermissionDecisionCache getInstance(final long tenantId) {
+        return INSTANCES.computeIfAbsent(tenantId, id -> {
+            final SecurityProperties securityProperties = PropertiesFactory.getSecurityProperties(id);
+            return new PermissionDecisionCache(id, securityProperties.getAPIAuthorizationsCacheTTL(),
+                    securityProperties.getAPIAuthorizationsCacheMaxSize());
+        });
+    }
+
+    /**
+     * Drop all the decisions cached for a tenant. To be called whenever profiles, profile members, users, groups or
+     * roles change.
+     */
+    public static void invalidate(final long tenantId) {
+        final PermissionDecisionCache cache = INSTANCES.get(tenantId);
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    /**
+     * Apply the current time to live and maximum size of the cache of a tenant and drop its decisions, as the
+     * permissions mappings or the dynamic checks may have changed with its configuration
+     */
+    static void reconfigure(final long tenantId) {
+        final PermissionDecisionCache cache = INSTANCES.get(tenantId);
+        if (cache != null) {
+            final SecurityProperties securityProperties = PropertiesFactory.getSecurityProperties(tenantId);
+            cache.configure(securityProperties.getAPIAuthorizationsCacheTTL(), securityProperties.getAPIAuthorizationsCacheMaxSize());
+            cache.invalidateAll();
+        }
+    }
+
+    /**
+     * @param timeToLive
+     *        time during which a decision is kept, in milliseconds. 0 disables the cache.
+     * @param maxSize
+     *        maximum number of decisions kept. 0 disables the cache.
+     */
+    public PermissionDecisionCache(final long tenantId, final long timeToLive, final int maxSize) {
+        this.tenantId = tenantId;
+        this.timeToLive = timeToLive;
+        this.maxSize = maxSize;
+        decisions = new LinkedHashMap<Key, Decision>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Key, Decision> eldest) {
+                if (size() > PermissionDecisionCache.this.maxSize) {
+                    evictionCount.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Change the time to live and the maximum size of the cache. The least recently used decisions are evicted if the
+     * cache is now too large.
+     */
+    public void configure(final long timeToLive, final int maxSize) {
+        synchronized (decisions) {
+            this.timeToLive = timeToLive;
+            this.maxSize = maxSize;
+            final Iterator<Key> eldestKeys = decisions.keySet().iterator();
+            while (decisions.size() > maxSize && eldestKeys.hasNext()) {
+                eldestKeys.next();
+                eldestKeys.remove();
+                evictionCount.incrementAndGet();
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        return timeToLive > 0 && maxSize > 0;
+    }
+
+    public Key createKey(final APISession apiSession, final APICallContext apiCallContext) {
+        final String method = getMethod(apiCallContext);
+        String queryString = null;
+        String bodyHash = null;
+        if (isDynamicallyChecked(method, apiCallContext.getApiName(), apiCallContext.getResourceName())) {
+            queryString = apiCallContext.getQueryString();
+            bodyHash = hash(apiCallContext.getBody());
+        }
+        final long keyGeneration;
+        synchronized (decisions) {
+            keyGeneration = generation;
+        }
+        return new Key(apiSession.getId(), apiSession.getUserId(), method, apiCallContext.getApiName(), apiCallContext.getResourceName(),
+                apiCallContext.getResourceId(), queryString, bodyHash, keyGeneration);
+    }
+
+    /**
+     * @return the cached decision or null if there is no valid decision for this key
+     */
+    public Boolean get(final Key key) {
+        synchronized (decisions) {
+            final Decision decision = decisions.get(key);
+            if (decision == null) {
+                missCount.incrementAndGet();
+                return null;
+            }
+            if (decision.expirationDate <= currentTimeMillis()) {
+                decisions.remove(key);
+                evictionCount.incrementAndGet();
+                missCount.incrementAndGet();
+                return null;
+            }
+            hitCount.incrementAndGet();
+            return decision.authorized;
+        }
+    }
+
+    /**
+     * Cache a decision, unless the cache was invalidated since the key was created: the decision may have been computed
+     * from the data the invalidation is about
+     */
+    public void put(final Key key, final boolean authorized) {
+        synchronized (decisions) {
+            if (key.generation != generation) {
+                return;
+            }
+            decisions.put(key, new Decision(authorized, currentTimeMillis() + timeToLive));
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (decisions) {
+            generation++;
+            decisions.clear();
+        }
+        dynamicallyCheckedResources = null;
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.log(Level.FINE, "Permission decisions cache of tenant " + tenantId + " invalidated. " + this);
+        }
+    }
+
+    public int size() {
+        synchronized (decisions) {
+            return decisions.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    protected Properties getDynamicPermissionsChecks() {
+        return ConfigurationFilesManager.getInstance().getTenantProperties(DYNAMIC_PERMISSIONS_CHECKS_FILE_NAME, tenantId);
+    }
+
+    /**
+     * @return true if the resource called is protected by a dynamic check, which may need the query string and the body
+     */
+    public boolean isDynamicallyChecked(final APICallContext apiCallContext) {
+        return isDynamicallyChecked(getMethod(apiCallContext), apiCallContext.getApiName(), apiCallContext.getResourceName());
+    }
+
+    private String getMethod(final APICallContext apiCallContext) {
+        return apiCallContext.getMethod() != null ? apiCallContext.getMethod().toUpperCase() : null;
+    }
+
+    private boolean isDynamicallyChecked(final String method, final String apiName, final String resourceName) {
+        Set<String> resources = dynamicallyCheckedResources;
+        if (resources == null) {
+            resources = new HashSet<>(getDynamicPermissionsChecks().stringPropertyNames());
+            dynamicallyCheckedResources = resources;
+        }
+        final String resource = method + "|" + apiName + "/" + resourceName;
+        for (final String checkedResource : resources) {
+            if (checkedResource.equals(resource) || checkedResource.startsWith(resource + "/")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String hash(final String body) {
+        if (body == null || body.isEmpty()) {
+            return body;
+        }
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(body.getBytes(StandardCharsets.UTF_8)));
+        } catch (final NoSuchAlgorithmException e) {
+            // SHA-256 is available on every JVM, keep the body itself rather than failing
+            return body;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "size=" + size() + ", hits=" + getHitCount() + ", misses=" + getMissCount() + ", evictions=" + getEvictionCount();
+    }
+
+    private static class Decision {
+
+        private final boolean authorized;
+
+        private final long expirationDate;
+
+        Decision(final boolean authorized, final long expirationDate) {
+            this.authorized = authorized;
+            this.expirationDate = expirationDate;
+        }
+    }
+
+    public static class Key {
+
+        private final long sessionId;
+
+        private final long userId;
+
+        private final String method;
+
+        private final String apiName;
+
+        private final String resourceName;
+
+        private final String resourceId;
+
+        private final String queryString;
+
+        private final String bodyHash;
+
+        /*
+         * Generation of the cache the key was created in, not part of its identity
+         */
+        private final long generation;
+
+        Key(final long sessionId, final long userId, final String method, final String apiName, final String resourceName, final String resourceId,
+                final String queryString, final String bodyHash, final long generation) {
+            this.sessionId = sessionId;
+            this.userId = userId;
+            this.method = method;
+            this.apiName = apiName;
+            this.resourceName = resourceName;
+            this.resourceId = resourceId;
+            this.queryString = queryString;
+            this.bodyHash = bodyHash;
+            this.generation = generation;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Key key = (Key) o;
+            return sessionId == key.sessionId
+                    && userId == key.userId
+                    && Objects.equals(method, key.method)
+                    && Objects.equals(apiName, key.apiName)
+                    && Objects.equals(resourceName, key.resourceName)
+                    && Objects.equals(resourceId, key.resourceId)
+                    && Objects.equals(queryString, key.queryString)
+                    && Objects.equals(bodyHash, key.bodyHash);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(sessionId, userId, method, apiName, resourceName, resourceId, queryString, bodyHash);
+        }
+    }
+}
@@ -18,9 +18,14 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -42,11 +47,23 @@ public class ConfigurationFilesManager {
 
     private static final Logger LOGGER = Logger.getLogger(ConfigurationFilesManager.class.getName());
 
+    private static final String PROPERTIES_EXTENSION = ".properties";
+
     /*
      * Map<tenantId, Map<realConfigurationFileName, File>>
      */
     private Map<Long, Map<String, File>> tenantsConfigurationFiles = new HashMap<>();
 
+    /*
+     * Map<tenantId, snapshot of the tenant properties files>
+     * A snapshot is never modified: it is replaced as a whole when a tenant configuration file is updated or reloaded
+     */
+    private final Map<Long, TenantConfiguration> tenantConfigurations = new ConcurrentHashMap<>();
+
+    private final AtomicLong tenantConfigurationVersion = new AtomicLong();
+
+    private final List<TenantConfigurationListener> tenantConfigurationListeners = new CopyOnWriteArrayList<>();
+
     /*
      * Map<propertiesFileName, Properties>
      */
@@ -68,30 +85,107 @@ public class ConfigurationFilesManager {
     Properties getAlsoCustomAndInternalPropertiesFromFilename(long tenantId, String propertiesFileName) {
         Properties properties = new Properties();
         try {
-            final Map<String, Properties> propertiesByFilename = getResources(tenantId);
-            if (propertiesByFilename.containsKey(propertiesFileName)) {
-                properties.putAll(propertiesByFilename.get(propertiesFileName));
-                // if -internal properties also exists, merge key/value pairs:
-                final String internalSuffixedVersion = getSuffixedPropertyFilename(propertiesFileName, "-internal");
-                if (propertiesByFilename.containsKey(internalSuffixedVersion)) {
-                    properties.putAll(propertiesByFilename.get(internalSuffixedVersion));
-                }
-                // if -custom properties also exists, merge key/value pairs (and overwrite previous values if same key name):
-                final String customSuffixedVersion = getSuffixedPropertyFilename(propertiesFileName, "-custom");
-                if (propertiesByFilename.containsKey(customSuffixedVersion)) {
-                    properties.putAll(propertiesByFilename.get(customSuffixedVersion));
-                }
-            } else {
-                if (LOGGER.isLoggable(Level.FINER)) {
-                    LOGGER.log(Level.FINER, "File " + propertiesFileName + " not found. Returning empty properties object.");
-                }
-            }
+            // the snapshot keeps the merged properties: callers get a copy they are free to modify
+            properties.putAll(getTenantConfiguration(tenantId).getMergedProperties(propertiesFileName));
         } catch (IOException e) {
             LOGGER.log(Level.SEVERE, "Cannot retrieve tenant configurations", e);
         }
         return properties;
     }
 
+    /**
+     * Merge a properties file with its -internal and -custom versions
+     */
+    private static Properties mergeCustomAndInternalProperties(Map<String, Properties> propertiesByFilename, String propertiesFileName) {
+        Properties properties = new Properties();
+        if (propertiesByFilename.containsKey(propertiesFileName)) {
+            properties.putAll(propertiesByFilename.get(propertiesFileName));
+            // if -internal properties also exists, merge key/value pairs:
+            final String internalSuffixedVersion = getSuffixedPropertyFilename(propertiesFileName, "-internal");
+            if (propertiesByFilename.containsKey(internalSuffixedVersion)) {
+                properties.putAll(propertiesByFilename.get(internalSuffixedVersion));
+            }
+            // if -custom properties also exists, merge key/value pairs (and overwrite previous values if same key name):
+            final String customSuffixedVersion = getSuffixedPropertyFilename(propertiesFileName, "-custom");
+            if (propertiesByFilename.containsKey(customSuffixedVersion)) {
+                properties.putAll(propertiesByFilename.get(customSuffixedVersion));
+            }
+        } else {
+            if (LOGGER.isLoggable(Level.FINER)) {
+                LOGGER.log(Level.FINER, "File " + propertiesFileName + " not found. Returning empty properties object.");
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * @return the snapshot of the tenant properties files, loaded from the engine on first use
+     */
+    TenantConfiguration getTenantConfiguration(long tenantId) throws IOException {
+        final TenantConfiguration tenantConfiguration = tenantConfigurations.get(tenantId);
+        if (tenantConfiguration != null) {
+            return tenantConfiguration;
+        }
+        return loadTenantConfiguration(tenantId);
+    }
+
+    /**
+     * Replace the snapshot of the tenant properties files by their current content in the engine, e.g. after they have
+     * been changed by other means than this class. Called when a tenant is resumed.
+     */
+    public void reloadTenantConfiguration(long tenantId) throws IOException {
+        loadTenantConfiguration(tenantId);
+        fireTenantConfigurationChange(tenantId);
+    }
+
+    public void addTenantConfigurationListener(TenantConfigurationListener listener) {
+        tenantConfigurationListeners.add(listener);
+    }
+
+    public void removeTenantConfigurationListener(TenantConfigurationListener listener) {
+        tenantConfigurationListeners.remove(listener);
+    }
+
+    private void fireTenantConfigurationChange(long tenantId) {
+        for (TenantConfigurationListener listener : tenantConfigurationListeners) {
+            try {
+                listener.onTenantConfigurationChange(tenantId);
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.WARNING, "Error while notifying a change of the configuration of tenant " + tenantId, e);
+            }
+        }
+    }
+
+    private TenantConfiguration loadTenantConfiguration(long tenantId) throws IOException {
+        final Map<String, Properties> resources = getResources(tenantId);
+        return setTenantConfiguration(tenantId, resources != null ? resources : Collections.<String, Properties> emptyMap());
+    }
+
+    private TenantConfiguration setTenantConfiguration(long tenantId, Map<String, Properties> propertiesByFilename) {
+        final TenantConfiguration tenantConfiguration = createTenantConfiguration(tenantId, propertiesByFilename);
+        tenantConfigurations.put(tenantId, tenantConfiguration);
+        return tenantConfiguration;
+    }
+
+    private TenantConfiguration createTenantConfiguration(long tenantId, Map<String, Properties> propertiesByFilename) {
+        final TenantConfiguration tenantConfiguration = new TenantConfiguration(tenantConfigurationVersion.incrementAndGet(),
+                propertiesByFilename);
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.log(Level.FINE, "Configuration of tenant " + tenantId + " loaded (version " + tenantConfiguration.getVersion() + ")");
+        }
+        return tenantConfiguration;
+    }
+
+    private void updateTenantConfiguration(long tenantId, String propertiesFilename, Properties properties) {
+        // with no snapshot yet, the updated file is read on first use
+        // the snapshot is replaced atomically so that two concurrent updates of different files are both kept
+        tenantConfigurations.computeIfPresent(tenantId, (id, tenantConfiguration) -> {
+            final Map<String, Properties> propertiesByFilename = new HashMap<>(tenantConfiguration.propertiesByFilename);
+            propertiesByFilename.put(propertiesFilename, properties);
+            return createTenantConfiguration(id, propertiesByFilename);
+        });
+    }
+
     public Properties getTenantProperties(String propertiesFileName, long tenantId) {
         return getAlsoCustomAndInternalPropertiesFromFilename(tenantId, propertiesFileName);
     }
@@ -127,14 +221,19 @@ public class ConfigurationFilesManager {
 
     public void setTenantConfigurationFiles(Map<String, byte[]> configurationFiles, long tenantId) throws IOException {
         Map<String, File> tenantFiles = new HashMap<>();
+        Map<String, Properties> tenantProperties = new HashMap<>();
         for (Map.Entry<String, byte[]> entry : configurationFiles.entrySet()) {
-            if (!entry.getKey().endsWith(".properties")) {
+            if (entry.getKey().endsWith(PROPERTIES_EXTENSION)) {
+                tenantProperties.put(entry.getKey(), getProperties(entry.getValue()));
+            } else {
                 File file = new File(WebBonitaConstantsUtils.getInstance(tenantId).getTempFolder(), entry.getKey());
                 FileUtils.writeByteArrayToFile(file, entry.getValue());
                 tenantFiles.put(entry.getKey(), file);
             }
         }
         tenantsConfigurationFiles.put(tenantId, tenantFiles);
+        setTenantConfiguration(tenantId, tenantProperties);
+        fireTenantConfigurationChange(tenantId);
     }
 
     public void removeProperty(String propertiesFilename, long tenantId, String propertyName) throws IOException {
@@ -152,14 +251,19 @@ public class ConfigurationFilesManager {
         }
     }
 
-    private String getSuffixedPropertyFilename(String propertiesFilename, String suffix) {
-        return propertiesFilename.replaceAll("\\.properties$", suffix + ".properties");
+    private static String getSuffixedPropertyFilename(String propertiesFilename, String suffix) {
+        if (propertiesFilename.endsWith(PROPERTIES_EXTENSION)) {
+            return propertiesFilename.substring(0, propertiesFilename.length() - PROPERTIES_EXTENSION.length()) + suffix + PROPERTIES_EXTENSION;
+        }
+        return propertiesFilename;
     }
 
     private void update(long tenantId, String propertiesFilename, Properties properties) throws IOException {
         try (ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream()) {
             properties.store(byteArrayOutputStream, "");
             getPlatformManagementUtils().updateConfigurationFile(tenantId, propertiesFilename, byteArrayOutputStream.toByteArray());
+            updateTenantConfiguration(tenantId, propertiesFilename, properties);
+            fireTenantConfigurationChange(tenantId);
         } catch (BonitaException e) {
             throw new IOException(e);
         }
@@ -169,6 +273,10 @@ public class ConfigurationFilesManager {
         return new PlatformManagementUtils();
     }
 
+    /**
+     * Read the tenant properties files from the engine. Only used to load the snapshot of the tenant configuration and
+     * to update a file.
+     */
     Map<String, Properties> getResources(long tenantId) throws IOException {
         return getPlatformManagementUtils().getTenantConfigurations().get(tenantId);
     }
@@ -200,4 +308,40 @@ public class ConfigurationFilesManager {
         return platformConfigurationFiles.get(fileName);
     }
 
+    /**
+     * Immutable snapshot of the properties files of a tenant, with the merged properties (see
+     * {@link #getTenantProperties(String, long)}) computed on first use
+     */
+    static class TenantConfiguration {
+
+        private final long version;
+
+        private final Map<String, Properties> propertiesByFilename;
+
+        private final Map<String, Properties> mergedProperties = new ConcurrentHashMap<>();
+
+        TenantConfiguration(long version, Map<String, Properties> propertiesByFilename) {
+            this.version = version;
+            final Map<String, Properties> copy = new HashMap<>(propertiesByFilename.size());
+            for (Map.Entry<String, Properties> entry : propertiesByFilename.entrySet()) {
+                final Properties properties = new Properties();
+                properties.putAll(entry.getValue());
+                copy.put(entry.getKey(), properties);
+            }
+            this.propertiesByFilename = Collections.unmodifiableMap(copy);
+        }
+
+        long getVersion() {
+            return version;
+        }
+
+        /**
+         * @return the properties of a file merged with its -internal and -custom versions. Must not be modified.
+         */
+        Properties getMergedProperties(String propertiesFileName) {
+            return mergedProperties.computeIfAbsent(propertiesFileName,
+                    fileName -> mergeCustomAndInternalProperties(propertiesByFilename, fileName));
+        }
+    }
+
 }
@@ -39,6 +39,21 @@ public class ConsoleProperties {
      */
     private static final String CUSTOM_PAGE_DEBUG = "custom.page.debug";
 
+    /**
+     * Time (in milliseconds) during which the last update date of a custom page retrieved from the engine is trusted
+     */
+    private static final String CUSTOM_PAGE_MAX_STALENESS = "custom.page.max.staleness";
+
+    /**
+     * Max size of the JSon body of a REST API request
+     */
+    private static final String REST_API_BODY_MAX_SIZE = "rest.api.body.max.size";
+
+    /**
+     * Max size of the JSon body of a REST API request when none is configured, in Mb
+     */
+    public static final long DEFAULT_REST_API_BODY_MAX_SIZE = 15;
+
     private static final String PROPERTIES_FILE = "console-config.properties";
     
     private static Map<Long, Map<String, Optional<String>>> consoleProperties = new ConcurrentHashMap<Long, Map<String, Optional<String>>>();
@@ -69,11 +84,33 @@ public class ConsoleProperties {
         return 100;
     }
 
+    /**
+     * @return the max size of the JSon body of a REST API request, in Mb
+     */
+    public long getRestAPIBodyMaxSize() {
+        final String maxSize = this.getProperty(REST_API_BODY_MAX_SIZE);
+        if (maxSize != null) {
+            return Long.valueOf(maxSize);
+        }
+        return DEFAULT_REST_API_BODY_MAX_SIZE;
+    }
+
     public boolean isPageInDebugMode() {
         final String debugMode = this.getProperty(CUSTOM_PAGE_DEBUG);
         return Boolean.parseBoolean(debugMode);
     }
     
+    public long getPageMaxStaleness() {
+        if (isPageInDebugMode()) {
+            return 0;
+        }
+        final String maxStaleness = this.getProperty(CUSTOM_PAGE_MAX_STALENESS);
+        if (maxStaleness != null) {
+            return Long.valueOf(maxStaleness);
+        }
+        return 5000;
+    }
+
     public String getProperty(String propertyName) {
         Map<String, Optional<String>> tenantConsoleProperties = consoleProperties.get(tenantId);
         if (tenantConsoleProperties == null) {
@@ -51,6 +51,20 @@ public class SecurityProperties {
      */
     public static final String API_AUTHORIZATIONS_CHECK = "security.rest.api.authorizations.check.enabled";
 
+    /**
+     * property for the time to live (in milliseconds) of the REST API authorization decisions cache (0 to disable it)
+     */
+    public static final String API_AUTHORIZATIONS_CACHE_TTL = "security.rest.api.authorizations.cache.ttl";
+
+    /**
+     * property for the maximum number of decisions kept in the REST API authorization decisions cache
+     */
+    public static final String API_AUTHORIZATIONS_CACHE_MAX_SIZE = "security.rest.api.authorizations.cache.maxsize";
+
+    private static final long DEFAULT_API_AUTHORIZATIONS_CACHE_TTL = 30000L;
+
+    private static final int DEFAULT_API_AUTHORIZATIONS_CACHE_MAX_SIZE = 10000;
+
     private static Map<Long, Map<String, Optional<String>>> securityProperties = new ConcurrentHashMap<Long, Map<String, Optional<String>>>();
     
     private final long tenantId;
@@ -79,6 +93,30 @@ public class SecurityProperties {
         return res != null && res.equals("true");
     }
 
+    /**
+     * @return the time to live of the REST API authorization decisions cache in milliseconds
+     */
+    public long getAPIAuthorizationsCacheTTL() {
+        final String res = getProperty(API_AUTHORIZATIONS_CACHE_TTL);
+        try {
+            return res != null ? Long.parseLong(res.trim()) : DEFAULT_API_AUTHORIZATIONS_CACHE_TTL;
+        } catch (final NumberFormatException e) {
+            return DEFAULT_API_AUTHORIZATIONS_CACHE_TTL;
+        }
+    }
+
+    /**
+     * @return the maximum number of decisions kept in the REST API authorization decisions cache
+     */
+    public int getAPIAuthorizationsCacheMaxSize() {
+        final String res = getProperty(API_AUTHORIZATIONS_CACHE_MAX_SIZE);
+        try {
+            return res != null ? Integer.parseInt(res.trim()) : DEFAULT_API_AUTHORIZATIONS_CACHE_MAX_SIZE;
+        } catch (final NumberFormatException e) {
+            return DEFAULT_API_AUTHORIZATIONS_CACHE_MAX_SIZE;
+        }
+    }
+
     /**
      * @return the value to allow or not CSRF protection
      */
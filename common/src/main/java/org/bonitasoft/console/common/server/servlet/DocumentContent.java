@@ -0,0 +1,128 @@
+/**
+ * Copyright (C) 2022 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.console.common.server.servlet;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.apache.commons.io.IOUtils;
+
+/**
+ * Content of a document to send in a response, with the entity tag identifying its version.<br>
+ * The content can be written in part (for a range request), straight from its file when it is one, so that it is never
+ * loaded in memory.
+ */
+public abstract class DocumentContent {
+
+    private final String fileName;
+
+    private final String eTag;
+
+    DocumentContent(final String fileName, final String eTag) {
+        this.fileName = fileName;
+        this.eTag = eTag;
+    }
+
+    /**
+     * @param fileName
+     *        the name of the file sent to the client
+     */
+    public static DocumentContent fromFile(final File file, final String fileName) {
+        return new FileContent(file, fileName);
+    }
+
+    /**
+     * @param content
+     *        the content of the document, or null if it has none
+     * @param eTag
+     *        the entity tag of the version of the document, or null
+     */
+    public static DocumentContent fromBytes(final byte[] content, final String fileName, final String eTag) {
+        return new BytesContent(content != null ? content : new byte[0], fileName, eTag);
+    }
+
+    /**
+     * @return the entity tag of a version of an engine document. The content of a version never changes.
+     */
+    public static String getDocumentETag(final String documentId, final String version) {
+        return "\"document-" + documentId + "-" + version + "\"";
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public String getETag() {
+        return eTag;
+    }
+
+    public abstract long getLength();
+
+    /**
+     * Write a part of the content
+     *
+     * @param start
+     *        the position of the first byte to write
+     * @param length
+     *        the number of bytes to write
+     */
+    public abstract void write(OutputStream out, long start, long length) throws IOException;
+
+    private static class FileContent extends DocumentContent {
+
+        private final File file;
+
+        private FileContent(final File file, final String fileName) {
+            // the file changes if it is overwritten
+            super(fileName, "\"" + Long.toHexString(file.lastModified()) + "-" + Long.toHexString(file.length()) + "\"");
+            this.file = file;
+        }
+
+        @Override
+        public long getLength() {
+            return file.length();
+        }
+
+        @Override
+        public void write(final OutputStream out, final long start, final long length) throws IOException {
+            try (InputStream input = new FileInputStream(file)) {
+                IOUtils.copyLarge(input, out, start, length);
+            }
+        }
+    }
+
+    private static class BytesContent extends DocumentContent {
+
+        private final byte[] content;
+
+        private BytesContent(final byte[] content, final String fileName, final String eTag) {
+            super(fileName, eTag);
+            this.content = content;
+        }
+
+        @Override
+        public long getLength() {
+            return content.length;
+        }
+
+        @Override
+        public void write(final OutputStream out, final long start, final long length) throws IOException {
+            out.write(content, (int) start, (int) length);
+        }
+    }
+}
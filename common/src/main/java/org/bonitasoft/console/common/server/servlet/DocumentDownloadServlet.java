@@ -14,10 +14,7 @@
 package org.bonitasoft.console.common.server.servlet;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
@@ -45,7 +42,9 @@ import org.bonitasoft.engine.exception.BonitaException;
 import org.bonitasoft.engine.session.APISession;
 
 /**
- * Servlet allowing to download process instances attachments
+ * Servlet allowing to download process instances attachments<br>
+ * The documents are streamed, and single byte ranges and conditional requests on their entity tags are supported, so that
+ * downloads can be resumed and documents already downloaded are not sent again.
  *
  * @author Anthony Birembaut
  */
@@ -111,6 +110,11 @@ public class DocumentDownloadServlet extends HttpServlet {
      */
     protected BPMEngineAPIUtil bpmEngineAPIUtil = new BPMEngineAPIUtil();
 
+    /**
+     * Range returned by {@link #getRange(String, long)} when the range requested is beyond the content
+     */
+    static final long[] UNSATISFIABLE_RANGE = new long[0];
+
     /**
      * Logger
      */
@@ -126,9 +130,9 @@ public class DocumentDownloadServlet extends HttpServlet {
         String fileName = request.getParameter(FILE_NAME_PARAM);
         final String resourcePath = request.getParameter(RESOURCE_FILE_NAME_PARAM);
         final String documentId = request.getParameter(DOCUMENT_ID_PARAM);
-        String contentStorageId = request.getParameter(CONTENT_STORAGE_ID_PARAM);
+        final String contentStorageId = request.getParameter(CONTENT_STORAGE_ID_PARAM);
         final APISession apiSession = (APISession) request.getSession().getAttribute(API_SESSION_PARAM_KEY);
-        byte[] fileContent = null;
+        DocumentContent content;
         if (filePath != null) {
             if (LOGGER.isLoggable(Level.FINE)) {
                 LOGGER.log(Level.FINE, "attachmentPath: " + filePath);
@@ -139,7 +143,7 @@ public class DocumentDownloadServlet extends HttpServlet {
                 if (fileName == null) {
                     fileName = file.getName();
                 }
-                fileContent = getFileContent(file, filePath);
+                content = getFileContent(file, fileName, filePath);
             } catch (final UnauthorizedFolderException e) {
                 throw new ServletException(e.getMessage());
             } catch (final IOException e) {
@@ -147,7 +151,13 @@ public class DocumentDownloadServlet extends HttpServlet {
             }
         } else if (fileName != null && contentStorageId != null) {
             try {
-                fileContent = bpmEngineAPIUtil.getProcessAPI(apiSession).getDocumentContent(contentStorageId);
+                // the content of a content storage id never changes
+                final String eTag = "\"" + contentStorageId + "\"";
+                if (isNotModified(request, eTag)) {
+                    content = DocumentContent.fromBytes(null, fileName, eTag);
+                } else {
+                    content = DocumentContent.fromBytes(bpmEngineAPIUtil.getProcessAPI(apiSession).getDocumentContent(contentStorageId), fileName, eTag);
+                }
             } catch (final Exception e) {
                 final String errorMessage = "Error while retrieving the document  with content storage ID " + contentStorageId + " from the engine.";
                 if (LOGGER.isLoggable(Level.SEVERE)) {
@@ -157,19 +167,8 @@ public class DocumentDownloadServlet extends HttpServlet {
             }
         } else if (documentId != null) {
             try {
-                final ProcessAPI processAPI = bpmEngineAPIUtil.getProcessAPI(apiSession);
-                try {
-                    final Document document = processAPI.getDocument(Long.valueOf(documentId));
-                    fileName = document.getContentFileName();
-                    contentStorageId = document.getContentStorageId();
-                } catch (final DocumentNotFoundException dnfe) {
-                    final ArchivedDocument archivedDocument = processAPI.getArchivedVersionOfProcessDocument(Long.valueOf(documentId));
-                    fileName = archivedDocument.getContentFileName();
-                    contentStorageId = archivedDocument.getContentStorageId();
-                }
-                if (contentStorageId != null && !contentStorageId.isEmpty()) {
-                    fileContent = processAPI.getDocumentContent(contentStorageId);
-                }
+                content = getEngineDocumentContent(request, bpmEngineAPIUtil.getProcessAPI(apiSession), documentId);
+                fileName = content.getFileName();
             } catch (final Exception e) {
                 final String errorMessage = "Error while retrieving the document  with ID " + documentId + " from the engine.";
                 if (LOGGER.isLoggable(Level.SEVERE)) {
@@ -205,7 +204,7 @@ public class DocumentDownloadServlet extends HttpServlet {
                 final File resource = new File(processDir, BUSINESS_ARCHIVE_RESOURCES_DIRECTORY + File.separator + resourcePath);
                 if (resource.exists()) {
                     fileName = resource.getName();
-                    fileContent = getFileContent(resource, filePath);
+                    content = getFileContent(resource, fileName, filePath);
                 } else {
                     final String errorMessage = "The target resource does not exist " + resource.getAbsolutePath();
                     if (LOGGER.isLoggable(Level.SEVERE)) {
@@ -238,14 +237,7 @@ public class DocumentDownloadServlet extends HttpServlet {
                 response.setHeader("Content-Disposition", "attachment; filename=\"" + encodedfileName.replaceAll("\\+", " ") + "\"; filename*=UTF-8''"
                         + encodedfileName.replace("+", "%20"));
             }
-            final OutputStream out = response.getOutputStream();
-            if (fileContent == null) {
-                response.setContentLength(0);
-            } else {
-                response.setContentLength(fileContent.length);
-                out.write(fileContent);
-            }
-            out.close();
+            writeContent(request, response, content);
         } catch (final IOException e) {
             if (LOGGER.isLoggable(Level.SEVERE)) {
                 LOGGER.log(Level.SEVERE, "Error while generating the response.", e);
@@ -254,50 +246,149 @@ public class DocumentDownloadServlet extends HttpServlet {
         }
     }
 
-    protected byte[] getFileContent(final File file, final String filePath) throws ServletException {
+    /**
+     * @param fileName
+     *        the name of the file sent to the client
+     * @param filePath
+     *        the path of the file in the request, for the error messages
+     */
+    protected DocumentContent getFileContent(final File file, final String fileName, final String filePath) throws ServletException {
+        if (!file.isFile()) {
+            final String errorMessage = "Error while getting the attachment. The file " + filePath + " does not exist.";
+            if (LOGGER.isLoggable(Level.SEVERE)) {
+                LOGGER.log(Level.SEVERE, errorMessage);
+            }
+            throw new ServletException(errorMessage);
+        }
+        return DocumentContent.fromFile(file, fileName);
+    }
 
-        int fileLength = 0;
-        if (file.length() > Integer.MAX_VALUE) {
-            throw new ServletException("file " + filePath + " too big !");
-        } else {
-            fileLength = (int) file.length();
+    /**
+     * Get the content of a document, or of its last archived version if the document is not found.<br>
+     * The content is not fetched from the engine when the client already has this version of the document.
+     */
+    protected DocumentContent getEngineDocumentContent(final HttpServletRequest request, final ProcessAPI processAPI, final String documentId)
+            throws BonitaException {
+        final String fileName;
+        final String contentStorageId;
+        final String version;
+        try {
+            final Document document = processAPI.getDocument(Long.valueOf(documentId));
+            fileName = document.getContentFileName();
+            contentStorageId = document.getContentStorageId();
+            version = document.getVersion();
+        } catch (final DocumentNotFoundException dnfe) {
+            final ArchivedDocument archivedDocument = processAPI.getArchivedVersionOfProcessDocument(Long.valueOf(documentId));
+            fileName = archivedDocument.getContentFileName();
+            contentStorageId = archivedDocument.getContentStorageId();
+            version = archivedDocument.getVersion();
         }
+        final String eTag = DocumentContent.getDocumentETag(documentId, version);
+        if (contentStorageId == null || contentStorageId.isEmpty() || isNotModified(request, eTag)) {
+            return DocumentContent.fromBytes(null, fileName, eTag);
+        }
+        return DocumentContent.fromBytes(processAPI.getDocumentContent(contentStorageId), fileName, eTag);
+    }
 
-        byte[] content;
+    /**
+     * Write the content of a document, or the single byte range of it requested, or a 304 status if the client already has
+     * this version of the document.<br>
+     * Requests for several ranges get the whole content.
+     */
+    protected void writeContent(final HttpServletRequest request, final HttpServletResponse response, final DocumentContent content)
+            throws IOException {
+        response.setHeader("Accept-Ranges", "bytes");
+        final String eTag = content.getETag();
+        if (eTag != null) {
+            response.setHeader("ETag", eTag);
+            if (isNotModified(request, eTag)) {
+                response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return;
+            }
+        }
+        final long length = content.getLength();
+        long start = 0;
+        long end = length - 1;
+        final String ifRange = request.getHeader("If-Range");
+        if (ifRange == null || ifRange.equals(eTag)) {
+            final long[] range = getRange(request.getHeader("Range"), length);
+            if (range == UNSATISFIABLE_RANGE) {
+                response.setHeader("Content-Range", "bytes */" + length);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            if (range != null) {
+                start = range[0];
+                end = range[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader("Content-Range", "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+        response.setContentLengthLong(end - start + 1);
+        final OutputStream out = response.getOutputStream();
+        content.write(out, start, end - start + 1);
+        out.close();
+    }
+
+    /**
+     * @return true if the If-None-Match header of the request matches an entity tag
+     */
+    protected static boolean isNotModified(final HttpServletRequest request, final String eTag) {
+        final String ifNoneMatch = request.getHeader("If-None-Match");
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (final String requestETag : ifNoneMatch.split(",")) {
+            final String trimmedETag = requestETag.trim();
+            if ("*".equals(trimmedETag) || eTag.equals(trimmedETag.startsWith("W/") ? trimmedETag.substring(2) : trimmedETag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param header
+     *        the Range header of the request
+     * @return the first and last positions of the single byte range requested, {@link #UNSATISFIABLE_RANGE} if it is
+     *         beyond the content, or null if the whole content is to be sent
+     */
+    static long[] getRange(final String header, final long length) {
+        if (header == null || length == 0 || !header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            return null;
+        }
+        final String rangeSpec = header.substring("bytes=".length()).trim();
+        final int dashIndex = rangeSpec.indexOf('-');
+        if (dashIndex < 0) {
+            return null;
+        }
         try {
-            final InputStream fileInput = new FileInputStream(file);
-            final byte[] fileContent = new byte[fileLength];
-            try {
-                int offset = 0;
-                int length = fileLength;
-                while (length > 0) {
-                    final int read = fileInput.read(fileContent, offset, length);
-                    if (read <= 0) {
-                        break;
-                    }
-                    length -= read;
-                    offset += read;
+            if (dashIndex == 0) {
+                // last bytes of the content
+                final long suffixLength = Long.parseLong(rangeSpec.substring(1));
+                if (suffixLength == 0) {
+                    return UNSATISFIABLE_RANGE;
                 }
-                content = fileContent;
-            } catch (final FileNotFoundException e) {
-                final String errorMessage = "Error while getting the attachment. The file " + filePath + " does not exist.";
-                if (LOGGER.isLoggable(Level.SEVERE)) {
-                    LOGGER.log(Level.SEVERE, errorMessage, e);
+                return new long[] { Math.max(0, length - suffixLength), length - 1 };
+            }
+            final long start = Long.parseLong(rangeSpec.substring(0, dashIndex));
+            long end = length - 1;
+            if (dashIndex < rangeSpec.length() - 1) {
+                final long lastPosition = Long.parseLong(rangeSpec.substring(dashIndex + 1));
+                if (lastPosition < start) {
+                    return null;
                 }
-                throw new ServletException(errorMessage, e);
-            } finally {
-                fileInput.close();
+                end = Math.min(lastPosition, end);
             }
-        } catch (final IOException e) {
-            final String errorMessage = "Error while reading attachment (file  : " + filePath;
-            if (LOGGER.isLoggable(Level.SEVERE)) {
-                LOGGER.log(Level.SEVERE, errorMessage, e);
+            if (start >= length) {
+                return UNSATISFIABLE_RANGE;
             }
-            throw new ServletException(errorMessage, e);
+            return new long[] { start, end };
+        } catch (final NumberFormatException e) {
+            return null;
         }
-        return content;
     }
-    
+
     protected long getProcessDefinitionIDFromActivityInstanceID(final APISession session, final long activityInstanceID) throws BonitaException {
         final ProcessAPI processAPI = TenantAPIAccessor.getProcessAPI(session);
         return processAPI.getProcessDefinitionIdFromActivityInstanceId(activityInstanceID);
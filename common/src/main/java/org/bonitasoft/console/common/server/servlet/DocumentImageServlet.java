@@ -15,7 +15,6 @@ package org.bonitasoft.console.common.server.servlet;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.OutputStream;
 import java.net.URLConnection;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
@@ -31,10 +30,6 @@ import org.apache.commons.io.FilenameUtils;
 import org.bonitasoft.console.common.server.utils.BonitaHomeFolderAccessor;
 import org.bonitasoft.console.common.server.utils.FormsResourcesUtils;
 import org.bonitasoft.console.common.server.utils.UnauthorizedFolderException;
-import org.bonitasoft.engine.api.ProcessAPI;
-import org.bonitasoft.engine.bpm.document.ArchivedDocument;
-import org.bonitasoft.engine.bpm.document.Document;
-import org.bonitasoft.engine.bpm.document.DocumentNotFoundException;
 import org.bonitasoft.engine.session.APISession;
 
 /**
@@ -67,7 +62,7 @@ public class DocumentImageServlet extends DocumentDownloadServlet {
         final String resourcePath = request.getParameter(RESOURCE_FILE_NAME_PARAM);
         final String documentId = request.getParameter(DOCUMENT_ID_PARAM);
         final APISession apiSession = (APISession) request.getSession().getAttribute(API_SESSION_PARAM_KEY);
-        byte[] fileContent = null;
+        DocumentContent content;
         if (filePath != null) {
             final BonitaHomeFolderAccessor tempFolderAccessor = new BonitaHomeFolderAccessor();
             try {
@@ -75,7 +70,7 @@ public class DocumentImageServlet extends DocumentDownloadServlet {
                 if (fileName == null) {
                     fileName = file.getName();
                 }
-                fileContent = getFileContent(file, filePath);
+                content = getFileContent(file, fileName, filePath);
             } catch (final UnauthorizedFolderException e) {
                 throw new ServletException(e.getMessage());
             } catch (final IOException e) {
@@ -83,20 +78,8 @@ public class DocumentImageServlet extends DocumentDownloadServlet {
             }
         } else if (documentId != null) {
             try {
-                final ProcessAPI processAPI = bpmEngineAPIUtil.getProcessAPI(apiSession);
-                String contentStorageId;
-                try {
-                    final Document document = processAPI.getDocument(Long.valueOf(documentId));
-                    fileName = document.getContentFileName();
-                    contentStorageId = document.getContentStorageId();
-                } catch (final DocumentNotFoundException dnfe) {
-                    final ArchivedDocument archivedDocument = processAPI.getArchivedVersionOfProcessDocument(Long.valueOf(documentId));
-                    fileName = archivedDocument.getContentFileName();
-                    contentStorageId = archivedDocument.getContentStorageId();
-                }
-                if (contentStorageId != null && !contentStorageId.isEmpty()) {
-                    fileContent = processAPI.getDocumentContent(contentStorageId);
-                }
+                content = getEngineDocumentContent(request, bpmEngineAPIUtil.getProcessAPI(apiSession), documentId);
+                fileName = content.getFileName();
             } catch (final Exception e) {
                 final String errorMessage = "Error while retrieving the document  with ID " + documentId + " from the engine.";
                 if (LOGGER.isLoggable(Level.SEVERE)) {
@@ -132,7 +115,7 @@ public class DocumentImageServlet extends DocumentDownloadServlet {
                 final File resource = new File(processDir, BUSINESS_ARCHIVE_RESOURCES_DIRECTORY + File.separator + resourcePath);
                 if (resource.exists()) {
                     fileName = resource.getName();
-                    fileContent = getFileContent(resource, filePath);
+                    content = getFileContent(resource, fileName, filePath);
                 } else {
                     final String errorMessage = "The target resource does not exist " + resource.getAbsolutePath();
                     if (LOGGER.isLoggable(Level.SEVERE)) {
@@ -169,18 +152,7 @@ public class DocumentImageServlet extends DocumentDownloadServlet {
                     response.setHeader("Content-Disposition", "inline; filename=\"" + encodedfileName + "\"; filename*=UTF-8''"
                             + encodedfileName);
                 }
-                if (fileContent != null) {
-                    response.setContentLength(fileContent.length);
-                    OutputStream out = null;
-                    try {
-                        out = response.getOutputStream();
-                        out.write(fileContent);
-                    } finally {
-                        if (out != null) {
-                            out.close();
-                        }
-                    }
-                }
+                writeContent(request, response, content);
             } catch (final IOException e) {
                 if (LOGGER.isLoggable(Level.SEVERE)) {
                     LOGGER.log(Level.SEVERE, "Error while generating the response.", e);
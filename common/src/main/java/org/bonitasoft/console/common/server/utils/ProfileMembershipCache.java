@@ -0,0 +1,134 @@
+/**
+ * Copyright (C) 2022 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.console.common.server.utils;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.bonitasoft.engine.api.ProfileAPI;
+import org.bonitasoft.engine.profile.Profile;
+import org.bonitasoft.engine.profile.ProfileCriterion;
+import org.bonitasoft.engine.session.APISession;
+
+/**
+ * Profiles of the users of the logged in sessions.<br>
+ * The profiles of a session user are fetched on first use and kept until the session is invalidated on logout or expiry
+ * (see {@link #invalidate(APISession)}), until the profile members, the memberships, the users, groups or roles of the
+ * tenant change through the REST API, or until they expire, for changes made by other means.
+ */
+public class ProfileMembershipCache {
+
+    public static final long DEFAULT_TIME_TO_LIVE = 5 * 60 * 1000L;
+
+    private static final ProfileMembershipCache INSTANCE = new ProfileMembershipCache(DEFAULT_TIME_TO_LIVE);
+
+    private final long timeToLive;
+
+    private final Map<Long, Map<Long, Memberships>> membershipsByTenant = new ConcurrentHashMap<>();
+
+    /**
+     * @param timeToLive
+     *        time during which the profiles of a session user are kept, in milliseconds
+     */
+    ProfileMembershipCache(final long timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    public static ProfileMembershipCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Get the profiles of the user of a session, fetching them on the first call
+     */
+    public Memberships get(final APISession session, final ProfileAPI profileApi) {
+        // profiles loaded while the tenant is invalidated are put in the discarded map
+        final Map<Long, Memberships> sessionMemberships = membershipsByTenant.computeIfAbsent(session.getTenantId(),
+                tenantId -> new ConcurrentHashMap<>());
+        final Memberships memberships = sessionMemberships.get(session.getId());
+        if (memberships != null && memberships.expirationDate > currentTimeMillis()) {
+            return memberships;
+        }
+        final Memberships loaded = load(session, profileApi);
+        sessionMemberships.put(session.getId(), loaded);
+        return loaded;
+    }
+
+    private Memberships load(final APISession session, final ProfileAPI profileApi) {
+        final List<Profile> profiles = profileApi.getProfilesForUser(session.getUserId(), 0, Integer.MAX_VALUE, ProfileCriterion.ID_ASC);
+        return new Memberships(profiles, currentTimeMillis() + timeToLive);
+    }
+
+    /**
+     * Discard the profiles of the user of a session
+     */
+    public void invalidate(final APISession session) {
+        if (session != null) {
+            final Map<Long, Memberships> sessionMemberships = membershipsByTenant.get(session.getTenantId());
+            if (sessionMemberships != null) {
+                sessionMemberships.remove(session.getId());
+            }
+        }
+    }
+
+    /**
+     * Discard the profiles of all the session users of a tenant. To be called whenever profile members or memberships
+     * change.
+     */
+    public void invalidate(final long tenantId) {
+        membershipsByTenant.remove(tenantId);
+    }
+
+    int getNumberOfSessions(final long tenantId) {
+        final Map<Long, Memberships> sessionMemberships = membershipsByTenant.get(tenantId);
+        return sessionMemberships != null ? sessionMemberships.size() : 0;
+    }
+
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    /**
+     * Profiles of a user
+     */
+    public static class Memberships {
+
+        private final List<Profile> profiles;
+
+        private final Set<Long> profileIds = new HashSet<>();
+
+        private final long expirationDate;
+
+        Memberships(final List<Profile> profiles, final long expirationDate) {
+            this.profiles = Collections.unmodifiableList(profiles);
+            for (final Profile profile : profiles) {
+                profileIds.add(profile.getId());
+            }
+            this.expirationDate = expirationDate;
+        }
+
+        public List<Profile> getProfiles() {
+            return profiles;
+        }
+
+        public boolean isMember(final long profileId) {
+            return profileIds.contains(profileId);
+        }
+    }
+}
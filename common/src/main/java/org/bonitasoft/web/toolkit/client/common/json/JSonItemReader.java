@@ -16,7 +16,6 @@ package org.bonitasoft.web.toolkit.client.common.json;
 
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -118,7 +117,7 @@ public class JSonItemReader {
     }
 
     private static <E extends IItem> List<E> parseItems(final Tree<String> tree, final ItemDefinition<E> itemDefinition, final boolean applyValidators) {
-        final List<E> itemList = new LinkedList<E>();
+        final List<E> itemList = new ArrayList<E>(tree.size());
         for (final AbstractTreeNode<String> node : tree.getNodes()) {
             if (!(node instanceof TreeIndexed<?>)) {
                 throw new IllegalArgumentException("JSon format error");
@@ -208,6 +207,8 @@ public class JSonItemReader {
         final E item = itemDefinition.createItem();
 
         item.setApplyValidators(applyValidators);
+        // validate the item once it is filled rather than each time an attribute is set
+        item.deferValidation();
 
         for (final Entry<String, AbstractTreeNode<String>> entry : tree.getNodes().entrySet()) {
             // primitive type
@@ -228,6 +229,7 @@ public class JSonItemReader {
                 item.setAttribute(entry.getKey(), entry.getValue().toJson());
             }
         }
+        item.validate();
 
         return item;
     }
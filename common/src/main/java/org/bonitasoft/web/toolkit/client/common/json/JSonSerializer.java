@@ -14,20 +14,19 @@
  */
 package org.bonitasoft.web.toolkit.client.common.json;
 
-import java.text.SimpleDateFormat;
 import java.util.Collection;
 import java.util.Date;
 import java.util.Map;
 
 import org.bonitasoft.web.toolkit.client.common.exception.http.JsonExceptionSerializer;
+import org.bonitasoft.web.toolkit.client.common.util.DateFormatterCache;
 
 /**
  * @author Séverin Moussel
  */
 public class JSonSerializer extends JSonUtil {
 
-    // Thread local as recommended in the javadoc
-    private static final ThreadLocal<SimpleDateFormat> dateTimeFormat = ThreadLocal.withInitial(() -> new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS"));
+    private static final String DATE_TIME_FORMAT = "yyyy-MM-dd HH:mm:ss.SSS";
 
     public static String serialize(final JsonSerializable object) {
         return serializeInternal(object).toString();
@@ -58,7 +57,7 @@ public class JSonSerializer extends JSonUtil {
         } else if (object instanceof Boolean) {
             return new StringBuilder((Boolean) object ? "true" : "false");
         } else if (object instanceof Date) {
-            return quoteInternal(dateTimeFormat.get().format((Date) object));
+            return quoteInternal(formatDateTime((Date) object));
         } else if (object instanceof Throwable) {
             return new StringBuilder(serializeException((Throwable) object));
         }
@@ -66,6 +65,10 @@ public class JSonSerializer extends JSonUtil {
         return quoteInternal(object.toString());
     }
 
+    static String formatDateTime(final Date date) {
+        return DateFormatterCache.format(date, DATE_TIME_FORMAT);
+    }
+
     public static String serialize(final Object key, final Object value) {
         return serializeInternal(key, value).toString();
     }
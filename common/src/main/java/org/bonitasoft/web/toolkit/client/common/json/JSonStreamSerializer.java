@@ -0,0 +1,119 @@
+/**
+ * Copyright (C) 2022 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.toolkit.client.common.json;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Map;
+
+import org.bonitasoft.web.toolkit.client.data.item.IItem;
+import org.bonitasoft.web.toolkit.client.data.item.Item;
+
+/**
+ * Write the JSon representation of an object directly into a {@link Writer}.<br>
+ * Produces exactly the same JSon as {@link JSonSerializer#serialize(Object)} but items, collections and maps are written
+ * element by element instead of being built as nested Strings.
+ */
+public class JSonStreamSerializer {
+
+    private final Writer writer;
+
+    public JSonStreamSerializer(final Writer writer) {
+        this.writer = writer;
+    }
+
+    public void serialize(final Object object) throws IOException {
+        if (object == null) {
+            writer.write("null");
+        } else if (object instanceof Item) {
+            serializeItem((Item) object);
+        } else if (object instanceof JsonSerializable) {
+            writer.write(((JsonSerializable) object).toJson());
+        } else if (object instanceof Collection<?>) {
+            serializeCollection((Collection<?>) object);
+        } else if (object instanceof Map<?, ?>) {
+            serializeMap((Map<?, ?>) object);
+        } else if (object instanceof Number) {
+            writer.write(object.toString());
+        } else if (object instanceof Boolean) {
+            writer.write((Boolean) object ? "true" : "false");
+        } else if (object instanceof Date) {
+            quote(JSonSerializer.formatDateTime((Date) object));
+        } else if (object instanceof Throwable) {
+            writer.write(JSonSerializer.serializeException((Throwable) object));
+        } else {
+            quote(object.toString());
+        }
+    }
+
+    /**
+     * Same output as {@link Item#toJson()}
+     */
+    private void serializeItem(final Item item) throws IOException {
+        final Map<String, IItem> deploys = item.getDeploys();
+        writer.write('{');
+        boolean first = true;
+        for (final String attribute : item.getAttributeNames()) {
+            if (!first) {
+                writer.write(',');
+            }
+            quote(attribute);
+            writer.write(':');
+            if (deploys.containsKey(attribute)) {
+                serialize(deploys.get(attribute));
+            } else {
+                quote(item.getAttributeValue(attribute));
+            }
+            first = false;
+        }
+        writer.write('}');
+    }
+
+    private void serializeCollection(final Collection<?> list) throws IOException {
+        writer.write('[');
+        boolean first = true;
+        for (final Object item : list) {
+            if (!first) {
+                writer.write(',');
+            }
+            serialize(item);
+            first = false;
+        }
+        writer.write(']');
+    }
+
+    private void serializeMap(final Map<?, ?> map) throws IOException {
+        writer.write('{');
+        boolean first = true;
+        for (final Map.Entry<?, ?> entry : map.entrySet()) {
+            if (!first) {
+                writer.write(',');
+            }
+            quote(entry.getKey().toString());
+            writer.write(':');
+            serialize(entry.getValue());
+            first = false;
+        }
+        writer.write('}');
+    }
+
+    private void quote(final String value) throws IOException {
+        writer.write('"');
+        JSonUtil.escape(value, writer);
+        writer.write('"');
+    }
+}
@@ -18,6 +18,7 @@ package org.bonitasoft.web.toolkit.client.common.json;
 
 import static java.lang.Integer.toHexString;
 
+import java.io.IOException;
 import java.util.HashMap;
 
 /**
@@ -39,15 +40,28 @@ public class JSonUtil {
     }
 
     private static StringBuilder escapeInternal(String string) {
+        final StringBuilder sb = new StringBuilder(string == null ? 0 : string.length() + 4);
+        try {
+            escape(string, sb);
+        } catch (final IOException e) {
+            // never thrown when appending to a StringBuilder
+            throw new IllegalStateException(e);
+        }
+        return sb;
+    }
+
+    /**
+     * Escape a string directly into the given output, without building an intermediate String
+     */
+    public static void escape(final String string, final Appendable out) throws IOException {
         if (string == null || string.length() == 0) {
-            return new StringBuilder("");
+            return;
         }
 
         char b;
         char c = 0;
         int i;
         final int len = string.length();
-        final StringBuffer sb = new StringBuffer(len + 4);
 
         for (i = 0; i < len; i += 1) {
             b = c;
@@ -58,39 +72,37 @@ public class JSonUtil {
                 case '\'':
                 case '\\':
                 case '"':
-                    sb.append(convertToUnicodeInternal(c));
+                    out.append(convertToUnicodeInternal(c));
                     break;
                 case '/':
                     if (b == '<') {
-                        sb.append('\\');
+                        out.append('\\');
                     }
-                    sb.append(c);
+                    out.append(c);
                     break;
                 case '\b':
-                    sb.append("\\b");
+                    out.append("\\b");
                     break;
                 case '\t':
-                    sb.append("\\t");
+                    out.append("\\t");
                     break;
                 case '\n':
-                    sb.append("\\n");
+                    out.append("\\n");
                     break;
                 case '\f':
-                    sb.append("\\f");
+                    out.append("\\f");
                     break;
                 case '\r':
-                    sb.append("\\r");
+                    out.append("\\r");
                     break;
                 default:
                     if (c < ' ' || c >= '\u0080' && c < '\u00a0' || c >= '\u2000' && c < '\u2100') {
-                        sb.append(convertToUnicodeInternal(c));
+                        out.append(convertToUnicodeInternal(c));
                     } else {
-                        sb.append(c);
+                        out.append(c);
                     }
             }
         }
-
-        return new StringBuilder(sb);
     }
 
     private static String convertToUnicode(char character) {
@@ -0,0 +1,135 @@
+/**
+ * Copyright (C) 2022 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.toolkit.client.common.util;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Format and parse dates with {@link SimpleDateFormat} patterns without creating a formatter for each date.<br>
+ * Dates are formatted with an immutable {@link DateTimeFormatter} shared by all threads, cached by pattern and locale.
+ * Dates are parsed with a {@link SimpleDateFormat} kept by each thread, so parsing stays as lenient as before. The same
+ * {@link SimpleDateFormat} formats the dates before 1900 and the patterns whose letters mean something else for a
+ * {@link DateTimeFormatter} (e.g. "u" or a single "S"), as well as all the dates of the locales whose calendar is not
+ * gregorian (e.g. the buddhist calendar of th_TH), so the output is always the one of {@link SimpleDateFormat}.
+ */
+public final class DateFormatterCache {
+
+    /**
+     * Pattern letters formatted the same way by {@link SimpleDateFormat} and {@link DateTimeFormatter}
+     */
+    private static final String SHARED_LETTERS = "yMdHhkKmsaE";
+
+    /**
+     * Characters copied as is by {@link SimpleDateFormat} but reserved by {@link DateTimeFormatter}
+     */
+    private static final String RESERVED_CHARACTERS = "[]{}#";
+
+    /**
+     * 1900-01-02, before which {@link SimpleDateFormat} doesn't use the same time zone offsets (nor the same calendar
+     * before 1582) as {@link DateTimeFormatter}
+     */
+    private static final long OLDEST_SHARED_DATE = -2208902400000L;
+
+    private static final String GREGORIAN_CALENDAR_TYPE = "gregory";
+
+    private static final Map<String, Optional<DateTimeFormatter>> FORMATTERS = new ConcurrentHashMap<>();
+
+    private static final ThreadLocal<Map<String, SimpleDateFormat>> SIMPLE_DATE_FORMATS = ThreadLocal.withInitial(HashMap::new);
+
+    private DateFormatterCache() {
+    }
+
+    public static String format(final Date date, final String pattern) {
+        final Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+        final Optional<DateTimeFormatter> formatter = FORMATTERS.computeIfAbsent(getKey(pattern, locale),
+                key -> createFormatter(pattern, locale));
+        if (formatter.isPresent() && date.getTime() >= OLDEST_SHARED_DATE) {
+            return formatter.get().format(date.toInstant().atZone(ZoneId.systemDefault()));
+        }
+        return getSimpleDateFormat(pattern, locale).format(date);
+    }
+
+    public static Date parse(final String value, final String pattern) throws ParseException {
+        return getSimpleDateFormat(pattern, Locale.getDefault(Locale.Category.FORMAT)).parse(value);
+    }
+
+    private static String getKey(final String pattern, final Locale locale) {
+        return locale.toLanguageTag() + "|" + pattern;
+    }
+
+    private static SimpleDateFormat getSimpleDateFormat(final String pattern, final Locale locale) {
+        final SimpleDateFormat simpleDateFormat = SIMPLE_DATE_FORMATS.get().computeIfAbsent(getKey(pattern, locale),
+                key -> new SimpleDateFormat(pattern, locale));
+        simpleDateFormat.setTimeZone(TimeZone.getDefault());
+        return simpleDateFormat;
+    }
+
+    /**
+     * @return the formatter of the pattern, or nothing if the pattern is not formatted as {@link SimpleDateFormat} does
+     */
+    static Optional<DateTimeFormatter> createFormatter(final String pattern, final Locale locale) {
+        if (!GREGORIAN_CALENDAR_TYPE.equals(Calendar.getInstance(locale).getCalendarType())) {
+            // DateTimeFormatter.ofPattern always uses the ISO calendar (the buddhist calendar is also a GregorianCalendar)
+            return Optional.empty();
+        }
+        boolean quoted = false;
+        int i = 0;
+        while (i < pattern.length()) {
+            final char c = pattern.charAt(i);
+            int count = 1;
+            while (i + count < pattern.length() && pattern.charAt(i + count) == c) {
+                count++;
+            }
+            if (c == '\'') {
+                // an even number of quotes is literal quotes
+                quoted = count % 2 == 1 ? !quoted : quoted;
+            } else if (!quoted && (RESERVED_CHARACTERS.indexOf(c) >= 0 || !isSharedLetters(c, count))) {
+                return Optional.empty();
+            }
+            i += count;
+        }
+        try {
+            return Optional.of(DateTimeFormatter.ofPattern(pattern, locale));
+        } catch (final IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static boolean isSharedLetters(final char letter, final int count) {
+        if (!(letter >= 'a' && letter <= 'z' || letter >= 'A' && letter <= 'Z')) {
+            return true;
+        }
+        if (letter == 'S') {
+            // milliseconds are only the same as fractions of second on 3 digits
+            return count == 3;
+        }
+        if (letter == 'M' || letter == 'E') {
+            // 5 letters are a narrow text for DateTimeFormatter but a full text for SimpleDateFormat
+            return count < 5;
+        }
+        return SHARED_LETTERS.indexOf(letter) >= 0;
+    }
+}
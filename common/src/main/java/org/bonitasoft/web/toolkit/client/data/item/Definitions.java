@@ -14,8 +14,8 @@
  */
 package org.bonitasoft.web.toolkit.client.data.item;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.bonitasoft.web.toolkit.client.ItemDefinitionFactory;
 
@@ -24,7 +24,7 @@ import org.bonitasoft.web.toolkit.client.ItemDefinitionFactory;
  */
 public class Definitions {
 
-    private final Map<String, ItemDefinition<?>> itemDefinitions = new HashMap<String, ItemDefinition<?>>();
+    private final Map<String, ItemDefinition<?>> itemDefinitions = new ConcurrentHashMap<String, ItemDefinition<?>>();
 
     private static final Definitions INSTANCE = new Definitions();
 
@@ -42,15 +42,17 @@ public class Definitions {
     }
 
     public final ItemDefinition<?> getDefinition(final String token) {
-        if (itemDefinitions.containsKey(token)) {
-            return itemDefinitions.get(token);
+        final ItemDefinition<?> registeredDefinition = itemDefinitions.get(token);
+        if (registeredDefinition != null) {
+            return registeredDefinition;
         } else if (DummyItemDefinition.TOKEN.equals(token)) {
             return new DummyItemDefinition();
         } else {
             final ItemDefinition<?> itemDefinition = ItemDefinitionFactory.getDefaultFactory().defineItemDefinitions(token);
             if (itemDefinition != null) {
-                itemDefinitions.put(token, itemDefinition);
-                return itemDefinition;
+                itemDefinition.compilePipeline();
+                final ItemDefinition<?> concurrentDefinition = itemDefinitions.putIfAbsent(token, itemDefinition);
+                return concurrentDefinition != null ? concurrentDefinition : itemDefinition;
             }
             // TODO Throw exception
             return null;
@@ -58,6 +58,20 @@ public interface IItem extends JsonSerializable {
      */
     public abstract void setApplyValidatorMandatory(final boolean applyValidatorMandatory);
 
+    /**
+     * Stop validating the item each time an attribute is set. The attributes set from now on are only validated when
+     * {@link #validate()} is called.
+     */
+    public abstract void deferValidation();
+
+    /**
+     * Validate the attributes set since {@link #deferValidation()} was called and go back to validating each attribute
+     * as soon as it is set.
+     *
+     * @throws org.bonitasoft.web.toolkit.client.data.item.attribute.ValidationException
+     */
+    public abstract void validate();
+
     /**
      * Set an attribute value.
      * <p>
@@ -17,15 +17,19 @@ package org.bonitasoft.web.toolkit.client.data.item;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 
 import org.bonitasoft.web.toolkit.client.common.json.JSonSerializer;
 import org.bonitasoft.web.toolkit.client.common.util.StringUtil;
 import org.bonitasoft.web.toolkit.client.data.APIID;
 import org.bonitasoft.web.toolkit.client.data.item.attribute.ItemAttribute;
-import org.bonitasoft.web.toolkit.client.data.item.attribute.ModifierEngine;
+import org.bonitasoft.web.toolkit.client.data.item.attribute.ItemPipeline;
+import org.bonitasoft.web.toolkit.client.data.item.attribute.ValidationError;
+import org.bonitasoft.web.toolkit.client.data.item.attribute.ValidationException;
 import org.bonitasoft.web.toolkit.client.data.item.attribute.ValidatorEngine;
 import org.bonitasoft.web.toolkit.client.data.item.template.ItemHasDualDescription;
 import org.bonitasoft.web.toolkit.client.data.item.template.ItemHasDualName;
@@ -116,6 +120,11 @@ public abstract class Item implements IItem {
 
     private Boolean applyValidatorMandatory = null;
 
+    /**
+     * Attributes to validate when validation is deferred, in the order they were set. NULL if validation is not deferred.
+     */
+    private Set<String> attributesToValidate = null;
+
     /**
      * @param applyOutputModifiersByDefault
      *        the applyOutputModifiersByDefault to set
@@ -184,6 +193,41 @@ public abstract class Item implements IItem {
         this.applyValidatorMandatory = applyValidatorMandatory;
     }
 
+    @Override
+    public final void deferValidation() {
+        if (attributesToValidate == null) {
+            attributesToValidate = new LinkedHashSet<String>();
+        }
+    }
+
+    /**
+     * Validate the attributes set since the validation was deferred.
+     * <p>
+     * The attributes are checked in the order they were set and the errors of the first invalid one are thrown, as if each
+     * attribute had been validated when it was set.
+     */
+    @Override
+    public final void validate() {
+        if (attributesToValidate == null) {
+            return;
+        }
+        final Set<String> attributeNames = attributesToValidate;
+        attributesToValidate = null;
+        if (attributeNames.isEmpty()) {
+            return;
+        }
+
+        final boolean applyMandatory = applyValidatorMandatory == null ? applyValidatorMandatoryByDefault : applyValidatorMandatory;
+        final Map<String, String> values = getAttributes();
+        final ItemPipeline pipeline = getItemDefinition().getPipeline();
+        for (final String attributeName : attributeNames) {
+            final List<ValidationError> errors = pipeline.validateAttribute(attributeName, values, applyMandatory);
+            if (!errors.isEmpty()) {
+                throw new ValidationException(errors);
+            }
+        }
+    }
+
     // //////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // SETTERS
     // //////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -258,16 +302,18 @@ public abstract class Item implements IItem {
      */
     @Override
     public final void setAttribute(final String name, final String value, final boolean applyModifiers, final boolean applyValidators) {
-        final ItemAttribute attribute = getItemDefinition().getAttribute(name);
-
         String realValue = value;
-        if (attribute != null && applyModifiers) {
-            realValue = ModifierEngine.modify(realValue, attribute.getInputModifiers());
+        if (applyModifiers) {
+            realValue = getItemDefinition().getPipeline().applyInputModifiers(name, realValue);
         }
 
         attributes.put(name, realValue);
         if (applyValidators) {
-            ValidatorEngine.validate(this, applyValidatorMandatory == null ? applyValidatorMandatoryByDefault : applyValidatorMandatory);
+            if (attributesToValidate != null) {
+                attributesToValidate.add(name);
+            } else {
+                ValidatorEngine.validate(this, applyValidatorMandatory == null ? applyValidatorMandatoryByDefault : applyValidatorMandatory);
+            }
         }
     }
 
@@ -425,12 +471,10 @@ public abstract class Item implements IItem {
         // Read a local attribute
         else {
 
-            final ItemAttribute attribute = getItemDefinition().getAttribute(attributeName);
-
             String realValue = attributes.get(attributeName);
 
-            if (attribute != null && applyModifiers) {
-                realValue = ModifierEngine.modify(realValue, attribute.getOutputModifiers());
+            if (applyModifiers) {
+                realValue = getItemDefinition().getPipeline().applyOutputModifiers(attributeName, realValue);
             }
 
             if (this instanceof ItemHasDualName) {
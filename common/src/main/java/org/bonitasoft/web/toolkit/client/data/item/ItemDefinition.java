@@ -20,9 +20,11 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.bonitasoft.web.toolkit.client.data.APIID;
 import org.bonitasoft.web.toolkit.client.data.item.attribute.ItemAttribute;
+import org.bonitasoft.web.toolkit.client.data.item.attribute.ItemPipeline;
 import org.bonitasoft.web.toolkit.client.data.item.attribute.ValidationException;
 import org.bonitasoft.web.toolkit.client.data.item.attribute.modifier.Modifier;
 import org.bonitasoft.web.toolkit.client.data.item.attribute.validator.Validator;
@@ -217,37 +219,54 @@ public abstract class ItemDefinition<E extends IItem> {
     // VALIDATORS AND MODIFIERS
     // //////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
 
+    /**
+     * Pipelines by definition class: many items create a new instance of their definition each time they need it.
+     */
+    private static final Map<Class<?>, ItemPipeline> PIPELINES = new ConcurrentHashMap<Class<?>, ItemPipeline>();
+
+    private volatile ItemPipeline pipeline = null;
+
+    /**
+     * Compile the validators and modifiers of the attributes. Must be called once all the attributes are defined.
+     */
+    public final ItemPipeline compilePipeline() {
+        this.pipeline = new ItemPipeline(getAttributes());
+        PIPELINES.put(getClass(), this.pipeline);
+        return this.pipeline;
+    }
+
+    /**
+     * Get the validators and modifiers of the attributes, compiled the first time they are needed if the definition has
+     * not been registered through {@link Definitions}.
+     */
+    public final ItemPipeline getPipeline() {
+        ItemPipeline pipeline = this.pipeline;
+        if (pipeline == null) {
+            pipeline = PIPELINES.computeIfAbsent(getClass(), definitionClass -> new ItemPipeline(getAttributes()));
+            this.pipeline = pipeline;
+        }
+        return pipeline;
+    }
+
     /**
      * Get the validators in a map <attribute name, list of validators>
      */
     public final Map<String, List<Validator>> getValidators() {
-        final Map<String, List<Validator>> validators = new HashMap<String, List<Validator>>();
-        for (final ItemAttribute attribute : getAttributes()) {
-            validators.put(attribute.getName(), attribute.getValidators());
-        }
-        return validators;
+        return getPipeline().getValidators();
     }
 
     /**
      * Get the Modifiers in a map <attribute name, list of modifiers>
      */
     public final Map<String, List<Modifier>> getInputModifiers() {
-        final Map<String, List<Modifier>> modifiers = new HashMap<String, List<Modifier>>();
-        for (final ItemAttribute attribute : getAttributes()) {
-            modifiers.put(attribute.getName(), attribute.getInputModifiers());
-        }
-        return modifiers;
+        return getPipeline().getInputModifiers();
     }
 
     /**
      * Get the Modifiers in a map <attribute name, list of modifiers>
      */
     public final Map<String, List<Modifier>> getOutputModifiers() {
-        final Map<String, List<Modifier>> modifiers = new HashMap<String, List<Modifier>>();
-        for (final ItemAttribute attribute : getAttributes()) {
-            modifiers.put(attribute.getName(), attribute.getOutputModifiers());
-        }
-        return modifiers;
+        return getPipeline().getOutputModifiers();
     }
 
     // ///////////////////////////////////////////////////////////////////////////////////////////////////
@@ -0,0 +1,118 @@
+/**
+ * Copyright (C) 2022 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.toolkit.client.data.item.attribute;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.bonitasoft.web.toolkit.client.data.item.attribute.modifier.Modifier;
+import org.bonitasoft.web.toolkit.client.data.item.attribute.validator.Validator;
+
+/**
+ * Validators and modifiers of the attributes of an item definition, compiled once the definition is built.<br>
+ * A pipeline is immutable and can be shared by concurrent requests: the validators keep no state, the errors of a check
+ * are returned by {@link Validator#validate(String, Map)}.
+ */
+public final class ItemPipeline {
+
+    private static final Validator[] NO_VALIDATOR = new Validator[0];
+
+    private static final Modifier[] NO_MODIFIER = new Modifier[0];
+
+    private final Map<String, Validator[]> validators = new HashMap<String, Validator[]>();
+
+    private final Map<String, Modifier[]> inputModifiers = new HashMap<String, Modifier[]>();
+
+    private final Map<String, Modifier[]> outputModifiers = new HashMap<String, Modifier[]>();
+
+    private final Map<String, List<Validator>> validatorsByAttribute;
+
+    private final Map<String, List<Modifier>> inputModifiersByAttribute;
+
+    private final Map<String, List<Modifier>> outputModifiersByAttribute;
+
+    public ItemPipeline(final List<ItemAttribute> attributes) {
+        final Map<String, List<Validator>> validatorsByAttribute = new HashMap<String, List<Validator>>();
+        final Map<String, List<Modifier>> inputModifiersByAttribute = new HashMap<String, List<Modifier>>();
+        final Map<String, List<Modifier>> outputModifiersByAttribute = new HashMap<String, List<Modifier>>();
+        for (final ItemAttribute attribute : attributes) {
+            final String name = attribute.getName();
+            validators.put(name, attribute.getValidators().toArray(NO_VALIDATOR));
+            inputModifiers.put(name, attribute.getInputModifiers().toArray(NO_MODIFIER));
+            outputModifiers.put(name, attribute.getOutputModifiers().toArray(NO_MODIFIER));
+            validatorsByAttribute.put(name, Collections.unmodifiableList(Arrays.asList(validators.get(name))));
+            inputModifiersByAttribute.put(name, Collections.unmodifiableList(Arrays.asList(inputModifiers.get(name))));
+            outputModifiersByAttribute.put(name, Collections.unmodifiableList(Arrays.asList(outputModifiers.get(name))));
+        }
+        this.validatorsByAttribute = Collections.unmodifiableMap(validatorsByAttribute);
+        this.inputModifiersByAttribute = Collections.unmodifiableMap(inputModifiersByAttribute);
+        this.outputModifiersByAttribute = Collections.unmodifiableMap(outputModifiersByAttribute);
+    }
+
+    /**
+     * Get the validators in a map <attribute name, list of validators>
+     */
+    public Map<String, List<Validator>> getValidators() {
+        return validatorsByAttribute;
+    }
+
+    /**
+     * Get the input modifiers in a map <attribute name, list of modifiers>
+     */
+    public Map<String, List<Modifier>> getInputModifiers() {
+        return inputModifiersByAttribute;
+    }
+
+    /**
+     * Get the output modifiers in a map <attribute name, list of modifiers>
+     */
+    public Map<String, List<Modifier>> getOutputModifiers() {
+        return outputModifiersByAttribute;
+    }
+
+    public String applyInputModifiers(final String attributeName, final String value) {
+        return ModifierEngine.modify(value, inputModifiers.get(attributeName));
+    }
+
+    public String applyOutputModifiers(final String attributeName, final String value) {
+        return ModifierEngine.modify(value, outputModifiers.get(attributeName));
+    }
+
+    /**
+     * Check an attribute among the values of an item.
+     *
+     * @return the errors found, or an empty list if the attribute is valid
+     */
+    public List<ValidationError> validateAttribute(final String attributeName, final Map<String, String> values, final boolean applyMandatory) {
+        return ValidatorEngine.getErrors(attributeName, values, validators.get(attributeName), applyMandatory);
+    }
+
+    /**
+     * Check all the attributes present in the values of an item.
+     *
+     * @return the errors found, or an empty list if the values are valid
+     */
+    public List<ValidationError> validate(final Map<String, String> values, final boolean applyMandatory) {
+        final List<ValidationError> errors = new ArrayList<ValidationError>();
+        for (final String attributeName : values.keySet()) {
+            errors.addAll(validateAttribute(attributeName, values, applyMandatory));
+        }
+        return errors;
+    }
+}
@@ -48,6 +48,14 @@ public class ModifierEngine {
             return value;
         }
 
+        return modify(value, modifiers.toArray(new Modifier[modifiers.size()]));
+    }
+
+    public static String modify(final String value, final Modifier[] modifiers) {
+        if (modifiers == null) {
+            return value;
+        }
+
         String result = value;
         for (final Modifier modifier : modifiers) {
             if (result == null) {
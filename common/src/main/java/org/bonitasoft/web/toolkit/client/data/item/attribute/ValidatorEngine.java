@@ -16,14 +16,13 @@
  */
 package org.bonitasoft.web.toolkit.client.data.item.attribute;
 
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
 import org.bonitasoft.web.toolkit.client.common.TreeIndexed;
 import org.bonitasoft.web.toolkit.client.data.item.IItem;
-import org.bonitasoft.web.toolkit.client.data.item.attribute.validator.AbstractStringComparisonValidator;
-import org.bonitasoft.web.toolkit.client.data.item.attribute.validator.AbstractStringValidator;
 import org.bonitasoft.web.toolkit.client.data.item.attribute.validator.MandatoryValidator;
 import org.bonitasoft.web.toolkit.client.data.item.attribute.validator.Validator;
 
@@ -38,7 +37,10 @@ public class ValidatorEngine {
     }
 
     public static void validateAttribute(final String attributeName, final IItem item, final boolean applyMandatory) throws ValidationException {
-        validateAttribute(attributeName, item.getAttributes(), item.getItemDefinition().getAttribute(attributeName).getValidators(), applyMandatory);
+        final List<ValidationError> errors = item.getItemDefinition().getPipeline().validateAttribute(attributeName, item.getAttributes(), applyMandatory);
+        if (errors.size() > 0) {
+            throw new ValidationException(errors);
+        }
     }
 
     public static void validateAttribute(final String attributeName, final TreeIndexed<String> values, final List<Validator> validators)
@@ -62,40 +64,32 @@ public class ValidatorEngine {
             final boolean applyMandatory)
             throws ValidationException {
 
-        final List<ValidationError> errors = new LinkedList<ValidationError>();
-
-        // Get validators
-        if (validators != null) {
-            // Check validators
-            for (final Validator validator : validators) {
-                // force attribute name as it could be different from the one set in the item definition (case of the deploys)
-                validator.setAttributeName(attributeName);
-
-                // Check mandatory validator
-                if (validator instanceof MandatoryValidator) {
-                    if (applyMandatory) {
-                        ((MandatoryValidator) validator).check(values.get(attributeName));
-                    }
-                }
-                // Check String based validator
-                else if (validator instanceof AbstractStringValidator) {
-                    ((AbstractStringValidator) validator).check(values.get(attributeName));
-                }
-                // Check Comparison validator
-                else if (validator instanceof AbstractStringComparisonValidator) {
-                    ((AbstractStringComparisonValidator) validator).check(
-                            values.get(attributeName),
-                            values.get(((AbstractStringComparisonValidator) validator).getSecondAttributeName())
-                            );
-                }
-                errors.addAll(validator.getErrors());
-            }
-        }
+        final List<ValidationError> errors = getErrors(attributeName, values,
+                validators == null ? null : validators.toArray(new Validator[validators.size()]), applyMandatory);
         if (errors.size() > 0) {
             throw new ValidationException(errors);
         }
     }
 
+    /**
+     * Check an attribute with the given validators
+     * 
+     * @return the errors found, or an empty list if the attribute is valid
+     */
+    public static List<ValidationError> getErrors(final String attributeName, final Map<String, String> values, final Validator[] validators,
+            final boolean applyMandatory) {
+        if (validators == null || validators.length == 0) {
+            return Collections.emptyList();
+        }
+        final List<ValidationError> errors = new LinkedList<ValidationError>();
+        for (final Validator validator : validators) {
+            if (applyMandatory || !(validator instanceof MandatoryValidator)) {
+                errors.addAll(validator.validate(attributeName, values));
+            }
+        }
+        return errors;
+    }
+
     /**
      * Validate an Item
      * 
@@ -111,7 +105,10 @@ public class ValidatorEngine {
      * @throws ValidationException
      */
     public static void validate(final IItem item, final boolean applyMandatory) throws ValidationException {
-        validate(item.getAttributes(), item.getItemDefinition().getValidators(), applyMandatory);
+        final List<ValidationError> errors = item.getItemDefinition().getPipeline().validate(item.getAttributes(), applyMandatory);
+        if (errors.size() > 0) {
+            throw new ValidationException(errors);
+        }
     }
 
     /**
@@ -16,6 +16,10 @@
  */
 package org.bonitasoft.web.toolkit.client.data.item.attribute.validator;
 
+import java.util.List;
+
+import org.bonitasoft.web.toolkit.client.data.item.attribute.ValidationError;
+
 /**
  * @author Séverin Moussel
  * 
@@ -26,11 +30,10 @@ public abstract class AbstractCollectionComparisonValidator extends AbstractComp
         super(secondAttributeName);
     }
 
-    public final void check(final String[] attributeValue, final String secondAttributeValue) {
-        reset();
-        _check(attributeValue, secondAttributeValue);
+    public final List<ValidationError> check(final String[] attributeValue, final String secondAttributeValue) {
+        return toErrors(getAttributeName(), _check(attributeValue, secondAttributeValue));
     }
 
-    protected abstract void _check(String[] attributeValue, String secondAttributeValue);
+    protected abstract List<String> _check(String[] attributeValue, String secondAttributeValue);
 
 }
@@ -16,21 +16,24 @@
  */
 package org.bonitasoft.web.toolkit.client.data.item.attribute.validator;
 
+import java.util.List;
+
+import org.bonitasoft.web.toolkit.client.data.item.attribute.ValidationError;
+
 /**
  * @author Séverin Moussel
  * 
  */
 public abstract class AbstractCollectionValidator extends Validator {
 
-    public final void check(final String[] attributeValue) {
-        reset();
-        _check(attributeValue);
+    public final List<ValidationError> check(final String[] attributeValue) {
+        return toErrors(getAttributeName(), _check(attributeValue));
     }
 
-    protected abstract void _check(String[] attributeValue);
+    protected abstract List<String> _check(String[] attributeValue);
 
     @Override
-    protected final void addError(final String error) {
-        super.addError(error);
+    protected final String formatError(final String attributeName, final String error) {
+        return super.formatError(attributeName, error);
     }
 }
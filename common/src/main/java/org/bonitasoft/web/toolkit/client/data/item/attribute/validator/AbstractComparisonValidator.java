@@ -40,8 +40,8 @@ public abstract class AbstractComparisonValidator extends Validator {
     }
 
     @Override
-    protected final void addError(final String error) {
-        super.addError(new TextTemplate(error).toString(new Arg("secondAttribute", "%" + this.secondAttributeName + "%")));
+    protected final String formatError(final String attributeName, final String error) {
+        return super.formatError(attributeName, new TextTemplate(error).toString(new Arg("secondAttribute", "%" + this.secondAttributeName + "%")));
     }
 
 }
@@ -17,6 +17,7 @@
 package org.bonitasoft.web.toolkit.client.data.item.attribute.validator;
 
 import java.sql.Date;
+import java.util.List;
 
 import org.bonitasoft.web.toolkit.client.common.i18n.AbstractI18n;
 
@@ -27,18 +28,16 @@ import org.bonitasoft.web.toolkit.client.common.i18n.AbstractI18n;
 public abstract class AbstractDateValidator extends AbstractStringValidator {
 
     @Override
-    protected void _check(final String attributeValue) {
+    protected List<String> _check(final String attributeValue) {
         Date dateValue = null;
         try {
             dateValue = Date.valueOf(attributeValue);
         } catch (final IllegalArgumentException e) {
-            addError(AbstractI18n.t_("%attribute% must be a valid date"));
-        }
-        if (dateValue != null) {
-            this._check(dateValue);
+            return error(AbstractI18n.t_("%attribute% must be a valid date"));
         }
+        return this._check(dateValue);
     }
 
-    protected abstract void _check(Date attributeValue);
+    protected abstract List<String> _check(Date attributeValue);
 
 }
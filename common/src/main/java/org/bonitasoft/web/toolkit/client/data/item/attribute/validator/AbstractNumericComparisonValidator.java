@@ -16,6 +16,9 @@
  */
 package org.bonitasoft.web.toolkit.client.data.item.attribute.validator;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.bonitasoft.web.toolkit.client.common.i18n.AbstractI18n;
 
 /**
@@ -32,25 +35,27 @@ public abstract class AbstractNumericComparisonValidator extends AbstractStringC
      * Check if the value is numeric, then delegate to abstract _check(Double)
      */
     @Override
-    protected final void _check(final String attributeValue, final String secondAttributeValue) {
+    protected final List<String> _check(final String attributeValue, final String secondAttributeValue) {
+        final List<String> errors = new ArrayList<String>();
         Double numericValue = null;
         Double secondNumericValue = null;
 
         try {
             numericValue = Double.valueOf(attributeValue);
         } catch (final NumberFormatException e) {
-            addError(AbstractI18n.t_("%attribute% must be a numeric value"));
+            errors.add(AbstractI18n.t_("%attribute% must be a numeric value"));
         }
         try {
             secondNumericValue = Double.valueOf(secondAttributeValue);
         } catch (final NumberFormatException e) {
-            addError(AbstractI18n.t_("%secondAttribute% must be a numeric value"));
+            errors.add(AbstractI18n.t_("%secondAttribute% must be a numeric value"));
         }
 
-        if (!hasError()) {
-            this._check(numericValue, secondNumericValue);
+        if (!errors.isEmpty()) {
+            return errors;
         }
+        return this._check(numericValue, secondNumericValue);
     }
 
-    protected abstract void _check(Double attributeValue, Double secondAttributeValue);
+    protected abstract List<String> _check(Double attributeValue, Double secondAttributeValue);
 }
@@ -16,6 +16,8 @@
  */
 package org.bonitasoft.web.toolkit.client.data.item.attribute.validator;
 
+import java.util.List;
+
 import org.bonitasoft.web.toolkit.client.common.i18n.AbstractI18n;
 
 /**
@@ -28,20 +30,17 @@ public abstract class AbstractNumericValidator extends AbstractStringValidator {
     /**
      * Check if the value is numeric, then delegate to abstract _check(Double)
      */
-    protected final void _check(final String attributeValue) {
+    protected final List<String> _check(final String attributeValue) {
         Double numericValue = null;
         try {
             numericValue = Double.valueOf(attributeValue);
         } catch (final NumberFormatException e) {
-            addError(AbstractI18n.t_("%attribute% must be a numeric value"));
-        }
-
-        if (numericValue != null) {
-            this._check(numericValue);
+            return error(AbstractI18n.t_("%attribute% must be a numeric value"));
         }
 
+        return this._check(numericValue);
     }
 
-    protected abstract void _check(Double attributeValue);
+    protected abstract List<String> _check(Double attributeValue);
 
 }
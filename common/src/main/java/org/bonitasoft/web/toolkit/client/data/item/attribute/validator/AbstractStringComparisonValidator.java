@@ -16,6 +16,12 @@
  */
 package org.bonitasoft.web.toolkit.client.data.item.attribute.validator;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.bonitasoft.web.toolkit.client.data.item.attribute.ValidationError;
+
 /**
  * @author Séverin Moussel
  * 
@@ -27,27 +33,38 @@ public abstract class AbstractStringComparisonValidator extends AbstractCollecti
     }
 
     @Override
-    protected final void _check(final String[] attributeValue, final String secondAttributeValue) {
+    protected List<String> checkAttribute(final String attributeName, final Map<String, String> values) {
+        return this.checkValues(values.get(attributeName), values.get(getSecondAttributeName()));
+    }
+
+    @Override
+    protected final List<String> _check(final String[] attributeValue, final String secondAttributeValue) {
+        final List<String> errors = new ArrayList<String>();
         for (int i = 0; i < attributeValue.length; i++) {
-            this.check(attributeValue[i], secondAttributeValue);
+            errors.addAll(this.checkValues(attributeValue[i], secondAttributeValue));
         }
+        return errors;
     }
 
-    /**
-     * Function to override to define the checking operation
-     * 
-     * @param attributeValue
-     */
-    public final void check(final String attributeValue, final String secondAttributeValue) {
-        reset();
+    public final List<ValidationError> check(final String attributeValue, final String secondAttributeValue) {
+        return toErrors(getAttributeName(), checkValues(attributeValue, secondAttributeValue));
+    }
+
+    private List<String> checkValues(final String attributeValue, final String secondAttributeValue) {
         if (attributeValue == null || secondAttributeValue == null || attributeValue.length() == 0 || secondAttributeValue.length() == 0) {
             // Not an error. The null value will be detected by a mandatory validator.
-            return;
+            return noError();
         }
 
-        this._check(attributeValue, secondAttributeValue);
+        return this._check(attributeValue, secondAttributeValue);
     }
 
-    protected abstract void _check(String attributeValue, String secondAttributeValue);
+    /**
+     * Function to override to define the checking operation
+     * 
+     * @param attributeValue
+     * @return the messages of the errors found
+     */
+    protected abstract List<String> _check(String attributeValue, String secondAttributeValue);
 
 }
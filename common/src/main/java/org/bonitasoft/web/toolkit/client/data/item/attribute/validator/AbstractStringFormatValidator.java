@@ -16,6 +16,7 @@
  */
 package org.bonitasoft.web.toolkit.client.data.item.attribute.validator;
 
+import java.util.List;
 import java.util.regex.Pattern;
 
 import org.bonitasoft.web.toolkit.client.common.i18n.AbstractI18n;
@@ -59,15 +60,16 @@ public abstract class AbstractStringFormatValidator extends AbstractStringValida
      * @see org.bonitasoft.console.client.toolkit.item.attribute.checker.AttributeStringChecker#check(java.lang.String)
      */
     @Override
-    protected void _check(final String attributeValue) {
+    protected List<String> _check(final String attributeValue) {
 
         // use `find()` instead of `matches()` because it was the implementation of the original `com.google.gwt.regexp.shared.RegExp#test()` method
         final boolean match = regexp.matcher(attributeValue).find();
         if (attributeValue.contains("HTTP Error")) {
-            addError(AbstractI18n.t_("Error uploading the file. Maybe your session expired. You can try to refresh the page."));
+            return error(AbstractI18n.t_("Error uploading the file. Maybe your session expired. You can try to refresh the page."));
         } else if (exclude && match || !exclude && !match) {
-            addError(defineErrorMessage());
+            return error(defineErrorMessage());
         }
+        return noError();
     }
 
     abstract protected String defineErrorMessage();
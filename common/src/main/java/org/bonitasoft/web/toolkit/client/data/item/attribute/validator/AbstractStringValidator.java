@@ -16,6 +16,11 @@
  */
 package org.bonitasoft.web.toolkit.client.data.item.attribute.validator;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.bonitasoft.web.toolkit.client.data.item.attribute.ValidationError;
 
 /**
  * 
@@ -28,28 +33,39 @@ public abstract class AbstractStringValidator extends AbstractCollectionValidato
     protected String locale = "";
     
     @Override
-    protected final void _check(final String[] attributeValue) {
+    protected List<String> checkAttribute(final String attributeName, final Map<String, String> values) {
+        return this.checkValue(values.get(attributeName));
+    }
+
+    @Override
+    protected final List<String> _check(final String[] attributeValue) {
+        final List<String> errors = new ArrayList<String>();
         for (int i = 0; i < attributeValue.length; i++) {
-            this.check(attributeValue[i]);
+            errors.addAll(this.checkValue(attributeValue[i]));
         }
+        return errors;
     }
 
-    /**
-     * Function to override to define the checking operation
-     * 
-     * @param attributeValue
-     */
-    public final void check(final String attributeValue) {
-        reset();
+    public final List<ValidationError> check(final String attributeValue) {
+        return toErrors(getAttributeName(), checkValue(attributeValue));
+    }
+
+    private List<String> checkValue(final String attributeValue) {
         if (attributeValue == null || attributeValue.length() == 0) {
             // Not an error. The null value will be detected by a mandatory validator.
-            return;
+            return noError();
         }
 
-        this._check(attributeValue);
+        return this._check(attributeValue);
     }
 
-    protected abstract void _check(String attributeValue);
+    /**
+     * Function to override to define the checking operation
+     * 
+     * @param attributeValue
+     * @return the messages of the errors found
+     */
+    protected abstract List<String> _check(String attributeValue);
 
     public void setLocale(String locale) {
         this.locale = locale;
@@ -19,6 +19,8 @@ package org.bonitasoft.web.toolkit.client.data.item.attribute.validator;
 import static org.bonitasoft.web.toolkit.client.common.i18n.AbstractI18n.t_;
 
 import java.sql.Date;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.bonitasoft.web.toolkit.client.common.i18n.AbstractI18n;
 import org.bonitasoft.web.toolkit.client.common.texttemplate.Arg;
@@ -58,27 +60,31 @@ public class DateMinMaxValidator extends AbstractDateValidator {
     }
 
     @Override
-    public void _check(final Date attributeValue) {
+    public List<String> _check(final Date attributeValue) {
+        final List<String> errors = new ArrayList<String>();
+
         // Checking for including the minDate
         if (this.includeMinDate) {
             if (this.min != null && attributeValue.compareTo(this.min) < 0) {
-                addError(AbstractI18n.t_("%attribute% must be more or equal than %value%", new Arg("value", this.min)));
+                errors.add(AbstractI18n.t_("%attribute% must be more or equal than %value%", new Arg("value", this.min)));
             }
         } else {
             if (this.min != null && attributeValue.compareTo(this.min) <= 0) {
-                addError(AbstractI18n.t_("%attribute% must be more than %value%", new Arg("value", this.min)));
+                errors.add(AbstractI18n.t_("%attribute% must be more than %value%", new Arg("value", this.min)));
             }
         }
 
         // Checking for including the maxDate
         if (this.includeMaxDate) {
             if (this.max != null && attributeValue.compareTo(this.max) > 0) {
-                addError(AbstractI18n.t_("%attribute% must be less or equal than %value%", new Arg("value", this.max)));
+                errors.add(AbstractI18n.t_("%attribute% must be less or equal than %value%", new Arg("value", this.max)));
             }
         } else {
             if (this.max != null && attributeValue.compareTo(this.max) >= 0) {
-                addError(AbstractI18n.t_("%attribute% must be less than %value%", new Arg("value", this.max)));
+                errors.add(AbstractI18n.t_("%attribute% must be less than %value%", new Arg("value", this.max)));
             }
         }
+
+        return errors;
     }
 }
@@ -18,6 +18,8 @@ package org.bonitasoft.web.toolkit.client.data.item.attribute.validator;
 
 import static org.bonitasoft.web.toolkit.client.common.i18n.AbstractI18n.t_;
 
+import java.util.List;
+
 import org.bonitasoft.web.toolkit.client.common.i18n.AbstractI18n;
 
 /**
@@ -27,7 +29,7 @@ import org.bonitasoft.web.toolkit.client.common.i18n.AbstractI18n;
 public class IsBooleanValidator extends AbstractStringValidator {
 
     @Override
-    protected void _check(final String attributeValue) {
+    protected List<String> _check(final String attributeValue) {
 
         // Test the case of a String representing a boolean value
         if ("true".equalsIgnoreCase(attributeValue) ||
@@ -36,14 +38,16 @@ public class IsBooleanValidator extends AbstractStringValidator {
                 "off".equalsIgnoreCase(attributeValue) ||
                 "yes".equalsIgnoreCase(attributeValue) ||
                 "no".equalsIgnoreCase(attributeValue)) {
-            return;
+            return noError();
         }
 
         // Test the case of a Numeric representing a boolean value
         try {
             Double.valueOf(attributeValue);
         } catch (final NumberFormatException e) {
-            addError(AbstractI18n.t_("%attribute% must be a boolean value"));
+            return error(AbstractI18n.t_("%attribute% must be a boolean value"));
         }
+
+        return noError();
     }
 }
@@ -16,6 +16,8 @@
  */
 package org.bonitasoft.web.toolkit.client.data.item.attribute.validator;
 
+import java.util.List;
+
 /**
  * @author Paul AMAR
  * 
@@ -23,8 +25,9 @@ package org.bonitasoft.web.toolkit.client.data.item.attribute.validator;
 public class IsDateValidator extends AbstractNumericValidator {
 
     @Override
-    protected void _check(final Double attributeValue) {
+    protected List<String> _check(final Double attributeValue) {
         // Do nothing. The parent class check is enough
+        return noError();
     }
 
 }
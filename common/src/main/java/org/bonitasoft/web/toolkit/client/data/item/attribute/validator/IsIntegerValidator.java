@@ -18,6 +18,8 @@ package org.bonitasoft.web.toolkit.client.data.item.attribute.validator;
 
 import static org.bonitasoft.web.toolkit.client.common.i18n.AbstractI18n.t_;
 
+import java.util.List;
+
 import org.bonitasoft.web.toolkit.client.common.i18n.AbstractI18n;
 
 /**
@@ -27,12 +29,14 @@ import org.bonitasoft.web.toolkit.client.common.i18n.AbstractI18n;
 public class IsIntegerValidator extends AbstractStringValidator {
 
     @Override
-    protected void _check(final String attributeValue) {
+    protected List<String> _check(final String attributeValue) {
         try {
             Long.valueOf(attributeValue);
         } catch (final NumberFormatException e) {
-            addError(AbstractI18n.t_("%attribute% must be an integer value"));
+            return error(AbstractI18n.t_("%attribute% must be an integer value"));
         }
+
+        return noError();
     }
 
 }
@@ -18,7 +18,12 @@ package org.bonitasoft.web.toolkit.client.data.item.attribute.validator;
 
 import static org.bonitasoft.web.toolkit.client.common.i18n.AbstractI18n.t_;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 import org.bonitasoft.web.toolkit.client.common.i18n.AbstractI18n;
+import org.bonitasoft.web.toolkit.client.data.item.attribute.ValidationError;
 
 /**
  * @author Séverin Moussel
@@ -38,22 +43,28 @@ public class MandatoryValidator extends AbstractCollectionValidator {
     }
 
     @Override
-    protected final void _check(final String[] attributeValue) {
+    protected List<String> checkAttribute(final String attributeName, final Map<String, String> values) {
+        return this.checkValue(values.get(attributeName));
+    }
+
+    @Override
+    protected final List<String> _check(final String[] attributeValue) {
+        final List<String> errors = new ArrayList<String>();
         for (int i = 0; i < attributeValue.length; i++) {
-            this.check(attributeValue[i]);
+            errors.addAll(this.checkValue(attributeValue[i]));
         }
+        return errors;
     }
 
-    /**
-     * Function to override to define the checking operation
-     * 
-     * @param attributeValue
-     */
-    public final void check(final String attributeValue) {
-        reset();
+    public final List<ValidationError> check(final String attributeValue) {
+        return toErrors(getAttributeName(), checkValue(attributeValue));
+    }
 
+    private List<String> checkValue(final String attributeValue) {
         if (attributeValue == null || attributeValue.trim().length() == 0) {
-            addError(this.message);
+            return error(this.message);
         }
+
+        return noError();
     }
 }
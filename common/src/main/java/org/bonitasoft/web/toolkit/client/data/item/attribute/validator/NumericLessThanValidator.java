@@ -18,6 +18,8 @@ package org.bonitasoft.web.toolkit.client.data.item.attribute.validator;
 
 import static org.bonitasoft.web.toolkit.client.common.i18n.AbstractI18n.t_;
 
+import java.util.List;
+
 import org.bonitasoft.web.toolkit.client.common.i18n.AbstractI18n;
 
 /**
@@ -31,11 +33,12 @@ public class NumericLessThanValidator extends AbstractNumericComparisonValidator
     }
 
     @Override
-    protected void _check(final Double attributeValue, final Double secondAttributeValue) {
+    protected List<String> _check(final Double attributeValue, final Double secondAttributeValue) {
         if (attributeValue >= secondAttributeValue) {
-            addError(AbstractI18n.t_("%attribute% must be less than %secondAttribute%"));
+            return error(AbstractI18n.t_("%attribute% must be less than %secondAttribute%"));
         }
 
+        return noError();
     }
 
 }
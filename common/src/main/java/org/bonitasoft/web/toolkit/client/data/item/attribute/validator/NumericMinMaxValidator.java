@@ -18,6 +18,9 @@ package org.bonitasoft.web.toolkit.client.data.item.attribute.validator;
 
 import static org.bonitasoft.web.toolkit.client.common.i18n.AbstractI18n.t_;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.bonitasoft.web.toolkit.client.common.i18n.AbstractI18n;
 import org.bonitasoft.web.toolkit.client.common.texttemplate.Arg;
 
@@ -65,28 +68,32 @@ public class NumericMinMaxValidator extends AbstractNumericValidator {
      * @see org.bonitasoft.console.client.toolkit.item.attribute.validator.AbstractStringValidator#check(java.lang.Object)
      */
     @Override
-    protected final void _check(final Double attributeValue) {
+    protected final List<String> _check(final Double attributeValue) {
+        final List<String> errors = new ArrayList<String>();
+
         // Checking for including the min
         if (this.includeMin) {
             if (this.min != null && attributeValue.compareTo(this.min) < 0) {
-                addError(AbstractI18n.t_("%attribute% must be more or equal than %value%", new Arg("value", attributeValue)));
+                errors.add(AbstractI18n.t_("%attribute% must be more or equal than %value%", new Arg("value", attributeValue)));
             }
         } else {
             if (this.min != null && attributeValue.compareTo(this.min) <= 0) {
-                addError(AbstractI18n.t_("%attribute% must be more than %value%", new Arg("value", attributeValue)));
+                errors.add(AbstractI18n.t_("%attribute% must be more than %value%", new Arg("value", attributeValue)));
             }
         }
 
         // Checking for including the max
         if (this.includeMax) {
             if (this.max != null && attributeValue.compareTo(this.max) > 0) {
-                addError(AbstractI18n.t_("%attribute% must be less or equal than %value%", new Arg("value", attributeValue)));
+                errors.add(AbstractI18n.t_("%attribute% must be less or equal than %value%", new Arg("value", attributeValue)));
             }
         } else {
             if (this.max != null && attributeValue.compareTo(this.max) >= 0) {
-                addError(AbstractI18n.t_("%attribute% must be less than %value%", new Arg("value", attributeValue)));
+                errors.add(AbstractI18n.t_("%attribute% must be less than %value%", new Arg("value", attributeValue)));
             }
         }
+
+        return errors;
     }
 
 }
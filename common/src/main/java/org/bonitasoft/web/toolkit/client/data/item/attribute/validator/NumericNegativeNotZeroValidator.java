@@ -18,6 +18,8 @@ package org.bonitasoft.web.toolkit.client.data.item.attribute.validator;
 
 import static org.bonitasoft.web.toolkit.client.common.i18n.AbstractI18n.t_;
 
+import java.util.List;
+
 import org.bonitasoft.web.toolkit.client.common.i18n.AbstractI18n;
 
 /**
@@ -27,9 +29,11 @@ import org.bonitasoft.web.toolkit.client.common.i18n.AbstractI18n;
 public class NumericNegativeNotZeroValidator extends AbstractNumericValidator {
 
     @Override
-    protected void _check(final Double attributeValue) {
+    protected List<String> _check(final Double attributeValue) {
         if (attributeValue.compareTo(0D) >= 0) {
-            addError(AbstractI18n.t_("%attribute% must be a negative value diffrent from 0"));
+            return error(AbstractI18n.t_("%attribute% must be a negative value diffrent from 0"));
         }
+
+        return noError();
     }
 }
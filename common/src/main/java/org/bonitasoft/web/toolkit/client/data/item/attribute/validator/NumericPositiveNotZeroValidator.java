@@ -18,6 +18,8 @@ package org.bonitasoft.web.toolkit.client.data.item.attribute.validator;
 
 import static org.bonitasoft.web.toolkit.client.common.i18n.AbstractI18n.t_;
 
+import java.util.List;
+
 import org.bonitasoft.web.toolkit.client.common.i18n.AbstractI18n;
 
 /**
@@ -27,10 +29,12 @@ import org.bonitasoft.web.toolkit.client.common.i18n.AbstractI18n;
 public class NumericPositiveNotZeroValidator extends AbstractNumericValidator {
 
     @Override
-    protected void _check(final Double attributeValue) {
+    protected List<String> _check(final Double attributeValue) {
         if (attributeValue <= 0) {
-            addError(AbstractI18n.t_("%attribute% must be a positive value different from 0"));
+            return error(AbstractI18n.t_("%attribute% must be a positive value different from 0"));
         }
+
+        return noError();
     }
 
 }
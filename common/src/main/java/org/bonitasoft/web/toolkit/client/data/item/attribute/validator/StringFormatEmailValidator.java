@@ -18,6 +18,8 @@ package org.bonitasoft.web.toolkit.client.data.item.attribute.validator;
 
 import static org.bonitasoft.web.toolkit.client.common.i18n.AbstractI18n.t_;
 
+import java.util.List;
+
 import org.bonitasoft.web.toolkit.client.common.i18n.AbstractI18n;
 
 /**
@@ -32,11 +34,11 @@ public class StringFormatEmailValidator extends AbstractStringFormatValidator {
     }
 
     @Override
-    protected final void _check(final String attributeValue) {
+    protected final List<String> _check(final String attributeValue) {
         if (attributeValue.contains(" ")) {
-            addError(defineErrorMessage());
+            return error(defineErrorMessage());
         } else {
-            super._check(attributeValue);
+            return super._check(attributeValue);
         }
     }
 
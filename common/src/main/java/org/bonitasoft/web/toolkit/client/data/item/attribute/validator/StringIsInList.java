@@ -42,16 +42,15 @@ public class StringIsInList extends AbstractStringValidator {
      * @see org.bonitasoft.web.toolkit.client.data.item.attribute.validator.AbstractStringValidator#_check(java.lang.String)
      */
     @Override
-    protected void _check(final String attributeValue) {
+    protected List<String> _check(final String attributeValue) {
         final StringBuilder cleanList = new StringBuilder();
         for (final String s : listString) {
             cleanList.append(s).append(", ");
             if (s.equals(attributeValue)) {
-                return;
+                return noError();
             }
         }
-        addError(AbstractI18n.t_("%attribute% must be one of {%list%}").replace("%list%", cleanList.toString().substring(0, cleanList.length() - 2)));
-
+        return error(AbstractI18n.t_("%attribute% must be one of {%list%}").replace("%list%", cleanList.toString().substring(0, cleanList.length() - 2)));
     }
 
 }
@@ -18,6 +18,8 @@ package org.bonitasoft.web.toolkit.client.data.item.attribute.validator;
 
 import static org.bonitasoft.web.toolkit.client.common.i18n.AbstractI18n.t_;
 
+import java.util.List;
+
 import org.bonitasoft.web.toolkit.client.common.i18n.AbstractI18n;
 import org.bonitasoft.web.toolkit.client.common.texttemplate.Arg;
 
@@ -35,9 +37,11 @@ public class StringLengthValidator extends AbstractStringValidator {
     }
 
     @Override
-    protected void _check(final String attributeValue) {
+    protected List<String> _check(final String attributeValue) {
         if (attributeValue.length() != this.length) {
-            addError(AbstractI18n.t_("%attribute% must contain exactly %length% characters", new Arg("length", String.valueOf(this.length))));
+            return error(AbstractI18n.t_("%attribute% must contain exactly %length% characters", new Arg("length", String.valueOf(this.length))));
         }
+
+        return noError();
     }
 }
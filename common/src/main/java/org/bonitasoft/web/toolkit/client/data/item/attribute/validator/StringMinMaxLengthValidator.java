@@ -18,6 +18,9 @@ package org.bonitasoft.web.toolkit.client.data.item.attribute.validator;
 
 import static org.bonitasoft.web.toolkit.client.common.i18n.AbstractI18n.t_;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.bonitasoft.web.toolkit.client.common.i18n.AbstractI18n;
 import org.bonitasoft.web.toolkit.client.common.texttemplate.Arg;
 
@@ -55,31 +58,34 @@ public class StringMinMaxLengthValidator extends AbstractStringValidator {
     }
 
     @Override
-    protected void _check(final String attributeValue) {
+    protected List<String> _check(final String attributeValue) {
+        final List<String> errors = new ArrayList<String>();
+
         final int length = attributeValue.length();
 
         // Checking for including the minLength
         if (includeMin) {
             if (minLength != null && length < minLength) {
-                addError(AbstractI18n.t_("%attribute% must be more or equal than %value%", new Arg("value", minLength)));
+                errors.add(AbstractI18n.t_("%attribute% must be more or equal than %value%", new Arg("value", minLength)));
             }
         } else {
             if (minLength != null && length <= minLength) {
-                addError(AbstractI18n.t_("%attribute% must be more than %value%", new Arg("value", minLength)));
+                errors.add(AbstractI18n.t_("%attribute% must be more than %value%", new Arg("value", minLength)));
             }
         }
 
         // Checking for including the maxLength
         if (includeMax) {
             if (maxLength != null && length > maxLength) {
-                addError(AbstractI18n.t_("%attribute% must be less or equal than %value%", new Arg("value", maxLength)));
+                errors.add(AbstractI18n.t_("%attribute% must be less or equal than %value%", new Arg("value", maxLength)));
             }
         } else {
             if (maxLength != null && length >= maxLength) {
-                addError(AbstractI18n.t_("%attribute% must be less than %value%", new Arg("value", maxLength)));
+                errors.add(AbstractI18n.t_("%attribute% must be less than %value%", new Arg("value", maxLength)));
             }
         }
 
+        return errors;
     }
 
 }
@@ -18,6 +18,8 @@ package org.bonitasoft.web.toolkit.client.data.item.attribute.validator;
 
 import static org.bonitasoft.web.toolkit.client.common.i18n.AbstractI18n.t_;
 
+import java.util.List;
+
 import org.bonitasoft.web.toolkit.client.common.i18n.AbstractI18n;
 
 /**
@@ -27,10 +29,12 @@ import org.bonitasoft.web.toolkit.client.common.i18n.AbstractI18n;
 public class StringSingleLineValidator extends AbstractStringValidator {
 
     @Override
-    protected void _check(final String attributeValue) {
+    protected List<String> _check(final String attributeValue) {
 
         if (attributeValue.indexOf('\n') >= 0) {
-            addError(AbstractI18n.t_("%attribute% must be on a single line"));
+            return error(AbstractI18n.t_("%attribute% must be on a single line"));
         }
+
+        return noError();
     }
 }
@@ -17,19 +17,23 @@
 package org.bonitasoft.web.toolkit.client.data.item.attribute.validator;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 import org.bonitasoft.web.toolkit.client.common.texttemplate.Arg;
 import org.bonitasoft.web.toolkit.client.common.texttemplate.TextTemplate;
 import org.bonitasoft.web.toolkit.client.data.item.attribute.ValidationError;
 
 /**
+ * A validator is shared by all the items of a definition, so it must not keep any state between two checks.<br>
+ * Each check returns the messages of the errors it found, which are then bound to the checked attribute.
+ * 
  * @author Séverin Moussel
  * 
  */
 public abstract class Validator {
 
-    private final ArrayList<ValidationError> errors = new ArrayList<ValidationError>();
-
     private String attributeName = null;
 
     /**
@@ -47,24 +51,49 @@ public abstract class Validator {
         return this.attributeName;
     }
 
-    public final ArrayList<ValidationError> getErrors() {
-        return this.errors;
+    /**
+     * Check an attribute among the values of an item.
+     * 
+     * @param attributeName
+     *            the name of the checked attribute, which could be different from the one set in the item definition (case of the deploys)
+     * @param values
+     *            the values of the item
+     * @return the errors found, or an empty list if the value is valid
+     */
+    public final List<ValidationError> validate(final String attributeName, final Map<String, String> values) {
+        return toErrors(attributeName, checkAttribute(attributeName, values));
+    }
+
+    /**
+     * Function to override to check an attribute among the values of an item. Nothing is checked by default.
+     * 
+     * @return the messages of the errors found
+     */
+    protected List<String> checkAttribute(final String attributeName, final Map<String, String> values) {
+        return noError();
+    }
+
+    /**
+     * Bind the messages of the errors found by a check to the checked attribute
+     */
+    protected final List<ValidationError> toErrors(final String attributeName, final List<String> messages) {
+        final List<ValidationError> errors = new ArrayList<ValidationError>(messages.size());
+        for (final String message : messages) {
+            errors.add(new ValidationError(attributeName, formatError(attributeName, message)));
+        }
+        return errors;
     }
 
-    protected void addError(final String error) {
-        this.errors.add(
-                new ValidationError(
-                        this.attributeName,
-                        new TextTemplate(error).toString(new Arg("attribute", "%" + this.attributeName + "%")))
-                );
+    protected String formatError(final String attributeName, final String error) {
+        return new TextTemplate(error).toString(new Arg("attribute", "%" + attributeName + "%"));
     }
 
-    public final boolean hasError() {
-        return this.errors.size() > 0;
+    protected static List<String> noError() {
+        return Collections.emptyList();
     }
 
-    protected void reset() {
-        this.errors.clear();
+    protected static List<String> error(final String error) {
+        return Collections.singletonList(error);
     }
 
 }
@@ -71,8 +71,8 @@ public class CacheFilterTest {
 
     @Test
     public void testFilterWithExcludedURL() throws Exception {
-        final String url = "test";
-        when(httpRequest.getRequestURL()).thenReturn(new StringBuffer(url));
+        final String url = "/test";
+        when(httpRequest.getServletPath()).thenReturn(url);
         doReturn(true).when(cacheFilter).matchExcludePatterns(url);
         
         cacheFilter.init(filterConfig);
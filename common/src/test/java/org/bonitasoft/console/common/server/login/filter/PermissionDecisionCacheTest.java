@@ -0,0 +1,154 @@
+/**
+ * Copyright (C) 2022 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.console.common.server.login.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+
+import java.util.Properties;
+
+import org.bonitasoft.engine.api.permission.APICallContext;
+import org.bonitasoft.engine.session.APISession;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PermissionDecisionCacheTest {
+
+    @Mock
+    private APISession apiSession;
+
+    private long now = 1000L;
+
+    private final Properties dynamicPermissionsChecks = new Properties();
+
+    private PermissionDecisionCache cache;
+
+    @Before
+    public void setUp() {
+        doReturn(12L).when(apiSession).getId();
+        doReturn(3L).when(apiSession).getUserId();
+        cache = new PermissionDecisionCache(1L, 100L, 2) {
+
+            @Override
+            protected long currentTimeMillis() {
+                return now;
+            }
+
+            @Override
+            protected Properties getDynamicPermissionsChecks() {
+                return dynamicPermissionsChecks;
+            }
+        };
+    }
+
+    @Test
+    public void should_return_cached_decision_until_it_expires() {
+        final PermissionDecisionCache.Key key = cache.createKey(apiSession, new APICallContext("GET", "bpm", "case", "1", "", ""));
+        cache.put(key, false);
+
+        assertThat(cache.get(key)).isFalse();
+        now += 100L;
+        assertThat(cache.get(key)).isNull();
+
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void should_evict_least_recently_used_decision_when_full() {
+        final PermissionDecisionCache.Key case1 = cache.createKey(apiSession, new APICallContext("GET", "bpm", "case", "1", "", ""));
+        final PermissionDecisionCache.Key case2 = cache.createKey(apiSession, new APICallContext("GET", "bpm", "case", "2", "", ""));
+        final PermissionDecisionCache.Key case3 = cache.createKey(apiSession, new APICallContext("GET", "bpm", "case", "3", "", ""));
+        cache.put(case1, true);
+        cache.put(case2, true);
+        cache.get(case1);
+
+        cache.put(case3, true);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(case2)).isNull();
+        assertThat(cache.get(case1)).isTrue();
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void should_ignore_body_and_query_of_statically_checked_resources() {
+        final PermissionDecisionCache.Key key1 = cache.createKey(apiSession, new APICallContext("PUT", "bpm", "case", "1", "p=0", "{\"a\":\"1\"}"));
+        final PermissionDecisionCache.Key key2 = cache.createKey(apiSession, new APICallContext("PUT", "bpm", "case", "1", "p=1", "{\"a\":\"2\"}"));
+
+        assertThat(key1).isEqualTo(key2);
+    }
+
+    @Test
+    public void should_use_body_and_query_of_dynamically_checked_resources() {
+        dynamicPermissionsChecks.setProperty("PUT|bpm/case", "[check|CasePermissionRule]");
+
+        final PermissionDecisionCache.Key key1 = cache.createKey(apiSession, new APICallContext("PUT", "bpm", "case", "1", "", "{\"a\":\"1\"}"));
+        final PermissionDecisionCache.Key key2 = cache.createKey(apiSession, new APICallContext("PUT", "bpm", "case", "1", "", "{\"a\":\"2\"}"));
+        final PermissionDecisionCache.Key key3 = cache.createKey(apiSession, new APICallContext("PUT", "bpm", "case", "1", "", "{\"a\":\"1\"}"));
+
+        assertThat(key1).isNotEqualTo(key2);
+        assertThat(key1).isEqualTo(key3);
+    }
+
+    @Test
+    public void should_not_share_decisions_between_sessions() {
+        final PermissionDecisionCache.Key key1 = cache.createKey(apiSession, new APICallContext("GET", "bpm", "case", "1", "", ""));
+        doReturn(13L).when(apiSession).getId();
+        final PermissionDecisionCache.Key key2 = cache.createKey(apiSession, new APICallContext("GET", "bpm", "case", "1", "", ""));
+
+        assertThat(key1).isNotEqualTo(key2);
+    }
+
+    @Test
+    public void should_drop_all_decisions_when_invalidated() {
+        final PermissionDecisionCache.Key key = cache.createKey(apiSession, new APICallContext("GET", "bpm", "case", "1", "", ""));
+        cache.put(key, true);
+
+        cache.invalidateAll();
+
+        assertThat(cache.get(key)).isNull();
+    }
+
+    @Test
+    public void should_not_cache_a_decision_computed_before_an_invalidation() {
+        final PermissionDecisionCache.Key key = cache.createKey(apiSession, new APICallContext("GET", "bpm", "case", "1", "", ""));
+
+        cache.invalidateAll();
+        cache.put(key, true);
+
+        assertThat(cache.get(key)).isNull();
+        assertThat(cache.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void should_evict_least_recently_used_decisions_when_the_maximum_size_is_lowered() {
+        final PermissionDecisionCache.Key case1 = cache.createKey(apiSession, new APICallContext("GET", "bpm", "case", "1", "", ""));
+        final PermissionDecisionCache.Key case2 = cache.createKey(apiSession, new APICallContext("GET", "bpm", "case", "2", "", ""));
+        cache.put(case1, true);
+        cache.put(case2, true);
+
+        cache.configure(100L, 1);
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.get(case1)).isNull();
+        assertThat(cache.get(case2)).isTrue();
+    }
+}
@@ -85,6 +85,20 @@ public class ConfigurationFilesManagerTest {
         assertThat(new String(contentCaptor.getValue())).doesNotContain("testValue").contains("testProperty", "new Value");
     }
 
+    @Test
+    public void should_notify_the_listeners_when_a_property_is_set() throws Exception {
+        //given
+        final TenantConfigurationListener listener = mock(TenantConfigurationListener.class);
+        configurationFilesManager.addTenantConfigurationListener(listener);
+        final HashMap<String, Properties> configurationFiles = new HashMap<>();
+        configurationFiles.put(MY_PROP_INTERNAL_PROPERTIES, getProperties("testProperty=testValue".getBytes()));
+        doReturn(configurationFiles).when(configurationFilesManager).getResources(TENANT_ID);
+        //when
+        configurationFilesManager.setProperty(MY_PROP_PROPERTIES, TENANT_ID, "testProperty", "new Value");
+        //then
+        verify(listener).onTenantConfigurationChange(TENANT_ID);
+    }
+
     @Test
     public void getAlsoCustomAndInternalPropertiesFromFilename_should_merge_custom_properties_if_exist() throws IOException {
         // given:
@@ -181,4 +195,52 @@ public class ConfigurationFilesManagerTest {
         // then:
         verify(propertiesMap).get("my_resources-internal.properties");
     }
+
+    @Test
+    public void should_read_tenant_properties_from_the_engine_only_once() throws Exception {
+        // given:
+        final Map<String, Properties> propertiesMap = new HashMap<>();
+        propertiesMap.put("toto.properties", getProperties("defaultKey=defaultValue".getBytes()));
+        doReturn(propertiesMap).when(configurationFilesManager).getResources(TENANT_ID);
+
+        // when:
+        configurationFilesManager.getTenantProperties("toto.properties", TENANT_ID).setProperty("defaultKey", "modified");
+        final Properties properties = configurationFilesManager.getTenantProperties("toto.properties", TENANT_ID);
+
+        // then:
+        assertThat(properties).containsEntry("defaultKey", "defaultValue");
+        verify(configurationFilesManager, times(1)).getResources(TENANT_ID);
+    }
+
+    @Test
+    public void should_replace_the_tenant_properties_snapshot_when_a_property_is_set() throws Exception {
+        // given:
+        final Map<String, Properties> propertiesMap = new HashMap<>();
+        propertiesMap.put(MY_PROP_PROPERTIES, getProperties("testProperty=defaultValue".getBytes()));
+        propertiesMap.put(MY_PROP_INTERNAL_PROPERTIES, getProperties("testProperty=testValue".getBytes()));
+        doReturn(propertiesMap).when(configurationFilesManager).getResources(TENANT_ID);
+        assertThat(configurationFilesManager.getTenantProperties(MY_PROP_PROPERTIES, TENANT_ID)).containsEntry("testProperty", "testValue");
+
+        // when:
+        configurationFilesManager.setProperty(MY_PROP_PROPERTIES, TENANT_ID, "testProperty", "new Value");
+
+        // then:
+        assertThat(configurationFilesManager.getTenantProperties(MY_PROP_PROPERTIES, TENANT_ID)).containsEntry("testProperty", "new Value");
+    }
+
+    @Test
+    public void should_take_tenant_properties_from_the_configuration_files_retrieved_at_startup() throws Exception {
+        // given:
+        final Map<String, byte[]> configurationFiles = new HashMap<>();
+        configurationFiles.put("toto.properties", "defaultKey=defaultValue".getBytes());
+        configurationFiles.put("toto-custom.properties", "customKey=customValue".getBytes());
+
+        // when:
+        configurationFilesManager.setTenantConfigurationFiles(configurationFiles, TENANT_ID);
+
+        // then:
+        assertThat(configurationFilesManager.getTenantProperties("toto.properties", TENANT_ID))
+                .containsEntry("defaultKey", "defaultValue").containsEntry("customKey", "customValue");
+        verify(configurationFilesManager, never()).getResources(TENANT_ID);
+    }
 }
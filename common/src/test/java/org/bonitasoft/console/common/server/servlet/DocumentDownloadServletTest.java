@@ -0,0 +1,166 @@
+/**
+ * Copyright (C) 2022 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.console.common.server.servlet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DocumentDownloadServletTest {
+
+    private static final String ETAG = DocumentContent.getDocumentETag("12", "3");
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Mock
+    private HttpServletRequest request;
+
+    @Mock
+    private HttpServletResponse response;
+
+    private final ByteArrayOutputStream responseContent = new ByteArrayOutputStream();
+
+    private final DocumentDownloadServlet documentDownloadServlet = new DocumentDownloadServlet();
+
+    private final DocumentContent content = DocumentContent.fromBytes("0123456789".getBytes(StandardCharsets.UTF_8), "doc.txt", ETAG);
+
+    @Before
+    public void setUp() throws Exception {
+        doReturn(new ServletOutputStream() {
+
+            @Override
+            public void write(final int b) throws IOException {
+                responseContent.write(b);
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(final WriteListener writeListener) {
+            }
+        }).when(response).getOutputStream();
+    }
+
+    @Test
+    public void should_write_the_whole_content() throws Exception {
+        documentDownloadServlet.writeContent(request, response, content);
+
+        assertThat(responseContent.toString("UTF-8")).isEqualTo("0123456789");
+        verify(response).setContentLengthLong(10);
+        verify(response).setHeader("Accept-Ranges", "bytes");
+        verify(response).setHeader("ETag", ETAG);
+    }
+
+    @Test
+    public void should_write_the_range_requested() throws Exception {
+        doReturn("bytes=2-5").when(request).getHeader("Range");
+
+        documentDownloadServlet.writeContent(request, response, content);
+
+        assertThat(responseContent.toString("UTF-8")).isEqualTo("2345");
+        verify(response).setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        verify(response).setHeader("Content-Range", "bytes 2-5/10");
+        verify(response).setContentLengthLong(4);
+    }
+
+    @Test
+    public void should_write_the_whole_content_if_the_document_changed_since_the_range_was_requested() throws Exception {
+        doReturn("bytes=2-5").when(request).getHeader("Range");
+        doReturn(DocumentContent.getDocumentETag("12", "2")).when(request).getHeader("If-Range");
+
+        documentDownloadServlet.writeContent(request, response, content);
+
+        assertThat(responseContent.toString("UTF-8")).isEqualTo("0123456789");
+        verify(response, never()).setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+    }
+
+    @Test
+    public void should_reject_a_range_beyond_the_content() throws Exception {
+        doReturn("bytes=10-").when(request).getHeader("Range");
+
+        documentDownloadServlet.writeContent(request, response, content);
+
+        verify(response).sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+        verify(response).setHeader("Content-Range", "bytes */10");
+        assertThat(responseContent.size()).isZero();
+    }
+
+    @Test
+    public void should_not_write_a_document_the_client_already_has() throws Exception {
+        doReturn("\"other\", " + ETAG).when(request).getHeader("If-None-Match");
+
+        documentDownloadServlet.writeContent(request, response, content);
+
+        verify(response).setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        assertThat(responseContent.size()).isZero();
+    }
+
+    @Test
+    public void should_stream_a_range_of_a_file() throws Exception {
+        final File file = temporaryFolder.newFile("doc.txt");
+        Files.write(file.toPath(), "0123456789".getBytes(StandardCharsets.UTF_8));
+        doReturn("bytes=-3").when(request).getHeader("Range");
+
+        documentDownloadServlet.writeContent(request, response, DocumentContent.fromFile(file, "doc.txt"));
+
+        assertThat(responseContent.toString("UTF-8")).isEqualTo("789");
+        verify(response).setHeader("Content-Range", "bytes 7-9/10");
+    }
+
+    @Test
+    public void should_parse_single_byte_ranges() {
+        assertThat(DocumentDownloadServlet.getRange("bytes=0-0", 10)).containsExactly(0, 0);
+        assertThat(DocumentDownloadServlet.getRange("bytes=4-", 10)).containsExactly(4, 9);
+        assertThat(DocumentDownloadServlet.getRange("bytes=4-100", 10)).containsExactly(4, 9);
+        assertThat(DocumentDownloadServlet.getRange("bytes=-100", 10)).containsExactly(0, 9);
+        assertThat(DocumentDownloadServlet.getRange("bytes=-0", 10)).isSameAs(DocumentDownloadServlet.UNSATISFIABLE_RANGE);
+        assertThat(DocumentDownloadServlet.getRange("bytes=12-20", 10)).isSameAs(DocumentDownloadServlet.UNSATISFIABLE_RANGE);
+    }
+
+    @Test
+    public void should_send_the_whole_content_for_invalid_or_multiple_ranges() {
+        assertThat(DocumentDownloadServlet.getRange(null, 10)).isNull();
+        assertThat(DocumentDownloadServlet.getRange("bytes=5-2", 10)).isNull();
+        assertThat(DocumentDownloadServlet.getRange("bytes=a-2", 10)).isNull();
+        assertThat(DocumentDownloadServlet.getRange("items=0-2", 10)).isNull();
+        assertThat(DocumentDownloadServlet.getRange("bytes=0-2,5-6", 10)).isNull();
+        assertThat(DocumentDownloadServlet.getRange("bytes=0-2", 0)).isNull();
+    }
+}
@@ -0,0 +1,94 @@
+/**
+ * Copyright (C) 2022 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.console.common.server.utils;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.bonitasoft.engine.api.ProfileAPI;
+import org.bonitasoft.engine.profile.Profile;
+import org.bonitasoft.engine.profile.ProfileCriterion;
+import org.bonitasoft.engine.profile.impl.ProfileImpl;
+import org.bonitasoft.engine.session.APISession;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ProfileMembershipCacheTest {
+
+    @Mock
+    private APISession session;
+
+    @Mock
+    private ProfileAPI profileApi;
+
+    private long now = 1000L;
+
+    private ProfileMembershipCache cache;
+
+    @Before
+    public void setUp() {
+        doReturn(1L).when(session).getTenantId();
+        doReturn(12L).when(session).getId();
+        doReturn(3L).when(session).getUserId();
+        final ProfileImpl profile = new ProfileImpl("user");
+        profile.setId(4L);
+        doReturn(asList((Profile) profile)).when(profileApi).getProfilesForUser(3L, 0, Integer.MAX_VALUE, ProfileCriterion.ID_ASC);
+        cache = new ProfileMembershipCache(100L) {
+
+            @Override
+            protected long currentTimeMillis() {
+                return now;
+            }
+        };
+    }
+
+    @Test
+    public void should_fetch_the_profiles_of_a_session_user_once_until_they_expire() {
+        assertThat(cache.get(session, profileApi).isMember(4L)).isTrue();
+        assertThat(cache.get(session, profileApi).isMember(5L)).isFalse();
+        verify(profileApi, times(1)).getProfilesForUser(3L, 0, Integer.MAX_VALUE, ProfileCriterion.ID_ASC);
+
+        now += 100L;
+        cache.get(session, profileApi);
+
+        verify(profileApi, times(2)).getProfilesForUser(3L, 0, Integer.MAX_VALUE, ProfileCriterion.ID_ASC);
+    }
+
+    @Test
+    public void should_discard_the_profiles_of_an_invalidated_session() {
+        cache.get(session, profileApi);
+
+        cache.invalidate(session);
+
+        assertThat(cache.getNumberOfSessions(1L)).isEqualTo(0);
+    }
+
+    @Test
+    public void should_discard_the_profiles_of_the_sessions_of_a_tenant_when_memberships_change() {
+        cache.get(session, profileApi);
+
+        cache.invalidate(1L);
+        cache.get(session, profileApi);
+
+        verify(profileApi, times(2)).getProfilesForUser(3L, 0, Integer.MAX_VALUE, ProfileCriterion.ID_ASC);
+    }
+}
@@ -0,0 +1,85 @@
+/**
+ * Copyright (C) 2022 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.toolkit.client.common.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.bonitasoft.console.common.FakeI18n;
+import org.bonitasoft.web.rest.model.ModelFactory;
+import org.bonitasoft.web.rest.model.bpm.cases.CaseItem;
+import org.bonitasoft.web.rest.model.identity.UserItem;
+import org.bonitasoft.web.toolkit.client.ItemDefinitionFactory;
+import org.bonitasoft.web.toolkit.client.data.APIID;
+import org.junit.Before;
+import org.junit.Test;
+
+public class JSonStreamSerializerTest {
+
+    @Before
+    public void setUp() {
+        new FakeI18n();
+        ItemDefinitionFactory.setDefaultFactory(new ModelFactory());
+    }
+
+    @Test
+    public void should_serialize_items_with_deploys_like_JSonSerializer() throws Exception {
+        final UserItem user = new UserItem();
+        user.setId(4L);
+        user.setFirstName("Walter <\"Heisenberg\"> </script>");
+        user.setLastName("Bates\t \u00e9\u2010");
+        final CaseItem caseItem = new CaseItem();
+        caseItem.setId(1L);
+        caseItem.setStartedByUserId(4L);
+        caseItem.setDeploy(CaseItem.ATTRIBUTE_STARTED_BY_USER_ID, user);
+        caseItem.setProcessId(5L);
+        caseItem.setDeploy(CaseItem.ATTRIBUTE_PROCESS_ID, null);
+
+        assertStreamedLikeSerialized(Arrays.asList(caseItem, new CaseItem()));
+    }
+
+    @Test
+    public void should_serialize_maps_and_values_like_JSonSerializer() throws Exception {
+        final Map<String, Object> map = new LinkedHashMap<>();
+        map.put("date", new Date(1234567890L));
+        map.put("number", 42L);
+        map.put("string", "a\nb\r\u0001");
+        map.put("boolean", true);
+        map.put("null", null);
+        map.put("id", APIID.makeAPIID(1L, 2L));
+        map.put("list", Arrays.asList("a'b", 3, false));
+        map.put("exception", new Exception("an exception"));
+
+        assertStreamedLikeSerialized(map);
+    }
+
+    @Test
+    public void should_serialize_null() throws Exception {
+        assertStreamedLikeSerialized(null);
+    }
+
+    private void assertStreamedLikeSerialized(final Object object) throws Exception {
+        final StringWriter writer = new StringWriter();
+
+        new JSonStreamSerializer(writer).serialize(object);
+
+        assertThat(writer.toString()).isEqualTo(JSonSerializer.serialize(object));
+    }
+}
@@ -0,0 +1,83 @@
+package org.bonitasoft.web.toolkit.client.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DateFormatterCacheTest {
+
+    private static final String[] PATTERNS = {
+            "yyyy-MM-dd HH:mm:ss.SSS",
+            "MM/dd/yyyy",
+            "MM/dd/yyyy h:mm a",
+            "MMMM dd, yyyy",
+            "EEE, d MMM yyyy HH:mm:ss Z",
+            "hh 'o''clock' a, zzzz",
+            "YYYY-'W'ww-u",
+            "EEEEE MMMMM yy",
+            "d/M/y H:m:s.S",
+            "[MM]dd" };
+
+    private static final Date[] DATES = { new Date(0), new Date(1356994799999L), new Date(1593561600123L), new Date(-12219292800000L) };
+
+    private Locale defaultLocale;
+
+    private TimeZone defaultTimeZone;
+
+    @Before
+    public void setUp() {
+        defaultLocale = Locale.getDefault();
+        defaultTimeZone = TimeZone.getDefault();
+    }
+
+    @After
+    public void tearDown() {
+        Locale.setDefault(defaultLocale);
+        TimeZone.setDefault(defaultTimeZone);
+    }
+
+    private void assertFormattedAsSimpleDateFormat(final Locale locale, final String timeZone) {
+        Locale.setDefault(locale);
+        TimeZone.setDefault(TimeZone.getTimeZone(timeZone));
+        for (final String pattern : PATTERNS) {
+            for (final Date date : DATES) {
+                assertThat(DateFormatterCache.format(date, pattern)).as(pattern).isEqualTo(new SimpleDateFormat(pattern).format(date));
+            }
+        }
+    }
+
+    @Test
+    public void should_format_dates_as_simple_date_format() {
+        assertFormattedAsSimpleDateFormat(Locale.US, "UTC");
+        assertFormattedAsSimpleDateFormat(Locale.FRANCE, "Europe/Paris");
+        assertFormattedAsSimpleDateFormat(Locale.JAPAN, "America/Los_Angeles");
+        assertFormattedAsSimpleDateFormat(new Locale("th", "TH"), "Asia/Bangkok");
+        assertFormattedAsSimpleDateFormat(new Locale("ja", "JP", "JP"), "Asia/Tokyo");
+    }
+
+    @Test
+    public void should_only_share_formatters_of_patterns_formatted_the_same_way() {
+        assertThat(DateFormatterCache.createFormatter("yyyy-MM-dd HH:mm:ss.SSS", Locale.US)).isPresent();
+        assertThat(DateFormatterCache.createFormatter("MM/dd/yyyy 'at' h:mm a", Locale.US)).isPresent();
+        assertThat(DateFormatterCache.createFormatter("d/M/y H:m:s.S", Locale.US)).isEmpty();
+        assertThat(DateFormatterCache.createFormatter("EEEEE", Locale.US)).isEmpty();
+        assertThat(DateFormatterCache.createFormatter("yyyy-'W'ww-u", Locale.US)).isEmpty();
+        assertThat(DateFormatterCache.createFormatter("[MM]dd", Locale.US)).isEmpty();
+        assertThat(DateFormatterCache.createFormatter("yyyy-MM-dd HH:mm:ss.SSS", new Locale("th", "TH"))).isEmpty();
+    }
+
+    @Test
+    public void should_parse_dates_leniently_as_simple_date_format() throws Exception {
+        TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+
+        assertThat(DateFormatterCache.parse("2/3/2020", "MM/dd/yyyy")).isEqualTo(new SimpleDateFormat("MM/dd/yyyy").parse("2/3/2020"));
+        assertThat(DateFormatterCache.parse("2012-12-31 00:00:00.000", "yyyy-MM-dd HH:mm:ss.SSS").getTime()).isEqualTo(1356912000000L);
+    }
+}
@@ -0,0 +1,69 @@
+package org.bonitasoft.web.toolkit.client.data.item;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.bonitasoft.console.common.FakeI18n;
+import org.bonitasoft.web.rest.model.ModelFactory;
+import org.bonitasoft.web.rest.model.identity.UserItem;
+import org.bonitasoft.web.toolkit.client.ItemDefinitionFactory;
+import org.bonitasoft.web.toolkit.client.data.item.attribute.ValidationException;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ItemTest {
+
+    @Before
+    public void setUp() {
+        new FakeI18n();
+        ItemDefinitionFactory.setDefaultFactory(new ModelFactory());
+    }
+
+    @Test(expected = ValidationException.class)
+    public void should_validate_attribute_when_it_is_set() {
+        final UserItem user = new UserItem();
+
+        user.setLastName("invalid\nname");
+    }
+
+    @Test
+    public void should_not_validate_attributes_while_validation_is_deferred() {
+        final UserItem user = new UserItem();
+        user.deferValidation();
+
+        user.setLastName("invalid\nname");
+
+        assertThat(user.getLastName()).isEqualTo("invalid\nname");
+    }
+
+    @Test
+    public void should_throw_errors_of_deferred_attributes_when_validated() {
+        final UserItem user = new UserItem();
+        user.deferValidation();
+        user.setFirstName("John");
+        user.setLastName("invalid\nname");
+
+        try {
+            user.validate();
+        } catch (final ValidationException e) {
+            assertThat(e.getErrors()).hasSize(1);
+            assertThat(e.getErrors().get(0).getAttributeName()).isEqualTo(UserItem.ATTRIBUTE_LASTNAME);
+            return;
+        }
+        throw new AssertionError("ValidationException expected");
+    }
+
+    @Test
+    public void should_validate_attributes_when_set_after_deferred_validation() {
+        final UserItem user = new UserItem();
+        user.deferValidation();
+        user.setFirstName("John");
+        user.validate();
+
+        try {
+            user.setLastName("invalid\nname");
+        } catch (final ValidationException e) {
+            return;
+        }
+        throw new AssertionError("ValidationException expected");
+    }
+}
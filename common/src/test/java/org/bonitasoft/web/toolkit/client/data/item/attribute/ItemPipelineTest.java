@@ -0,0 +1,124 @@
+package org.bonitasoft.web.toolkit.client.data.item.attribute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.bonitasoft.console.common.server.i18n.I18n;
+import org.bonitasoft.web.rest.model.ModelFactory;
+import org.bonitasoft.web.rest.model.identity.UserDefinition;
+import org.bonitasoft.web.rest.model.identity.UserItem;
+import org.bonitasoft.web.toolkit.client.ItemDefinitionFactory;
+import org.bonitasoft.web.toolkit.client.data.item.Definitions;
+import org.bonitasoft.web.toolkit.client.data.item.attribute.validator.StringSingleLineValidator;
+import org.bonitasoft.web.toolkit.client.data.item.attribute.validator.Validator;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ItemPipelineTest {
+
+    private static final int THREADS = 8;
+
+    private static final int ITERATIONS = 2000;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+    private ItemPipeline pipeline;
+
+    @Before
+    public void setUp() {
+        I18n.getInstance();
+        ItemDefinitionFactory.setDefaultFactory(new ModelFactory());
+        pipeline = Definitions.get(UserDefinition.TOKEN).getPipeline();
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private Map<String, String> user(final String firstName, final String lastName) {
+        final Map<String, String> values = new HashMap<String, String>();
+        values.put(UserItem.ATTRIBUTE_FIRSTNAME, firstName);
+        values.put(UserItem.ATTRIBUTE_LASTNAME, lastName);
+        return values;
+    }
+
+    @Test
+    public void should_compile_the_pipeline_once_when_the_definition_is_registered() {
+        assertThat(Definitions.get(UserDefinition.TOKEN).getPipeline()).isSameAs(pipeline);
+        assertThat(pipeline.getValidators()).isSameAs(Definitions.get(UserDefinition.TOKEN).getValidators());
+    }
+
+    @Test
+    public void should_return_the_errors_of_the_checked_values() {
+        final List<ValidationError> errors = pipeline.validate(user("", "Doe"), true);
+
+        assertThat(errors).hasSize(1);
+        assertThat(errors.get(0).getAttributeName()).isEqualTo(UserItem.ATTRIBUTE_FIRSTNAME);
+        assertThat(pipeline.validate(user("John", "Doe"), true)).isEmpty();
+    }
+
+    @Test
+    public void should_not_apply_mandatory_validators_when_not_asked() {
+        assertThat(pipeline.validate(user("", ""), false)).isEmpty();
+    }
+
+    @Test
+    public void should_name_errors_after_the_checked_attribute() {
+        final Validator validator = new StringSingleLineValidator();
+        validator.setAttributeName("name");
+        final Map<String, String> values = new HashMap<String, String>();
+        values.put("deploy.name", "multi\nline");
+
+        final List<ValidationError> errors = ValidatorEngine.getErrors("deploy.name", values, new Validator[] { validator }, true);
+
+        assertThat(errors).hasSize(1);
+        assertThat(errors.get(0).getAttributeName()).isEqualTo("deploy.name");
+        assertThat(validator.getAttributeName()).isEqualTo("name");
+    }
+
+    @Test
+    public void should_not_leak_errors_between_concurrent_validations() throws Exception {
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<Integer>> results = new ArrayList<Future<Integer>>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            final boolean invalid = thread % 2 == 0;
+            results.add(executor.submit(new Callable<Integer>() {
+
+                @Override
+                public Integer call() throws Exception {
+                    start.await();
+                    int unexpectedResults = 0;
+                    for (int i = 0; i < ITERATIONS; i++) {
+                        final List<ValidationError> errors = invalid
+                                ? pipeline.validate(user("", "Doe" + i), true)
+                                : pipeline.validate(user("John" + i, "Doe" + i), true);
+                        final boolean expected = invalid
+                                ? errors.size() == 1 && UserItem.ATTRIBUTE_FIRSTNAME.equals(errors.get(0).getAttributeName())
+                                : errors.isEmpty();
+                        if (!expected) {
+                            unexpectedResults++;
+                        }
+                    }
+                    return unexpectedResults;
+                }
+            }));
+        }
+        start.countDown();
+
+        for (final Future<Integer> result : results) {
+            assertThat(result.get(60, TimeUnit.SECONDS)).isEqualTo(0);
+        }
+    }
+}
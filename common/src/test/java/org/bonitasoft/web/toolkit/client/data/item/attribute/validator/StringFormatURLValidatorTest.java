@@ -28,9 +28,7 @@ public class StringFormatURLValidatorTest {
     }
 
     private void checkUrl(String url, boolean shouldHaveErrors) throws AssertionError {
-        stringFormatURLValidator.reset();
-        stringFormatURLValidator._check(url);
-        assertThat(stringFormatURLValidator.getErrors().isEmpty()).isEqualTo(!shouldHaveErrors);
+        assertThat(stringFormatURLValidator._check(url).isEmpty()).isEqualTo(!shouldHaveErrors);
     }
 
 }
\ No newline at end of file
@@ -15,30 +15,111 @@
 package org.bonitasoft.console.common.server.login.filter;
 
 import java.io.BufferedReader;
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
+import javax.servlet.FilterConfig;
 import javax.servlet.ReadListener;
 import javax.servlet.ServletInputStream;
+import javax.servlet.ServletRequest;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletRequestWrapper;
 
-import org.apache.commons.io.IOUtils;
-
+/**
+ * Request wrapper allowing the body to be read several times (in the security filters and in the API servlet).<br>
+ * The body is read from the wrapped request only once, as far as the readers need it, and recorded: in memory up to a
+ * threshold, in a temporary file beyond it. Each reader gets its own stream over the recorded data, not a copy of it, so
+ * a filter reading the beginning of the body only (e.g. a multipart form field) does not force the whole body to be
+ * buffered before the servlet reads it.<br>
+ * The servlet is the last reader of the body: the request forwarded to it by {@link #getRequestToForward()} replays the
+ * recorded bytes, then reads the rest of the body from the wrapped request without recording it, so that a large upload
+ * is only written to the temporary file if a filter read that far.<br>
+ * The temporary file is deleted by {@link #release()}, which must be called once the request is served.
+ */
 public class MultiReadHttpServletRequest extends HttpServletRequestWrapper {
 
-    private ByteArrayOutputStream readBytes;
+    /**
+     * Name of the filter init-param setting the size (in bytes) above which a body is buffered in a temporary file
+     */
+    public static final String MEMORY_THRESHOLD_PARAM = "bodyMemoryThreshold";
+
+    public static final int DEFAULT_MEMORY_THRESHOLD = 1024 * 1024;
+
+    private static final int CHUNK_SIZE = 8192;
+
+    private static final Logger LOGGER = Logger.getLogger(MultiReadHttpServletRequest.class.getName());
+
+    private final int memoryThreshold;
+
+    private InputStream body;
+
+    private byte[] chunk;
+
+    private BodyBuffer readBytes;
+
+    private File bodyFile;
+
+    private RandomAccessFile bodyFileAccess;
+
+    private long size = 0;
+
+    private boolean complete = false;
+
+    private boolean readByLastReader = false;
+
+    private LastReadRequest lastReadRequest;
 
     public MultiReadHttpServletRequest(final HttpServletRequest request) {
+        this(request, DEFAULT_MEMORY_THRESHOLD);
+    }
+
+    public MultiReadHttpServletRequest(final HttpServletRequest request, final int memoryThreshold) {
         super(request);
+        this.memoryThreshold = memoryThreshold;
+    }
+
+    /**
+     * @return the wrapper of the request, if it was wrapped by a previous filter already, or null
+     */
+    public static MultiReadHttpServletRequest getWrapper(final ServletRequest request) {
+        if (request instanceof MultiReadHttpServletRequest) {
+            return (MultiReadHttpServletRequest) request;
+        }
+        if (request instanceof LastReadRequest) {
+            return ((LastReadRequest) request).getWrapper();
+        }
+        return null;
+    }
+
+    /**
+     * @return the memory threshold set by the {@link #MEMORY_THRESHOLD_PARAM} init-param of a filter, or the default one
+     */
+    public static int getMemoryThreshold(final FilterConfig filterConfig) {
+        final String threshold = filterConfig.getInitParameter(MEMORY_THRESHOLD_PARAM);
+        if (threshold != null) {
+            try {
+                return Integer.parseInt(threshold.trim());
+            } catch (final NumberFormatException e) {
+                if (LOGGER.isLoggable(Level.WARNING)) {
+                    LOGGER.log(Level.WARNING, "Invalid value for " + MEMORY_THRESHOLD_PARAM + ": " + threshold + ". Using " + DEFAULT_MEMORY_THRESHOLD);
+                }
+            }
+        }
+        return DEFAULT_MEMORY_THRESHOLD;
     }
 
     @Override
-    public ServletInputStream getInputStream() throws IOException {
-        if (readBytes == null) {
-            readInputStream();
+    public synchronized ServletInputStream getInputStream() throws IOException {
+        if (body == null) {
+            body = super.getInputStream();
+            chunk = new byte[CHUNK_SIZE];
+            readBytes = new BodyBuffer(getInitialBufferSize());
         }
         return new CachedServletInputStream();
     }
@@ -52,57 +133,251 @@ public class MultiReadHttpServletRequest extends HttpServletRequestWrapper {
         return new BufferedReader(new InputStreamReader(getInputStream(), enc));
     }
 
-    private void readInputStream() throws IOException {
-        readBytes = new ByteArrayOutputStream();
-        IOUtils.copy(super.getInputStream(), readBytes);
+    /**
+     * @return true if the body has been read (even partly) already
+     */
+    public synchronized boolean isBuffered() {
+        return body != null;
+    }
+
+    /**
+     * @return the request to pass down the filter chain: a request replaying the recorded body then reading the rest of
+     *         it without recording it if the body was read by the filter, the wrapped request otherwise, so that a body
+     *         nobody needed twice is not buffered
+     */
+    public synchronized HttpServletRequest getRequestToForward() {
+        if (!isBuffered()) {
+            return (HttpServletRequest) getRequest();
+        }
+        if (lastReadRequest == null) {
+            lastReadRequest = new LastReadRequest();
+        }
+        return lastReadRequest;
+    }
+
+    /**
+     * Delete the temporary file the body was buffered in, if any
+     */
+    public synchronized void release() {
+        readBytes = null;
+        if (bodyFile != null) {
+            try {
+                bodyFileAccess.close();
+            } catch (final IOException e) {
+                if (LOGGER.isLoggable(Level.FINE)) {
+                    LOGGER.log(Level.FINE, "Unable to close the temporary file " + bodyFile.getAbsolutePath(), e);
+                }
+            }
+            if (!bodyFile.delete() && LOGGER.isLoggable(Level.WARNING)) {
+                LOGGER.log(Level.WARNING, "Unable to delete the temporary file " + bodyFile.getAbsolutePath());
+            }
+            bodyFile = null;
+            bodyFileAccess = null;
+        }
+    }
+
+    // package-private for testing
+    File getBodyFile() {
+        return bodyFile;
+    }
+
+    private int getInitialBufferSize() {
+        final long contentLength = getContentLengthLong();
+        if (contentLength > 0 && contentLength <= memoryThreshold) {
+            return (int) contentLength;
+        }
+        return 32;
+    }
+
+    /**
+     * Read recorded bytes, reading (and recording) the next bytes of the body first if they are not recorded yet
+     *
+     * @return the number of bytes read, or -1 if the position is the end of the body
+     */
+    synchronized int read(final long position, final byte[] b, final int off, final int len) throws IOException {
+        while (position >= size && !complete) {
+            if (readByLastReader) {
+                throw new IOException("The request body was read past the first " + size + " bytes by its last reader and cannot be read again");
+            }
+            readNextChunk();
+        }
+        if (position >= size) {
+            return -1;
+        }
+        final int length = (int) Math.min(len, size - position);
+        if (bodyFile == null) {
+            readBytes.read((int) position, b, off, length);
+            return length;
+        }
+        bodyFileAccess.seek(position);
+        return bodyFileAccess.read(b, off, length);
+    }
+
+    /**
+     * Read recorded bytes, then the next bytes of the body without recording them
+     *
+     * @return the number of bytes read, or -1 if the position is the end of the body
+     */
+    synchronized int readLast(final long position, final byte[] b, final int off, final int len) throws IOException {
+        if (position < size || complete) {
+            return read(position, b, off, len);
+        }
+        readByLastReader = true;
+        final int read = body.read(b, off, len);
+        if (read == -1) {
+            complete = true;
+        }
+        return read;
+    }
+
+    synchronized boolean isFinished(final long position) {
+        return complete && position >= size;
+    }
+
+    synchronized long getRecordedSize() {
+        return size;
+    }
+
+    private void readNextChunk() throws IOException {
+        final int read = body.read(chunk);
+        if (read == -1) {
+            complete = true;
+            return;
+        }
+        if (bodyFile == null && size + read > memoryThreshold) {
+            spillToFile();
+        }
+        if (bodyFile == null) {
+            readBytes.write(chunk, 0, read);
+        } else {
+            bodyFileAccess.seek(size);
+            bodyFileAccess.write(chunk, 0, read);
+        }
+        size += read;
+    }
+
+    private void spillToFile() throws IOException {
+        final File file = File.createTempFile("bonita_request_body", ".tmp");
+        try {
+            bodyFileAccess = new RandomAccessFile(file, "rw");
+            bodyFileAccess.write(readBytes.getBuffer(), 0, readBytes.size());
+        } catch (final IOException e) {
+            if (bodyFileAccess != null) {
+                bodyFileAccess.close();
+                bodyFileAccess = null;
+            }
+            file.delete();
+            throw e;
+        }
+        bodyFile = file;
+        readBytes = null;
+    }
+
+    /**
+     * Buffer giving access to its content without copying it
+     */
+    static class BodyBuffer extends ByteArrayOutputStream {
+
+        BodyBuffer(final int size) {
+            super(size);
+        }
+
+        byte[] getBuffer() {
+            return buf;
+        }
+
+        void read(final int position, final byte[] b, final int off, final int len) {
+            System.arraycopy(buf, position, b, off, len);
+        }
+    }
+
+    /**
+     * Request forwarded to the last reader of the body
+     */
+    class LastReadRequest extends HttpServletRequestWrapper {
+
+        private ServletInputStream inputStream;
+
+        LastReadRequest() {
+            super(MultiReadHttpServletRequest.this);
+        }
+
+        MultiReadHttpServletRequest getWrapper() {
+            return MultiReadHttpServletRequest.this;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            synchronized (MultiReadHttpServletRequest.this) {
+                if (inputStream == null) {
+                    inputStream = new CachedServletInputStream(true);
+                }
+                return inputStream;
+            }
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            String enc = getCharacterEncoding();
+            if (enc == null) {
+                enc = "UTF-8";
+            }
+            return new BufferedReader(new InputStreamReader(getInputStream(), enc));
+        }
     }
 
     class CachedServletInputStream extends ServletInputStream {
 
-        private final ByteArrayInputStream input;
+        private final byte[] singleByte = new byte[1];
+
+        private final boolean lastReader;
+
+        private long position = 0;
+
         private ReadListener readListener;
 
         public CachedServletInputStream() {
-            input = new ByteArrayInputStream(readBytes.toByteArray());
+            this(false);
+        }
+
+        CachedServletInputStream(final boolean lastReader) {
+            this.lastReader = lastReader;
             readListener = null;
         }
 
         @Override
         public int read() throws IOException {
-            int nextByte = input.read();
-            if (nextByte == -1) {
-                onAllDataRead();
-            }
-            return nextByte;
+            return read(singleByte, 0, 1) == -1 ? -1 : singleByte[0] & 0xFF;
         }
 
         @Override
         public int read(final byte[] b) throws IOException {
-            int numberOfBytesRead = input.read(b);
-            if (numberOfBytesRead == -1) {
-                onAllDataRead();
-            }
-            return numberOfBytesRead;
+            return read(b, 0, b.length);
         }
 
         @Override
         public int read(final byte[] b, final int off, final int len) throws IOException {
-            int numberOfBytesRead = input.read(b, off, len);
+            if (len == 0) {
+                return 0;
+            }
+            int numberOfBytesRead = lastReader ? MultiReadHttpServletRequest.this.readLast(position, b, off, len)
+                    : MultiReadHttpServletRequest.this.read(position, b, off, len);
             if (numberOfBytesRead == -1) {
                 onAllDataRead();
+            } else {
+                position += numberOfBytesRead;
             }
             return numberOfBytesRead;
         }
 
         @Override
-        public void close() throws IOException {
-            input.close();
-            super.close();
+        public int available() throws IOException {
+            return (int) Math.min(Integer.MAX_VALUE, Math.max(0, getRecordedSize() - position));
         }
 
         @Override
         public boolean isFinished() {
-            return input.available() == 0;
+            return MultiReadHttpServletRequest.this.isFinished(position);
         }
 
         @Override
@@ -123,7 +398,7 @@ public class MultiReadHttpServletRequest extends HttpServletRequestWrapper {
                 onAllDataRead();
             }
         }
-        
+
         private void onAllDataRead() {
             if (readListener != null) {
                 try {
@@ -17,7 +17,9 @@ package org.bonitasoft.console.common.server.login.filter;
 import java.io.IOException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.regex.Pattern;
 import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
 import javax.servlet.ServletException;
 import javax.servlet.ServletInputStream;
 import javax.servlet.ServletRequest;
@@ -52,7 +54,7 @@ import org.bonitasoft.web.toolkit.client.data.APIID;
  */
 public class RestAPIAuthorizationFilter extends ExcludingPatternFilter {
 
-    private static final String PLATFORM_API_URI_REGEXP = ".*(API|APIToolkit)/platform/.*";
+    private static final Pattern PLATFORM_API_URI_PATTERN = Pattern.compile(".*(API|APIToolkit)/platform/.*");
 
     protected static final String PLATFORM_SESSION_PARAM_KEY = "platformSession";
     protected static final String AUTHORIZATION_FILTER_EXCLUDED_PAGES_PATTERN = "^/(bonita/)?((apps/.+/)|(portal/resource/.+/))?(API|APIToolkit)/system/(i18ntranslation|feature)";
@@ -62,26 +64,42 @@ public class RestAPIAuthorizationFilter extends ExcludingPatternFilter {
      */
     protected static final Logger LOGGER = Logger.getLogger(RestAPIAuthorizationFilter.class.getName());
 
+    protected int bodyMemoryThreshold = MultiReadHttpServletRequest.DEFAULT_MEMORY_THRESHOLD;
+
+    @Override
+    public void init(final FilterConfig filterConfig) throws ServletException {
+        super.init(filterConfig);
+        bodyMemoryThreshold = MultiReadHttpServletRequest.getMemoryThreshold(filterConfig);
+    }
+
     @Override
     public void proceedWithFiltering(ServletRequest request, ServletResponse response, FilterChain chain) throws ServletException {
+        //we need to use a MultiReadHttpServletRequest wrapper in order to be able to get the inputstream twice (in the filter and in the API servlet)
+        //the body is only buffered if the permission check reads it
+        final MultiReadHttpServletRequest wrapper = MultiReadHttpServletRequest.getWrapper(request);
+        final boolean alreadyWrapped = wrapper != null;
+        final MultiReadHttpServletRequest httpServletRequest = alreadyWrapped ? wrapper
+                : new MultiReadHttpServletRequest((HttpServletRequest) request, bodyMemoryThreshold);
         try {
-            //we need to use a MultiReadHttpServletRequest wrapper in order to be able to get the inputstream twice (in the filter and in the API servlet)
-            MultiReadHttpServletRequest httpServletRequest = new MultiReadHttpServletRequest((HttpServletRequest) request);
             HttpServletResponse httpServletResponse = (HttpServletResponse)response;
             boolean isAuthorized;
-            if (httpServletRequest.getRequestURI().matches(PLATFORM_API_URI_REGEXP)) {
+            if (PLATFORM_API_URI_PATTERN.matcher(httpServletRequest.getRequestURI()).matches()) {
                 isAuthorized = platformAPIsCheck(httpServletRequest, httpServletResponse);
             } else {
                 isAuthorized = tenantAPIsCheck(httpServletRequest, httpServletResponse);
             }
             if (isAuthorized) {
-                chain.doFilter(httpServletRequest, response);
+                chain.doFilter(httpServletRequest.getRequestToForward(), response);
             }
         } catch (final Exception e) {
             if (LOGGER.isLoggable(Level.SEVERE)) {
                 LOGGER.log(Level.SEVERE, e.getMessage(), e);
             }
             throw new ServletException(e);
+        } finally {
+            if (!alreadyWrapped) {
+                httpServletRequest.release();
+            }
         }
     }
 
@@ -139,18 +157,37 @@ public class RestAPIAuthorizationFilter extends ExcludingPatternFilter {
             return true;
         }
         final String resourceQualifiersAsString = resourceQualifiers != null ? resourceQualifiers.toString() : null;
-        final String body = getRequestBody(request);
-        final APICallContext apiCallContext = new APICallContext(method, apiName, resourceName, resourceQualifiersAsString, request.getQueryString(), body);
+        APICallContext apiCallContext = new APICallContext(method, apiName, resourceName, resourceQualifiersAsString, request.getQueryString(), null);
         if (isAlwaysAuthorizedResource(apiCallContext)) {
             return true;
         }
         try {
-            return enginePermissionsCheck(apiCallContext, apiSession);
+            final PermissionDecisionCache permissionDecisionCache = getPermissionDecisionCache(tenantId);
+            if (permissionDecisionCache.isDynamicallyChecked(apiCallContext)) {
+                //only the dynamic checks can use the body: the others (e.g. file uploads) must not force it to be buffered
+                apiCallContext = new APICallContext(method, apiName, resourceName, resourceQualifiersAsString, request.getQueryString(),
+                        getRequestBody(request));
+            }
+            if (!permissionDecisionCache.isEnabled()) {
+                return enginePermissionsCheck(apiCallContext, apiSession);
+            }
+            final PermissionDecisionCache.Key decisionKey = permissionDecisionCache.createKey(apiSession, apiCallContext);
+            final Boolean cachedDecision = permissionDecisionCache.get(decisionKey);
+            if (cachedDecision != null) {
+                return cachedDecision;
+            }
+            final boolean isAuthorized = enginePermissionsCheck(apiCallContext, apiSession);
+            permissionDecisionCache.put(decisionKey, isAuthorized);
+            return isAuthorized;
         } catch (BonitaException e) {
             throw new ServletException(e);
         }
     }
 
+    protected PermissionDecisionCache getPermissionDecisionCache(final long tenantId) {
+        return PermissionDecisionCache.getInstance(tenantId);
+    }
+
     protected boolean isAlwaysAuthorizedResource(final APICallContext apiCallContext) {
         return apiCallContext.isGET()
                 && (isSingleResourceCall(apiCallContext, SessionDefinition.TOKEN)
@@ -14,12 +14,16 @@
  */
 package org.bonitasoft.console.common.server.login.filter;
 
+import org.apache.commons.fileupload.FileItemIterator;
+import org.apache.commons.fileupload.FileItemStream;
+import org.apache.commons.fileupload.FileUploadException;
+import org.apache.commons.fileupload.servlet.ServletFileUpload;
+import org.apache.commons.fileupload.util.Streams;
 import org.bonitasoft.console.common.server.filter.ExcludingPatternFilter;
 import org.bonitasoft.console.common.server.preferences.properties.PropertiesFactory;
-import org.springframework.web.multipart.MultipartHttpServletRequest;
-import org.springframework.web.multipart.commons.CommonsMultipartResolver;
 
 import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
 import javax.servlet.ServletException;
 import javax.servlet.ServletRequest;
 import javax.servlet.ServletResponse;
@@ -27,9 +31,11 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import static org.apache.commons.lang3.StringUtils.defaultIfEmpty;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 
 /**
@@ -47,8 +53,15 @@ public class TokenValidatorFilter extends ExcludingPatternFilter {
      * Logger
      */
     protected static final Logger LOGGER = Logger.getLogger(TokenValidatorFilter.class.getName());
-    
-    
+
+    protected int bodyMemoryThreshold = MultiReadHttpServletRequest.DEFAULT_MEMORY_THRESHOLD;
+
+    @Override
+    public void init(final FilterConfig filterConfig) throws ServletException {
+        super.init(filterConfig);
+        bodyMemoryThreshold = MultiReadHttpServletRequest.getMemoryThreshold(filterConfig);
+    }
+
     @Override
     public void proceedWithFiltering(ServletRequest request, ServletResponse response, FilterChain chain) throws ServletException, IOException {
         
@@ -56,18 +69,28 @@ public class TokenValidatorFilter extends ExcludingPatternFilter {
         HttpServletResponse httpServletResponse = (HttpServletResponse)response;
         if (isCsrfProtectionEnabled() && !isSafeMethod(httpServletRequest.getMethod())) {
             //we need to use a MultiReadHttpServletRequest wrapper in order to be able to get the inputstream twice (in the filter and in the API servlet)
-            MultiReadHttpServletRequest multiReadHttpServletRequest = new MultiReadHttpServletRequest(httpServletRequest);
-            String headerFromRequest = getCSRFToken(multiReadHttpServletRequest);
-            String apiToken = (String) multiReadHttpServletRequest.getSession().getAttribute("api_token");
+            //the body is only read if the token has to be looked for in a multipart body, and only up to the token field
+            final MultiReadHttpServletRequest wrapper = MultiReadHttpServletRequest.getWrapper(httpServletRequest);
+            final boolean alreadyWrapped = wrapper != null;
+            final MultiReadHttpServletRequest multiReadHttpServletRequest = alreadyWrapped ? wrapper
+                    : new MultiReadHttpServletRequest(httpServletRequest, bodyMemoryThreshold);
+            try {
+                String headerFromRequest = getCSRFToken(multiReadHttpServletRequest);
+                String apiToken = (String) multiReadHttpServletRequest.getSession().getAttribute("api_token");
 
-            if (headerFromRequest == null || !headerFromRequest.equals(apiToken)) {
-                if (LOGGER.isLoggable(Level.FINE)) {
-                    LOGGER.log(Level.FINE, "Token Validation failed, expected: " + apiToken + ", received: " + headerFromRequest);
+                if (headerFromRequest == null || !headerFromRequest.equals(apiToken)) {
+                    if (LOGGER.isLoggable(Level.FINE)) {
+                        LOGGER.log(Level.FINE, "Token Validation failed, expected: " + apiToken + ", received: " + headerFromRequest);
+                    }
+                    httpServletResponse.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+                    response.flushBuffer();
+                } else {
+                    chain.doFilter(multiReadHttpServletRequest.getRequestToForward(), response);
+                }
+            } finally {
+                if (!alreadyWrapped) {
+                    multiReadHttpServletRequest.release();
                 }
-                httpServletResponse.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                response.flushBuffer();
-            } else {
-                chain.doFilter(multiReadHttpServletRequest, response);
             }
         } else {
             chain.doFilter(request, response);
@@ -91,14 +114,34 @@ public class TokenValidatorFilter extends ExcludingPatternFilter {
             token = httpRequest.getParameter(CSRF_TOKEN_PARAM);
         }
         if (isBlank(token) && isFormData(httpRequest.getContentType())) {
-            MultipartHttpServletRequest multiPartRequest = new CommonsMultipartResolver().resolveMultipart(httpRequest);
-            if (multiPartRequest.getParameterMap().containsKey(CSRF_TOKEN_PARAM)) {
-                token = multiPartRequest.getParameter(CSRF_TOKEN_PARAM);
-            }
+            token = getMultipartFormField(httpRequest, CSRF_TOKEN_PARAM);
         }
         return token;
     }
 
+    /**
+     * Scan the parts of a multipart body up to the first form field with the given name, without storing the parts.<br>
+     * The parts after the field are not read, the servlet reads them from the request stream.
+     */
+    private String getMultipartFormField(HttpServletRequest httpRequest, String fieldName) {
+        try {
+            final FileItemIterator items = new ServletFileUpload().getItemIterator(httpRequest);
+            while (items.hasNext()) {
+                final FileItemStream item = items.next();
+                if (item.isFormField() && fieldName.equals(item.getFieldName())) {
+                    try (InputStream value = item.openStream()) {
+                        return Streams.asString(value, defaultIfEmpty(httpRequest.getCharacterEncoding(), "UTF-8"));
+                    }
+                }
+            }
+        } catch (FileUploadException | IOException e) {
+            if (LOGGER.isLoggable(Level.FINE)) {
+                LOGGER.log(Level.FINE, "Unable to read the multipart body of the request", e);
+            }
+        }
+        return null;
+    }
+
     private boolean isFormData(String contentType) {
         return contentType != null && contentType.toLowerCase().contains("multipart/form-data");
     }
@@ -23,11 +23,11 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -73,7 +73,19 @@ public class CustomPageService {
 
     public static final String LASTUPDATE_FILENAME = ".lastupdate";
 
-    private static final Map<String, GroovyClassLoader> PAGES_CLASSLOADERS = new HashMap<>();
+    private static final Map<String, GroovyClassLoader> PAGES_CLASSLOADERS = new ConcurrentHashMap<>();
+
+    private static final PageFreshnessRegistry PAGES_FRESHNESS = new PageFreshnessRegistry();
+
+    private static final PageLocks PAGES_LOCKS = new PageLocks();
+
+    private static final String PAGE_FOLDER_LOCK = "folder";
+
+    private static final String PAGE_FOLDER_PRESENCE_OPERATION = "folder-presence";
+
+    private static final String PAGE_FOLDER_REFRESH_OPERATION = "folder-refresh";
+
+    private static final String PAGE_CLASSLOADER_OPERATION = "classloader";
 
     public static final String RESOURCES_PROPERTY = "resources";
     public static final String PROPERTY_CONTENT_TYPE = "contentType";
@@ -88,20 +100,43 @@ public class CustomPageService {
 
     public void ensurePageFolderIsPresent(final APISession apiSession, final PageResourceProvider pageResourceProvider)
             throws BonitaException, IOException {
-        File pageDirectory = pageResourceProvider.getPageDirectory();
-        if (!pageDirectory.exists() || pageDirectory.list().length == 0) {
-            retrievePageZipContent(apiSession, pageResourceProvider);
-        }
+        PAGES_LOCKS.executeOnce(getPageFolderKey(PAGE_FOLDER_LOCK, apiSession, pageResourceProvider),
+                getPageFolderKey(PAGE_FOLDER_PRESENCE_OPERATION, apiSession, pageResourceProvider), () -> {
+            File pageDirectory = pageResourceProvider.getPageDirectory();
+            if (!pageDirectory.exists() || pageDirectory.list().length == 0) {
+                retrievePageZipContent(apiSession, pageResourceProvider);
+            }
+            return null;
+        });
     }
 
+    /**
+     * Make sure the local copy of the page is the same as the one in the engine.<br>
+     * Only one refresh at a time is done for a given page: concurrent calls for the same page wait for the refresh in
+     * progress, while calls for other pages are not blocked. A refresh waits for a presence check of the same page to be
+     * over before running, since both write in the page folder.
+     */
     public void ensurePageFolderIsUpToDate(final APISession apiSession, final PageResourceProvider pageResourceProvider)
             throws BonitaException, IOException {
+        PAGES_LOCKS.executeOnce(getPageFolderKey(PAGE_FOLDER_LOCK, apiSession, pageResourceProvider),
+                getPageFolderKey(PAGE_FOLDER_REFRESH_OPERATION, apiSession, pageResourceProvider), () -> {
+            refreshPageFolder(apiSession, pageResourceProvider);
+            return null;
+        });
+    }
+
+    private static String getPageFolderKey(final String operation, final APISession apiSession, final PageResourceProvider pageResourceProvider) {
+        return PageLocks.getKey(operation, apiSession.getTenantId(), pageResourceProvider.getFullPageName());
+    }
+
+    private void refreshPageFolder(final APISession apiSession, final PageResourceProvider pageResourceProvider)
+            throws BonitaException, IOException {
         final File pageFolder = pageResourceProvider.getPageDirectory();
         if (!pageFolder.exists() || pageFolder.list().length == 0) {
             retrievePageZipContent(apiSession, pageResourceProvider);
         } else {
             final File timestampFile = getPageFile(pageFolder, LASTUPDATE_FILENAME);
-            final long lastUpdateTimestamp = getPageLastUpdateDateFromEngine(apiSession, pageResourceProvider);
+            final long lastUpdateTimestamp = getPageLastUpdateDate(apiSession, pageResourceProvider);
             if (timestampFile.exists()) {
                 final String timestampString = FileUtils.readFileToString(timestampFile);
                 final long timestamp = Long.parseLong(timestampString);
@@ -119,7 +154,7 @@ public class CustomPageService {
     public Class<?> registerPage(final GroovyClassLoader pageClassLoader, final PageResourceProvider pageResourceProvider)
             throws CompilationFailedException, IOException {
         final File pageControllerFile = getGroovyPageFile(pageResourceProvider.getPageDirectory());
-        return pageClassLoader.parseClass(pageControllerFile);
+        return parseClass(pageClassLoader, pageControllerFile);
     }
 
     public Class<?> registerRestApiPage(final GroovyClassLoader pageClassLoader,
@@ -129,7 +164,7 @@ public class CustomPageService {
             if (restApiControllerClassName.isSource()) {
                 File groovyFile = toFile(pageResourceProvider, restApiControllerClassName.getName());
                 if (groovyFile.exists()) {
-                    return pageClassLoader.parseClass(groovyFile);
+                    return parseClass(pageClassLoader, groovyFile);
                 }
                 LOGGER.log(Level.SEVERE, "resource does not exists:" + mappingKey);
                 throw new BonitaException("unable to handle rest api call to " + mappingKey);
@@ -140,6 +175,13 @@ public class CustomPageService {
         }
     }
 
+    private Class<?> parseClass(final GroovyClassLoader pageClassLoader, final File groovyFile) throws CompilationFailedException, IOException {
+        if (pageClassLoader instanceof PageGroovyClassLoader) {
+            return ((PageGroovyClassLoader) pageClassLoader).parseClassOnce(groovyFile);
+        }
+        return pageClassLoader.parseClass(groovyFile);
+    }
+
     protected File toFile(PageResourceProviderImpl pageResourceProvider, String classFileName) {
         if (classFileName.startsWith("/")) {
             classFileName = classFileName.substring(1);
@@ -181,6 +223,7 @@ public class CustomPageService {
     public void removePageLocally(final APISession apiSession, final String pageName) throws IOException {
         closeClassloader(pageName);
         final PageResourceProvider pageResourceProvider = new PageResourceProviderImpl(pageName, apiSession.getTenantId());
+        PAGES_FRESHNESS.invalidate(getPageFreshnessKey(pageResourceProvider));
         removePageZipContent(pageResourceProvider);
         CustomPageDependenciesResolver.removePageLibTempFolder(pageName);
     }
@@ -189,6 +232,7 @@ public class CustomPageService {
         final PageResourceProvider pageResourceProvider = new PageResourceProviderImpl(page, apiSession.getTenantId());
         final String pageName = pageResourceProvider.getFullPageName();
         closeClassloader(pageName);
+        PAGES_FRESHNESS.invalidate(getPageFreshnessKey(pageResourceProvider));
         removePageZipContent(pageResourceProvider);
         CustomPageDependenciesResolver.removePageLibTempFolder(pageName);
     }
@@ -204,22 +248,47 @@ public class CustomPageService {
     protected GroovyClassLoader buildPageClassloader(final APISession apiSession, final String pageName,
                                                      final File pageDirectory)
             throws CompilationFailedException, IOException {
-        GroovyClassLoader pageClassLoader = PAGES_CLASSLOADERS.get(pageName);
+        final GroovyClassLoader pageClassLoader = PAGES_CLASSLOADERS.get(pageName);
         final BDMClientDependenciesResolver bdmDependenciesResolver = new BDMClientDependenciesResolver(apiSession);
-        if (pageClassLoader == null
-                || getConsoleProperties(apiSession).isPageInDebugMode()
-                || isOutdated(pageClassLoader, bdmDependenciesResolver)) {
-            synchronized (CustomPageService.class) {//Handle multiple queries to create several classloaders at the same time
-                pageClassLoader = new GroovyClassLoader(getParentClassloader(pageName,
-                        new CustomPageDependenciesResolver(pageName, pageDirectory, getWebBonitaConstantsUtils(apiSession)),
-                        bdmDependenciesResolver));
-                pageClassLoader.addClasspath(pageDirectory.getPath());
-                PAGES_CLASSLOADERS.put(pageName, pageClassLoader);
+        if (!isReusable(apiSession, pageClassLoader, bdmDependenciesResolver)) {
+            //Handle multiple queries to create several classloaders for the same page at the same time
+            try {
+                return PAGES_LOCKS.executeOnce(PageLocks.getKey(PAGE_CLASSLOADER_OPERATION, apiSession.getTenantId(), pageName), () -> {
+                    // another request may have built the classloader since it was checked
+                    final GroovyClassLoader cachedClassLoader = PAGES_CLASSLOADERS.get(pageName);
+                    if (isReusable(apiSession, cachedClassLoader, bdmDependenciesResolver)) {
+                        return cachedClassLoader;
+                    }
+                    return createPageClassloader(apiSession, pageName, pageDirectory, bdmDependenciesResolver);
+                });
+            } catch (final BonitaException e) {
+                throw new IOException(e);
             }
         }
         return pageClassLoader;
     }
 
+    private boolean isReusable(final APISession apiSession, final GroovyClassLoader pageClassLoader,
+                               final BDMClientDependenciesResolver bdmDependenciesResolver) {
+        return pageClassLoader != null
+                && !getConsoleProperties(apiSession).isPageInDebugMode()
+                && !isOutdated(pageClassLoader, bdmDependenciesResolver);
+    }
+
+    private GroovyClassLoader createPageClassloader(final APISession apiSession, final String pageName, final File pageDirectory,
+                                                    final BDMClientDependenciesResolver bdmDependenciesResolver) throws IOException {
+        final GroovyClassLoader pageClassLoader = new PageGroovyClassLoader(pageName, getParentClassloader(pageName,
+                new CustomPageDependenciesResolver(pageName, pageDirectory, getWebBonitaConstantsUtils(apiSession)),
+                bdmDependenciesResolver));
+        pageClassLoader.addClasspath(pageDirectory.getPath());
+        final GroovyClassLoader retiredClassLoader = PAGES_CLASSLOADERS.put(pageName, pageClassLoader);
+        if (retiredClassLoader instanceof PageGroovyClassLoader) {
+            // the classes compiled for the previous version of the page will not be used anymore
+            ((PageGroovyClassLoader) retiredClassLoader).clearCompiledClasses();
+        }
+        return pageClassLoader;
+    }
+
     private boolean isOutdated(GroovyClassLoader pageClassLoader, BDMClientDependenciesResolver bdmDependenciesResolver) {
         final ClassLoader parent = pageClassLoader.getParent();
         if (!(parent instanceof VersionedClassloader)) {
@@ -265,6 +334,7 @@ public class CustomPageService {
             lastUpdateTimestamp = page.getLastModificationDate().getTime();
         }
         FileUtils.writeStringToFile(timestampFile, String.valueOf(lastUpdateTimestamp), false);
+        PAGES_FRESHNESS.update(getPageFreshnessKey(pageResourceProvider), lastUpdateTimestamp);
     }
 
     protected PageAPI getPageAPI(final APISession apiSession) throws BonitaException {
@@ -287,6 +357,20 @@ public class CustomPageService {
         return new File(pageDirectory, fileName);
     }
 
+    /**
+     * Get the last update date of the page, only calling the engine if the date known locally is too old
+     */
+    protected long getPageLastUpdateDate(final APISession apiSession, final PageResourceProvider pageResourceProvider)
+            throws BonitaException {
+        return PAGES_FRESHNESS.getLastUpdateDate(getPageFreshnessKey(pageResourceProvider),
+                getConsoleProperties(apiSession).getPageMaxStaleness(),
+                () -> getPageLastUpdateDateFromEngine(apiSession, pageResourceProvider));
+    }
+
+    private static String getPageFreshnessKey(final PageResourceProvider pageResourceProvider) {
+        return pageResourceProvider.getPageDirectory().getAbsolutePath();
+    }
+
     protected long getPageLastUpdateDateFromEngine(final APISession apiSession,
                                                    final PageResourceProvider pageResourceProvider) throws BonitaException {
         try {
@@ -359,10 +443,24 @@ public class CustomPageService {
         return new PageResourceProviderImpl(page, tenantId);
     }
 
+    /**
+     * @return the number of page classes compiled and kept by the current page classloaders
+     */
+    public static int getCompiledClassesCount() {
+        int compiledClassesCount = 0;
+        for (final GroovyClassLoader classLoader : PAGES_CLASSLOADERS.values()) {
+            if (classLoader instanceof PageGroovyClassLoader) {
+                compiledClassesCount += ((PageGroovyClassLoader) classLoader).getCompiledClassesCount();
+            }
+        }
+        return compiledClassesCount;
+    }
+
     public static void clearCachedClassloaders() throws IOException {
         for (final String page : PAGES_CLASSLOADERS.keySet()) {
             closeClassloader(page);
         }
+        PAGES_FRESHNESS.invalidateAll();
     }
 
     public void writePageToPageDirectory(Page page,
@@ -377,6 +475,7 @@ public class CustomPageService {
             lastUpdateTimestamp = page.getLastModificationDate().getTime();
         }
         Files.write(Paths.get(pageDirectory.getPath(), LASTUPDATE_FILENAME), String.valueOf(lastUpdateTimestamp).getBytes());
+        PAGES_FRESHNESS.update(getPageFreshnessKey(pageResourceProvider), lastUpdateTimestamp);
     }
 
 }
@@ -34,6 +34,7 @@ import org.bonitasoft.engine.exception.BonitaHomeNotSetException;
 import org.bonitasoft.engine.exception.ServerAPIException;
 import org.bonitasoft.engine.exception.UnknownAPITypeException;
 import org.bonitasoft.engine.session.APISession;
+import org.bonitasoft.livingapps.ApplicationModelCache;
 import org.bonitasoft.livingapps.ApplicationModelFactory;
 
 public class CustomPageServlet extends HttpServlet {
@@ -151,6 +152,7 @@ public class CustomPageServlet extends HttpServlet {
                 TenantAPIAccessor.getLivingApplicationAPI(apiSession), TenantAPIAccessor.getCustomPageAPI(apiSession), new ApplicationModelFactory(
                 TenantAPIAccessor.getLivingApplicationAPI(apiSession),
                 TenantAPIAccessor.getCustomPageAPI(apiSession),
-                TenantAPIAccessor.getProfileAPI(apiSession)));
+                TenantAPIAccessor.getProfileAPI(apiSession),
+                ApplicationModelCache.getInstance(apiSession.getTenantId())));
     }
 }
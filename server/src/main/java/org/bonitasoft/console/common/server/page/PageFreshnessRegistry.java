@@ -0,0 +1,128 @@
+/**
+ * Copyright (C) 2022 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.console.common.server.page;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.bonitasoft.engine.exception.BonitaException;
+
+/**
+ * Keep track of the last update date of the pages as known by the engine so that page requests do not need to call the
+ * engine each time to know whether the local copy of the page is still up to date.<br>
+ * A last update date is trusted during a maximum staleness window. Once half of this window has elapsed, a single
+ * request refreshes it with its own session while the other requests are still served the known date. Once the window
+ * has elapsed, every request waits for the engine to be called.<br>
+ * A refresh never replaces a date recorded or invalidated after it started, so a slow engine call cannot bring back an
+ * older date.
+ */
+public class PageFreshnessRegistry {
+
+    private final Map<String, Freshness> pagesFreshness = new ConcurrentHashMap<>();
+
+    private final Set<String> refreshesInProgress = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong versions = new AtomicLong();
+
+    /**
+     * @param pageKey
+     *        key identifying the page locally
+     * @param maxStaleness
+     *        time in milliseconds during which a last update date retrieved from the engine can be trusted. 0 means the
+     *        engine is always called.
+     * @param loader
+     *        retrieve the last update date from the engine
+     * @return the last update date of the page
+     */
+    public long getLastUpdateDate(final String pageKey, final long maxStaleness, final LastUpdateDateLoader loader) throws BonitaException {
+        final Freshness freshness = pagesFreshness.get(pageKey);
+        if (freshness != null && maxStaleness > 0) {
+            final long age = currentTimeMillis() - freshness.checkDate;
+            if (age < maxStaleness / 2) {
+                return freshness.lastUpdateDate;
+            }
+            if (age < maxStaleness) {
+                return refreshOnce(pageKey, freshness, loader);
+            }
+        }
+        return refresh(pageKey, loader);
+    }
+
+    /**
+     * Record the last update date of a page that has just been retrieved or written locally
+     */
+    public void update(final String pageKey, final long lastUpdateDate) {
+        versions.incrementAndGet();
+        pagesFreshness.put(pageKey, new Freshness(lastUpdateDate, currentTimeMillis()));
+    }
+
+    public void invalidate(final String pageKey) {
+        versions.incrementAndGet();
+        pagesFreshness.remove(pageKey);
+    }
+
+    public void invalidateAll() {
+        versions.incrementAndGet();
+        pagesFreshness.clear();
+    }
+
+    private long refreshOnce(final String pageKey, final Freshness freshness, final LastUpdateDateLoader loader) throws BonitaException {
+        if (!refreshesInProgress.add(pageKey)) {
+            return freshness.lastUpdateDate;
+        }
+        try {
+            return refresh(pageKey, loader);
+        } finally {
+            refreshesInProgress.remove(pageKey);
+        }
+    }
+
+    private long refresh(final String pageKey, final LastUpdateDateLoader loader) throws BonitaException {
+        final long version = versions.get();
+        final long checkDate = currentTimeMillis();
+        final long lastUpdateDate = loader.load();
+        final Freshness refreshed = new Freshness(lastUpdateDate, checkDate);
+        // keep the result of an update or invalidation that happened while the engine was called
+        pagesFreshness.compute(pageKey, (key, current) -> versions.get() == version ? refreshed : current);
+        return lastUpdateDate;
+    }
+
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    /**
+     * Retrieve the last update date of a page from the engine
+     */
+    @FunctionalInterface
+    public interface LastUpdateDateLoader {
+
+        long load() throws BonitaException;
+    }
+
+    private static class Freshness {
+
+        private final long lastUpdateDate;
+
+        private final long checkDate;
+
+        Freshness(final long lastUpdateDate, final long checkDate) {
+            this.lastUpdateDate = lastUpdateDate;
+            this.checkDate = checkDate;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/**
+ * Copyright (C) 2022 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.console.common.server.page;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import groovy.lang.GroovyClassLoader;
+import org.codehaus.groovy.control.CompilationFailedException;
+
+/**
+ * Groovy classloader of a page that keeps the classes compiled from the page groovy sources.<br>
+ * A page classloader is built for a given version of the page and of the business data model and is closed as soon as
+ * one of them changes, so the compiled classes live exactly as long as the version they were compiled from.
+ */
+public class PageGroovyClassLoader extends GroovyClassLoader {
+
+    private static final Logger LOGGER = Logger.getLogger(PageGroovyClassLoader.class.getName());
+
+    private final String pageName;
+
+    private final Map<String, Class<?>> compiledClasses = new ConcurrentHashMap<>();
+
+    private final AtomicLong compilationTime = new AtomicLong();
+
+    public PageGroovyClassLoader(final String pageName, final ClassLoader parent) {
+        super(parent);
+        this.pageName = pageName;
+    }
+
+    /**
+     * Compile the given groovy file the first time it is requested and return the same class afterwards
+     */
+    public Class<?> parseClassOnce(final File groovyFile) throws CompilationFailedException, IOException {
+        final String sourcePath = groovyFile.getAbsolutePath();
+        Class<?> compiledClass = compiledClasses.get(sourcePath);
+        if (compiledClass == null) {
+            synchronized (compiledClasses) {
+                compiledClass = compiledClasses.get(sourcePath);
+                if (compiledClass == null) {
+                    final long startTime = System.currentTimeMillis();
+                    compiledClass = parseClass(groovyFile);
+                    final long duration = System.currentTimeMillis() - startTime;
+                    compilationTime.addAndGet(duration);
+                    compiledClasses.put(sourcePath, compiledClass);
+                    if (LOGGER.isLoggable(Level.FINE)) {
+                        LOGGER.log(Level.FINE, "Compiled " + groovyFile.getName() + " of page " + pageName + " in " + duration + " ms");
+                    }
+                }
+            }
+        }
+        return compiledClass;
+    }
+
+    /**
+     * @return the number of classes compiled and kept by this classloader
+     */
+    public int getCompiledClassesCount() {
+        return compiledClasses.size();
+    }
+
+    /**
+     * @return the total time spent compiling the page groovy sources, in milliseconds
+     */
+    public long getCompilationTime() {
+        return compilationTime.get();
+    }
+
+    public void clearCompiledClasses() {
+        compiledClasses.clear();
+    }
+
+    @Override
+    public void clearCache() {
+        clearCompiledClasses();
+        super.clearCache();
+    }
+}
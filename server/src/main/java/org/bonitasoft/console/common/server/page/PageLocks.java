@@ -0,0 +1,108 @@
+/**
+ * Copyright (C) 2022 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.console.common.server.page;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.bonitasoft.engine.exception.BonitaException;
+
+/**
+ * Coordinate the operations done on the local copy of a page (folder refresh, classloader build...).<br>
+ * Operations are identified by a key that includes the tenant and the page, so only concurrent requests on the same page
+ * wait for each other. When an operation is already running for a key, the other callers do not run it again: they wait
+ * for it to finish and get its result (or its exception).<br>
+ * Different operations on the same resource (e.g. checking that the folder of a page is present and refreshing it) can
+ * share a lock key: they then never run at the same time, but each caller only joins an operation of its own kind.
+ */
+public class PageLocks {
+
+    private final ConcurrentMap<String, CompletableFuture<Object>> operationsInProgress = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, ReentrantLock> locks = new ConcurrentHashMap<>();
+
+    public static String getKey(final String operation, final long tenantId, final String pageName) {
+        return operation + ":" + tenantId + ":" + pageName;
+    }
+
+    public <T> T executeOnce(final String key, final PageOperation<T> operation) throws BonitaException, IOException {
+        return executeOnce(key, key, operation);
+    }
+
+    /**
+     * @param lockKey
+     *        key of the resource the operation works on, no other operation with the same lock key runs at the same time
+     * @param key
+     *        key of the operation, concurrent callers with the same key share a single execution
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T executeOnce(final String lockKey, final String key, final PageOperation<T> operation) throws BonitaException, IOException {
+        final CompletableFuture<Object> result = new CompletableFuture<>();
+        final CompletableFuture<Object> operationInProgress = operationsInProgress.putIfAbsent(key, result);
+        if (operationInProgress != null) {
+            return (T) waitFor(key, operationInProgress);
+        }
+        final ReentrantLock lock = locks.computeIfAbsent(lockKey, k -> new ReentrantLock());
+        lock.lock();
+        try {
+            final T value = operation.execute();
+            result.complete(value);
+            return value;
+        } catch (final Throwable e) {
+            result.completeExceptionally(e);
+            throw e;
+        } finally {
+            lock.unlock();
+            operationsInProgress.remove(key, result);
+        }
+    }
+
+    private Object waitFor(final String key, final CompletableFuture<Object> operationInProgress) throws BonitaException, IOException {
+        try {
+            return operationInProgress.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BonitaException("Interrupted while waiting for " + key, e);
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof BonitaException) {
+                throw (BonitaException) cause;
+            }
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new BonitaException(cause);
+        }
+    }
+
+    /**
+     * Operation on the local copy of a page
+     */
+    @FunctionalInterface
+    public interface PageOperation<T> {
+
+        T execute() throws BonitaException, IOException;
+    }
+}
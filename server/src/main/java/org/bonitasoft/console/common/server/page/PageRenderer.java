@@ -79,17 +79,13 @@ public class PageRenderer {
     }
 
     public void ensurePageFolderIsPresent(final APISession apiSession, final PageResourceProviderImpl pageResourceProvider) throws BonitaException, IOException {
-        synchronized (PageRenderer.class) {
-            customPageService.ensurePageFolderIsPresent(apiSession, pageResourceProvider);
-        }
+        customPageService.ensurePageFolderIsPresent(apiSession, pageResourceProvider);
     }
 
     private void displayCustomPage(final HttpServletRequest request, final HttpServletResponse response, final APISession apiSession,
                                    final PageResourceProviderImpl pageResourceProvider, final Locale currentLocale) throws BonitaException, IOException, InstantiationException,
             IllegalAccessException {
-        synchronized (PageRenderer.class) {
-            customPageService.ensurePageFolderIsUpToDate(apiSession, pageResourceProvider);
-        }
+        customPageService.ensurePageFolderIsUpToDate(apiSession, pageResourceProvider);
         enforceLocaleCookieIfPresentInURLOrBrowser(request, response, currentLocale);
         if (isGroovyPage(pageResourceProvider)) {
             displayGroovyPage(request, response, apiSession, pageResourceProvider, currentLocale);
@@ -43,6 +43,7 @@ import org.bonitasoft.engine.exception.UnauthorizedAccessException;
 import org.bonitasoft.engine.page.PageNotFoundException;
 import org.bonitasoft.engine.session.APISession;
 import org.bonitasoft.engine.session.InvalidSessionException;
+import org.bonitasoft.livingapps.ApplicationModelCache;
 import org.bonitasoft.livingapps.ApplicationModelFactory;
 import org.bonitasoft.livingapps.exception.CreationException;
 
@@ -208,7 +209,8 @@ public class PageServlet extends HttpServlet {
         ApplicationModelFactory applicationModelFactory = new ApplicationModelFactory(
                 TenantAPIAccessor.getLivingApplicationAPI(apiSession),
                 TenantAPIAccessor.getCustomPageAPI(apiSession),
-                TenantAPIAccessor.getProfileAPI(apiSession));
+                TenantAPIAccessor.getProfileAPI(apiSession),
+                ApplicationModelCache.getInstance(apiSession.getTenantId()));
         return applicationModelFactory.createApplicationModel(appToken).getApplicationThemeId();
     }
 
@@ -41,7 +41,7 @@ public class ApplicationIconServlet extends IconServlet {
         try {
             Icon icon = applicationApi.getIconOfApplication(iconId);
             if (icon != null) {
-                return Optional.of(new IconContent(icon.getContent(), icon.getMimeType()));
+                return Optional.of(new IconContent(icon.getContent(), icon.getMimeType(), getLastUpdateDate(applicationApi, iconId)));
             } else {
                 return Optional.empty();
             }
@@ -50,6 +50,19 @@ public class ApplicationIconServlet extends IconServlet {
         }
     }
 
+    /**
+     * @return the last update date of the application, which is also the one of its icon, or -1 if it is unknown
+     */
+    private long getLastUpdateDate(ApplicationAPI applicationApi, Long applicationId) throws ApplicationNotFoundException {
+        Application application = applicationApi.getApplication(applicationId);
+        return application != null && application.getLastUpdateDate() != null ? application.getLastUpdateDate().getTime() : -1;
+    }
+
+    @Override
+    protected String getIconKind() {
+        return IconCache.APPLICATION_ICONS;
+    }
+
     @Override
     protected void deleteIcon(Long entityId, APISession apiSession, HttpServletRequest request, HttpServletResponse response) throws ServerException {
         ApplicationAPI applicationApi = getApplicationApi(apiSession);
@@ -57,6 +70,9 @@ public class ApplicationIconServlet extends IconServlet {
         updater.setIcon(null, null);
         try {
             applicationApi.updateApplication(entityId, updater);
+            if (apiSession != null) {
+                IconCache.getInstance().invalidate(apiSession.getTenantId(), IconCache.APPLICATION_ICONS, entityId);
+            }
         } catch (ApplicationNotFoundException e) {
             throw new APIItemNotFoundException(Application.class.getName(), APIID.makeAPIID(entityId));
         } catch (UpdateException | AlreadyExistsException e) {
@@ -29,6 +29,7 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
 
 import org.apache.commons.fileupload.FileItem;
 import org.apache.commons.fileupload.FileItemFactory;
@@ -36,6 +37,7 @@ import org.apache.commons.fileupload.FileUploadBase.FileSizeLimitExceededExcepti
 import org.apache.commons.fileupload.FileUploadBase.SizeLimitExceededException;
 import org.apache.commons.fileupload.disk.DiskFileItemFactory;
 import org.apache.commons.fileupload.servlet.ServletFileUpload;
+import org.bonitasoft.console.common.server.utils.UploadedFileStore;
 import org.bonitasoft.engine.session.SessionNotFoundException;
 import org.codehaus.jettison.json.JSONObject;
 
@@ -126,11 +128,19 @@ public abstract class FileUploadServlet extends HttpServlet {
         return uploadDirectoryPath;
     }
 
+    /**
+     * @return the tenant the files are uploaded for, or null for the platform
+     */
+    protected Long getTenantId(final HttpServletRequest request) {
+        return null;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public void doPost(final HttpServletRequest request, final HttpServletResponse response) throws ServletException, IOException {
         response.setContentType("text/plain;charset=UTF-8");
         PrintWriter responsePW = null;
+        List<FileItem> items = null;
         try {
             defineUploadDirectoryPath(request);
             if (!ServletFileUpload.isMultipartContent(request)) {
@@ -147,7 +157,6 @@ public abstract class FileUploadServlet extends HttpServlet {
             final FileItemFactory fileItemFactory = new DiskFileItemFactory();
             final ServletFileUpload serviceFileUpload = createServletFileUpload(fileItemFactory);
             setUploadMaxSize(serviceFileUpload, request);
-            List<FileItem> items;
             try {
                 items = serviceFileUpload.parseRequest(request);
             } catch (final OutOfMemoryError e) {
@@ -177,7 +186,9 @@ public abstract class FileUploadServlet extends HttpServlet {
                 if (LOGGER.isLoggable(Level.FINEST)) {
                     LOGGER.log(Level.FINEST, "File uploaded : " + uploadedFile.getPath());
                 }
-                uploadedFile.deleteOnExit();
+                // deleted once consumed, or by the sweeper
+                final HttpSession httpSession = request.getSession(false);
+                UploadedFileStore.getInstance().add(uploadedFile, getTenantId(request), httpSession != null ? httpSession.getId() : null);
 
                 // Response
                 final String responseString;
@@ -212,6 +223,12 @@ public abstract class FileUploadServlet extends HttpServlet {
             if (responsePW != null) {
                 responsePW.close();
             }
+            if (items != null) {
+                // delete the temporary files of the parser
+                for (final FileItem item : items) {
+                    item.delete();
+                }
+            }
         }
     }
 
@@ -262,9 +279,7 @@ public abstract class FileUploadServlet extends HttpServlet {
     }
 
     protected File makeUniqueFilename(final File targetDirectory, final String fileName) throws IOException {
-        final File uploadedFile = File.createTempFile("tmp_", getExtension(fileName), targetDirectory);
-        uploadedFile.deleteOnExit();
-        return uploadedFile;
+        return File.createTempFile(UploadedFileStore.UPLOADED_FILE_PREFIX, getExtension(fileName), targetDirectory);
     }
 
     protected String getExtension(final String fileName) {
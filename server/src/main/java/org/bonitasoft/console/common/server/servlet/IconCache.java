@@ -0,0 +1,150 @@
+/**
+ * Copyright (C) 2022 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.console.common.server.servlet;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Icons served by the {@link IconServlet}s, by tenant, kind of icon and id.<br>
+ * The least recently used icons are evicted once the icons held take more than a maximum size. The icons must be
+ * invalidated when they are replaced or deleted through the organization or application APIs.
+ */
+public class IconCache {
+
+    /**
+     * Icons of the users, groups and roles, by icon id
+     */
+    public static final String ORGANIZATION_ICONS = "organization";
+
+    /**
+     * Icons of the living applications, by application id
+     */
+    public static final String APPLICATION_ICONS = "application";
+
+    public static final long DEFAULT_MAX_SIZE = 16L * 1024 * 1024;
+
+    private static final IconCache INSTANCE = new IconCache(DEFAULT_MAX_SIZE);
+
+    private final long maxSize;
+
+    private final LinkedHashMap<String, IconContent> icons = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long size = 0;
+
+    /**
+     * Incremented on each invalidation, so that an icon loaded before an invalidation is not cached
+     */
+    private long generation = 0;
+
+    /**
+     * @param maxSize
+     *        the maximum size in bytes of the icons held
+     */
+    IconCache(final long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public static IconCache getInstance() {
+        return INSTANCE;
+    }
+
+    private static String getKey(final long tenantId, final String kind, final long iconId) {
+        return getKeyPrefix(tenantId, kind) + iconId;
+    }
+
+    private static String getKeyPrefix(final long tenantId, final String kind) {
+        return tenantId + "/" + kind + "/";
+    }
+
+    /**
+     * Get an icon, loading it on a miss. Icons not found are not cached.
+     *
+     * @param kind
+     *        {@link #ORGANIZATION_ICONS} or {@link #APPLICATION_ICONS}
+     * @param loader
+     *        fetch the icon from the engine
+     */
+    Optional<IconContent> get(final long tenantId, final String kind, final long iconId, final Supplier<Optional<IconContent>> loader) {
+        final String key = getKey(tenantId, kind, iconId);
+        final long loadGeneration;
+        synchronized (this) {
+            final IconContent icon = icons.get(key);
+            if (icon != null) {
+                return Optional.of(icon);
+            }
+            loadGeneration = generation;
+        }
+        final Optional<IconContent> icon = loader.get();
+        if (icon.isPresent()) {
+            put(key, icon.get(), loadGeneration);
+        }
+        return icon;
+    }
+
+    private synchronized void put(final String key, final IconContent icon, final long loadGeneration) {
+        final int iconSize = icon.getContent().length;
+        if (generation != loadGeneration || iconSize > maxSize) {
+            return;
+        }
+        final IconContent previous = icons.put(key, icon);
+        if (previous != null) {
+            size -= previous.getContent().length;
+        }
+        size += iconSize;
+        // evict the least recently used icons
+        for (final Iterator<IconContent> iterator = icons.values().iterator(); size > maxSize && iterator.hasNext();) {
+            size -= iterator.next().getContent().length;
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Discard an icon after it is replaced or deleted
+     */
+    public synchronized void invalidate(final long tenantId, final String kind, final long iconId) {
+        generation++;
+        final IconContent icon = icons.remove(getKey(tenantId, kind, iconId));
+        if (icon != null) {
+            size -= icon.getContent().length;
+        }
+    }
+
+    /**
+     * Discard all the icons of a kind of a tenant, e.g. after an import
+     */
+    public synchronized void invalidate(final long tenantId, final String kind) {
+        generation++;
+        final String keyPrefix = getKeyPrefix(tenantId, kind);
+        for (final Iterator<Map.Entry<String, IconContent>> iterator = icons.entrySet().iterator(); iterator.hasNext();) {
+            final Map.Entry<String, IconContent> entry = iterator.next();
+            if (entry.getKey().startsWith(keyPrefix)) {
+                size -= entry.getValue().getContent().length;
+                iterator.remove();
+            }
+        }
+    }
+
+    synchronized int getNumberOfIcons() {
+        return icons.size();
+    }
+
+    synchronized long getSize() {
+        return size;
+    }
+}
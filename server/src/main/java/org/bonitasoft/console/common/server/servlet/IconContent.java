@@ -1,12 +1,26 @@
 package org.bonitasoft.console.common.server.servlet;
 
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
 class IconContent {
     private byte[] content;
     private String mimeType;
+    private long lastModified;
+    private String digest;
 
     public IconContent(byte[] content, String mimeType) {
+        this(content, mimeType, -1);
+    }
+
+    /**
+     * @param lastModified the last modification date of the icon, or -1 if it is unknown
+     */
+    public IconContent(byte[] content, String mimeType, long lastModified) {
         this.content = content;
         this.mimeType = mimeType;
+        this.lastModified = lastModified;
     }
 
     public byte[] getContent() {
@@ -16,4 +30,24 @@ class IconContent {
     public String getMimeType() {
         return mimeType;
     }
+
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * @return the strong entity tag of the icon, computed from its id and its content
+     */
+    public String getETag(long iconId) {
+        if (digest == null) {
+            try {
+                final byte[] hash = MessageDigest.getInstance("SHA-256").digest(content);
+                digest = Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+            } catch (NoSuchAlgorithmException e) {
+                // every JVM supports SHA-256
+                throw new IllegalStateException(e);
+            }
+        }
+        return "\"" + iconId + "-" + digest + "\"";
+    }
 }
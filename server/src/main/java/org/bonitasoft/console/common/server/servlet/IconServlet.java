@@ -34,12 +34,22 @@ public abstract class IconServlet extends HttpServlet {
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
             return;
         }
-        Optional<IconContent> iconContent = retrieveIcon(iconId,
+        Optional<IconContent> iconContent = getIcon(iconId,
                 (APISession) request.getSession().getAttribute("apiSession"));
         if (!iconContent.isPresent()) {
             response.setStatus(HttpServletResponse.SC_NOT_FOUND);
             return;
         }
+        final String eTag = iconContent.get().getETag(iconId);
+        final long lastModified = iconContent.get().getLastModified();
+        response.setHeader("ETag", eTag);
+        if (lastModified >= 0) {
+            response.setDateHeader("Last-Modified", lastModified);
+        }
+        if (isNotModified(request, eTag, lastModified)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
         response.setContentType(iconContent.get().getMimeType());
         response.setCharacterEncoding("UTF-8");
         try {
@@ -90,6 +100,45 @@ public abstract class IconServlet extends HttpServlet {
 
     protected abstract Optional<IconContent> retrieveIcon(Long iconId, APISession apiSession);
 
+    /**
+     * @return the kind of icons served, {@link IconCache#ORGANIZATION_ICONS} or {@link IconCache#APPLICATION_ICONS}
+     */
+    protected abstract String getIconKind();
+
+    private Optional<IconContent> getIcon(Long iconId, APISession apiSession) {
+        if (apiSession == null) {
+            return retrieveIcon(iconId, null);
+        }
+        return IconCache.getInstance().get(apiSession.getTenantId(), getIconKind(), iconId, () -> retrieveIcon(iconId, apiSession));
+    }
+
+    /**
+     * @return true if the client already has this version of the icon, according to the If-None-Match header of the request
+     *         or, when there is none, to its If-Modified-Since header
+     */
+    private boolean isNotModified(HttpServletRequest request, String eTag, long lastModified) {
+        final String ifNoneMatch = request.getHeader("If-None-Match");
+        if (ifNoneMatch != null) {
+            for (String requestETag : ifNoneMatch.split(",")) {
+                requestETag = requestETag.trim();
+                if ("*".equals(requestETag) || eTag.equals(requestETag.startsWith("W/") ? requestETag.substring(2) : requestETag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        if (lastModified < 0) {
+            return false;
+        }
+        try {
+            final long ifModifiedSince = request.getDateHeader("If-Modified-Since");
+            // HTTP dates have a precision of one second
+            return ifModifiedSince >= 0 && lastModified / 1000 <= ifModifiedSince / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
     protected abstract void deleteIcon(Long entityId, APISession apiSession, HttpServletRequest request, HttpServletResponse response) throws ServerException;
 
     private Long parseLong(String iconIdPath) {
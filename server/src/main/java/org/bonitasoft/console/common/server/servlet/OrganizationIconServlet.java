@@ -51,6 +51,11 @@ public class OrganizationIconServlet extends IconServlet {
         return Optional.of(new IconContent(icon.getContent(), icon.getMimeType()));
     }
 
+    @Override
+    protected String getIconKind() {
+        return IconCache.ORGANIZATION_ICONS;
+    }
+
     @Override
     protected void deleteIcon(Long entityId, APISession apiSession, HttpServletRequest request, HttpServletResponse response) throws ServerException {
         String entityType = request.getParameter("type");
@@ -63,6 +68,10 @@ public class OrganizationIconServlet extends IconServlet {
         updater.setIcon(null, null);
         try {
             identityAPI.updateUser(entityId, updater);
+            if (apiSession != null) {
+                // the icon id of the user is not known here
+                IconCache.getInstance().invalidate(apiSession.getTenantId(), IconCache.ORGANIZATION_ICONS);
+            }
         } catch (UserNotFoundException e) {
             throw new APIItemNotFoundException(User.class.getName(), APIID.makeAPIID(entityId));
         } catch (UpdateException e) {
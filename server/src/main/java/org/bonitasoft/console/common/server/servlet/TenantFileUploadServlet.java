@@ -40,6 +40,11 @@ public class TenantFileUploadServlet extends FileUploadServlet {
         setUploadDirectoryPath(WebBonitaConstantsUtils.getInstance(tenantId).getTempFolder().getPath());
     }
 
+    @Override
+    protected Long getTenantId(final HttpServletRequest request) {
+        return getAPISession(request).getTenantId();
+    }
+
     protected APISession getAPISession(final HttpServletRequest request) {
         final HttpSession session = request.getSession();
         return (APISession) session.getAttribute("apiSession");
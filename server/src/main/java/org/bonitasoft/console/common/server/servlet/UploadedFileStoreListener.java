@@ -0,0 +1,80 @@
+/**
+ * Copyright (C) 2022 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.console.common.server.servlet;
+
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.servlet.ServletContextEvent;
+import javax.servlet.ServletContextListener;
+import javax.servlet.http.HttpSessionEvent;
+import javax.servlet.http.HttpSessionListener;
+
+import org.bonitasoft.console.common.server.utils.UploadedFileStore;
+
+/**
+ * Delete the uploaded files not consumed: those of an HTTP session when it ends, and the expired ones periodically.<br>
+ * The maximum age of an uploaded file and the time between two sweeps can be set (in minutes) with the
+ * {@link #MAX_AGE_PARAM} and {@link #SWEEP_PERIOD_PARAM} context-params.
+ */
+public class UploadedFileStoreListener implements ServletContextListener, HttpSessionListener {
+
+    public static final String MAX_AGE_PARAM = "uploadedFilesMaxAge";
+
+    public static final String SWEEP_PERIOD_PARAM = "uploadedFilesSweepPeriod";
+
+    private static final Logger LOGGER = Logger.getLogger(UploadedFileStoreListener.class.getName());
+
+    @Override
+    public void contextInitialized(final ServletContextEvent sce) {
+        final long maxAge = getDuration(sce, MAX_AGE_PARAM, UploadedFileStore.DEFAULT_MAX_AGE);
+        final long sweepPeriod = getDuration(sce, SWEEP_PERIOD_PARAM, UploadedFileStore.DEFAULT_SWEEP_PERIOD);
+        UploadedFileStore.getInstance().startSweeper(maxAge, sweepPeriod);
+    }
+
+    @Override
+    public void contextDestroyed(final ServletContextEvent sce) {
+        UploadedFileStore.getInstance().stopSweeper();
+    }
+
+    @Override
+    public void sessionCreated(final HttpSessionEvent se) {
+    }
+
+    @Override
+    public void sessionDestroyed(final HttpSessionEvent se) {
+        UploadedFileStore.getInstance().releaseSessionFiles(se.getSession().getId());
+    }
+
+    private long getDuration(final ServletContextEvent sce, final String paramName, final long defaultValue) {
+        final String minutes = sce.getServletContext().getInitParameter(paramName);
+        if (minutes != null) {
+            try {
+                final long value = Long.parseLong(minutes.trim());
+                if (value > 0) {
+                    return TimeUnit.MINUTES.toMillis(value);
+                }
+            } catch (final NumberFormatException e) {
+                // logged below
+            }
+            if (LOGGER.isLoggable(Level.WARNING)) {
+                LOGGER.log(Level.WARNING, "Invalid value for " + paramName + ": " + minutes + ". Using " + TimeUnit.MILLISECONDS.toMinutes(defaultValue)
+                        + " minutes");
+            }
+        }
+        return defaultValue;
+    }
+}
@@ -258,12 +258,7 @@ public class ContractTypeConverter {
     }
 
     void deleteFile(final File sourceFile) {
-        if (!sourceFile.delete()) {
-            sourceFile.deleteOnExit();
-            if (LOGGER.isLoggable(Level.INFO)) {
-                logMessage(Level.INFO, "Cannot delete " + sourceFile.getPath() + "in the tenant temp directory.");
-            }
-        }
+        UploadedFileStore.getInstance().release(sourceFile);
     }
 
     private Map<String, Serializable> createContractInputMap(final List<InputDefinition> inputDefinitions) {
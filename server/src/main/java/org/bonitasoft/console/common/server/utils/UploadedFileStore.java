@@ -0,0 +1,234 @@
+/**
+ * Copyright (C) 2022 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.console.common.server.utils;
+
+import java.io.File;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Keep track of the files uploaded in the temporary folders, by tenant, HTTP session and creation date.<br>
+ * An uploaded file is deleted as soon as it has been consumed (see {@link #release(File)}), when the HTTP session it was
+ * uploaded in ends, or by a background sweeper once it is older than a maximum age. The sweeper also deletes the files
+ * of the same folders left by a previous run of the server.
+ */
+public class UploadedFileStore {
+
+    /**
+     * Prefix of the names of the uploaded files
+     */
+    public static final String UPLOADED_FILE_PREFIX = "tmp_";
+
+    public static final long DEFAULT_MAX_AGE = TimeUnit.DAYS.toMillis(1);
+
+    public static final long DEFAULT_SWEEP_PERIOD = TimeUnit.HOURS.toMillis(1);
+
+    private static final Logger LOGGER = Logger.getLogger(UploadedFileStore.class.getName());
+
+    private static final UploadedFileStore INSTANCE = new UploadedFileStore();
+
+    private final Map<String, UploadedFile> uploadedFiles = new ConcurrentHashMap<>();
+
+    private final Set<File> uploadFolders = ConcurrentHashMap.newKeySet();
+
+    private ScheduledExecutorService sweeper;
+
+    UploadedFileStore() {
+    }
+
+    public static UploadedFileStore getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Track a file that has just been uploaded
+     *
+     * @param tenantId
+     *        the tenant the file is uploaded for, or null for the platform
+     * @param sessionId
+     *        the HTTP session the file is uploaded in, or null
+     */
+    public void add(final File file, final Long tenantId, final String sessionId) {
+        uploadedFiles.put(file.getAbsolutePath(), new UploadedFile(file, tenantId, sessionId, currentTimeMillis()));
+        if (file.getParentFile() != null) {
+            uploadFolders.add(file.getParentFile());
+        }
+    }
+
+    /**
+     * Delete an uploaded file once it has been consumed
+     */
+    public void release(final File file) {
+        if (file == null) {
+            return;
+        }
+        final String path = file.getAbsolutePath();
+        if (path != null) {
+            uploadedFiles.remove(path);
+        }
+        delete(file);
+    }
+
+    /**
+     * Delete the files uploaded in an HTTP session, when it ends
+     */
+    public void releaseSessionFiles(final String sessionId) {
+        for (final Iterator<UploadedFile> iterator = uploadedFiles.values().iterator(); iterator.hasNext();) {
+            final UploadedFile uploadedFile = iterator.next();
+            if (sessionId.equals(uploadedFile.sessionId)) {
+                iterator.remove();
+                delete(uploadedFile.file);
+            }
+        }
+    }
+
+    /**
+     * Delete the uploaded files older than a maximum age, whether they are tracked or left by a previous run
+     *
+     * @return the number of files deleted
+     */
+    public int sweep(final long maxAge) {
+        final long expirationDate = currentTimeMillis() - maxAge;
+        int deletedFiles = 0;
+        for (final Iterator<UploadedFile> iterator = uploadedFiles.values().iterator(); iterator.hasNext();) {
+            final UploadedFile uploadedFile = iterator.next();
+            if (uploadedFile.creationDate < expirationDate) {
+                iterator.remove();
+                if (delete(uploadedFile.file)) {
+                    deletedFiles++;
+                }
+            }
+        }
+        for (final File uploadFolder : uploadFolders) {
+            final File[] orphans = uploadFolder.listFiles((folder, name) -> name.startsWith(UPLOADED_FILE_PREFIX));
+            if (orphans != null) {
+                for (final File orphan : orphans) {
+                    if (orphan.isFile() && orphan.lastModified() < expirationDate && !uploadedFiles.containsKey(orphan.getAbsolutePath())
+                            && delete(orphan)) {
+                        deletedFiles++;
+                    }
+                }
+            }
+        }
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.log(Level.FINE, deletedFiles + " uploaded files deleted. " + getFileCount() + " uploaded files (" + getDiskUsage()
+                    + " bytes) remaining");
+        }
+        return deletedFiles;
+    }
+
+    /**
+     * Start sweeping the uploaded files periodically in the background
+     *
+     * @param maxAge
+     *        age in milliseconds above which an uploaded file is deleted
+     * @param period
+     *        time in milliseconds between two sweeps
+     */
+    public synchronized void startSweeper(final long maxAge, final long period) {
+        if (sweeper != null) {
+            return;
+        }
+        sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "bonita-uploaded-files-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sweeper.scheduleWithFixedDelay(() -> {
+            try {
+                sweep(maxAge);
+            } catch (final RuntimeException e) {
+                LOGGER.log(Level.WARNING, "Unable to delete the expired uploaded files", e);
+            }
+        }, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void stopSweeper() {
+        if (sweeper != null) {
+            sweeper.shutdownNow();
+            sweeper = null;
+        }
+    }
+
+    /**
+     * @return the number of uploaded files not consumed yet
+     */
+    public int getFileCount() {
+        return uploadedFiles.size();
+    }
+
+    /**
+     * @return the number of uploaded files of a tenant not consumed yet
+     */
+    public int getFileCount(final long tenantId) {
+        int fileCount = 0;
+        for (final UploadedFile uploadedFile : uploadedFiles.values()) {
+            if (uploadedFile.tenantId != null && uploadedFile.tenantId == tenantId) {
+                fileCount++;
+            }
+        }
+        return fileCount;
+    }
+
+    /**
+     * @return the size in bytes of the uploaded files not consumed yet
+     */
+    public long getDiskUsage() {
+        long diskUsage = 0;
+        for (final UploadedFile uploadedFile : uploadedFiles.values()) {
+            diskUsage += uploadedFile.file.length();
+        }
+        return diskUsage;
+    }
+
+    private boolean delete(final File file) {
+        if (file.delete() || !file.exists()) {
+            return true;
+        }
+        if (LOGGER.isLoggable(Level.INFO)) {
+            LOGGER.log(Level.INFO, "Cannot delete the uploaded file " + file.getPath());
+        }
+        return false;
+    }
+
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    private static class UploadedFile {
+
+        private final File file;
+
+        private final Long tenantId;
+
+        private final String sessionId;
+
+        private final long creationDate;
+
+        private UploadedFile(final File file, final Long tenantId, final String sessionId, final long creationDate) {
+            this.file = file;
+            this.tenantId = tenantId;
+            this.sessionId = sessionId;
+            this.creationDate = creationDate;
+        }
+    }
+}
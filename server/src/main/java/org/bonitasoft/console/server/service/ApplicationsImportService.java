@@ -19,6 +19,7 @@ import static org.bonitasoft.web.toolkit.client.common.i18n.AbstractI18n.t_;
 import java.util.List;
 import java.util.logging.Logger;
 
+import org.bonitasoft.console.common.server.servlet.IconCache;
 import org.bonitasoft.engine.api.ApplicationAPI;
 import org.bonitasoft.engine.api.ImportStatus;
 import org.bonitasoft.engine.api.TenantAPIAccessor;
@@ -30,6 +31,7 @@ import org.bonitasoft.engine.exception.ImportException;
 import org.bonitasoft.engine.exception.ServerAPIException;
 import org.bonitasoft.engine.exception.UnknownAPITypeException;
 import org.bonitasoft.engine.session.InvalidSessionException;
+import org.bonitasoft.livingapps.ApplicationModelCache;
 import org.bonitasoft.web.common.model.ImportStatusMessages;
 import org.bonitasoft.web.toolkit.client.common.i18n.AbstractI18n;
 import org.bonitasoft.web.toolkit.client.common.texttemplate.Arg;
@@ -69,6 +71,8 @@ public class ApplicationsImportService extends BonitaImportService {
     public ImportStatusMessages importFileContent(final byte[] fileContent, final String importPolicyAsString) throws ExecutionException, ImportException, AlreadyExistsException, InvalidSessionException, BonitaHomeNotSetException, ServerAPIException, UnknownAPITypeException {
         final ApplicationImportPolicy importPolicy = ApplicationImportPolicy.valueOf(importPolicyAsString);
         final List<ImportStatus> ImportStatusList = getApplicationAPI().importApplications(fileContent, importPolicy);
+        ApplicationModelCache.invalidate(getTenantId());
+        IconCache.getInstance().invalidate(getTenantId(), IconCache.APPLICATION_ICONS);
         return new ImportStatusMessages(ImportStatusList);
     }
 
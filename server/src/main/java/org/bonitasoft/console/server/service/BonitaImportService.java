@@ -25,6 +25,7 @@ import java.util.logging.Logger;
 
 import org.apache.commons.io.IOUtils;
 import org.bonitasoft.console.common.server.utils.BonitaHomeFolderAccessor;
+import org.bonitasoft.console.common.server.utils.UploadedFileStore;
 import org.bonitasoft.engine.exception.AlreadyExistsException;
 import org.bonitasoft.engine.exception.BonitaHomeNotSetException;
 import org.bonitasoft.engine.exception.ExecutionException;
@@ -65,6 +66,7 @@ abstract class BonitaImportService extends ConsoleService {
         try {
             final JacksonSerializer serializer = new JacksonSerializer();
             final ImportStatusMessages importStatusMessages = importFileContent(readImportFile(xmlFile), importPolicyAsString);
+            UploadedFileStore.getInstance().release(xmlFile);
             return serializer.serialize(importStatusMessages);
         } catch (final InvalidSessionException e) {
             if (getLogger().isLoggable(Level.INFO)) {
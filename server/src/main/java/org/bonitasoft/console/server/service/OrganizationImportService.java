@@ -18,6 +18,7 @@ package org.bonitasoft.console.server.service;
 
 import static org.bonitasoft.web.toolkit.client.common.i18n.AbstractI18n.t_;
 
+import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -27,7 +28,11 @@ import java.util.logging.Logger;
 import javax.servlet.http.HttpServletResponse;
 
 import org.apache.commons.io.IOUtils;
+import org.bonitasoft.console.common.server.login.filter.PermissionDecisionCache;
+import org.bonitasoft.console.common.server.servlet.IconCache;
 import org.bonitasoft.console.common.server.utils.BonitaHomeFolderAccessor;
+import org.bonitasoft.console.common.server.utils.ProfileMembershipCache;
+import org.bonitasoft.console.common.server.utils.UploadedFileStore;
 import org.bonitasoft.engine.api.IdentityAPI;
 import org.bonitasoft.engine.api.TenantAPIAccessor;
 import org.bonitasoft.engine.exception.BonitaHomeNotSetException;
@@ -67,6 +72,10 @@ public class OrganizationImportService extends ConsoleService {
         try {
             final byte[] organizationContent = getOrganizationContent(tenantFolder);
             getIdentityAPI().importOrganizationWithWarnings(new String(organizationContent), getImportPolicy());
+            // profiles may be mapped to the imported users, groups and roles
+            ProfileMembershipCache.getInstance().invalidate(getTenantId());
+            PermissionDecisionCache.invalidate(getTenantId());
+            IconCache.getInstance().invalidate(getTenantId(), IconCache.ORGANIZATION_ICONS);
         } catch (final InvalidSessionException e) {
             getHttpResponse().setStatus(HttpServletResponse.SC_UNAUTHORIZED);
             String message = AbstractI18n.t_("Session expired. Please log in again.");
@@ -100,9 +109,13 @@ public class OrganizationImportService extends ConsoleService {
     }
 
     public byte[] getOrganizationContent(final BonitaHomeFolderAccessor tenantFolder) throws IOException {
-        try (InputStream xmlStream = new FileInputStream(tenantFolder.getTempFile(getFileUploadParameter(), getTenantId()))) {
-            return IOUtils.toByteArray(xmlStream);
+        final File xmlFile = tenantFolder.getTempFile(getFileUploadParameter(), getTenantId());
+        final byte[] content;
+        try (InputStream xmlStream = new FileInputStream(xmlFile)) {
+            content = IOUtils.toByteArray(xmlStream);
         }
+        UploadedFileStore.getInstance().release(xmlFile);
+        return content;
     }
 
 
@@ -22,6 +22,7 @@ import java.io.InputStream;
 
 import org.apache.commons.io.IOUtils;
 import org.bonitasoft.console.common.server.utils.BonitaHomeFolderAccessor;
+import org.bonitasoft.console.common.server.utils.UploadedFileStore;
 import org.bonitasoft.engine.api.ProcessAPI;
 import org.bonitasoft.engine.api.TenantAPIAccessor;
 import org.bonitasoft.engine.session.APISession;
@@ -54,6 +55,7 @@ public class ProcessActorImportService extends ConsoleService {
                 final byte[] actorsXmlContent = IOUtils.toByteArray(xmlStream);
                 processAPI.importActorMapping(Long.valueOf(getParameter("process_id")), actorsXmlContent);
             }
+            UploadedFileStore.getInstance().release(xmlFile);
 
         } catch (final InvalidSessionException e) {
             throw new APISessionInvalidException(e);
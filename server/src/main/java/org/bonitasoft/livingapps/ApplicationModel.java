@@ -1,5 +1,6 @@
 package org.bonitasoft.livingapps;
 
+import org.bonitasoft.console.common.server.utils.ProfileMembershipCache;
 import org.bonitasoft.engine.api.ApplicationAPI;
 import org.bonitasoft.engine.api.PageAPI;
 import org.bonitasoft.engine.api.ProfileAPI;
@@ -10,14 +11,13 @@ import org.bonitasoft.engine.business.application.ApplicationVisibility;
 import org.bonitasoft.engine.exception.SearchException;
 import org.bonitasoft.engine.page.Page;
 import org.bonitasoft.engine.page.PageNotFoundException;
-import org.bonitasoft.engine.profile.Profile;
-import org.bonitasoft.engine.profile.ProfileCriterion;
 import org.bonitasoft.engine.search.Order;
 import org.bonitasoft.engine.search.SearchOptionsBuilder;
 import org.bonitasoft.engine.session.APISession;
 import org.bonitasoft.livingapps.menu.Menu;
 import org.bonitasoft.livingapps.menu.MenuFactory;
 
+import java.util.Collections;
 import java.util.List;
 
 public class ApplicationModel {
@@ -26,6 +26,7 @@ public class ApplicationModel {
     private final ApplicationAPI applicationApi;
     private final PageAPI pageApi;
     private final Application application;
+    private final CachedApplication cachedApplication;
     private final MenuFactory factory;
 
     public ApplicationModel(
@@ -34,10 +35,25 @@ public class ApplicationModel {
             final ProfileAPI profileApi,
             final Application application,
             final MenuFactory factory) {
+        this(applicationApi, pageApi, profileApi, new CachedApplication(application), factory);
+    }
+
+    /**
+     * @param cachedApplication
+     *        the application and its pages and menus, shared with the other models of the application while it is kept
+     *        in the {@link ApplicationModelCache}
+     */
+    ApplicationModel(
+            final ApplicationAPI applicationApi,
+            final PageAPI pageApi,
+            final ProfileAPI profileApi,
+            final CachedApplication cachedApplication,
+            final MenuFactory factory) {
         this.applicationApi = applicationApi;
         this.pageApi = pageApi;
         this.profileApi = profileApi;
-        this.application = application;
+        this.application = cachedApplication.getApplication();
+        this.cachedApplication = cachedApplication;
         this.factory = factory;
     }
 
@@ -46,43 +62,71 @@ public class ApplicationModel {
     }
 
     public String getApplicationLayoutName() throws PageNotFoundException {
-        return pageApi.getPage(application.getLayoutId()).getName();
+        return getLayout().getName();
     }
 
     public String getApplicationThemeName() throws PageNotFoundException {
-        return pageApi.getPage(application.getThemeId()).getName();
+        return getTheme().getName();
     }
 
     public Long getApplicationThemeId() throws PageNotFoundException {
-        return pageApi.getPage(application.getThemeId()).getId();
+        return getTheme().getId();
+    }
+
+    private Page getLayout() throws PageNotFoundException {
+        Page layout = cachedApplication.getLayout();
+        if (layout == null) {
+            layout = pageApi.getPage(application.getLayoutId());
+            cachedApplication.setLayout(layout);
+        }
+        return layout;
+    }
+
+    private Page getTheme() throws PageNotFoundException {
+        Page theme = cachedApplication.getTheme();
+        if (theme == null) {
+            theme = pageApi.getPage(application.getThemeId());
+            cachedApplication.setTheme(theme);
+        }
+        return theme;
     }
 
     public String getApplicationHomePage() throws ApplicationPageNotFoundException {
-        return applicationApi.getApplicationHomePage(application.getId()).getToken() + "/";
+        String homePageToken = cachedApplication.getHomePageToken();
+        if (homePageToken == null) {
+            homePageToken = applicationApi.getApplicationHomePage(application.getId()).getToken();
+            cachedApplication.setHomePageToken(homePageToken);
+        }
+        return homePageToken + "/";
     }
 
     public boolean hasPage(final String pageToken) {
         try {
-            applicationApi.getApplicationPage(application.getToken(), pageToken);
+            getPageId(pageToken);
             return true;
         } catch (final ApplicationPageNotFoundException e) {
             return false;
         }
     }
 
+    private long getPageId(final String pageToken) throws ApplicationPageNotFoundException {
+        Long pageId = cachedApplication.getPageId(pageToken);
+        if (pageId == null) {
+            pageId = applicationApi.getApplicationPage(application.getToken(), pageToken).getPageId();
+            cachedApplication.setPageId(pageToken, pageId);
+        }
+        return pageId;
+    }
+
     public boolean authorize(final APISession session) {
         if (ApplicationVisibility.ALL.equals(application.getVisibility())) {
             return true;
         } else if (ApplicationVisibility.TECHNICAL_USER.equals(application.getVisibility())) {
             return session.isTechnicalUser();
         } else {
-            for (final Profile userProfile : getUserProfiles(session)) {
-                if (userProfile.getId() == application.getProfileId()) {
-                    return true;
-                }
-            }
+            return application.getProfileId() != null
+                    && ProfileMembershipCache.getInstance().get(session, profileApi).isMember(application.getProfileId());
         }
-        return false;
     }
 
     public boolean hasProfileMapped() {
@@ -92,22 +136,19 @@ public class ApplicationModel {
         return true;
     }
 
-    private List<Profile> getUserProfiles(final APISession session) {
-        return profileApi.getProfilesForUser(
-                session.getUserId(),
-                0,
-                Integer.MAX_VALUE,
-                ProfileCriterion.ID_ASC);
-    }
-
     public Page getCustomPage(final String pageToken) throws ApplicationPageNotFoundException, PageNotFoundException {
-        return pageApi.getPage(applicationApi.getApplicationPage(application.getToken(), pageToken).getPageId());
+        return pageApi.getPage(getPageId(pageToken));
     }
 
     public List<Menu> getMenuList() throws SearchException, ApplicationPageNotFoundException {
-        return factory.create(applicationApi.searchApplicationMenus(new SearchOptionsBuilder(0, Integer.MAX_VALUE)
-        .filter(ApplicationMenuSearchDescriptor.APPLICATION_ID, application.getId())
-        .sort(ApplicationMenuSearchDescriptor.INDEX, Order.ASC).done())
-        .getResult());
+        List<Menu> menus = cachedApplication.getMenus();
+        if (menus == null) {
+            menus = Collections.unmodifiableList(factory.create(applicationApi.searchApplicationMenus(new SearchOptionsBuilder(0, Integer.MAX_VALUE)
+            .filter(ApplicationMenuSearchDescriptor.APPLICATION_ID, application.getId())
+            .sort(ApplicationMenuSearchDescriptor.INDEX, Order.ASC).done())
+            .getResult()));
+            cachedApplication.setMenus(menus);
+        }
+        return menus;
     }
 }
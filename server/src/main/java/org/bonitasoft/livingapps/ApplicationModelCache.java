@@ -0,0 +1,127 @@
+/**
+ * Copyright (C) 2022 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.livingapps;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.bonitasoft.engine.business.application.Application;
+
+/**
+ * Tenant scoped cache of the living applications resolved by the {@link ApplicationModelFactory}, by application token:
+ * the application, its layout and theme pages, its application pages and its menus.<br>
+ * The whole tenant cache is invalidated when applications, application pages, application menus or pages change through
+ * the REST API or the import services. Entries also expire after a time to live, for changes made by other means (e.g.
+ * on another node of a cluster).
+ */
+public class ApplicationModelCache {
+
+    public static final long DEFAULT_TIME_TO_LIVE = 60 * 1000L;
+
+    private static final Logger LOGGER = Logger.getLogger(ApplicationModelCache.class.getName());
+
+    private static final Map<Long, ApplicationModelCache> INSTANCES = new ConcurrentHashMap<>();
+
+    private final long timeToLive;
+
+    private final Map<String, Entry> applications = new ConcurrentHashMap<>();
+
+    private final AtomicLong generation = new AtomicLong();
+
+    public static ApplicationModelCache getInstance(final long tenantId) {
+        return INSTANCES.computeIfAbsent(tenantId, id -> new ApplicationModelCache(DEFAULT_TIME_TO_LIVE));
+    }
+
+    /**
+     * Drop all the applications cached for a tenant. To be called whenever applications, application pages,
+     * application menus or pages change.
+     */
+    public static void invalidate(final long tenantId) {
+        final ApplicationModelCache cache = INSTANCES.get(tenantId);
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    /**
+     * @param timeToLive
+     *        time during which an application is kept, in milliseconds
+     */
+    public ApplicationModelCache(final long timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    /**
+     * Get the cached data of an application, loading the application on a miss
+     *
+     * @param token
+     *        the token of the application
+     * @param loader
+     *        search the application by token
+     */
+    <E extends Exception> CachedApplication get(final String token, final Loader<E> loader) throws E {
+        final Entry entry = applications.get(token);
+        if (entry != null && entry.expirationDate > currentTimeMillis()) {
+            return entry.application;
+        }
+        final long loadGeneration = generation.get();
+        final CachedApplication application = new CachedApplication(loader.load(token));
+        // do not keep an application loaded before an invalidation
+        if (loadGeneration == generation.get()) {
+            applications.put(token, new Entry(application, currentTimeMillis() + timeToLive));
+        }
+        return application;
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        applications.clear();
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.log(Level.FINE, "Living applications cache invalidated");
+        }
+    }
+
+    public int size() {
+        return applications.size();
+    }
+
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    /**
+     * Search an application by token
+     */
+    @FunctionalInterface
+    interface Loader<E extends Exception> {
+
+        Application load(String token) throws E;
+    }
+
+    private static class Entry {
+
+        private final CachedApplication application;
+
+        private final long expirationDate;
+
+        private Entry(final CachedApplication application, final long expirationDate) {
+            this.application = application;
+            this.expirationDate = expirationDate;
+        }
+    }
+}
@@ -16,15 +16,40 @@ public class ApplicationModelFactory {
     private final ApplicationAPI applicationApi;
     private final PageAPI customPageApi;
     private final ProfileAPI profileApi;
+    private final ApplicationModelCache cache;
 
     public ApplicationModelFactory(final ApplicationAPI applicationApi, final PageAPI customPageApi, final ProfileAPI profileApi) {
+        this(applicationApi, customPageApi, profileApi, null);
+    }
+
+    /**
+     * @param cache
+     *        the cache of the tenant applications, or null to search the application each time a model is created
+     */
+    public ApplicationModelFactory(final ApplicationAPI applicationApi, final PageAPI customPageApi, final ProfileAPI profileApi,
+            final ApplicationModelCache cache) {
         this.applicationApi = applicationApi;
         this.customPageApi = customPageApi;
         this.profileApi = profileApi;
+        this.cache = cache;
     }
 
     public ApplicationModel createApplicationModel(final String name) throws CreationException {
+        final CachedApplication application;
+        if (cache == null) {
+            application = new CachedApplication(searchApplication(name));
+        } else {
+            application = cache.get(name, this::searchApplication);
+        }
+        return new ApplicationModel(
+                applicationApi,
+                customPageApi,
+                profileApi,
+                application,
+                new MenuFactory(applicationApi));
+    }
 
+    private Application searchApplication(final String name) throws CreationException {
         try {
             final SearchResult<Application> result = applicationApi.searchApplications(
                     new SearchOptionsBuilder(0, 1)
@@ -35,12 +60,7 @@ public class ApplicationModelFactory {
                 throw new CreationException("No application found with name " + name);
             }
 
-            return new ApplicationModel(
-                    applicationApi,
-                    customPageApi,
-                    profileApi,
-                    result.getResult().get(0),
-                    new MenuFactory(applicationApi));
+            return result.getResult().get(0);
         } catch (final SearchException e) {
             throw new CreationException("Error while searching for the application " + name, e);
         }
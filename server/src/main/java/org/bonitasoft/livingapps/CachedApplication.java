@@ -0,0 +1,94 @@
+/**
+ * Copyright (C) 2022 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.livingapps;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.bonitasoft.engine.business.application.Application;
+import org.bonitasoft.engine.page.Page;
+import org.bonitasoft.livingapps.menu.Menu;
+
+/**
+ * Engine data of a living application, resolved on first use and shared by the requests displaying the application
+ * while it is kept in the {@link ApplicationModelCache}.<br>
+ * Nothing in it depends on the user: authorizations are evaluated for each request by the {@link ApplicationModel}.
+ */
+class CachedApplication {
+
+    private final Application application;
+
+    private volatile Page layout;
+
+    private volatile Page theme;
+
+    private volatile String homePageToken;
+
+    private final Map<String, Long> pageIdsByToken = new ConcurrentHashMap<>();
+
+    private volatile List<Menu> menus;
+
+    CachedApplication(final Application application) {
+        this.application = application;
+    }
+
+    Application getApplication() {
+        return application;
+    }
+
+    Page getLayout() {
+        return layout;
+    }
+
+    void setLayout(final Page layout) {
+        this.layout = layout;
+    }
+
+    Page getTheme() {
+        return theme;
+    }
+
+    void setTheme(final Page theme) {
+        this.theme = theme;
+    }
+
+    String getHomePageToken() {
+        return homePageToken;
+    }
+
+    void setHomePageToken(final String homePageToken) {
+        this.homePageToken = homePageToken;
+    }
+
+    /**
+     * @return the id of the custom page of an application page, or null if it is not resolved yet
+     */
+    Long getPageId(final String pageToken) {
+        return pageIdsByToken.get(pageToken);
+    }
+
+    void setPageId(final String pageToken, final long pageId) {
+        pageIdsByToken.put(pageToken, pageId);
+    }
+
+    List<Menu> getMenus() {
+        return menus;
+    }
+
+    void setMenus(final List<Menu> menus) {
+        this.menus = menus;
+    }
+}
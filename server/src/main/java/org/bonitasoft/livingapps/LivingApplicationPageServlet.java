@@ -249,6 +249,7 @@ public class LivingApplicationPageServlet extends HttpServlet {
                 TenantAPIAccessor.getLivingApplicationAPI(apiSession), TenantAPIAccessor.getCustomPageAPI(apiSession), new ApplicationModelFactory(
                 TenantAPIAccessor.getLivingApplicationAPI(apiSession),
                 TenantAPIAccessor.getCustomPageAPI(apiSession),
-                TenantAPIAccessor.getProfileAPI(apiSession)));
+                TenantAPIAccessor.getProfileAPI(apiSession),
+                ApplicationModelCache.getInstance(apiSession.getTenantId())));
     }
 }
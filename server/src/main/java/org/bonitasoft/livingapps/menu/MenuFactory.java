@@ -1,12 +1,20 @@
 package org.bonitasoft.livingapps.menu;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.bonitasoft.engine.api.ApplicationAPI;
 import org.bonitasoft.engine.business.application.ApplicationMenu;
+import org.bonitasoft.engine.business.application.ApplicationPage;
 import org.bonitasoft.engine.business.application.ApplicationPageNotFoundException;
+import org.bonitasoft.engine.business.application.ApplicationPageSearchDescriptor;
 import org.bonitasoft.engine.exception.SearchException;
+import org.bonitasoft.engine.search.SearchOptionsBuilder;
 
 public class MenuFactory {
 
@@ -21,26 +29,83 @@ public class MenuFactory {
         this.applicationApi = applicationApi;
     }
 
+    /**
+     * Build the menu tree of an application in one pass over its menus, resolving the tokens of all the pages they link
+     * to with a single search
+     *
+     * @param menuList
+     *        the menus of the application, sorted by index
+     */
     public List<Menu> create(final List<ApplicationMenu> menuList) throws ApplicationPageNotFoundException, SearchException {
-        return collect(menuList, new RootMenuCollector());
+        final Collector rootCollector = new RootMenuCollector();
+        final List<ApplicationMenu> roots = new ArrayList<ApplicationMenu>();
+        final Map<Long, List<ApplicationMenu>> childrenByParentId = new HashMap<Long, List<ApplicationMenu>>();
+        for (final ApplicationMenu menu : menuList) {
+            if (rootCollector.isCollectible(menu)) {
+                roots.add(menu);
+            } else {
+                childrenByParentId.computeIfAbsent(menu.getParentId(), parentId -> new ArrayList<ApplicationMenu>()).add(menu);
+            }
+        }
+        final Set<Long> applicationPageIds = new LinkedHashSet<Long>();
+        collectApplicationPageIds(roots, childrenByParentId, applicationPageIds);
+        return create(roots, childrenByParentId, getApplicationPageTokens(applicationPageIds));
     }
 
-    private Menu create(final ApplicationMenu menu, final List<ApplicationMenu> menuList) throws ApplicationPageNotFoundException, SearchException {
-        if(menu.getApplicationPageId() == null) {
-            return new MenuContainer(menu,
-                    collect(menuList, new ChildrenMenuCollector(menu.getId())));
+    private void collectApplicationPageIds(final List<ApplicationMenu> menus, final Map<Long, List<ApplicationMenu>> childrenByParentId,
+            final Set<Long> applicationPageIds) {
+        for (final ApplicationMenu menu : menus) {
+            if (menu.getApplicationPageId() == null) {
+                collectApplicationPageIds(getChildren(menu, childrenByParentId), childrenByParentId, applicationPageIds);
+            } else {
+                applicationPageIds.add(menu.getApplicationPageId());
+            }
         }
-        return new MenuLink(menu, applicationApi.getApplicationPage(menu.getApplicationPageId()).getToken());
     }
 
-    private List<Menu> collect(final List<ApplicationMenu> items, final Collector collector)
-            throws ApplicationPageNotFoundException, SearchException {
-        final List<Menu> menuList = new ArrayList<Menu>();
-        for (final ApplicationMenu item : items) {
-            if(collector.isCollectible(item)) {
-                menuList.add(create(item, items));
+    private List<Menu> create(final List<ApplicationMenu> menus, final Map<Long, List<ApplicationMenu>> childrenByParentId,
+            final Map<Long, String> pageTokens) {
+        final List<Menu> menuList = new ArrayList<Menu>(menus.size());
+        for (final ApplicationMenu menu : menus) {
+            if (menu.getApplicationPageId() == null) {
+                menuList.add(new MenuContainer(menu, create(getChildren(menu, childrenByParentId), childrenByParentId, pageTokens)));
+            } else {
+                menuList.add(new MenuLink(menu, pageTokens.get(menu.getApplicationPageId())));
             }
         }
         return menuList;
     }
+
+    private List<ApplicationMenu> getChildren(final ApplicationMenu menu, final Map<Long, List<ApplicationMenu>> childrenByParentId) {
+        final List<ApplicationMenu> children = childrenByParentId.get(menu.getId());
+        return children != null ? children : Collections.<ApplicationMenu> emptyList();
+    }
+
+    private Map<Long, String> getApplicationPageTokens(final Set<Long> applicationPageIds) throws ApplicationPageNotFoundException, SearchException {
+        final Map<Long, String> pageTokens = new HashMap<Long, String>();
+        if (applicationPageIds.isEmpty()) {
+            return pageTokens;
+        }
+        final SearchOptionsBuilder builder = new SearchOptionsBuilder(0, applicationPageIds.size());
+        builder.leftParenthesis();
+        boolean first = true;
+        for (final Long applicationPageId : applicationPageIds) {
+            if (!first) {
+                builder.or();
+            }
+            builder.filter(ApplicationPageSearchDescriptor.ID, applicationPageId);
+            first = false;
+        }
+        builder.rightParenthesis();
+        for (final ApplicationPage applicationPage : applicationApi.searchApplicationPages(builder.done()).getResult()) {
+            pageTokens.put(applicationPage.getId(), applicationPage.getToken());
+        }
+        for (final Long applicationPageId : applicationPageIds) {
+            if (!pageTokens.containsKey(applicationPageId)) {
+                // raises the usual not found error
+                pageTokens.put(applicationPageId, applicationApi.getApplicationPage(applicationPageId).getToken());
+            }
+        }
+        return pageTokens;
+    }
 }
@@ -74,8 +74,8 @@ import org.bonitasoft.web.rest.server.datastore.application.ApplicationDataStore
 import org.bonitasoft.web.rest.server.datastore.applicationmenu.ApplicationMenuDataStoreCreator;
 import org.bonitasoft.web.rest.server.engineclient.CustomUserInfoEngineClientCreator;
 import org.bonitasoft.web.rest.server.framework.API;
+import org.bonitasoft.web.rest.server.framework.APIRegistry;
 import org.bonitasoft.web.rest.server.framework.RestAPIFactory;
-import org.bonitasoft.web.toolkit.client.common.exception.api.APINotFoundException;
 import org.bonitasoft.web.toolkit.client.data.item.IItem;
 
 /**
@@ -84,156 +84,103 @@ import org.bonitasoft.web.toolkit.client.data.item.IItem;
 public class BonitaRestAPIFactory extends RestAPIFactory {
 	
     private static Logger LOGGER = Logger.getLogger(BonitaRestAPIFactory.class.getName());
-	
+
+    private final APIRegistry registry = new APIRegistry();
+
+    public BonitaRestAPIFactory() {
+        registerApis(registry);
+    }
+
+    /**
+     * Register the APIs served by this factory. Override it to serve additional APIs.
+     */
+    protected void registerApis(final APIRegistry registry) {
+        registry.register("identity", "user", APIUser::new)
+                .register("identity", "role", APIRole::new)
+                .register("identity", "group", APIGroup::new)
+                .register("identity", "membership", APIMembership::new)
+                .register("identity", "professionalcontactdata", APIProfessionalContactData::new)
+                .register("identity", "personalcontactdata", APIPersonalContactData::new);
+
+        registry.register("customuserinfo", "definition", () -> new APICustomUserInfoDefinition(new CustomUserInfoEngineClientCreator()))
+                .register("customuserinfo", "user", () -> new APICustomUserInfoUser(new CustomUserInfoEngineClientCreator()))
+                .register("customuserinfo", "value", () -> new APICustomUserInfoValue(new CustomUserInfoEngineClientCreator()));
+
+        registry.register("system", "i18nlocale", APII18nLocale::new)
+                .register("system", "session", APISession::new)
+                .register("system", "tenant", APITenantAdmin::new);
+
+        // FIXME : userXP deprecated    (BS-500)
+        //    - replaced by 'portal'
+        //    - Do not add any API here
+        //    - userXP section must be deleted in 6.4.0 version
+        //    - duplication not removed because userXp must stay like this
+        registry.register("userXP", "profile", () -> {
+            LOGGER.warning("Deprecated API path, please use /API/portal/profile instead");
+            return new APIProfile();
+        }).register("userXP", "profileEntry", () -> {
+            LOGGER.warning("Deprecated API path, please use /API/portal/profileEntry instead");
+            return new APIProfileEntry();
+        }).register("userXP", "profileMember", () -> {
+            LOGGER.warning("Deprecated API path, please use /API/portal/profileMember instead");
+            return new APIProfileMember();
+        }).register("userXP", "bonitaPage", APIBonitaPage::new);
+        // --------------------------------------------------------
+
+        registry.register("portal", "profile", APIProfile::new)
+                .register("portal", "profileEntry", APIProfileEntry::new)
+                .register("portal", "profileMember", APIProfileMember::new)
+                .register("portal", "bonitaPage", APIBonitaPage::new)
+                .register("portal", "page", APIPage::new);
+
+        registry.register("bpm", "humanTask", APIHumanTask::new)
+                .register("bpm", "userTask", APIUserTask::new)
+                .register("bpm", "archivedHumanTask", APIArchivedHumanTask::new)
+                .register("bpm", "archivedUserTask", APIArchivedUserTask::new)
+                .register("bpm", "process", APIProcess::new)
+                .register("bpm", "category", APICategory::new)
+                .register("bpm", "processCategory", APIProcessCategory::new)
+                .register("bpm", "processConnector", APIProcessConnector::new)
+                .register("bpm", "case", APICase::new)
+                .register("bpm", "archivedCase", APIArchivedCase::new)
+                .register("bpm", "comment", APIComment::new)
+                .register("bpm", "archivedComment", APIArchivedComment::new)
+                .register("bpm", "document", APIDocument::new)
+                .register("bpm", "archiveddocument", APIArchivedDocument::new)
+                .register("bpm", "actor", APIActor::new)
+                .register("bpm", "actorMember", APIActorMember::new)
+                .register("bpm", "delegation", APIActorMember::new)
+                .register("bpm", "activity", APIActivity::new)
+                .register("bpm", "archivedActivity", APIArchivedActivity::new)
+                .register("bpm", "task", APITask::new)
+                .register("bpm", "archivedTask", APIArchivedTask::new)
+                .register("bpm", "flowNode", APIFlowNode::new)
+                .register("bpm", "archivedFlowNode", APIArchivedFlowNode::new)
+                .register("bpm", "processResolutionProblem", APIProcessResolutionProblem::new)
+                .register("bpm", "caseDocument", APICaseDocument::new)
+                .register("bpm", "archivedCaseDocument", APIArchivedCaseDocument::new)
+                .register("bpm", "connectorInstance", APIConnectorInstance::new)
+                .register("bpm", "archivedConnectorInstance", APIArchivedConnectorInstance::new)
+                .register("bpm", "processConnectorDependency", APIProcessConnectorDependency::new)
+                .register("bpm", "caseVariable", APICaseVariable::new)
+                .register("bpm", "processParameter", APIProcessParameter::new);
+
+        registry.register("living", "application", () -> new APIApplication(new ApplicationDataStoreCreator(), new APIApplicationDataStoreFactory()))
+                .register("living", "application-page", () -> new APIApplicationPage(new APIApplicationDataStoreFactory()))
+                .register("living", "application-menu", () -> new APIApplicationMenu(new ApplicationMenuDataStoreCreator()));
+
+        registry.register("platform", "platform", APIPlatform::new);
+    }
+
+    /**
+     * @return the registry of the APIs served by this factory, to list them or register additional ones
+     */
+    public APIRegistry getRegistry() {
+        return registry;
+    }
+
     @Override
     public API<? extends IItem> defineApis(final String apiToken, final String resourceToken) {
-    	
-        if ("identity".equals(apiToken)) {
-            if ("user".equals(resourceToken)) {
-                return new APIUser();
-            } else if ("role".equals(resourceToken)) {
-                return new APIRole();
-            } else if ("group".equals(resourceToken)) {
-                return new APIGroup();
-            } else if ("membership".equals(resourceToken)) {
-                return new APIMembership();
-            } else if ("professionalcontactdata".equals(resourceToken)) {
-                return new APIProfessionalContactData();
-            } else if ("personalcontactdata".equals(resourceToken)) {
-                return new APIPersonalContactData();
-            }
-        } else if("customuserinfo".equals(apiToken)) {
-            if("definition".equals(resourceToken)) {
-                return new APICustomUserInfoDefinition(new CustomUserInfoEngineClientCreator());
-            } else if("user".equals(resourceToken)) {
-                return new APICustomUserInfoUser(new CustomUserInfoEngineClientCreator());
-            } else if("value".equals(resourceToken)) {
-                return new APICustomUserInfoValue(new CustomUserInfoEngineClientCreator());
-            }
-        } else if ("system".equals(apiToken)) {
-            if ("i18nlocale".equals(resourceToken)) {
-                return new APII18nLocale();
-            } else if ("session".equals(resourceToken)) {
-                return new APISession();
-            } else if ("tenant".equals(resourceToken)) {
-                return new APITenantAdmin();
-            }
-            
-            // FIXME : userXP deprecated    (BS-500)
-            //    - replaced by 'portal'
-            //    - Do not add any API here
-            //    - userXP section must be deleted in 6.4.0 version
-            //    - duplication not removed because userXp must stay like this
-        } else if ("userXP".equals(apiToken)) {
-            if ("profile".equals(resourceToken)) {
-                LOGGER.warning("Deprecated API path, please use /API/portal/profile instead");
-                return new APIProfile();
-            } else if ("profileEntry".equals(resourceToken)) {
-                LOGGER.warning("Deprecated API path, please use /API/portal/profileEntry instead");
-                return new APIProfileEntry();
-            } else if ("profileMember".equals(resourceToken)) {
-                LOGGER.warning("Deprecated API path, please use /API/portal/profileMember instead");
-                return new APIProfileMember();
-            } else if ("bonitaPage".equals(resourceToken)) {
-                return new APIBonitaPage();
-            }
-            // --------------------------------------------------------
-            
-        } else if ("portal".equals(apiToken)) {
-            if ("profile".equals(resourceToken)) {
-                return new APIProfile();
-            } else if ("profileEntry".equals(resourceToken)) {
-                return new APIProfileEntry();
-            } else if ("profileMember".equals(resourceToken)) {
-                return new APIProfileMember();
-            } else if ("bonitaPage".equals(resourceToken)) {
-                return new APIBonitaPage();
-            } else if ("page".equals(resourceToken)) {
-                return new APIPage();
-            }
-        	
-        } else if ("bpm".equals(apiToken)) {
-            if ("humanTask".equals(resourceToken)) {
-                return new APIHumanTask();
-            } else if ("userTask".equals(resourceToken)) {
-                return new APIUserTask();
-            } else if ("archivedHumanTask".equals(resourceToken)) {
-                return new APIArchivedHumanTask();
-            } else if ("archivedUserTask".equals(resourceToken)) {
-                return new APIArchivedUserTask();
-            } else if ("process".equals(resourceToken)) {
-                return new APIProcess();
-            } else if ("category".equals(resourceToken)) {
-                return new APICategory();
-            } else if ("processCategory".equals(resourceToken)) {
-                return new APIProcessCategory();
-            } else if ("processConnector".equals(resourceToken)) {
-                return new APIProcessConnector();
-            } else if ("case".equals(resourceToken)) {
-                return new APICase();
-            } else if ("archivedCase".equals(resourceToken)) {
-                return new APIArchivedCase();
-            } else if ("comment".equals(resourceToken)) {
-                return new APIComment();
-            } else if ("archivedComment".equals(resourceToken)) {
-                return new APIArchivedComment();
-            } else if ("document".equals(resourceToken)) {
-                return new APIDocument();
-            } else if ("archiveddocument".equals(resourceToken)) {
-                return new APIArchivedDocument();
-            } else if ("actor".equals(resourceToken)) {
-                return new APIActor();
-            } else if ("actorMember".equals(resourceToken)) {
-                return new APIActorMember();
-            } else if ("delegation".equals(resourceToken)) {
-                return new APIActorMember();
-            } else if ("activity".equals(resourceToken)) {
-                return new APIActivity();
-            } else if ("archivedActivity".equals(resourceToken)) {
-                return new APIArchivedActivity();
-            } else if ("task".equals(resourceToken)) {
-                return new APITask();
-            } else if ("archivedTask".equals(resourceToken)) {
-                return new APIArchivedTask();
-            } else if ("flowNode".equals(resourceToken)) {
-                return new APIFlowNode();
-            } else if ("archivedFlowNode".equals(resourceToken)) {
-                return new APIArchivedFlowNode();
-            } else if ("processResolutionProblem".equals(resourceToken)) {
-                return new APIProcessResolutionProblem();
-            } else if ("caseDocument".equals(resourceToken)) {
-                return new APICaseDocument();
-            } else if ("archivedCaseDocument".equals(resourceToken)) {
-                return new APIArchivedCaseDocument();
-            } else if ("connectorInstance".equals(resourceToken)) {
-                return new APIConnectorInstance();
-            } else if ("archivedConnectorInstance".equals(resourceToken)) {
-                return new APIArchivedConnectorInstance();
-            } else if ("processConnectorDependency".equals(resourceToken)) {
-                return new APIProcessConnectorDependency();
-            } else if ("caseVariable".equals(resourceToken)) {
-                return new APICaseVariable();
-            } else if ("document".equals(resourceToken)) {
-                return new APIDocument();
-            } else if ("archiveddocument".equals(resourceToken)) {
-                return new APIArchivedDocument();
-            } else if ("processParameter".equals(resourceToken)) {
-                return new APIProcessParameter();
-           }
-        } else if ("living".equals(apiToken)) {
-            if ("application".equals(resourceToken)) {
-                return new APIApplication(new ApplicationDataStoreCreator(), new APIApplicationDataStoreFactory());
-            } else if ("application-page".equals(resourceToken)) {
-                return new APIApplicationPage(new APIApplicationDataStoreFactory());
-            } else if ("application-menu".equals(resourceToken)) {
-                return new APIApplicationMenu(new ApplicationMenuDataStoreCreator());
-            }
-
-        } else if ("platform".equals(apiToken)) {
-            if ("platform".equals(resourceToken)) {
-                return new APIPlatform();
-            }
-        } 
-        throw new APINotFoundException(apiToken, resourceToken);
+        return registry.get(apiToken, resourceToken);
     }
 }
@@ -29,6 +29,8 @@ import org.bonitasoft.engine.session.InvalidSessionException;
 import org.bonitasoft.web.rest.model.ModelFactory;
 import org.bonitasoft.web.rest.server.datastore.bpm.flownode.FlowNodeConverter;
 import org.bonitasoft.web.rest.server.framework.RestAPIFactory;
+import org.bonitasoft.web.rest.server.framework.exception.APIBodyTooLargeException;
+import org.bonitasoft.web.rest.server.framework.exception.APIMalformedBodyException;
 import org.bonitasoft.web.rest.server.framework.servlet.APIServlet;
 import org.bonitasoft.web.toolkit.client.ItemDefinitionFactory;
 import org.bonitasoft.web.toolkit.client.common.exception.api.APIException;
@@ -75,6 +77,16 @@ public class BonitaRestAPIServlet extends APIServlet {
             SessionUtil.sessionLogout(requestAccessor.getHttpSession());
         } else if (exception.getCause() instanceof NotFoundException) {
             outputException(null, req, resp, HttpServletResponse.SC_NOT_FOUND);
+        } else if (exception instanceof APIMalformedBodyException) {
+            if (LOGGER.isLoggable(Level.FINE)) {
+                LOGGER.log(Level.FINE, exception.getMessage(), exception);
+            }
+            outputException(exception, req, resp, HttpServletResponse.SC_BAD_REQUEST);
+        } else if (exception instanceof APIBodyTooLargeException) {
+            if (LOGGER.isLoggable(Level.FINE)) {
+                LOGGER.log(Level.FINE, exception.getMessage(), exception);
+            }
+            outputException(exception, req, resp, HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
         } else {
             super.catchAllExceptions(exception, req, resp);
         }
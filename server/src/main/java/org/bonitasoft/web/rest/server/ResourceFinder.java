@@ -15,6 +15,7 @@ import org.bonitasoft.engine.api.ProcessAPI;
 import org.bonitasoft.engine.api.TenantAPIAccessor;
 import org.bonitasoft.engine.api.TenantAdministrationAPI;
 import org.bonitasoft.engine.session.APISession;
+import org.bonitasoft.web.rest.server.engineclient.EngineAPICache;
 import org.bonitasoft.web.toolkit.client.common.exception.api.APIException;
 import org.restlet.Request;
 import org.restlet.ext.servlet.ServletUtils;
@@ -36,7 +37,7 @@ public abstract class ResourceFinder extends Finder {
     protected CommandAPI getCommandAPI(final Request request) {
         final APISession apiSession = getAPISession(request);
         try {
-            return TenantAPIAccessor.getCommandAPI(apiSession);
+            return EngineAPICache.getInstance().get(apiSession, CommandAPI.class, TenantAPIAccessor::getCommandAPI);
         } catch (final Exception e) {
             throw new APIException(e);
         }
@@ -45,7 +46,7 @@ public abstract class ResourceFinder extends Finder {
     protected ProcessAPI getProcessAPI(final Request request) {
         final APISession apiSession = getAPISession(request);
         try {
-            return TenantAPIAccessor.getProcessAPI(apiSession);
+            return EngineAPICache.getInstance().get(apiSession, ProcessAPI.class, TenantAPIAccessor::getProcessAPI);
         } catch (final Exception e) {
             throw new APIException(e);
         }
@@ -54,7 +55,7 @@ public abstract class ResourceFinder extends Finder {
     protected BusinessDataAPI getBdmAPI(final Request request) {
         final APISession apiSession = getAPISession(request);
         try {
-            return TenantAPIAccessor.getBusinessDataAPI(apiSession);
+            return EngineAPICache.getInstance().get(apiSession, BusinessDataAPI.class, TenantAPIAccessor::getBusinessDataAPI);
         } catch (final Exception e) {
             throw new APIException(e);
         }
@@ -63,7 +64,7 @@ public abstract class ResourceFinder extends Finder {
     protected TenantAdministrationAPI getTenantAdministrationAPI(final Request request) {
         final APISession apiSession = getAPISession(request);
         try {
-            return TenantAPIAccessor.getTenantAdministrationAPI(apiSession);
+            return EngineAPICache.getInstance().get(apiSession, TenantAdministrationAPI.class, TenantAPIAccessor::getTenantAdministrationAPI);
         } catch (final Exception e) {
             throw new APIException(e);
         }
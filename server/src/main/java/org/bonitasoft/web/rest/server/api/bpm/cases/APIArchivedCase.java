@@ -16,6 +16,7 @@
  */
 package org.bonitasoft.web.rest.server.api.bpm.cases;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -25,6 +26,7 @@ import org.bonitasoft.web.rest.server.api.ConsoleAPI;
 import org.bonitasoft.web.rest.server.datastore.bpm.cases.ArchivedCaseDatastore;
 import org.bonitasoft.web.rest.server.datastore.bpm.process.ProcessDatastore;
 import org.bonitasoft.web.rest.server.datastore.organization.UserDatastore;
+import org.bonitasoft.web.rest.server.framework.DeployBatch;
 import org.bonitasoft.web.rest.server.framework.api.APIHasDelete;
 import org.bonitasoft.web.rest.server.framework.api.APIHasGet;
 import org.bonitasoft.web.rest.server.framework.api.APIHasSearch;
@@ -74,23 +76,17 @@ public class APIArchivedCase extends ConsoleAPI<ArchivedCaseItem> implements API
 
     @Override
     protected void fillDeploys(final ArchivedCaseItem item, final List<String> deploys) {
-        if (isDeployable(ArchivedCaseItem.ATTRIBUTE_STARTED_BY_USER_ID, deploys, item)) {
-            item.setDeploy(
-                    ArchivedCaseItem.ATTRIBUTE_STARTED_BY_USER_ID,
-                    getUserDatastore().get(item.getStartedByUserId()));
-        }
-
-        if (isDeployable(ArchivedCaseItem.ATTRIBUTE_STARTED_BY_SUBSTITUTE_USER_ID, deploys, item)) {
-            item.setDeploy(
-                    ArchivedCaseItem.ATTRIBUTE_STARTED_BY_SUBSTITUTE_USER_ID,
-                    getUserDatastore().get(item.getStartedBySubstituteUserId()));
-        }
+        fillDeploys(Collections.singletonList(item), deploys);
+    }
 
-        if (isDeployable(ArchivedCaseItem.ATTRIBUTE_PROCESS_ID, deploys, item)) {
-            item.setDeploy(
-                    ArchivedCaseItem.ATTRIBUTE_PROCESS_ID,
-                    getProcessDatastore().get(item.getProcessId()));
-        }
+    @Override
+    protected void fillDeploys(final List<ArchivedCaseItem> items, final List<String> deploys) {
+        final UserDatastore userDatastore = getUserDatastore();
+        new DeployBatch<>(items, deploys)
+                .deploy(ArchivedCaseItem.ATTRIBUTE_STARTED_BY_USER_ID, userDatastore, ArchivedCaseItem::getStartedByUserId)
+                .deploy(ArchivedCaseItem.ATTRIBUTE_STARTED_BY_SUBSTITUTE_USER_ID, userDatastore, ArchivedCaseItem::getStartedBySubstituteUserId)
+                .deploy(ArchivedCaseItem.ATTRIBUTE_PROCESS_ID, getProcessDatastore(), ArchivedCaseItem::getProcessId)
+                .resolve();
     }
 
     /**
@@ -27,6 +27,7 @@ import org.bonitasoft.web.rest.model.bpm.cases.ArchivedCaseDocumentItem;
 import org.bonitasoft.web.rest.server.api.ConsoleAPI;
 import org.bonitasoft.web.rest.server.api.deployer.DeployerFactory;
 import org.bonitasoft.web.rest.server.datastore.bpm.cases.ArchivedCaseDocumentDatastore;
+import org.bonitasoft.web.rest.server.engineclient.EngineAPICache;
 import org.bonitasoft.web.rest.server.framework.search.ItemSearchResult;
 import org.bonitasoft.web.toolkit.client.common.exception.api.APIException;
 import org.bonitasoft.web.toolkit.client.data.APIID;
@@ -86,7 +87,7 @@ public class APIArchivedCaseDocument extends ConsoleAPI<ArchivedCaseDocumentItem
     protected ArchivedCaseDocumentDatastore getArchivedCaseDocumentDatastore() {
         ProcessAPI processAPI;
         try {
-            processAPI = TenantAPIAccessor.getProcessAPI(getEngineSession());
+            processAPI = EngineAPICache.getInstance().get(getEngineSession(), ProcessAPI.class, TenantAPIAccessor::getProcessAPI);
         } catch (final Exception e) {
             throw new APIException(e);
         }
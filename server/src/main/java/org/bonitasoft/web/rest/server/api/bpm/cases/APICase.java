@@ -14,6 +14,7 @@
  */
 package org.bonitasoft.web.rest.server.api.bpm.cases;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -27,6 +28,7 @@ import org.bonitasoft.web.rest.server.datastore.bpm.cases.CaseDatastore;
 import org.bonitasoft.web.rest.server.datastore.bpm.flownode.FlowNodeDatastore;
 import org.bonitasoft.web.rest.server.datastore.bpm.process.ProcessDatastore;
 import org.bonitasoft.web.rest.server.datastore.organization.UserDatastore;
+import org.bonitasoft.web.rest.server.framework.DeployBatch;
 import org.bonitasoft.web.rest.server.framework.api.APIHasAdd;
 import org.bonitasoft.web.rest.server.framework.api.APIHasDelete;
 import org.bonitasoft.web.rest.server.framework.api.APIHasGet;
@@ -77,33 +79,17 @@ public class APICase extends ConsoleAPI<CaseItem> implements APIHasGet<CaseItem>
 
     @Override
     protected void fillDeploys(final CaseItem item, final List<String> deploys) {
-        fillStartedBy(item, deploys);
-        fillStartedBySubstitute(item, deploys);
-        fillProcess(item, deploys);
+        fillDeploys(Collections.singletonList(item), deploys);
     }
 
-    private void fillStartedBy(final CaseItem item, final List<String> deploys) {
-        if (isDeployable(CaseItem.ATTRIBUTE_STARTED_BY_USER_ID, deploys, item)) {
-            item.setDeploy(
-                    CaseItem.ATTRIBUTE_STARTED_BY_USER_ID,
-                    getUserDatastore().get(item.getStartedByUserId()));
-        }
-    }
-
-    private void fillStartedBySubstitute(final CaseItem item, final List<String> deploys) {
-        if (isDeployable(CaseItem.ATTRIBUTE_STARTED_BY_SUBSTITUTE_USER_ID, deploys, item)) {
-            item.setDeploy(
-                    CaseItem.ATTRIBUTE_STARTED_BY_SUBSTITUTE_USER_ID,
-                    getUserDatastore().get(item.getStartedBySubstituteUserId()));
-        }
-    }
-
-    private void fillProcess(final CaseItem item, final List<String> deploys) {
-        if (isDeployable(CaseItem.ATTRIBUTE_PROCESS_ID, deploys, item)) {
-            item.setDeploy(
-                    CaseItem.ATTRIBUTE_PROCESS_ID,
-                    getProcessDatastore().get(item.getProcessId()));
-        }
+    @Override
+    protected void fillDeploys(final List<CaseItem> items, final List<String> deploys) {
+        final UserDatastore userDatastore = getUserDatastore();
+        new DeployBatch<>(items, deploys)
+                .deploy(CaseItem.ATTRIBUTE_STARTED_BY_USER_ID, userDatastore, CaseItem::getStartedByUserId)
+                .deploy(CaseItem.ATTRIBUTE_STARTED_BY_SUBSTITUTE_USER_ID, userDatastore, CaseItem::getStartedBySubstituteUserId)
+                .deploy(CaseItem.ATTRIBUTE_PROCESS_ID, getProcessDatastore(), CaseItem::getProcessId)
+                .resolve();
     }
 
     private void fillNumberOfFailedFlowNodesIfFailedCounterExists(final CaseItem item, final List<String> counters) {
@@ -28,6 +28,7 @@ import org.bonitasoft.web.rest.model.bpm.cases.CaseDocumentItem;
 import org.bonitasoft.web.rest.server.api.ConsoleAPI;
 import org.bonitasoft.web.rest.server.api.deployer.DeployerFactory;
 import org.bonitasoft.web.rest.server.datastore.bpm.cases.CaseDocumentDatastore;
+import org.bonitasoft.web.rest.server.engineclient.EngineAPICache;
 import org.bonitasoft.web.rest.server.framework.search.ItemSearchResult;
 import org.bonitasoft.web.toolkit.client.common.exception.api.APIException;
 import org.bonitasoft.web.toolkit.client.data.APIID;
@@ -97,7 +98,7 @@ public class APICaseDocument extends ConsoleAPI<CaseDocumentItem> {
     protected CaseDocumentDatastore getCaseDocumentDatastore() {
         ProcessAPI processAPI;
         try {
-            processAPI = TenantAPIAccessor.getProcessAPI(getEngineSession());
+            processAPI = EngineAPICache.getInstance().get(getEngineSession(), ProcessAPI.class, TenantAPIAccessor::getProcessAPI);
         } catch (final Exception e) {
             throw new APIException(e);
         }
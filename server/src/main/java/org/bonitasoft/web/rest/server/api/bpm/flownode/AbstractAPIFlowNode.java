@@ -16,8 +16,11 @@ package org.bonitasoft.web.rest.server.api.bpm.flownode;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.bonitasoft.engine.bpm.flownode.FlowNodeInstanceSearchDescriptor;
 import org.bonitasoft.web.rest.model.bpm.cases.ArchivedCaseItem;
@@ -34,6 +37,7 @@ import org.bonitasoft.web.rest.server.datastore.bpm.flownode.archive.ArchivedTas
 import org.bonitasoft.web.rest.server.datastore.bpm.process.ActorDatastore;
 import org.bonitasoft.web.rest.server.datastore.bpm.process.ProcessDatastore;
 import org.bonitasoft.web.rest.server.datastore.organization.UserDatastore;
+import org.bonitasoft.web.rest.server.framework.DeployBatch;
 import org.bonitasoft.web.rest.server.framework.api.APIHasGet;
 import org.bonitasoft.web.rest.server.framework.api.APIHasSearch;
 import org.bonitasoft.web.rest.server.framework.api.APIHasUpdate;
@@ -106,78 +110,114 @@ APIHasSearch<ITEM> {
 
     @Override
     protected void fillDeploys(final ITEM item, final List<String> deploys) {
+        fillDeploys(Collections.singletonList(item), deploys);
+    }
+
+    @Override
+    protected void fillDeploys(final List<ITEM> items, final List<String> deploys) {
         /** TODO Refactor to an oriented object (cf. WEB-1637 ) */
-        if (isDeployable(FlowNodeItem.ATTRIBUTE_PROCESS_ID, deploys, item)) {
-            item.setDeploy(FlowNodeItem.ATTRIBUTE_PROCESS_ID,
-                    new ProcessDatastore(getEngineSession()).get(item.getProcessId()));
-        }
+        final UserDatastore userDatastore = new UserDatastore(getEngineSession());
+        final ProcessDatastore processDatastore = new ProcessDatastore(getEngineSession());
+        new DeployBatch<>(items, deploys)
+                .deploy(FlowNodeItem.ATTRIBUTE_PROCESS_ID, processDatastore, IFlowNodeItem::getProcessId)
+                .deploy(FlowNodeItem.ATTRIBUTE_EXECUTED_BY_USER_ID, userDatastore, IFlowNodeItem::getExecutedByUserId)
+                .deploy(FlowNodeItem.ATTRIBUTE_EXECUTED_BY_SUBSTITUTE_USER_ID, userDatastore, IFlowNodeItem::getExecutedBySubstituteUserId)
+                .deploy(HumanTaskItem.ATTRIBUTE_ASSIGNED_USER_ID, userDatastore)
+                .resolve();
+
+        fillCaseDeploys(items, deploys, processDatastore);
 
-        if (isDeployable(FlowNodeItem.ATTRIBUTE_CASE_ID, deploys, item) || isDeployable(FlowNodeItem.ATTRIBUTE_ROOT_CASE_ID, deploys, item)) {
-            final CaseItem openedCaseItem = getCaseDatastore().get(item.getCaseId());
-            if ( openedCaseItem != null) {
-                item.setDeploy(FlowNodeItem.ATTRIBUTE_CASE_ID, openedCaseItem);
-                item.setDeploy(FlowNodeItem.ATTRIBUTE_ROOT_CASE_ID, openedCaseItem);
-            } else {
-                final ArchivedCaseItem archivedCaseItem = getArchivedCaseDatastore().getUsingSourceObjectId(item.getCaseId());
-                item.setDeploy(FlowNodeItem.ATTRIBUTE_CASE_ID, archivedCaseItem);
-                item.setDeploy(FlowNodeItem.ATTRIBUTE_ROOT_CASE_ID, archivedCaseItem);
+        final Map<APIID, IItem> actors = new HashMap<>();
+        for (final ITEM item : items) {
+            if (isDeployable(HumanTaskItem.ATTRIBUTE_ACTOR_ID, deploys, item)) {
+                final APIID actorId = item.getAttributeValueAsAPIID(HumanTaskItem.ATTRIBUTE_ACTOR_ID);
+                if (!actors.containsKey(actorId)) {
+                    actors.put(actorId, new ActorDatastore(getEngineSession()).get(actorId));
+                }
+                item.setDeploy(HumanTaskItem.ATTRIBUTE_ACTOR_ID, actors.get(actorId));
             }
         }
 
-        if (isDeployable(FlowNodeItem.ATTRIBUTE_PARENT_CASE_ID, deploys, item)) {
-            final CaseItem openedParentCaseItem = getCaseDatastore().get(item.getParentCaseId());
-            if ( openedParentCaseItem != null) {
-                item.setDeploy(FlowNodeItem.ATTRIBUTE_PARENT_CASE_ID,
-                        openedParentCaseItem);
-            } else {
-                final ArchivedCaseItem archivedParentCaseItem = getArchivedCaseDatastore().getUsingSourceObjectId(item.getParentCaseId());
-                item.setDeploy(FlowNodeItem.ATTRIBUTE_PARENT_CASE_ID,
-                        archivedParentCaseItem);
+        addDeployer(new GenericDeployer<IItem>(new DatastoreHasGet<IItem>() {
+
+            @Override
+            public IItem get(final APIID id) {
+                return new TaskFinder(
+                        new TaskDatastore(getEngineSession()),
+                        new ArchivedTaskDatastore(getEngineSession(), ArchivedTaskDefinition.TOKEN)).find(id);
             }
+        }, HumanTaskItem.ATTRIBUTE_PARENT_TASK_ID));
+
+        for (final ITEM item : items) {
+            fillDeploysWithDeployers(item, deploys);
         }
+    }
 
-        if (isDeployable(FlowNodeItem.ATTRIBUTE_ROOT_CONTAINER_ID, deploys, item)) {
-            CaseItem rootContainerCase = getCaseDatastore().get(item
-                    .getAttributeValueAsAPIID(HumanTaskItem.ATTRIBUTE_ROOT_CONTAINER_ID));
-            if (rootContainerCase == null) {
-                rootContainerCase = getArchivedCase(item.getAttributeValue(HumanTaskItem.ATTRIBUTE_ROOT_CONTAINER_ID));
+    /**
+     * Deploy the cases and the root container processes of all the items.<br>
+     * Opened cases are fetched with a single search, archived cases are only looked up for the ids that were not found.
+     */
+    private void fillCaseDeploys(final List<ITEM> items, final List<String> deploys, final ProcessDatastore processDatastore) {
+        final Set<APIID> caseIds = new LinkedHashSet<>();
+        for (final ITEM item : items) {
+            if (isDeployable(FlowNodeItem.ATTRIBUTE_CASE_ID, deploys, item) || isDeployable(FlowNodeItem.ATTRIBUTE_ROOT_CASE_ID, deploys, item)) {
+                caseIds.add(item.getCaseId());
             }
-            if (rootContainerCase != null) {
-                item.setDeploy(FlowNodeItem.ATTRIBUTE_ROOT_CONTAINER_ID, new ProcessDatastore(getEngineSession()).get(rootContainerCase.getProcessId()));
+            if (isDeployable(FlowNodeItem.ATTRIBUTE_PARENT_CASE_ID, deploys, item)) {
+                caseIds.add(item.getParentCaseId());
+            }
+            if (isDeployable(FlowNodeItem.ATTRIBUTE_ROOT_CONTAINER_ID, deploys, item)) {
+                caseIds.add(item.getAttributeValueAsAPIID(HumanTaskItem.ATTRIBUTE_ROOT_CONTAINER_ID));
             }
         }
-
-        if (isDeployable(FlowNodeItem.ATTRIBUTE_EXECUTED_BY_USER_ID, deploys, item)) {
-            item.setDeploy(FlowNodeItem.ATTRIBUTE_EXECUTED_BY_USER_ID,
-                    new UserDatastore(getEngineSession()).get(item.getExecutedByUserId()));
+        if (caseIds.isEmpty()) {
+            return;
         }
 
-        if (isDeployable(FlowNodeItem.ATTRIBUTE_EXECUTED_BY_SUBSTITUTE_USER_ID, deploys, item)) {
-            item.setDeploy(FlowNodeItem.ATTRIBUTE_EXECUTED_BY_SUBSTITUTE_USER_ID,
-                    new UserDatastore(getEngineSession()).get(item.getExecutedBySubstituteUserId()));
-        }
+        final Map<APIID, CaseItem> openedCases = getCaseDatastore().getByIds(new ArrayList<>(caseIds));
+        final Map<APIID, CaseItem> archivedCases = new HashMap<>();
+        final Map<APIID, CaseItem> rootContainerCases = new HashMap<>();
+        for (final ITEM item : items) {
+            if (isDeployable(FlowNodeItem.ATTRIBUTE_CASE_ID, deploys, item) || isDeployable(FlowNodeItem.ATTRIBUTE_ROOT_CASE_ID, deploys, item)) {
+                final CaseItem caseItem = getOpenedOrArchivedCase(item.getCaseId(), openedCases, archivedCases);
+                item.setDeploy(FlowNodeItem.ATTRIBUTE_CASE_ID, caseItem);
+                item.setDeploy(FlowNodeItem.ATTRIBUTE_ROOT_CASE_ID, caseItem);
+            }
 
-        if (isDeployable(HumanTaskItem.ATTRIBUTE_ACTOR_ID, deploys, item)) {
-            item.setDeploy(HumanTaskItem.ATTRIBUTE_ACTOR_ID,
-                    new ActorDatastore(getEngineSession()).get(item.getAttributeValueAsAPIID(HumanTaskItem.ATTRIBUTE_ACTOR_ID)));
-        }
+            if (isDeployable(FlowNodeItem.ATTRIBUTE_PARENT_CASE_ID, deploys, item)) {
+                item.setDeploy(FlowNodeItem.ATTRIBUTE_PARENT_CASE_ID,
+                        getOpenedOrArchivedCase(item.getParentCaseId(), openedCases, archivedCases));
+            }
 
-        if (isDeployable(HumanTaskItem.ATTRIBUTE_ASSIGNED_USER_ID, deploys, item)) {
-            item.setDeploy(HumanTaskItem.ATTRIBUTE_ASSIGNED_USER_ID,
-                    new UserDatastore(getEngineSession()).get(item.getAttributeValueAsAPIID(HumanTaskItem.ATTRIBUTE_ASSIGNED_USER_ID)));
+            if (isDeployable(FlowNodeItem.ATTRIBUTE_ROOT_CONTAINER_ID, deploys, item)) {
+                final APIID rootContainerId = item.getAttributeValueAsAPIID(HumanTaskItem.ATTRIBUTE_ROOT_CONTAINER_ID);
+                CaseItem rootContainerCase = openedCases.get(rootContainerId);
+                if (rootContainerCase == null) {
+                    rootContainerCase = getArchivedCase(item.getAttributeValue(HumanTaskItem.ATTRIBUTE_ROOT_CONTAINER_ID));
+                }
+                if (rootContainerCase != null) {
+                    rootContainerCases.put(rootContainerId, rootContainerCase);
+                }
+            }
         }
 
-        addDeployer(new GenericDeployer<IItem>(new DatastoreHasGet<IItem>() {
-
-            @Override
-            public IItem get(final APIID id) {
-                return new TaskFinder(
-                        new TaskDatastore(getEngineSession()),
-                        new ArchivedTaskDatastore(getEngineSession(), ArchivedTaskDefinition.TOKEN)).find(id);
-            }
-        }, HumanTaskItem.ATTRIBUTE_PARENT_TASK_ID));
+        new DeployBatch<>(items, deploys)
+                .deploy(FlowNodeItem.ATTRIBUTE_ROOT_CONTAINER_ID, processDatastore, item -> {
+                    final CaseItem rootContainerCase = rootContainerCases.get(item.getAttributeValueAsAPIID(HumanTaskItem.ATTRIBUTE_ROOT_CONTAINER_ID));
+                    return rootContainerCase != null ? rootContainerCase.getProcessId() : null;
+                })
+                .resolve();
+    }
 
-        super.fillDeploys(item, deploys);
+    private CaseItem getOpenedOrArchivedCase(final APIID caseId, final Map<APIID, CaseItem> openedCases, final Map<APIID, CaseItem> archivedCases) {
+        final CaseItem openedCaseItem = openedCases.get(caseId);
+        if (openedCaseItem != null) {
+            return openedCaseItem;
+        }
+        if (!archivedCases.containsKey(caseId)) {
+            archivedCases.put(caseId, getArchivedCaseDatastore().getUsingSourceObjectId(caseId));
+        }
+        return archivedCases.get(caseId);
     }
 
     protected CaseDatastore getCaseDatastore() {
@@ -14,6 +14,8 @@
  */
 package org.bonitasoft.web.rest.server.api.bpm.process;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -23,10 +25,10 @@ import org.bonitasoft.web.rest.model.bpm.cases.CaseItem;
 import org.bonitasoft.web.rest.model.bpm.process.ProcessDefinition;
 import org.bonitasoft.web.rest.model.bpm.process.ProcessItem;
 import org.bonitasoft.web.rest.server.api.ConsoleAPI;
-import org.bonitasoft.web.rest.server.api.deployer.UserDeployer;
 import org.bonitasoft.web.rest.server.datastore.bpm.cases.CaseDatastore;
 import org.bonitasoft.web.rest.server.datastore.bpm.process.ProcessDatastore;
 import org.bonitasoft.web.rest.server.datastore.organization.UserDatastore;
+import org.bonitasoft.web.rest.server.framework.DeployBatch;
 import org.bonitasoft.web.rest.server.framework.api.APIHasAdd;
 import org.bonitasoft.web.rest.server.framework.api.APIHasDelete;
 import org.bonitasoft.web.rest.server.framework.api.APIHasGet;
@@ -102,34 +104,56 @@ public class APIProcess extends ConsoleAPI<ProcessItem> implements
 
     @Override
     protected void fillDeploys(final ProcessItem item, final List<String> deploys) {
-        addDeployer(new UserDeployer(
-                new UserDatastore(getEngineSession()), ProcessItem.ATTRIBUTE_DEPLOYED_BY_USER_ID));
-        super.fillDeploys(item, deploys);
+        fillDeploys(Collections.singletonList(item), deploys);
+    }
+
+    @Override
+    protected void fillDeploys(final List<ProcessItem> items, final List<String> deploys) {
+        new DeployBatch<>(items, deploys)
+                .deploy(ProcessItem.ATTRIBUTE_DEPLOYED_BY_USER_ID, getUserDatastore())
+                .resolve();
     }
 
     @Override
     protected void fillCounters(final ProcessItem item, final List<String> counters) {
-        fillNumberOfFailedCasesIfFailedCounterExists(item, counters);
-        fillNumberOfOpenCasesIfOpenCounterExists(item, counters);
+        fillCounters(Collections.singletonList(item), counters);
+    }
+
+    @Override
+    protected void fillCounters(final List<ProcessItem> items, final List<String> counters) {
+        if (items.isEmpty()) {
+            return;
+        }
+        fillNumberOfFailedCasesIfFailedCounterExists(items, counters);
+        fillNumberOfOpenCasesIfOpenCounterExists(items, counters);
     }
 
-    private void fillNumberOfFailedCasesIfFailedCounterExists(final ProcessItem item, final List<String> counters) {
+    private void fillNumberOfFailedCasesIfFailedCounterExists(final List<ProcessItem> items, final List<String> counters) {
         if (counters.contains(ProcessItem.COUNTER_FAILED_CASES)) {
             final Map<String, String> filters = new HashMap<>();
             filters.put(CaseItem.FILTER_CALLER, "any");
-            filters.put(CaseItem.ATTRIBUTE_PROCESS_ID, item.getId().toString());
             filters.put(CaseItem.FILTER_STATE, ProcessInstanceState.ERROR.name());
-            item.setAttribute(ProcessItem.COUNTER_FAILED_CASES, getCaseDatastore().count(null, null, filters));
+            fillCounter(items, ProcessItem.COUNTER_FAILED_CASES, filters);
         }
     }
 
-    private void fillNumberOfOpenCasesIfOpenCounterExists(final ProcessItem item, final List<String> counters) {
+    private void fillNumberOfOpenCasesIfOpenCounterExists(final List<ProcessItem> items, final List<String> counters) {
         if (counters.contains(ProcessItem.COUNTER_OPEN_CASES)) {
             // Open is all states without the terminal states
             final Map<String, String> filters = new HashMap<>();
             filters.put(CaseItem.FILTER_CALLER, "any");
-            filters.put(CaseItem.ATTRIBUTE_PROCESS_ID, item.getId().toString());
-            item.setAttribute(ProcessItem.COUNTER_OPEN_CASES, getCaseDatastore().count(null, null, filters));
+            fillCounter(items, ProcessItem.COUNTER_OPEN_CASES, filters);
+        }
+    }
+
+    private void fillCounter(final List<ProcessItem> items, final String counter, final Map<String, String> filters) {
+        final List<APIID> processIds = new ArrayList<>(items.size());
+        for (final ProcessItem item : items) {
+            processIds.add(item.getId());
+        }
+        final Map<APIID, Long> numberOfCases = getCaseDatastore().countByProcess(processIds, filters);
+        for (final ProcessItem item : items) {
+            item.setAttribute(counter, numberOfCases.get(item.getId()));
         }
     }
 
@@ -137,6 +161,10 @@ public class APIProcess extends ConsoleAPI<ProcessItem> implements
         return new ProcessDatastore(getEngineSession());
     }
 
+    protected UserDatastore getUserDatastore() {
+        return new UserDatastore(getEngineSession());
+    }
+
     protected CaseDatastore getCaseDatastore() {
         return new CaseDatastore(getEngineSession());
     }
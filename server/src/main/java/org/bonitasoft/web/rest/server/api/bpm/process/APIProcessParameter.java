@@ -33,6 +33,7 @@ import org.bonitasoft.engine.session.InvalidSessionException;
 import org.bonitasoft.web.rest.model.bpm.process.ProcessParameterDefinition;
 import org.bonitasoft.web.rest.model.bpm.process.ProcessParameterItem;
 import org.bonitasoft.web.rest.server.api.ConsoleAPI;
+import org.bonitasoft.web.rest.server.engineclient.EngineAPICache;
 import org.bonitasoft.web.rest.server.framework.search.ItemSearchResult;
 import org.bonitasoft.web.toolkit.client.common.exception.api.APIException;
 import org.bonitasoft.web.toolkit.client.common.exception.api.APIItemNotFoundException;
@@ -54,7 +55,7 @@ public class APIProcessParameter extends ConsoleAPI<ProcessParameterItem> {
 
 
     protected ProcessAPI getProcessAPI() throws InvalidSessionException, BonitaHomeNotSetException, ServerAPIException, UnknownAPITypeException {
-        return TenantAPIAccessor.getProcessAPI(getEngineSession());
+        return EngineAPICache.getInstance().get(getEngineSession(), ProcessAPI.class, TenantAPIAccessor::getProcessAPI);
     }
 
     @Override
@@ -30,6 +30,7 @@ import org.bonitasoft.web.rest.model.document.ArchivedDocumentItem;
 import org.bonitasoft.web.rest.model.document.DocumentItem;
 import org.bonitasoft.web.rest.server.api.ConsoleAPI;
 import org.bonitasoft.web.rest.server.api.document.api.impl.DocumentDatastore;
+import org.bonitasoft.web.rest.server.engineclient.EngineAPICache;
 import org.bonitasoft.web.rest.server.framework.search.ItemSearchResult;
 import org.bonitasoft.web.rest.server.framework.utils.SearchOptionsBuilderUtil;
 import org.bonitasoft.web.toolkit.client.common.exception.api.APIException;
@@ -52,7 +53,7 @@ public class APIArchivedDocument extends ConsoleAPI<ArchivedDocumentItem> {
         final APISession apiSession = getEngineSession();
         ArchivedDocumentItem item = new ArchivedDocumentItem();
         try {
-            final ProcessAPI processAPI = TenantAPIAccessor.getProcessAPI(apiSession);
+            final ProcessAPI processAPI = EngineAPICache.getInstance().get(apiSession, ProcessAPI.class, TenantAPIAccessor::getProcessAPI);
             final DocumentDatastore dataStore = new DocumentDatastore(apiSession);
             final ArchivedDocument document = processAPI.getArchivedProcessDocument(id.toLong());
             item = dataStore.mapToArchivedDocumentItem(document);
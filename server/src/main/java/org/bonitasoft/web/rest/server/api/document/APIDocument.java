@@ -31,6 +31,7 @@ import org.bonitasoft.web.rest.model.document.DocumentDefinition;
 import org.bonitasoft.web.rest.model.document.DocumentItem;
 import org.bonitasoft.web.rest.server.api.ConsoleAPI;
 import org.bonitasoft.web.rest.server.api.document.api.impl.DocumentDatastore;
+import org.bonitasoft.web.rest.server.engineclient.EngineAPICache;
 import org.bonitasoft.web.rest.server.framework.search.ItemSearchResult;
 import org.bonitasoft.web.rest.server.framework.utils.SearchOptionsBuilderUtil;
 import org.bonitasoft.web.toolkit.client.common.exception.api.APIException;
@@ -59,7 +60,7 @@ public class APIDocument extends ConsoleAPI<DocumentItem> {
         DocumentItem item = new DocumentItem();
 
         try {
-            final ProcessAPI processAPI = TenantAPIAccessor.getProcessAPI(apiSession);
+            final ProcessAPI processAPI = EngineAPICache.getInstance().get(apiSession, ProcessAPI.class, TenantAPIAccessor::getProcessAPI);
             final Document document = processAPI.getDocument(id.toLong());
             item = getDataStore().mapToDocumentItem(document);
         } catch (final Exception e) {
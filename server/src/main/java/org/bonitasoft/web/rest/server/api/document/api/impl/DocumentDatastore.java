@@ -52,6 +52,7 @@ import org.bonitasoft.engine.session.APISession;
 import org.bonitasoft.engine.session.InvalidSessionException;
 import org.bonitasoft.web.rest.model.document.ArchivedDocumentItem;
 import org.bonitasoft.web.rest.model.document.DocumentItem;
+import org.bonitasoft.web.rest.server.engineclient.EngineAPICache;
 
 /**
  * Document data store
@@ -136,7 +137,7 @@ public class DocumentDatastore {
     }
 
     protected ProcessAPI getProcessAPI() throws BonitaHomeNotSetException, ServerAPIException, UnknownAPITypeException {
-        final ProcessAPI processAPI = TenantAPIAccessor.getProcessAPI(apiSession);
+        final ProcessAPI processAPI = EngineAPICache.getInstance().get(apiSession, ProcessAPI.class, TenantAPIAccessor::getProcessAPI);
         return processAPI;
     }
 
@@ -17,6 +17,7 @@ package org.bonitasoft.web.rest.server.api.organization;
 import java.util.List;
 import java.util.Map;
 
+import org.bonitasoft.engine.api.IdentityAPI;
 import org.bonitasoft.engine.api.TenantAPIAccessor;
 import org.bonitasoft.engine.identity.Group;
 import org.bonitasoft.engine.identity.GroupCriterion;
@@ -24,6 +25,7 @@ import org.bonitasoft.web.rest.model.identity.GroupDefinition;
 import org.bonitasoft.web.rest.model.identity.GroupItem;
 import org.bonitasoft.web.rest.server.api.ConsoleAPI;
 import org.bonitasoft.web.rest.server.datastore.organization.GroupDatastore;
+import org.bonitasoft.web.rest.server.engineclient.EngineAPICache;
 import org.bonitasoft.web.rest.server.framework.api.APIHasAdd;
 import org.bonitasoft.web.rest.server.framework.api.APIHasDelete;
 import org.bonitasoft.web.rest.server.framework.api.APIHasGet;
@@ -83,7 +85,7 @@ public class APIGroup extends ConsoleAPI<GroupItem> implements
     protected void fillDeploys(final GroupItem item, final List<String> deploys) {
         if (deploys.contains(GroupItem.ATTRIBUTE_PARENT_GROUP_ID) && item.getParentPath() != null && !item.getParentPath().isEmpty()) {
             try {
-                Group parentGroup = TenantAPIAccessor.getIdentityAPI(getEngineSession()).getGroupByPath(item.getParentPath());
+                Group parentGroup = EngineAPICache.getInstance().get(getEngineSession(), IdentityAPI.class, TenantAPIAccessor::getIdentityAPI).getGroupByPath(item.getParentPath());
                 item.setParentGroupId(String.valueOf(parentGroup.getId()));
             } catch (Exception e) {
                 // TODO Auto-generated catch block
@@ -20,6 +20,8 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
+import org.bonitasoft.console.common.server.login.filter.PermissionDecisionCache;
+import org.bonitasoft.console.common.server.utils.ProfileMembershipCache;
 import org.bonitasoft.engine.identity.UserMembershipCriterion;
 import org.bonitasoft.web.rest.model.identity.MembershipDefinition;
 import org.bonitasoft.web.rest.model.identity.MembershipItem;
@@ -35,6 +37,7 @@ import org.bonitasoft.web.rest.server.framework.api.Datastore;
 import org.bonitasoft.web.rest.server.framework.exception.APIFilterException;
 import org.bonitasoft.web.rest.server.framework.exception.APIFilterMandatoryException;
 import org.bonitasoft.web.rest.server.framework.search.ItemSearchResult;
+import org.bonitasoft.web.toolkit.client.data.APIID;
 import org.bonitasoft.web.toolkit.client.data.item.Definitions;
 import org.bonitasoft.web.toolkit.client.data.item.ItemDefinition;
 
@@ -84,6 +87,22 @@ public class APIMembership extends ConsoleAPI<MembershipItem> implements
         }
     }
 
+    @Override
+    public MembershipItem add(final MembershipItem item) {
+        final MembershipItem addedItem = super.add(item);
+        // profiles may be mapped to the group or the role of the membership
+        PermissionDecisionCache.invalidate(getEngineSession().getTenantId());
+        ProfileMembershipCache.getInstance().invalidate(getEngineSession().getTenantId());
+        return addedItem;
+    }
+
+    @Override
+    public void delete(final List<APIID> ids) {
+        super.delete(ids);
+        PermissionDecisionCache.invalidate(getEngineSession().getTenantId());
+        ProfileMembershipCache.getInstance().invalidate(getEngineSession().getTenantId());
+    }
+
     @Override
     protected Datastore defineDefaultDatastore() {
         return new MembershipDatastore(getEngineSession());
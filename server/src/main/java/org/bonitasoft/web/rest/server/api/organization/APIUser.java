@@ -14,6 +14,7 @@
  */
 package org.bonitasoft.web.rest.server.api.organization;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -28,6 +29,7 @@ import org.bonitasoft.web.rest.server.datastore.bpm.flownode.HumanTaskDatastore;
 import org.bonitasoft.web.rest.server.datastore.organization.PersonalContactDataDatastore;
 import org.bonitasoft.web.rest.server.datastore.organization.ProfessionalContactDataDatastore;
 import org.bonitasoft.web.rest.server.datastore.organization.UserDatastore;
+import org.bonitasoft.web.rest.server.framework.DeployBatch;
 import org.bonitasoft.web.rest.server.framework.api.APIHasAdd;
 import org.bonitasoft.web.rest.server.framework.api.APIHasDelete;
 import org.bonitasoft.web.rest.server.framework.api.APIHasGet;
@@ -90,9 +92,9 @@ public class APIUser extends ConsoleAPI<UserItem> implements APIHasAdd<UserItem>
                 instanceClass = validatorClass.newInstance();
                 final AbstractStringValidator validator = (AbstractStringValidator) instanceClass;
                 validator.setLocale(getLocale());
-                validator.check(password);
-                if (!validator.getErrors().isEmpty()) {
-                    throw new ValidationException(validator.getErrors());
+                final List<ValidationError> errors = validator.check(password);
+                if (!errors.isEmpty()) {
+                    throw new ValidationException(errors);
                 }
             } catch (final InstantiationException e) {
                 if (LOGGER.isLoggable(Level.SEVERE)) {
@@ -166,16 +168,23 @@ public class APIUser extends ConsoleAPI<UserItem> implements APIHasAdd<UserItem>
 
     @Override
     protected void fillDeploys(final UserItem item, final List<String> deploys) {
-        if (isDeployable(UserItem.ATTRIBUTE_MANAGER_ID, deploys, item)) {
-            item.setDeploy(UserItem.ATTRIBUTE_MANAGER_ID,
-                    getUserDatastore().get(item.getManagerId()));
-        }
+        fillDeploys(Collections.singletonList(item), deploys);
+    }
 
-        if (isDeployable(UserItem.ATTRIBUTE_CREATED_BY_USER_ID, deploys, item)) {
-            item.setDeploy(UserItem.ATTRIBUTE_CREATED_BY_USER_ID,
-                    getUserDatastore().get(item.getCreatedByUserId()));
+    @Override
+    protected void fillDeploys(final List<UserItem> items, final List<String> deploys) {
+        final UserDatastore userDatastore = getUserDatastore();
+        new DeployBatch<>(items, deploys)
+                .deploy(UserItem.ATTRIBUTE_MANAGER_ID, userDatastore, UserItem::getManagerId)
+                .deploy(UserItem.ATTRIBUTE_CREATED_BY_USER_ID, userDatastore, UserItem::getCreatedByUserId)
+                .resolve();
+
+        for (final UserItem item : items) {
+            fillContactDataDeploys(item, deploys);
         }
+    }
 
+    private void fillContactDataDeploys(final UserItem item, final List<String> deploys) {
         if (deploys.contains(UserItem.DEPLOY_PERSONNAL_DATA)) {
             item.setDeploy(UserItem.DEPLOY_PERSONNAL_DATA,
                     new PersonalContactDataDatastore(getEngineSession()).get(item.getId()));
@@ -196,16 +205,41 @@ public class APIUser extends ConsoleAPI<UserItem> implements APIHasAdd<UserItem>
 
     @Override
     protected void fillCounters(final UserItem item, final List<String> counters) {
+        fillCounters(Collections.singletonList(item), counters);
+    }
 
-        if (counters.contains(UserItem.COUNTER_OPEN_TASKS)) {
-            item.setAttribute(UserItem.COUNTER_OPEN_TASKS,
-                    new HumanTaskDatastore(getEngineSession()).getNumberOfOpenTasks(item.getId()));
+    @Override
+    protected void fillCounters(final List<UserItem> items, final List<String> counters) {
+        if (items.isEmpty()) {
+            return;
+        }
+        final boolean openTasks = counters.contains(UserItem.COUNTER_OPEN_TASKS);
+        final boolean overdueTasks = counters.contains(UserItem.COUNTER_OVERDUE_TASKS);
+        if (!openTasks && !overdueTasks) {
+            return;
         }
 
-        if (counters.contains(UserItem.COUNTER_OVERDUE_TASKS)) {
-            item.setAttribute(UserItem.COUNTER_OVERDUE_TASKS,
-                    new HumanTaskDatastore(getEngineSession()).getNumberOfOverdueOpenTasks(item.getId()));
+        final List<APIID> userIds = new ArrayList<>(items.size());
+        for (final UserItem item : items) {
+            userIds.add(item.getId());
         }
+        final HumanTaskDatastore humanTaskDatastore = getHumanTaskDatastore();
+        if (openTasks) {
+            final Map<Long, Long> numberOfOpenTasks = humanTaskDatastore.getNumberOfOpenTasks(userIds);
+            for (final UserItem item : items) {
+                item.setAttribute(UserItem.COUNTER_OPEN_TASKS, numberOfOpenTasks.get(item.getId().toLong()));
+            }
+        }
+        if (overdueTasks) {
+            final Map<Long, Long> numberOfOverdueOpenTasks = humanTaskDatastore.getNumberOfOverdueOpenTasks(userIds);
+            for (final UserItem item : items) {
+                item.setAttribute(UserItem.COUNTER_OVERDUE_TASKS, numberOfOverdueOpenTasks.get(item.getId().toLong()));
+            }
+        }
+    }
+
+    HumanTaskDatastore getHumanTaskDatastore() {
+        return new HumanTaskDatastore(getEngineSession());
     }
 
 }
@@ -18,6 +18,8 @@ package org.bonitasoft.web.rest.server.api.organization.password.validator;
 
 import static org.bonitasoft.web.toolkit.client.common.i18n.AbstractI18n.t_;
 
+import java.util.List;
+
 import org.bonitasoft.web.toolkit.client.data.item.attribute.validator.AbstractStringValidator;
 
 
@@ -28,7 +30,8 @@ import org.bonitasoft.web.toolkit.client.data.item.attribute.validator.AbstractS
 public class DefaultPasswordValidator extends AbstractStringValidator {
     
     @Override
-    protected void _check(String password) {
+    protected List<String> _check(String password) {
+        return noError();
     }
        
 }
@@ -18,6 +18,8 @@ package org.bonitasoft.web.rest.server.api.organization.password.validator;
 
 import static org.bonitasoft.web.toolkit.client.common.i18n.AbstractI18n.t_;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -33,7 +35,9 @@ import org.bonitasoft.web.toolkit.client.data.item.attribute.validator.AbstractS
 public class RobustnessPasswordValidator extends AbstractStringValidator {
 
     @Override
-    protected void _check(String password) {
+    protected List<String> _check(String password) {
+        final List<String> errors = new ArrayList<String>();
+
         String regex = "";
         
         LOCALE Locale = AbstractI18n.stringToLocale(locale);
@@ -42,35 +46,37 @@ public class RobustnessPasswordValidator extends AbstractStringValidator {
         regex = "[0-9]";
         int numberMinOccurences = 3;
         if (numberOfOccurenceOfRegex(regex, password) < numberMinOccurences) {
-            addError(t_("Password must contain at least %number% digits", Locale, new Arg("number", numberMinOccurences)));
+            errors.add(t_("Password must contain at least %number% digits", Locale, new Arg("number", numberMinOccurences)));
         }
         
         // Check number of lower case chars
         regex = "[a-z]";
         numberMinOccurences = 2;
         if (numberOfOccurenceOfRegex(regex, password) < numberMinOccurences) {
-            addError(t_("Password must contain at least %number% lower case characters", Locale, new Arg("number", numberMinOccurences)));
+            errors.add(t_("Password must contain at least %number% lower case characters", Locale, new Arg("number", numberMinOccurences)));
         }
         
         // Check number of upper case chars
         regex = "[A-Z]";
         numberMinOccurences = 2;
         if (numberOfOccurenceOfRegex(regex, password) < numberMinOccurences) {
-            addError(t_("Password must contain at least %number% upper case characters", Locale, new Arg("number", numberMinOccurences)));
+            errors.add(t_("Password must contain at least %number% upper case characters", Locale, new Arg("number", numberMinOccurences)));
         }
         
         // Check number of special chars
         regex = "[~@#\\^\\$&\\*\\(\\)-T_\\+=\\[\\]\\{\\}\\|\\,\\.\\?]";
         numberMinOccurences = 2;
         if (numberOfOccurenceOfRegex(regex, password) < numberMinOccurences) {
-            addError(t_("Password must contain at least %number% special characters", Locale, new Arg("number", numberMinOccurences)));
+            errors.add(t_("Password must contain at least %number% special characters", Locale, new Arg("number", numberMinOccurences)));
         }
         
         // Check number of length
         int minimalLength = 10;
         if (password.length() < minimalLength) {
-            addError(t_("Password must be at least %number% characters long", Locale, new Arg("number", minimalLength)));
+            errors.add(t_("Password must be at least %number% characters long", Locale, new Arg("number", minimalLength)));
         }
+
+        return errors;
     }
     
     private int numberOfOccurenceOfRegex(String regex, String password) {
@@ -26,6 +26,7 @@ import org.bonitasoft.web.rest.server.api.ConsoleAPI;
 import org.bonitasoft.web.rest.server.api.deployer.DeployerFactory;
 import org.bonitasoft.web.rest.server.datastore.page.PageDatastore;
 import org.bonitasoft.web.rest.server.datastore.page.PageDatastoreFactory;
+import org.bonitasoft.web.rest.server.engineclient.EngineAPICache;
 import org.bonitasoft.web.rest.server.framework.api.APIHasAdd;
 import org.bonitasoft.web.rest.server.framework.api.APIHasDelete;
 import org.bonitasoft.web.rest.server.framework.api.APIHasGet;
@@ -104,7 +105,7 @@ APIHasDelete {
     private PageDatastore getPageDatastore() {
         PageAPI pageAPI;
         try {
-            pageAPI = TenantAPIAccessor.getCustomPageAPI(getEngineSession());
+            pageAPI = EngineAPICache.getInstance().get(getEngineSession(), PageAPI.class, TenantAPIAccessor::getCustomPageAPI);
         } catch (final Exception e) {
             throw new APIException(e);
         }
@@ -24,6 +24,8 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
+import org.bonitasoft.console.common.server.login.filter.PermissionDecisionCache;
+import org.bonitasoft.console.common.server.utils.ProfileMembershipCache;
 import org.bonitasoft.web.rest.model.portal.profile.AbstractMemberItem;
 import org.bonitasoft.web.rest.server.api.ConsoleAPI;
 import org.bonitasoft.web.rest.server.datastore.organization.GroupDatastore;
@@ -76,7 +78,10 @@ public abstract class AbstractAPIMember<T extends AbstractMemberItem> extends Co
 
         checkAttributes(item.getUserId(), item.getRoleId(), item.getGroupId());
 
-        return super.add(item);
+        final T addedItem = super.add(item);
+        PermissionDecisionCache.invalidate(getEngineSession().getTenantId());
+        ProfileMembershipCache.getInstance().invalidate(getEngineSession().getTenantId());
+        return addedItem;
     }
 
     @Override
@@ -86,6 +91,8 @@ public abstract class AbstractAPIMember<T extends AbstractMemberItem> extends Co
         // checkAttributes(apiid.getPartAsAPIID(ATTRIBUTE_USER_ID), apiid.getPartAsAPIID(ATTRIBUTE_ROLE_ID), apiid.getPartAsAPIID(ATTRIBUTE_GROUP_ID));
         // }
         super.delete(ids);
+        PermissionDecisionCache.invalidate(getEngineSession().getTenantId());
+        ProfileMembershipCache.getInstance().invalidate(getEngineSession().getTenantId());
     }
 
     @Override
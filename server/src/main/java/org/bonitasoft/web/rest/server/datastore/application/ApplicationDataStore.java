@@ -19,6 +19,7 @@ package org.bonitasoft.web.rest.server.datastore.application;
 import java.util.List;
 import java.util.Map;
 
+import org.bonitasoft.console.common.server.servlet.IconCache;
 import org.bonitasoft.engine.api.ApplicationAPI;
 import org.bonitasoft.engine.api.PageAPI;
 import org.bonitasoft.engine.business.application.Application;
@@ -30,6 +31,7 @@ import org.bonitasoft.engine.exception.SearchException;
 import org.bonitasoft.engine.page.Page;
 import org.bonitasoft.engine.search.SearchResult;
 import org.bonitasoft.engine.session.APISession;
+import org.bonitasoft.livingapps.ApplicationModelCache;
 import org.bonitasoft.web.rest.model.application.ApplicationDefinition;
 import org.bonitasoft.web.rest.model.application.ApplicationItem;
 import org.bonitasoft.web.rest.server.datastore.CommonDatastore;
@@ -72,6 +74,7 @@ DatastoreHasGet<ApplicationItem>,DatastoreHasSearch<ApplicationItem>, DatastoreH
         try {
             for(final APIID id :ids){
                 applicationAPI.deleteApplication(id.toLong());
+                IconCache.getInstance().invalidate(getEngineSession().getTenantId(), IconCache.APPLICATION_ICONS, id.toLong());
             }
         } catch (final Exception e) {
             if (e.getCause() instanceof ApplicationNotFoundException) {
@@ -79,6 +82,9 @@ DatastoreHasGet<ApplicationItem>,DatastoreHasSearch<ApplicationItem>, DatastoreH
             } else {
                 throw new APIException(e);
             }
+        } finally {
+            // some of the applications may have been deleted before the failure
+            ApplicationModelCache.invalidate(getEngineSession().getTenantId());
         }
     }
 
@@ -103,6 +109,7 @@ DatastoreHasGet<ApplicationItem>,DatastoreHasSearch<ApplicationItem>, DatastoreH
             final Application application = applicationAPI.createApplication(creator);
             final ApplicationPage appHomePage = applicationAPI.createApplicationPage(application.getId(), homePageDef.getId(), "home");
             applicationAPI.setApplicationHomePage(application.getId(), appHomePage.getId());
+            ApplicationModelCache.invalidate(getEngineSession().getTenantId());
             return converter.toApplicationItem(application);
         }catch (final Exception e) {
             throw new APIException(e);
@@ -114,6 +121,8 @@ DatastoreHasGet<ApplicationItem>,DatastoreHasSearch<ApplicationItem>, DatastoreH
         try {
             final ApplicationUpdater applicationUpdater = converter.toApplicationUpdater(attributes, getEngineSession().getTenantId());
             final Application application = applicationAPI.updateApplication(id.toLong(), applicationUpdater);
+            ApplicationModelCache.invalidate(getEngineSession().getTenantId());
+            IconCache.getInstance().invalidate(getEngineSession().getTenantId(), IconCache.APPLICATION_ICONS, id.toLong());
             return converter.toApplicationItem(application);
         } catch (final Exception e) {
             throw new APIException(e);
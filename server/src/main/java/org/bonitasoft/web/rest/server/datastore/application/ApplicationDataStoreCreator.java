@@ -20,6 +20,7 @@ import org.bonitasoft.engine.api.ApplicationAPI;
 import org.bonitasoft.engine.api.PageAPI;
 import org.bonitasoft.engine.api.TenantAPIAccessor;
 import org.bonitasoft.engine.session.APISession;
+import org.bonitasoft.web.rest.server.engineclient.EngineAPICache;
 import org.bonitasoft.web.toolkit.client.common.exception.api.APIException;
 
 /**
@@ -32,8 +33,8 @@ public class ApplicationDataStoreCreator {
         ApplicationAPI applicationAPI;
         PageAPI pageAPI;
         try {
-            applicationAPI = TenantAPIAccessor.getLivingApplicationAPI(session);
-            pageAPI = TenantAPIAccessor.getCustomPageAPI(session);
+            applicationAPI = EngineAPICache.getInstance().get(session, ApplicationAPI.class, TenantAPIAccessor::getLivingApplicationAPI);
+            pageAPI = EngineAPICache.getInstance().get(session, PageAPI.class, TenantAPIAccessor::getCustomPageAPI);
             return new ApplicationDataStore(session, applicationAPI, pageAPI, getApplicationConverter());
         } catch (final Exception e) {
             throw new APIException(e);
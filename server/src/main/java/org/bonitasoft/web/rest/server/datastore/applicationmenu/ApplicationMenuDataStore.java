@@ -25,6 +25,7 @@ import org.bonitasoft.engine.business.application.ApplicationMenuNotFoundExcepti
 import org.bonitasoft.engine.exception.SearchException;
 import org.bonitasoft.engine.search.SearchResult;
 import org.bonitasoft.engine.session.APISession;
+import org.bonitasoft.livingapps.ApplicationModelCache;
 import org.bonitasoft.web.rest.model.applicationmenu.ApplicationMenuDefinition;
 import org.bonitasoft.web.rest.model.applicationmenu.ApplicationMenuItem;
 import org.bonitasoft.web.rest.server.datastore.CommonDatastore;
@@ -61,6 +62,7 @@ DatastoreHasGet<ApplicationMenuItem>, DatastoreHasSearch<ApplicationMenuItem>, D
     public ApplicationMenuItem add(final ApplicationMenuItem item) {
         try {
             final ApplicationMenu applicationMenu = applicationAPI.createApplicationMenu(converter.toApplicationMenuCreator(item));
+            ApplicationModelCache.invalidate(getEngineSession().getTenantId());
             return converter.toApplicationMenuItem(applicationMenu);
         } catch (final Exception e) {
             throw new APIException(e);
@@ -71,6 +73,7 @@ DatastoreHasGet<ApplicationMenuItem>, DatastoreHasSearch<ApplicationMenuItem>, D
     public ApplicationMenuItem update(final APIID id, final Map<String, String> attributes) {
         try {
             final ApplicationMenu applicationMenu = applicationAPI.updateApplicationMenu(id.toLong(), converter.toApplicationMenuUpdater(attributes));
+            ApplicationModelCache.invalidate(getEngineSession().getTenantId());
             return converter.toApplicationMenuItem(applicationMenu);
         } catch (final Exception e) {
             throw new APIException(e);
@@ -99,6 +102,9 @@ DatastoreHasGet<ApplicationMenuItem>, DatastoreHasSearch<ApplicationMenuItem>, D
             } else {
                 throw new APIException(e);
             }
+        } finally {
+            // some of the application menus may have been deleted before the failure
+            ApplicationModelCache.invalidate(getEngineSession().getTenantId());
         }
     }
 
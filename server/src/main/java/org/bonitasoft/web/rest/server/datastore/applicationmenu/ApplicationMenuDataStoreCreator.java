@@ -19,6 +19,7 @@ package org.bonitasoft.web.rest.server.datastore.applicationmenu;
 import org.bonitasoft.engine.api.ApplicationAPI;
 import org.bonitasoft.engine.api.TenantAPIAccessor;
 import org.bonitasoft.engine.session.APISession;
+import org.bonitasoft.web.rest.server.engineclient.EngineAPICache;
 import org.bonitasoft.web.toolkit.client.common.exception.api.APIException;
 
 /**
@@ -30,7 +31,7 @@ public class ApplicationMenuDataStoreCreator {
     public ApplicationMenuDataStore create(final APISession session) {
         ApplicationAPI applicationAPI;
         try {
-            applicationAPI = TenantAPIAccessor.getLivingApplicationAPI(session);
+            applicationAPI = EngineAPICache.getInstance().get(session, ApplicationAPI.class, TenantAPIAccessor::getLivingApplicationAPI);
             return new ApplicationMenuDataStore(session, applicationAPI, new ApplicationMenuItemConverter());
         } catch (final Exception e) {
             throw new APIException(e);
@@ -26,6 +26,7 @@ import org.bonitasoft.engine.business.application.ApplicationPageNotFoundExcepti
 import org.bonitasoft.engine.exception.SearchException;
 import org.bonitasoft.engine.search.SearchResult;
 import org.bonitasoft.engine.session.APISession;
+import org.bonitasoft.livingapps.ApplicationModelCache;
 import org.bonitasoft.web.rest.model.applicationpage.ApplicationPageDefinition;
 import org.bonitasoft.web.rest.model.applicationpage.ApplicationPageItem;
 import org.bonitasoft.web.rest.server.datastore.CommonDatastore;
@@ -62,6 +63,7 @@ DatastoreHasGet<ApplicationPageItem>, DatastoreHasSearch<ApplicationPageItem>, D
         try {
             final ApplicationPage applicationPage = applicationAPI.createApplicationPage(item.getApplicationId().toLong(), item.getPageId().toLong(),
                     item.getToken());
+            ApplicationModelCache.invalidate(getEngineSession().getTenantId());
             return converter.toApplicationPageItem(applicationPage);
         } catch (final Exception e) {
             throw new APIException(e);
@@ -90,6 +92,9 @@ DatastoreHasGet<ApplicationPageItem>, DatastoreHasSearch<ApplicationPageItem>, D
             } else {
                 throw new APIException(e);
             }
+        } finally {
+            // some of the application pages may have been deleted before the failure
+            ApplicationModelCache.invalidate(getEngineSession().getTenantId());
         }
     }
 
@@ -20,6 +20,7 @@ import org.bonitasoft.engine.api.ApplicationAPI;
 import org.bonitasoft.engine.api.PageAPI;
 import org.bonitasoft.engine.api.TenantAPIAccessor;
 import org.bonitasoft.engine.session.APISession;
+import org.bonitasoft.web.rest.server.engineclient.EngineAPICache;
 import org.bonitasoft.web.toolkit.client.common.exception.api.APIException;
 
 /**
@@ -30,8 +31,8 @@ public class ApplicationPageDataStoreCreator {
 
     public ApplicationPageDataStore create(final APISession session) {
         try {
-            final ApplicationAPI applicationAPI = TenantAPIAccessor.getLivingApplicationAPI(session);
-            final PageAPI pageAPI = TenantAPIAccessor.getCustomPageAPI(session);
+            final ApplicationAPI applicationAPI = EngineAPICache.getInstance().get(session, ApplicationAPI.class, TenantAPIAccessor::getLivingApplicationAPI);
+            final PageAPI pageAPI = EngineAPICache.getInstance().get(session, PageAPI.class, TenantAPIAccessor::getCustomPageAPI);
             return new ApplicationPageDataStore(session, applicationAPI, pageAPI, new ApplicationPageItemConverter());
         } catch (final Exception e) {
             throw new APIException(e);
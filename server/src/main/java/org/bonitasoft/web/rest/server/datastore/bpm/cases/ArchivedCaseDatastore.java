@@ -35,6 +35,8 @@ import org.bonitasoft.engine.session.APISession;
 import org.bonitasoft.web.rest.model.bpm.cases.ArchivedCaseItem;
 import org.bonitasoft.web.rest.model.bpm.cases.CaseItem;
 import org.bonitasoft.web.rest.server.datastore.CommonDatastore;
+import org.bonitasoft.web.rest.server.engineclient.EngineAPICache;
+import org.bonitasoft.web.rest.server.framework.RequestIdentityMap;
 import org.bonitasoft.web.rest.server.framework.api.DatastoreHasDelete;
 import org.bonitasoft.web.rest.server.framework.api.DatastoreHasGet;
 import org.bonitasoft.web.rest.server.framework.api.DatastoreHasSearch;
@@ -50,6 +52,13 @@ import org.bonitasoft.web.toolkit.client.data.APIID;
 public class ArchivedCaseDatastore extends CommonDatastore<ArchivedCaseItem, ArchivedProcessInstance> implements DatastoreHasGet<ArchivedCaseItem>,
         DatastoreHasSearch<ArchivedCaseItem>, DatastoreHasDelete {
 
+    private static final String IDENTITY_MAP_REGION = "archivedCase";
+
+    /**
+     * Final archived cases, by id of the case they archive
+     */
+    private static final String SOURCE_OBJECT_IDENTITY_MAP_REGION = "archivedCaseBySourceObjectId";
+
     public ArchivedCaseDatastore(final APISession engineSession) {
         super(engineSession);
     }
@@ -143,8 +152,8 @@ public class ArchivedCaseDatastore extends CommonDatastore<ArchivedCaseItem, Arc
     @Override
     public ArchivedCaseItem get(final APIID id) {
         try {
-            return convertEngineToConsoleItem(getProcessApi()
-                    .getArchivedProcessInstance(id.toLong()));
+            return convertEngineToConsoleItem(RequestIdentityMap.get(IDENTITY_MAP_REGION, id.toLong(),
+                    archivedProcessInstanceId -> getProcessApi().getArchivedProcessInstance(archivedProcessInstanceId)));
         } catch (final Exception e) {
             throw new APIException(e);
         }
@@ -152,8 +161,8 @@ public class ArchivedCaseDatastore extends CommonDatastore<ArchivedCaseItem, Arc
 
     public ArchivedCaseItem getUsingSourceObjectId(final APIID id) {
         try {
-            return convertEngineToConsoleItem(getProcessApi()
-                    .getFinalArchivedProcessInstance(id.toLong()));
+            return convertEngineToConsoleItem(RequestIdentityMap.get(SOURCE_OBJECT_IDENTITY_MAP_REGION, id.toLong(),
+                    processInstanceId -> getProcessApi().getFinalArchivedProcessInstance(processInstanceId)));
         } catch (final Exception e) {
             throw new APIException(e);
         }
@@ -176,6 +185,6 @@ public class ArchivedCaseDatastore extends CommonDatastore<ArchivedCaseItem, Arc
     }
 
     public ProcessAPI getProcessApi() throws BonitaHomeNotSetException, ServerAPIException, UnknownAPITypeException {
-        return TenantAPIAccessor.getProcessAPI(getEngineSession());
+        return EngineAPICache.getInstance().get(getEngineSession(), ProcessAPI.class, TenantAPIAccessor::getProcessAPI);
     }
 }
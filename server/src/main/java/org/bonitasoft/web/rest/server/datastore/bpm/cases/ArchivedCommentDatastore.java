@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+import org.bonitasoft.engine.api.ProcessAPI;
 import org.bonitasoft.engine.api.TenantAPIAccessor;
 import org.bonitasoft.engine.bpm.comment.ArchivedComment;
 import org.bonitasoft.engine.bpm.comment.ArchivedCommentsSearchDescriptor;
@@ -30,6 +31,7 @@ import org.bonitasoft.engine.session.APISession;
 import org.bonitasoft.engine.session.InvalidSessionException;
 import org.bonitasoft.web.rest.model.bpm.cases.ArchivedCommentItem;
 import org.bonitasoft.web.rest.server.datastore.CommonDatastore;
+import org.bonitasoft.web.rest.server.engineclient.EngineAPICache;
 import org.bonitasoft.web.rest.server.framework.api.DatastoreHasSearch;
 import org.bonitasoft.web.rest.server.framework.search.ItemSearchResult;
 import org.bonitasoft.web.rest.server.framework.utils.SearchOptionsBuilderUtil;
@@ -78,7 +80,7 @@ public class ArchivedCommentDatastore extends CommonDatastore<ArchivedCommentIte
                 }
             }
 
-            final SearchResult<ArchivedComment> result = TenantAPIAccessor.getProcessAPI(getEngineSession()).searchArchivedComments(builder.done());
+            final SearchResult<ArchivedComment> result = EngineAPICache.getInstance().get(getEngineSession(), ProcessAPI.class, TenantAPIAccessor::getProcessAPI).searchArchivedComments(builder.done());
 
             final List<ArchivedCommentItem> archivedCommentList = new ArrayList<ArchivedCommentItem>();
             for (final ArchivedComment item : result.getResult()) {
@@ -14,6 +14,8 @@
  */
 package org.bonitasoft.web.rest.server.datastore.bpm.cases;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -32,10 +34,13 @@ import org.bonitasoft.web.rest.model.bpm.cases.CaseDefinition;
 import org.bonitasoft.web.rest.model.bpm.cases.CaseItem;
 import org.bonitasoft.web.rest.server.datastore.CommonDatastore;
 import org.bonitasoft.web.rest.server.engineclient.EngineAPIAccessor;
+import org.bonitasoft.web.rest.server.engineclient.EngineAPICache;
 import org.bonitasoft.web.rest.server.engineclient.EngineClientFactory;
+import org.bonitasoft.web.rest.server.framework.RequestIdentityMap;
 import org.bonitasoft.web.rest.server.framework.api.DatastoreHasAdd;
 import org.bonitasoft.web.rest.server.framework.api.DatastoreHasDelete;
 import org.bonitasoft.web.rest.server.framework.api.DatastoreHasGet;
+import org.bonitasoft.web.rest.server.framework.api.DatastoreHasGetByIds;
 import org.bonitasoft.web.rest.server.framework.api.DatastoreHasSearch;
 import org.bonitasoft.web.rest.server.framework.search.ItemSearchResult;
 import org.bonitasoft.web.rest.server.framework.utils.SearchOptionsBuilderUtil;
@@ -48,8 +53,8 @@ import org.bonitasoft.web.toolkit.client.data.APIID;
  * @author Séverin Moussel
  * @author Celine Souchet
  */
-public class CaseDatastore extends CommonDatastore<CaseItem, ProcessInstance> implements DatastoreHasGet<CaseItem>, DatastoreHasSearch<CaseItem>,
-DatastoreHasDelete, DatastoreHasAdd<CaseItem> {
+public class CaseDatastore extends CommonDatastore<CaseItem, ProcessInstance> implements DatastoreHasGet<CaseItem>, DatastoreHasGetByIds<CaseItem>,
+DatastoreHasSearch<CaseItem>, DatastoreHasDelete, DatastoreHasAdd<CaseItem> {
 
     public CaseDatastore(final APISession engineSession) {
         super(engineSession);
@@ -64,6 +69,47 @@ DatastoreHasDelete, DatastoreHasAdd<CaseItem> {
         return search(0, 0, search, orders, filters).getTotal();
     }
 
+    /**
+     * Count the cases matching the filters for each of the given processes.<br>
+     * The cases of all the processes are first counted with a single search, so that a page of processes without cases costs a
+     * single call. When there are some, each process is counted on its own since the engine has no grouped count.
+     *
+     * @return the number of cases by process id
+     */
+    public Map<APIID, Long> countByProcess(final List<APIID> processIds, final Map<String, String> filters) {
+        final Map<APIID, Long> counts = new HashMap<>();
+        for (final APIID processId : processIds) {
+            counts.put(processId, 0L);
+        }
+        if (processIds.isEmpty()) {
+            return counts;
+        }
+        try {
+            if (processIds.size() > 1 && countCasesOfProcesses(processIds, filters) == 0) {
+                return counts;
+            }
+            for (final APIID processId : processIds) {
+                counts.put(processId, countCasesOfProcesses(Collections.singletonList(processId), filters));
+            }
+            return counts;
+        } catch (final Exception e) {
+            throw new APIException(e);
+        }
+    }
+
+    private long countCasesOfProcesses(final List<APIID> processIds, final Map<String, String> filters) throws BonitaException {
+        final SearchOptionsBuilder builder = buildSearchOptions(0, 0, null, null, filters);
+        builder.leftParenthesis();
+        for (int i = 0; i < processIds.size(); i++) {
+            if (i > 0) {
+                builder.or();
+            }
+            builder.filter(ProcessInstanceSearchDescriptor.PROCESS_DEFINITION_ID, processIds.get(i).toLong());
+        }
+        builder.rightParenthesis();
+        return searchProcessInstances(filters, builder.done()).getCount();
+    }
+
     /**
      * convenience for stubbing during unit test
      *
@@ -141,7 +187,8 @@ DatastoreHasDelete, DatastoreHasAdd<CaseItem> {
     @Override
     public CaseItem get(final APIID id) {
         try {
-            return convertEngineToConsoleItem(getProcessAPI().getProcessInstance(id.toLong()));
+            return convertEngineToConsoleItem(RequestIdentityMap.get(IDENTITY_MAP_REGION, id.toLong(),
+                    processInstanceId -> getProcessAPI().getProcessInstance(processInstanceId)));
         } catch (final ProcessInstanceNotFoundException e) {
             return null;
         } catch (final Exception e) {
@@ -149,6 +196,41 @@ DatastoreHasDelete, DatastoreHasAdd<CaseItem> {
         }
     }
 
+    /**
+     * Get the opened cases matching the given ids with a single search
+     */
+    @Override
+    public Map<APIID, CaseItem> getByIds(final List<APIID> ids) {
+        final Map<APIID, CaseItem> cases = new HashMap<>();
+        if (ids.isEmpty()) {
+            return cases;
+        }
+        for (final ProcessInstance processInstance : RequestIdentityMap.getAll(IDENTITY_MAP_REGION, APIID.toLongList(ids),
+                this::searchProcessInstancesByIds).values()) {
+            cases.put(APIID.makeAPIID(processInstance.getId()), convertEngineToConsoleItem(processInstance));
+        }
+        return cases;
+    }
+
+    private Map<Long, ProcessInstance> searchProcessInstancesByIds(final List<Long> ids) {
+        final SearchOptionsBuilder builder = new SearchOptionsBuilder(0, ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            if (i > 0) {
+                builder.or();
+            }
+            builder.filter(ProcessInstanceSearchDescriptor.ID, ids.get(i));
+        }
+        final Map<Long, ProcessInstance> processInstances = new HashMap<>();
+        try {
+            for (final ProcessInstance processInstance : getProcessAPI().searchProcessInstances(builder.done()).getResult()) {
+                processInstances.put(processInstance.getId(), processInstance);
+            }
+        } catch (final Exception e) {
+            throw new APIException(e);
+        }
+        return processInstances;
+    }
+
     @Override
     public void delete(final List<APIID> ids) {
         try {
@@ -173,7 +255,7 @@ DatastoreHasDelete, DatastoreHasAdd<CaseItem> {
     }
 
     public ProcessAPI getProcessAPI() throws BonitaException {
-        return TenantAPIAccessor.getProcessAPI(getEngineSession());
+        return EngineAPICache.getInstance().get(getEngineSession(), ProcessAPI.class, TenantAPIAccessor::getProcessAPI);
     }
 
 }
@@ -23,6 +23,8 @@ public class CaseItemConverter extends ItemConverter<CaseItem, ProcessInstance>
     @Override
     public CaseItem convert(final ProcessInstance process) {
         final CaseItem item = new CaseItem();
+        // engine objects are valid, no need to validate the item on each attribute set (read path)
+        item.setApplyValidators(false);
         item.setId(process.getId());
         item.setLastUpdateDate(process.getLastUpdate());
         item.setState(process.getState());
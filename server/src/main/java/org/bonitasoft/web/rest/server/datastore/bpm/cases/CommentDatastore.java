@@ -30,6 +30,7 @@ import org.bonitasoft.engine.session.APISession;
 import org.bonitasoft.engine.session.InvalidSessionException;
 import org.bonitasoft.web.rest.model.bpm.cases.CommentItem;
 import org.bonitasoft.web.rest.server.datastore.CommonDatastore;
+import org.bonitasoft.web.rest.server.engineclient.EngineAPICache;
 import org.bonitasoft.web.rest.server.framework.api.DatastoreHasAdd;
 import org.bonitasoft.web.rest.server.framework.api.DatastoreHasSearch;
 import org.bonitasoft.web.rest.server.framework.search.ItemSearchResult;
@@ -135,7 +136,7 @@ public class CommentDatastore extends CommonDatastore<CommentItem, Comment> impl
      */
     private SearchResult<Comment> runTeamManagerSearch(final long teamManagerId, final SearchOptionsBuilder builder) {
         try {
-            final ProcessAPI processAPI = TenantAPIAccessor.getProcessAPI(getEngineSession());
+            final ProcessAPI processAPI = EngineAPICache.getInstance().get(getEngineSession(), ProcessAPI.class, TenantAPIAccessor::getProcessAPI);
             return processAPI.searchCommentsManagedBy(teamManagerId, builder.done());
         } catch (final InvalidSessionException e) {
             throw new APISessionInvalidException(e);
@@ -155,7 +156,7 @@ public class CommentDatastore extends CommonDatastore<CommentItem, Comment> impl
      */
     private SearchResult<Comment> runUserSearch(final long userId, final SearchOptionsBuilder builder) {
         try {
-            final ProcessAPI processAPI = TenantAPIAccessor.getProcessAPI(getEngineSession());
+            final ProcessAPI processAPI = EngineAPICache.getInstance().get(getEngineSession(), ProcessAPI.class, TenantAPIAccessor::getProcessAPI);
             return processAPI.searchCommentsInvolvingUser(userId, builder.done());
         } catch (final InvalidSessionException e) {
             throw new APISessionInvalidException(e);
@@ -172,7 +173,7 @@ public class CommentDatastore extends CommonDatastore<CommentItem, Comment> impl
      */
     private SearchResult<Comment> runCustomSearch(final SearchOptionsBuilder builder) {
         try {
-            final ProcessAPI processAPI = TenantAPIAccessor.getProcessAPI(getEngineSession());
+            final ProcessAPI processAPI = EngineAPICache.getInstance().get(getEngineSession(), ProcessAPI.class, TenantAPIAccessor::getProcessAPI);
             return processAPI.searchComments(builder.done());
         } catch (final InvalidSessionException e) {
             throw new APISessionInvalidException(e);
@@ -205,7 +206,7 @@ public class CommentDatastore extends CommonDatastore<CommentItem, Comment> impl
     @Override
     public CommentItem add(final CommentItem item) {
         try {
-            final ProcessAPI processAPI = TenantAPIAccessor.getProcessAPI(getEngineSession());
+            final ProcessAPI processAPI = EngineAPICache.getInstance().get(getEngineSession(), ProcessAPI.class, TenantAPIAccessor::getProcessAPI);
             return convertEngineToConsoleItem(processAPI.addProcessComment(item.getProcessInstanceId().toLong(), item.getContent()));
         } catch (final InvalidSessionException e) {
             throw new APISessionInvalidException(e);
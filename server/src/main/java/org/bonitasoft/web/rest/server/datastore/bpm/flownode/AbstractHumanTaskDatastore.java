@@ -15,6 +15,7 @@
 package org.bonitasoft.web.rest.server.datastore.bpm.flownode;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
@@ -294,18 +295,34 @@ public class AbstractHumanTaskDatastore<CONSOLE_ITEM extends HumanTaskItem, ENGI
     // //////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
 
     public Long getNumberOfOpenTasks(final APIID userId) {
+        return getNumberOfOpenTasks(Arrays.asList(userId)).get(userId.toLong());
+    }
+
+    /**
+     * Count the open tasks of several users with a single engine call
+     *
+     * @return the number of open tasks by user id
+     */
+    public Map<Long, Long> getNumberOfOpenTasks(final List<APIID> userIds) {
         try {
-            return getProcessAPI().getNumberOfOpenTasks(Arrays.asList(userId.toLong()))
-                    .get(userId.toLong());
+            return getProcessAPI().getNumberOfOpenTasks(APIID.toLongList(userIds));
         } catch (final Exception e) {
             throw new APIException(e);
         }
     }
 
     public Long getNumberOfOverdueOpenTasks(final APIID userId) {
+        return getNumberOfOverdueOpenTasks(Arrays.asList(userId)).get(userId.toLong());
+    }
+
+    /**
+     * Count the overdue open tasks of several users with a single engine call
+     *
+     * @return the number of overdue open tasks by user id
+     */
+    public Map<Long, Long> getNumberOfOverdueOpenTasks(final List<APIID> userIds) {
         try {
-            return getProcessAPI().getNumberOfOverdueOpenTasks(Arrays.asList(userId.toLong()))
-                    .get(userId.toLong());
+            return getProcessAPI().getNumberOfOverdueOpenTasks(APIID.toLongList(userIds));
         } catch (final Exception e) {
             throw new APIException(e);
         }
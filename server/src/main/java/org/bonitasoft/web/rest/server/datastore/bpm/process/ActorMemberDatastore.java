@@ -37,6 +37,7 @@ import org.bonitasoft.web.rest.model.bpm.process.ActorMemberItem;
 import org.bonitasoft.web.rest.model.identity.MemberType;
 import org.bonitasoft.web.rest.model.portal.profile.AbstractMemberItem;
 import org.bonitasoft.web.rest.server.datastore.CommonDatastore;
+import org.bonitasoft.web.rest.server.engineclient.EngineAPICache;
 import org.bonitasoft.web.rest.server.framework.api.DatastoreHasAdd;
 import org.bonitasoft.web.rest.server.framework.api.DatastoreHasDelete;
 import org.bonitasoft.web.rest.server.framework.api.DatastoreHasSearch;
@@ -73,7 +74,7 @@ public class ActorMemberDatastore extends CommonDatastore<ActorMemberItem, Actor
      * @throws UnknownAPITypeException
      */
     private ProcessAPI getProcessAPI() throws InvalidSessionException, BonitaHomeNotSetException, ServerAPIException, UnknownAPITypeException {
-        return TenantAPIAccessor.getProcessAPI(getEngineSession());
+        return EngineAPICache.getInstance().get(getEngineSession(), ProcessAPI.class, TenantAPIAccessor::getProcessAPI);
     }
 
     // //////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
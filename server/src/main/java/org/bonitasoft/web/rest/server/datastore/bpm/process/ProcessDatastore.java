@@ -16,6 +16,7 @@ package org.bonitasoft.web.rest.server.datastore.bpm.process;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.logging.Level;
@@ -27,6 +28,7 @@ import org.bonitasoft.console.common.server.utils.BonitaHomeFolderAccessor;
 import org.bonitasoft.console.common.server.utils.FormsResourcesUtils;
 import org.bonitasoft.console.common.server.utils.PlatformManagementUtils;
 import org.bonitasoft.console.common.server.utils.UnauthorizedFolderException;
+import org.bonitasoft.console.common.server.utils.UploadedFileStore;
 import org.bonitasoft.engine.api.PageAPI;
 import org.bonitasoft.engine.api.TenantAPIAccessor;
 import org.bonitasoft.engine.bpm.bar.BusinessArchive;
@@ -45,11 +47,14 @@ import org.bonitasoft.web.rest.server.datastore.CommonDatastore;
 import org.bonitasoft.web.rest.server.datastore.bpm.process.helper.ProcessItemConverter;
 import org.bonitasoft.web.rest.server.datastore.bpm.process.helper.SearchProcessHelper;
 import org.bonitasoft.web.rest.server.engineclient.EngineAPIAccessor;
+import org.bonitasoft.web.rest.server.engineclient.EngineAPICache;
 import org.bonitasoft.web.rest.server.engineclient.EngineClientFactory;
 import org.bonitasoft.web.rest.server.engineclient.ProcessEngineClient;
+import org.bonitasoft.web.rest.server.framework.RequestIdentityMap;
 import org.bonitasoft.web.rest.server.framework.api.DatastoreHasAdd;
 import org.bonitasoft.web.rest.server.framework.api.DatastoreHasDelete;
 import org.bonitasoft.web.rest.server.framework.api.DatastoreHasGet;
+import org.bonitasoft.web.rest.server.framework.api.DatastoreHasGetByIds;
 import org.bonitasoft.web.rest.server.framework.api.DatastoreHasSearch;
 import org.bonitasoft.web.rest.server.framework.api.DatastoreHasUpdate;
 import org.bonitasoft.web.rest.server.framework.search.ItemSearchResult;
@@ -66,6 +71,7 @@ public class ProcessDatastore extends CommonDatastore<ProcessItem, ProcessDeploy
         DatastoreHasAdd<ProcessItem>,
         DatastoreHasUpdate<ProcessItem>,
         DatastoreHasGet<ProcessItem>,
+        DatastoreHasGetByIds<ProcessItem>,
         DatastoreHasSearch<ProcessItem>,
         DatastoreHasDelete {
 
@@ -76,6 +82,8 @@ public class ProcessDatastore extends CommonDatastore<ProcessItem, ProcessDeploy
      */
     private static final String FILE_UPLOAD = "fileupload";
 
+    private static final String IDENTITY_MAP_REGION = "process";
+
     private static final int DELETE_PAGES_BUNCH_SIZE = 100;
 
     public ProcessDatastore(final APISession engineSession) {
@@ -97,6 +105,7 @@ public class ProcessDatastore extends CommonDatastore<ProcessItem, ProcessDeploy
 
         final BusinessArchive businessArchive = readBusinessArchive(processFile);
         final ProcessDefinition deployedArchive = engineClient.deploy(businessArchive);
+        UploadedFileStore.getInstance().release(processFile);
         final ProcessDeploymentInfo processDeploymentInfo = engineClient.getProcessDeploymentInfo(deployedArchive.getId());
 
         try {
@@ -171,11 +180,21 @@ public class ProcessDatastore extends CommonDatastore<ProcessItem, ProcessDeploy
 
     @Override
     public ProcessItem get(final APIID id) {
-        final ProcessEngineClient engineClient = getProcessEngineClient();
-        final ProcessDeploymentInfo processDeploymentInfo = engineClient.getProcessDeploymentInfo(id.toLong());
+        final ProcessDeploymentInfo processDeploymentInfo = RequestIdentityMap.get(IDENTITY_MAP_REGION, id.toLong(),
+                getProcessEngineClient()::getProcessDeploymentInfo);
         return convertEngineToConsoleItem(processDeploymentInfo);
     }
 
+    @Override
+    public Map<APIID, ProcessItem> getByIds(final List<APIID> ids) {
+        final Map<APIID, ProcessItem> processes = new HashMap<>();
+        for (final ProcessDeploymentInfo processDeploymentInfo : RequestIdentityMap.getAll(IDENTITY_MAP_REGION, APIID.toLongList(ids),
+                getProcessEngineClient()::getProcessDeploymentInfos).values()) {
+            processes.put(APIID.makeAPIID(processDeploymentInfo.getProcessId()), convertEngineToConsoleItem(processDeploymentInfo));
+        }
+        return processes;
+    }
+
     @Override
     public void delete(final List<APIID> ids) {
         for (final APIID id : ids) {
@@ -214,7 +233,7 @@ public class ProcessDatastore extends CommonDatastore<ProcessItem, ProcessDeploy
 
     protected PageAPI getPageAPI() {
         try {
-            return TenantAPIAccessor.getCustomPageAPI(getEngineSession());
+            return EngineAPICache.getInstance().get(getEngineSession(), PageAPI.class, TenantAPIAccessor::getCustomPageAPI);
         } catch (final Exception e) {
             throw new APIException(e);
         }
@@ -19,11 +19,13 @@ package org.bonitasoft.web.rest.server.datastore.bpm.process;
 import java.util.List;
 import java.util.Map;
 
+import org.bonitasoft.engine.api.ProcessAPI;
 import org.bonitasoft.engine.api.TenantAPIAccessor;
 import org.bonitasoft.engine.bpm.process.Problem;
 import org.bonitasoft.engine.session.APISession;
 import org.bonitasoft.web.rest.model.bpm.process.ProcessResolutionProblemItem;
 import org.bonitasoft.web.rest.server.datastore.CommonDatastore;
+import org.bonitasoft.web.rest.server.engineclient.EngineAPICache;
 import org.bonitasoft.web.rest.server.framework.api.DatastoreHasSearch;
 import org.bonitasoft.web.rest.server.framework.search.ItemSearchResult;
 import org.bonitasoft.web.toolkit.client.common.exception.api.APIException;
@@ -54,7 +56,7 @@ public class ProcessResolutionProblemDatastore extends CommonDatastore<ProcessRe
             final Map<String, String> filters) {
         try {
 
-            final List<Problem> errors = TenantAPIAccessor.getProcessAPI(getEngineSession()).getProcessResolutionProblems(
+            final List<Problem> errors = EngineAPICache.getInstance().get(getEngineSession(), ProcessAPI.class, TenantAPIAccessor::getProcessAPI).getProcessResolutionProblems(
                     MapUtil.getValueAsLong(filters, ProcessResolutionProblemItem.FILTER_PROCESS_ID));
 
             final int startIndex = page * resultsByPage;
@@ -45,6 +45,8 @@ public class ProcessItemConverter extends ItemConverter<ProcessItem, ProcessDepl
     public ProcessItem convert(ProcessDeploymentInfo engineItem) {
 
         final ProcessItem item = new ProcessItem();
+        // engine objects are valid, no need to validate the item on each attribute set (read path)
+        item.setApplyValidators(false);
         item.setId(engineItem.getProcessId());
         item.setName(engineItem.getName());
         item.setVersion(engineItem.getVersion());
@@ -19,6 +19,10 @@ import static org.bonitasoft.web.toolkit.client.data.APIID.toLongList;
 import java.util.List;
 import java.util.Map;
 
+import org.bonitasoft.console.common.server.login.filter.PermissionDecisionCache;
+import org.bonitasoft.console.common.server.servlet.IconCache;
+import org.bonitasoft.console.common.server.utils.ProfileMembershipCache;
+import org.bonitasoft.engine.api.IdentityAPI;
 import org.bonitasoft.engine.api.TenantAPIAccessor;
 import org.bonitasoft.engine.identity.Group;
 import org.bonitasoft.engine.identity.GroupCreator;
@@ -30,6 +34,7 @@ import org.bonitasoft.engine.session.APISession;
 import org.bonitasoft.web.rest.model.identity.GroupItem;
 import org.bonitasoft.web.rest.server.datastore.CommonDatastore;
 import org.bonitasoft.web.rest.server.engineclient.EngineAPIAccessor;
+import org.bonitasoft.web.rest.server.engineclient.EngineAPICache;
 import org.bonitasoft.web.rest.server.engineclient.EngineClientFactory;
 import org.bonitasoft.web.rest.server.engineclient.GroupEngineClient;
 import org.bonitasoft.web.rest.server.framework.api.DatastoreHasAdd;
@@ -63,6 +68,9 @@ public class GroupDatastore extends CommonDatastore<GroupItem, Group> implements
     @Override
     public void delete(final List<APIID> ids) {
         getGroupEngineClient().delete(toLongList(ids));
+        IconCache.getInstance().invalidate(getEngineSession().getTenantId(), IconCache.ORGANIZATION_ICONS);
+        PermissionDecisionCache.invalidate(getEngineSession().getTenantId());
+        ProfileMembershipCache.getInstance().invalidate(getEngineSession().getTenantId());
     }
 
     @Override
@@ -76,7 +84,7 @@ public class GroupDatastore extends CommonDatastore<GroupItem, Group> implements
             addStringFilterToSearchBuilder(filters, builder, GroupItem.ATTRIBUTE_PARENT_PATH, GroupSearchDescriptor.PARENT_PATH);
 
             SearchResult<Group> engineSearchResults;
-            engineSearchResults = TenantAPIAccessor.getIdentityAPI(getEngineSession()).searchGroups(builder.done());
+            engineSearchResults = EngineAPICache.getInstance().get(getEngineSession(), IdentityAPI.class, TenantAPIAccessor::getIdentityAPI).searchGroups(builder.done());
 
             return new ItemSearchResult<>(page, resultsByPage, engineSearchResults.getCount(),
                     new GroupItemConverter().convert(engineSearchResults.getResult()));
@@ -96,6 +104,10 @@ public class GroupDatastore extends CommonDatastore<GroupItem, Group> implements
     public GroupItem update(final APIID id, final Map<String, String> attributes) {
         GroupUpdater updater = new GroupUpdaterConverter(getGroupEngineClient()).convert(attributes, getEngineSession().getTenantId());
         Group group = getGroupEngineClient().update(id.toLong(), updater);
+        if (attributes.containsKey(GroupItem.ATTRIBUTE_ICON)) {
+            // the replaced icon is deleted
+            IconCache.getInstance().invalidate(getEngineSession().getTenantId(), IconCache.ORGANIZATION_ICONS);
+        }
         return new GroupItemConverter().convert(group);
     }
 
@@ -108,7 +120,7 @@ public class GroupDatastore extends CommonDatastore<GroupItem, Group> implements
 
     public Long getNumberOfUsers(final APIID groupId) {
         try {
-            return TenantAPIAccessor.getIdentityAPI(getEngineSession()).getNumberOfUsersInGroup(groupId.toLong());
+            return EngineAPICache.getInstance().get(getEngineSession(), IdentityAPI.class, TenantAPIAccessor::getIdentityAPI).getNumberOfUsersInGroup(groupId.toLong());
         } catch (final Exception e) {
             throw new APIException(e);
         }
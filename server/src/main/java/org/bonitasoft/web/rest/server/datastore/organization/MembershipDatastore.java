@@ -26,6 +26,7 @@ import org.bonitasoft.engine.session.APISession;
 import org.bonitasoft.engine.session.InvalidSessionException;
 import org.bonitasoft.web.rest.model.identity.MembershipItem;
 import org.bonitasoft.web.rest.server.datastore.CommonDatastore;
+import org.bonitasoft.web.rest.server.engineclient.EngineAPICache;
 import org.bonitasoft.web.rest.server.framework.api.DatastoreHasAdd;
 import org.bonitasoft.web.rest.server.framework.api.DatastoreHasDelete;
 import org.bonitasoft.web.rest.server.framework.api.DatastoreHasSearch;
@@ -62,7 +63,7 @@ public class MembershipDatastore extends CommonDatastore<MembershipItem, UserMem
      * @throws UnknownAPITypeException
      */
     private IdentityAPI getIdentityAPI() throws InvalidSessionException, BonitaHomeNotSetException, ServerAPIException, UnknownAPITypeException {
-        return TenantAPIAccessor.getIdentityAPI(getEngineSession());
+        return EngineAPICache.getInstance().get(getEngineSession(), IdentityAPI.class, TenantAPIAccessor::getIdentityAPI);
     }
 
     // //////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -18,6 +18,7 @@ package org.bonitasoft.web.rest.server.datastore.organization;
 
 import java.util.Map;
 
+import org.bonitasoft.engine.api.IdentityAPI;
 import org.bonitasoft.engine.api.TenantAPIAccessor;
 import org.bonitasoft.engine.exception.NotFoundException;
 import org.bonitasoft.engine.identity.ContactData;
@@ -27,6 +28,7 @@ import org.bonitasoft.engine.session.APISession;
 import org.bonitasoft.engine.session.InvalidSessionException;
 import org.bonitasoft.web.rest.model.identity.PersonalContactDataItem;
 import org.bonitasoft.web.rest.server.datastore.CommonDatastore;
+import org.bonitasoft.web.rest.server.engineclient.EngineAPICache;
 import org.bonitasoft.web.rest.server.framework.api.DatastoreHasAdd;
 import org.bonitasoft.web.rest.server.framework.api.DatastoreHasGet;
 import org.bonitasoft.web.rest.server.framework.api.DatastoreHasUpdate;
@@ -49,7 +51,7 @@ public class PersonalContactDataDatastore extends CommonDatastore<PersonalContac
     public PersonalContactDataItem get(final APIID id) {
         try {
             // Hard-coded at true because we want to retrieve ContactData
-            final ContactData result = TenantAPIAccessor.getIdentityAPI(getEngineSession())
+            final ContactData result = EngineAPICache.getInstance().get(getEngineSession(), IdentityAPI.class, TenantAPIAccessor::getIdentityAPI)
                     .getUserContactData(id.toLong(), true);
             return createContactDataItemConverter(id).convert(result);
         } catch (final NotFoundException e) {
@@ -107,7 +109,7 @@ public class PersonalContactDataDatastore extends CommonDatastore<PersonalContac
                     .setPersonalContactData(personalDataUpdater)
                     // TODO remove once handle by engine
                     .setProfessionalContactData(new ContactDataUpdater());
-            TenantAPIAccessor.getIdentityAPI(getEngineSession()).updateUser(id.toLong(), userUpdater);
+            EngineAPICache.getInstance().get(getEngineSession(), IdentityAPI.class, TenantAPIAccessor::getIdentityAPI).updateUser(id.toLong(), userUpdater);
             return get(id);
 
         } catch (final InvalidSessionException e) {
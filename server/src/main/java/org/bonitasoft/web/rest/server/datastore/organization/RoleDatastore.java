@@ -18,8 +18,11 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+import org.bonitasoft.console.common.server.login.filter.PermissionDecisionCache;
+import org.bonitasoft.console.common.server.servlet.IconCache;
 import org.bonitasoft.console.common.server.utils.BonitaHomeFolderAccessor;
 import org.bonitasoft.console.common.server.utils.IconDescriptor;
+import org.bonitasoft.console.common.server.utils.ProfileMembershipCache;
 import org.bonitasoft.engine.api.IdentityAPI;
 import org.bonitasoft.engine.api.TenantAPIAccessor;
 import org.bonitasoft.engine.exception.AlreadyExistsException;
@@ -33,6 +36,7 @@ import org.bonitasoft.engine.session.APISession;
 import org.bonitasoft.engine.session.InvalidSessionException;
 import org.bonitasoft.web.rest.model.identity.RoleItem;
 import org.bonitasoft.web.rest.server.datastore.CommonDatastore;
+import org.bonitasoft.web.rest.server.engineclient.EngineAPICache;
 import org.bonitasoft.web.rest.server.framework.api.DatastoreHasAdd;
 import org.bonitasoft.web.rest.server.framework.api.DatastoreHasDelete;
 import org.bonitasoft.web.rest.server.framework.api.DatastoreHasGet;
@@ -72,6 +76,9 @@ public class RoleDatastore extends CommonDatastore<RoleItem, Role> implements
             }
 
             getIdentityAPI().deleteRoles(longIds);
+            IconCache.getInstance().invalidate(getEngineSession().getTenantId(), IconCache.ORGANIZATION_ICONS);
+            PermissionDecisionCache.invalidate(getEngineSession().getTenantId());
+            ProfileMembershipCache.getInstance().invalidate(getEngineSession().getTenantId());
 
         } catch (final Exception e) {
             throw new APIException(e);
@@ -98,7 +105,12 @@ public class RoleDatastore extends CommonDatastore<RoleItem, Role> implements
                 updater.setIcon(iconDescriptor.getFilename(), iconDescriptor.getContent());
             }
 
-            return convertEngineToConsoleItem(getIdentityAPI().updateRole(id.toLong(), updater));
+            final Role role = getIdentityAPI().updateRole(id.toLong(), updater);
+            if (attributes.containsKey(RoleItem.ATTRIBUTE_ICON)) {
+                // the replaced icon is deleted
+                IconCache.getInstance().invalidate(getEngineSession().getTenantId(), IconCache.ORGANIZATION_ICONS);
+            }
+            return convertEngineToConsoleItem(role);
         } catch (final RoleNotFoundException e) {
             throw new APINotFoundException(new T_("Unable to find role %roleId%", new Arg("roleId", id)));
         } catch (APIException e) {
@@ -183,7 +195,7 @@ public class RoleDatastore extends CommonDatastore<RoleItem, Role> implements
     }
 
     IdentityAPI getIdentityAPI() throws InvalidSessionException, BonitaHomeNotSetException, ServerAPIException, UnknownAPITypeException {
-        return TenantAPIAccessor.getIdentityAPI(getEngineSession());
+        return EngineAPICache.getInstance().get(getEngineSession(), IdentityAPI.class, TenantAPIAccessor::getIdentityAPI);
     }
 
     @Override
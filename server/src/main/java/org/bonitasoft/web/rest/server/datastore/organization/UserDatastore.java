@@ -14,10 +14,14 @@
  */
 package org.bonitasoft.web.rest.server.datastore.organization;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.bonitasoft.console.common.server.login.filter.PermissionDecisionCache;
+import org.bonitasoft.console.common.server.servlet.IconCache;
 import org.bonitasoft.console.common.server.utils.BonitaHomeFolderAccessor;
+import org.bonitasoft.console.common.server.utils.ProfileMembershipCache;
 import org.bonitasoft.engine.exception.SearchException;
 import org.bonitasoft.engine.identity.User;
 import org.bonitasoft.engine.identity.UserCreator;
@@ -33,7 +37,9 @@ import org.bonitasoft.web.rest.server.engineclient.EngineAPIAccessor;
 import org.bonitasoft.web.rest.server.engineclient.EngineClientFactory;
 import org.bonitasoft.web.rest.server.engineclient.ProcessEngineClient;
 import org.bonitasoft.web.rest.server.engineclient.UserEngineClient;
+import org.bonitasoft.web.rest.server.framework.RequestIdentityMap;
 import org.bonitasoft.web.rest.server.framework.api.DatastoreHasGet;
+import org.bonitasoft.web.rest.server.framework.api.DatastoreHasGetByIds;
 import org.bonitasoft.web.rest.server.framework.exception.APIAttributeException;
 import org.bonitasoft.web.rest.server.framework.search.ItemSearchResult;
 import org.bonitasoft.web.toolkit.client.common.exception.api.APIException;
@@ -43,7 +49,9 @@ import org.bonitasoft.web.toolkit.client.data.APIID;
  * @author Séverin Moussel
  */
 public class UserDatastore extends CommonDatastore<UserItem, User>
-        implements DatastoreHasGet<UserItem> {
+        implements DatastoreHasGet<UserItem>, DatastoreHasGetByIds<UserItem> {
+
+    private static final String IDENTITY_MAP_REGION = "user";
 
     protected EngineClientFactory engineClientFactory;
 
@@ -68,6 +76,14 @@ public class UserDatastore extends CommonDatastore<UserItem, User>
     public UserItem update(final APIID id, final Map<String, String> attributes) {
         UserUpdater userUpdater = new UserUpdaterConverter().convert(attributes, getEngineSession().getTenantId(), getBonitaHomeFolderAccessor());
         User user = getUserEngineClient().update(id.toLong(), userUpdater);
+        if (attributes.containsKey(UserItem.ATTRIBUTE_ICON)) {
+            // the replaced icon is deleted
+            IconCache.getInstance().invalidate(getEngineSession().getTenantId(), IconCache.ORGANIZATION_ICONS);
+        }
+        if (attributes.containsKey(UserItem.ATTRIBUTE_ENABLED)) {
+            // a disabled user loses its profiles
+            ProfileMembershipCache.getInstance().invalidate(getEngineSession().getTenantId());
+        }
         return userItemConverter.convert(user);
     }
 
@@ -77,10 +93,19 @@ public class UserDatastore extends CommonDatastore<UserItem, User>
 
     @Override
     public UserItem get(final APIID id) {
-        User user = getUserEngineClient().get(id.toLong());
+        User user = RequestIdentityMap.get(IDENTITY_MAP_REGION, id.toLong(), getUserEngineClient()::get);
         return userItemConverter.convert(user);
     }
 
+    @Override
+    public Map<APIID, UserItem> getByIds(final List<APIID> ids) {
+        final Map<APIID, UserItem> users = new HashMap<>();
+        for (final User user : RequestIdentityMap.getAll(IDENTITY_MAP_REGION, APIID.toLongList(ids), getUserEngineClient()::get).values()) {
+            users.put(APIID.makeAPIID(user.getId()), userItemConverter.convert(user));
+        }
+        return users;
+    }
+
     /**
      * Search for users
      *
@@ -181,6 +206,9 @@ public class UserDatastore extends CommonDatastore<UserItem, User>
      */
     public void delete(final List<APIID> ids) {
         getUserEngineClient().delete(APIID.toLongList(ids));
+        IconCache.getInstance().invalidate(getEngineSession().getTenantId(), IconCache.ORGANIZATION_ICONS);
+        PermissionDecisionCache.invalidate(getEngineSession().getTenantId());
+        ProfileMembershipCache.getInstance().invalidate(getEngineSession().getTenantId());
     }
 
     // //////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
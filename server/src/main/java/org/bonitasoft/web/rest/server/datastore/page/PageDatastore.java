@@ -24,12 +24,14 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.apache.commons.io.FileUtils;
+import org.bonitasoft.console.common.server.login.filter.PermissionDecisionCache;
 import org.bonitasoft.console.common.server.page.CustomPageService;
 import org.bonitasoft.console.common.server.preferences.constants.WebBonitaConstantsUtils;
 import org.bonitasoft.console.common.server.servlet.FileUploadServlet;
 import org.bonitasoft.console.common.server.utils.BonitaHomeFolderAccessor;
 import org.bonitasoft.console.common.server.utils.UnauthorizedFolderException;
 import org.bonitasoft.console.common.server.utils.UnzipUtil;
+import org.bonitasoft.console.common.server.utils.UploadedFileStore;
 import org.bonitasoft.engine.api.PageAPI;
 import org.bonitasoft.engine.exception.BonitaException;
 import org.bonitasoft.engine.exception.CreationException;
@@ -43,6 +45,7 @@ import org.bonitasoft.engine.page.PageUpdater;
 import org.bonitasoft.engine.search.SearchOptionsBuilder;
 import org.bonitasoft.engine.search.SearchResult;
 import org.bonitasoft.engine.session.APISession;
+import org.bonitasoft.livingapps.ApplicationModelCache;
 import org.bonitasoft.web.extension.page.PageResourceProvider;
 import org.bonitasoft.web.rest.model.portal.page.PageItem;
 import org.bonitasoft.web.rest.server.datastore.CommonDatastore;
@@ -124,6 +127,9 @@ public class PageDatastore extends CommonDatastore<PageItem, Page>
             PageResourceProvider pageResourceProvider = customPageService.getPageResourceProvider(page, tenantId);
             customPageService.writePageToPageDirectory(page, pageResourceProvider, unzipPageTempFolder, engineSession);
             deleteTempDirectory(unzipPageTempFolder);
+            // the page may declare REST API extensions permissions
+            PermissionDecisionCache.invalidate(tenantId);
+            ApplicationModelCache.invalidate(tenantId);
             return addedPage;
         } catch (final UnauthorizedFolderException e) {
             throw new APIForbiddenException(e.getMessage());
@@ -179,7 +185,7 @@ public class PageDatastore extends CommonDatastore<PageItem, Page>
             }
             return page;
         } finally {
-            zipFile.delete();
+            UploadedFileStore.getInstance().release(zipFile);
         }
     }
 
@@ -217,6 +223,10 @@ public class PageDatastore extends CommonDatastore<PageItem, Page>
             }
         } catch (final Exception e) {
             throw new APIException(e);
+        } finally {
+            // some of the pages may have been deleted before the failure
+            PermissionDecisionCache.invalidate(getEngineSession().getTenantId());
+            ApplicationModelCache.invalidate(getEngineSession().getTenantId());
         }
     }
 
@@ -316,6 +326,8 @@ public class PageDatastore extends CommonDatastore<PageItem, Page>
                         pageUpdater.setContentName(originalFileName);
                         page = pageAPI.updatePage(pageId, pageUpdater);
                         updatedPage = convertEngineToConsoleItem(page);
+                        PermissionDecisionCache.invalidate(tenantId);
+                        ApplicationModelCache.invalidate(tenantId);
                     } finally {
                         PageResourceProvider pageResourceProvider = customPageService.getPageResourceProvider(page,
                                 tenantId);
@@ -330,9 +342,7 @@ public class PageDatastore extends CommonDatastore<PageItem, Page>
         } catch (final Exception e) {
             throw new APIException(e);
         } finally {
-            if (zipFile != null) {
-                zipFile.delete();
-            }
+            UploadedFileStore.getInstance().release(zipFile);
         }
     }
 
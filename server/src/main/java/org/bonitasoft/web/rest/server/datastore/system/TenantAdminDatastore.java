@@ -16,8 +16,12 @@
  */
 package org.bonitasoft.web.rest.server.datastore.system;
 
+import java.io.IOException;
 import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
+import org.bonitasoft.console.common.server.preferences.properties.ConfigurationFilesManager;
 import org.bonitasoft.engine.session.APISession;
 import org.bonitasoft.web.rest.model.system.TenantAdminItem;
 import org.bonitasoft.web.rest.server.engineclient.EngineAPIAccessor;
@@ -35,6 +39,8 @@ import org.bonitasoft.web.toolkit.client.data.APIID;
  */
 public class TenantAdminDatastore extends Datastore implements DatastoreHasUpdate<TenantAdminItem>, DatastoreHasGet<TenantAdminItem> {
 
+    private static final Logger LOGGER = Logger.getLogger(TenantAdminDatastore.class.getName());
+
     protected APISession apiSession;
 
     public TenantAdminDatastore(final APISession apiSession) {
@@ -49,6 +55,8 @@ public class TenantAdminDatastore extends Datastore implements DatastoreHasUpdat
             tenantAdminItem.setId(apiSession.getTenantId());
             if (!doPause) {
                 getTenantManagementEngineClient().resumeTenant();
+                // the configuration files of the tenant may have been changed while it was paused
+                reloadTenantConfiguration();
             } else if (doPause) {
                 getTenantManagementEngineClient().pauseTenant();
             }
@@ -72,6 +80,16 @@ public class TenantAdminDatastore extends Datastore implements DatastoreHasUpdat
         }
     }
 
+    protected void reloadTenantConfiguration() {
+        try {
+            ConfigurationFilesManager.getInstance().reloadTenantConfiguration(apiSession.getTenantId());
+        } catch (final IOException e) {
+            if (LOGGER.isLoggable(Level.WARNING)) {
+                LOGGER.log(Level.WARNING, "Unable to reload the configuration of tenant " + apiSession.getTenantId(), e);
+            }
+        }
+    }
+
     protected TenantManagementEngineClient getTenantManagementEngineClient() {
         return new EngineClientFactory(new EngineAPIAccessor(apiSession)).createTenantManagementEngineClient();
     }
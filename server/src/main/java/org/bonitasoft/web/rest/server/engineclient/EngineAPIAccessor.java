@@ -32,6 +32,8 @@ import org.bonitasoft.web.toolkit.client.common.exception.api.APIException;
 import org.bonitasoft.web.toolkit.client.common.exception.api.APISessionInvalidException;
 
 /**
+ * Engine APIs of a session. The facades are created once per session, see {@link EngineAPICache}.
+ *
  * @author Vincent Elcrin
  *
  */
@@ -49,7 +51,7 @@ public class EngineAPIAccessor {
 
     public ProfileAPI getProfileAPI() {
         try {
-            return TenantAPIAccessor.getProfileAPI(getSession());
+            return EngineAPICache.getInstance().get(getSession(), ProfileAPI.class, TenantAPIAccessor::getProfileAPI);
         } catch (final InvalidSessionException e) {
             throw new APISessionInvalidException(e);
         } catch (final BonitaHomeNotSetException e) {
@@ -63,7 +65,7 @@ public class EngineAPIAccessor {
 
     public ProcessAPI getProcessAPI() {
         try {
-            return TenantAPIAccessor.getProcessAPI(getSession());
+            return EngineAPICache.getInstance().get(getSession(), ProcessAPI.class, TenantAPIAccessor::getProcessAPI);
         } catch (final Exception e) {
             throw new APIException("Error when getting engine process API", e);
         }
@@ -71,7 +73,7 @@ public class EngineAPIAccessor {
 
     public IdentityAPI getIdentityAPI() {
         try {
-            return TenantAPIAccessor.getIdentityAPI(getSession());
+            return EngineAPICache.getInstance().get(getSession(), IdentityAPI.class, TenantAPIAccessor::getIdentityAPI);
         } catch (final Exception e) {
             throw new APIException("Error when getting engine identity API", e);
         }
@@ -79,7 +81,7 @@ public class EngineAPIAccessor {
 
     public GroupAPI getGroupAPI() {
         try {
-            return TenantAPIAccessor.getIdentityAPI(getSession());
+            return EngineAPICache.getInstance().get(getSession(), IdentityAPI.class, TenantAPIAccessor::getIdentityAPI);
         } catch (final Exception e) {
             throw new APIException("Error when getting engine group API", e);
         }
@@ -87,7 +89,7 @@ public class EngineAPIAccessor {
 
     public PageAPI getPageAPI() {
         try {
-            return TenantAPIAccessor.getCustomPageAPI(getSession());
+            return EngineAPICache.getInstance().get(getSession(), PageAPI.class, TenantAPIAccessor::getCustomPageAPI);
         } catch (final Exception e) {
             throw new APIException("Error when getting engine page API", e);
         }
@@ -95,7 +97,7 @@ public class EngineAPIAccessor {
 
     public TenantAdministrationAPI getTenantAdministrationAPI() {
         try {
-            return TenantAPIAccessor.getTenantAdministrationAPI(getSession());
+            return EngineAPICache.getInstance().get(getSession(), TenantAdministrationAPI.class, TenantAPIAccessor::getTenantAdministrationAPI);
         } catch (final Exception e) {
             throw new APIException("Error when getting engine tenant management API", e);
         }
@@ -0,0 +1,91 @@
+/**
+ * Copyright (C) 2022 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.rest.server.engineclient;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.bonitasoft.engine.exception.BonitaHomeNotSetException;
+import org.bonitasoft.engine.exception.ServerAPIException;
+import org.bonitasoft.engine.exception.UnknownAPITypeException;
+import org.bonitasoft.engine.session.APISession;
+
+/**
+ * Engine API facades of the logged in sessions.<br>
+ * Each facade is created once per {@link APISession} and reused by all the datastores and requests of the session, until
+ * the session is invalidated on logout or expiry (see {@link EngineAPICacheSessionListener}).
+ */
+public class EngineAPICache {
+
+    private static final EngineAPICache INSTANCE = new EngineAPICache();
+
+    private final Map<String, Map<Class<?>, Object>> apisBySession = new ConcurrentHashMap<>();
+
+    EngineAPICache() {
+    }
+
+    public static EngineAPICache getInstance() {
+        return INSTANCE;
+    }
+
+    private static String getKey(final APISession session) {
+        return session.getTenantId() + "/" + session.getId();
+    }
+
+    /**
+     * Get the facade of an engine API for a session, creating it on the first call
+     *
+     * @param apiClass
+     *        the engine API
+     * @param factory
+     *        create the facade of the API for a session
+     */
+    public <T> T get(final APISession session, final Class<T> apiClass, final APIFactory<? extends T> factory)
+            throws BonitaHomeNotSetException, ServerAPIException, UnknownAPITypeException {
+        if (session == null) {
+            return factory.create(null);
+        }
+        final Map<Class<?>, Object> apis = apisBySession.computeIfAbsent(getKey(session), key -> new ConcurrentHashMap<>());
+        final Object api = apis.get(apiClass);
+        if (api != null) {
+            return apiClass.cast(api);
+        }
+        final Object created = factory.create(session);
+        final Object previous = apis.putIfAbsent(apiClass, created);
+        return apiClass.cast(previous != null ? previous : created);
+    }
+
+    /**
+     * Discard the facades created for a session
+     */
+    public void invalidate(final APISession session) {
+        if (session != null) {
+            apisBySession.remove(getKey(session));
+        }
+    }
+
+    int getNumberOfSessions() {
+        return apisBySession.size();
+    }
+
+    /**
+     * Create the facade of an engine API, e.g. {@link org.bonitasoft.engine.api.TenantAPIAccessor#getProcessAPI(APISession)}
+     */
+    @FunctionalInterface
+    public interface APIFactory<T> {
+
+        T create(APISession session) throws BonitaHomeNotSetException, ServerAPIException, UnknownAPITypeException;
+    }
+}
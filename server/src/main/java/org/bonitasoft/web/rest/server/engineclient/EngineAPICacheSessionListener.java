@@ -0,0 +1,51 @@
+/**
+ * Copyright (C) 2022 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.rest.server.engineclient;
+
+import javax.servlet.http.HttpSessionAttributeListener;
+import javax.servlet.http.HttpSessionBindingEvent;
+
+import org.bonitasoft.console.common.server.utils.ProfileMembershipCache;
+import org.bonitasoft.console.common.server.utils.SessionUtil;
+import org.bonitasoft.engine.session.APISession;
+
+/**
+ * Invalidate the engine API facades and the cached profiles of a session when the session is removed from the HTTP session: on logout, when the
+ * HTTP session expires or when the user logs in again.
+ */
+public class EngineAPICacheSessionListener implements HttpSessionAttributeListener {
+
+    @Override
+    public void attributeAdded(final HttpSessionBindingEvent event) {
+    }
+
+    @Override
+    public void attributeRemoved(final HttpSessionBindingEvent event) {
+        invalidate(event);
+    }
+
+    @Override
+    public void attributeReplaced(final HttpSessionBindingEvent event) {
+        invalidate(event);
+    }
+
+    private void invalidate(final HttpSessionBindingEvent event) {
+        // the event value is the removed or replaced session
+        if (SessionUtil.API_SESSION_PARAM_KEY.equals(event.getName()) && event.getValue() instanceof APISession) {
+            EngineAPICache.getInstance().invalidate((APISession) event.getValue());
+            ProfileMembershipCache.getInstance().invalidate((APISession) event.getValue());
+        }
+    }
+}
@@ -29,7 +29,7 @@ public class EngineClientFactory {
     }
 
     public ProfileEngineClient createProfileEngineClient() {
-        return new ProfileEngineClient(apiAccessor.getProfileAPI());
+        return new ProfileEngineClient(apiAccessor.getProfileAPI(), apiAccessor.getSession());
     }
 
     public ProfileMemberEngineClient createProfileMemberEngineClient() {
@@ -15,6 +15,7 @@
 package org.bonitasoft.web.rest.server.engineclient;
 
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -74,6 +75,22 @@ public class ProcessEngineClient {
         }
     }
 
+    public Map<Long, ProcessDeploymentInfo> getProcessDeploymentInfos(final List<Long> processIds) {
+        final Map<Long, ProcessDeploymentInfo> processDeploymentInfos;
+        try {
+            processDeploymentInfos = getProcessApi().getProcessDeploymentInfosFromIds(processIds);
+        } catch (final Exception e) {
+            throw new APIException("Error when getting process deployment information", e);
+        }
+        for (final Long processId : processIds) {
+            if (!processDeploymentInfos.containsKey(processId)) {
+                LOGGER.log(Level.FINE, "Unable to find process with id " + processId);
+                throw new APIItemNotFoundException(org.bonitasoft.web.rest.model.bpm.process.ProcessDefinition.TOKEN, APIID.makeAPIID(processId));
+            }
+        }
+        return processDeploymentInfos;
+    }
+
     public ProcessAPI getProcessApi() {
         return processAPI;
     }
@@ -19,6 +19,7 @@ package org.bonitasoft.web.rest.server.engineclient;
 
 import java.util.List;
 
+import org.bonitasoft.console.common.server.utils.ProfileMembershipCache;
 import org.bonitasoft.engine.api.ProfileAPI;
 import org.bonitasoft.engine.exception.RetrieveException;
 import org.bonitasoft.engine.exception.SearchException;
@@ -27,6 +28,7 @@ import org.bonitasoft.engine.profile.ProfileCriterion;
 import org.bonitasoft.engine.profile.ProfileNotFoundException;
 import org.bonitasoft.engine.search.SearchOptions;
 import org.bonitasoft.engine.search.SearchResult;
+import org.bonitasoft.engine.session.APISession;
 import org.bonitasoft.engine.session.InvalidSessionException;
 import org.bonitasoft.web.rest.model.portal.profile.ProfileDefinition;
 import org.bonitasoft.web.toolkit.client.common.exception.api.APIException;
@@ -42,8 +44,19 @@ public class ProfileEngineClient {
 
     private ProfileAPI profileApi;
 
+    private APISession session;
+
     public ProfileEngineClient(ProfileAPI profileApi) {
+        this(profileApi, null);
+    }
+
+    /**
+     * @param session
+     *        the session the profiles of the logged in user are cached for, see {@link ProfileMembershipCache}
+     */
+    public ProfileEngineClient(ProfileAPI profileApi, APISession session) {
         this.profileApi = profileApi;
+        this.session = session;
     }
 
     public Profile getProfile(Long id) {
@@ -72,6 +85,8 @@ public class ProfileEngineClient {
         try {
             if (withNavigationOnly) {
                 return profileApi.getProfilesWithNavigationForUser(userId, 0, Integer.MAX_VALUE, ProfileCriterion.ID_ASC);
+            } else if (session != null && session.getUserId() == userId) {
+                return ProfileMembershipCache.getInstance().get(session, profileApi).getProfiles();
             } else {
                 return profileApi.getProfilesForUser(userId, 0, Integer.MAX_VALUE, ProfileCriterion.ID_ASC);
             }
@@ -27,6 +27,7 @@ import org.bonitasoft.web.toolkit.client.common.i18n.T_;
 import org.bonitasoft.web.toolkit.client.common.texttemplate.Arg;
 
 import java.util.List;
+import java.util.Map;
 
 public class UserEngineClient {
 
@@ -65,6 +66,14 @@ public class UserEngineClient {
         }
     }
     
+    public Map<Long, User> get(List<Long> userIds) {
+        final Map<Long, User> users = identityAPI.getUsers(userIds);
+        if (!users.keySet().containsAll(userIds)) {
+            throw new APINotFoundException(new T_("User not found"));
+        }
+        return users;
+    }
+
     public void delete(List<Long> userIds) {
         try {
             identityAPI.deleteUsers(userIds);
@@ -143,6 +143,9 @@ public abstract class API<ITEM extends IItem> {
         // throw new APIMethodNotAllowedException("POST method not allowed.");
         // }
 
+        // Validate the attributes whose validation was deferred while filling the item
+        item.validate();
+
         // Stop there if forbidden attributes are set
         checkForbiddenAttributes(item.getAttributes());
 
@@ -239,10 +242,8 @@ public abstract class API<ITEM extends IItem> {
 
         final ItemSearchResult<ITEM> searchResult = search(page, resultsByPage, search, realOrders, filters != null ? filters : new HashMap<String, String>());
 
-        for (final ITEM item : searchResult.getResults()) {
-            fillDeploys(item, deploys != null ? deploys : new ArrayList<String>());
-            fillCounters(item, counters != null ? counters : new ArrayList<String>());
-        }
+        fillDeploys(searchResult.getResults(), deploys != null ? deploys : new ArrayList<String>());
+        fillCounters(searchResult.getResults(), counters != null ? counters : new ArrayList<String>());
 
         return searchResult;
     }
@@ -423,11 +424,29 @@ public abstract class API<ITEM extends IItem> {
     }
 
     protected void fillDeploys(final ITEM item, final List<String> deploys) {
+        fillDeploysWithDeployers(item, deploys);
+    }
+
+    /**
+     * Fill the deploys handled by the registered {@link Deployer}s
+     */
+    protected final void fillDeploysWithDeployers(final ITEM item, final List<String> deploys) {
         for (final String attribute : deploys) {
             deployAttribute(attribute, item);
         }
     }
 
+    /**
+     * Fill the deploys of a whole page of items.<br>
+     * Override this method to resolve the deploys of all the items with bulk lookups (see {@link DeployBatch}) instead of
+     * one lookup per item.
+     */
+    protected void fillDeploys(final List<ITEM> items, final List<String> deploys) {
+        for (final ITEM item : items) {
+            fillDeploys(item, deploys);
+        }
+    }
+
     private void deployAttribute(final String attribute, final ITEM item) {
         if (deployers.containsKey(attribute)) {
             try {
@@ -450,6 +469,16 @@ public abstract class API<ITEM extends IItem> {
         // Do Nothing if not override
     }
 
+    /**
+     * Fill the counters of a whole page of items.<br>
+     * Override this method to compute a counter for all the items with a single query instead of one query per item.
+     */
+    protected void fillCounters(final List<ITEM> items, final List<String> counters) {
+        for (final ITEM item : items) {
+            fillCounters(item, counters);
+        }
+    }
+
     /**
      * @param attributeName
      * @param deploys
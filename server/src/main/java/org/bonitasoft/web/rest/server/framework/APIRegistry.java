@@ -0,0 +1,72 @@
+/**
+ * Copyright (C) 2022 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.rest.server.framework;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.bonitasoft.web.toolkit.client.common.exception.api.APINotFoundException;
+import org.bonitasoft.web.toolkit.client.data.item.IItem;
+
+/**
+ * Registry of the REST API resources, resolving an API and a resource name to the factory of the {@link API} serving it.<br>
+ * An API instance is bound to the call it serves (see {@link API#setCaller(APIServletCall)}), so the factory is called for
+ * each request; the resolution itself is a single map lookup.
+ */
+public class APIRegistry {
+
+    private final Map<String, Supplier<? extends API<? extends IItem>>> factories = new ConcurrentHashMap<>();
+
+    private static String getKey(final String apiToken, final String resourceToken) {
+        return apiToken + "/" + resourceToken;
+    }
+
+    /**
+     * Register the factory of the API serving a resource. A factory already registered for the resource is replaced.
+     */
+    public APIRegistry register(final String apiToken, final String resourceToken, final Supplier<? extends API<? extends IItem>> factory) {
+        factories.put(getKey(apiToken, resourceToken), factory);
+        return this;
+    }
+
+    public boolean isRegistered(final String apiToken, final String resourceToken) {
+        return factories.containsKey(getKey(apiToken, resourceToken));
+    }
+
+    /**
+     * Create the API serving a resource
+     *
+     * @throws APINotFoundException
+     *             if no API is registered for the resource
+     */
+    public API<? extends IItem> get(final String apiToken, final String resourceToken) {
+        final Supplier<? extends API<? extends IItem>> factory = factories.get(getKey(apiToken, resourceToken));
+        if (factory == null) {
+            throw new APINotFoundException(apiToken, resourceToken);
+        }
+        return factory.get();
+    }
+
+    /**
+     * @return the registered resources, as "apiName/resourceName"
+     */
+    public Set<String> getResources() {
+        return Collections.unmodifiableSet(new TreeSet<>(factories.keySet()));
+    }
+}
@@ -28,7 +28,13 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.bonitasoft.console.common.server.i18n.I18n;
+import org.bonitasoft.console.common.server.preferences.properties.ConsoleProperties;
+import org.bonitasoft.console.common.server.preferences.properties.PropertiesFactory;
+import org.bonitasoft.console.common.server.utils.SessionUtil;
+import org.bonitasoft.engine.session.APISession;
+import org.bonitasoft.web.rest.server.framework.exception.APIBodyTooLargeException;
 import org.bonitasoft.web.rest.server.framework.exception.APIMissingIdException;
+import org.bonitasoft.web.rest.server.framework.json.JSonItemStreamReader;
 import org.bonitasoft.web.rest.server.framework.json.JSonSimpleDeserializer;
 import org.bonitasoft.web.rest.server.framework.search.ItemSearchResult;
 import org.bonitasoft.web.rest.server.framework.utils.RestRequestParser;
@@ -37,7 +43,6 @@ import org.bonitasoft.web.toolkit.client.common.Tree;
 import org.bonitasoft.web.toolkit.client.common.TreeLeaf;
 import org.bonitasoft.web.toolkit.client.common.exception.api.APIException;
 import org.bonitasoft.web.toolkit.client.common.exception.api.APIIncorrectIdException;
-import org.bonitasoft.web.toolkit.client.common.json.JSonItemReader;
 import org.bonitasoft.web.toolkit.client.common.json.JSonItemWriter;
 import org.bonitasoft.web.toolkit.client.data.APIID;
 import org.bonitasoft.web.toolkit.client.data.item.IItem;
@@ -109,16 +114,36 @@ public class APIServletCall extends ServletCall {
     }
 
     /**
-     * Read the inputStream and parse it as an IItem compatible with the called API.
+     * Read the body of the request as an IItem compatible with the called API, binding the JSon values to the item as they
+     * are received.
+     *
+     * @return the item read, or null if the body is empty
      */
     private IItem getJSonStreamAsItem() {
-        final IItem item = JSonItemReader.parseItem(getInputStream(), api.getItemDefinition());
+        final long maxBodySize = getMaxBodySize();
+        if (getBodyLength() > maxBodySize) {
+            throw new APIBodyTooLargeException(maxBodySize);
+        }
+        final IItem item = new JSonItemStreamReader(maxBodySize).readItem(getBodyInputStream(), api.getItemDefinition());
 
-        ValidatorEngine.validate(item, false);
+        if (item != null) {
+            ValidatorEngine.validate(item, false);
+        }
 
         return item;
     }
 
+    /**
+     * @return the max size of the body of a request, in bytes
+     */
+    private long getMaxBodySize() {
+        final Object apiSession = getHttpSession().getAttribute(SessionUtil.API_SESSION_PARAM_KEY);
+        if (!(apiSession instanceof APISession)) {
+            return ConsoleProperties.DEFAULT_REST_API_BODY_MAX_SIZE * 1048576;
+        }
+        return PropertiesFactory.getConsoleProperties(((APISession) apiSession).getTenantId()).getRestAPIBodyMaxSize() * 1048576;
+    }
+
     /**
      * Read elements form the request
      * <ul>
@@ -178,6 +203,8 @@ public class APIServletCall extends ServletCall {
      */
     @Override
     public final void doGet() {
+        // the engine objects fetched while serving the request are shared by all the datastores
+        final RequestIdentityMap identityMap = RequestIdentityMap.open("GET " + apiName + "/" + resourceName);
         try {
             // GET one
             if (id != null) {
@@ -199,6 +226,8 @@ public class APIServletCall extends ServletCall {
             e.setApi(apiName);
             e.setResource(resourceName);
             throw e;
+        } finally {
+            identityMap.close();
         }
     }
 
@@ -218,7 +247,10 @@ public class APIServletCall extends ServletCall {
     @Override
     public final void doPost() {
         try {
-            final IItem jSonStreamAsItem = getJSonStreamAsItem();
+            IItem jSonStreamAsItem = getJSonStreamAsItem();
+            if (jSonStreamAsItem == null) {
+                jSonStreamAsItem = api.getItemDefinition().createItem();
+            }
             final IItem outputItem = api.runAdd(jSonStreamAsItem);
 
             output(JSonItemWriter.itemToJSON(outputItem));
@@ -240,14 +272,12 @@ public class APIServletCall extends ServletCall {
                 throw new APIMissingIdException(getRequestURL());
             }
 
-            final String inputStream = getInputStream();
-            if (inputStream.length() == 0) {
+            Item.setApplyValidatorMandatoryByDefault(false);
+            final IItem item = getJSonStreamAsItem();
+            if (item == null) {
                 api.runUpdate(id, new HashMap<String, String>());
                 return;
             }
-
-            Item.setApplyValidatorMandatoryByDefault(false);
-            final IItem item = getJSonStreamAsItem();
             api.runUpdate(id, getAttributesWithDeploysAsJsonString(item));
         } catch (final APIException e) {
             e.setApi(apiName);
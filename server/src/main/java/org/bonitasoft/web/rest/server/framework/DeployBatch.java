@@ -0,0 +1,120 @@
+/**
+ * Copyright (C) 2022 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.rest.server.framework;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.bonitasoft.web.rest.server.framework.api.DatastoreHasGetByIds;
+import org.bonitasoft.web.toolkit.client.data.APIID;
+import org.bonitasoft.web.toolkit.client.data.item.IItem;
+
+/**
+ * Resolve the deploys of a whole page of items at once.<br>
+ * The ids referenced by the deployed attributes are collected across all the items and grouped by target datastore. Each
+ * datastore is then called only once with all the ids it has to resolve, and the results are attached to the items.
+ */
+public class DeployBatch<ITEM extends IItem> {
+
+    private final List<ITEM> items;
+
+    private final List<String> deploys;
+
+    private final Map<DatastoreHasGetByIds<?>, List<DeployedAttribute>> attributesByDatastore = new LinkedHashMap<>();
+
+    public DeployBatch(final List<ITEM> items, final List<String> deploys) {
+        this.items = items;
+        this.deploys = deploys;
+    }
+
+    /**
+     * Register an attribute to deploy, the id being read from the attribute value.
+     */
+    public DeployBatch<ITEM> deploy(final String attribute, final DatastoreHasGetByIds<?> datastore) {
+        return deploy(attribute, datastore, item -> item.getAttributeValueAsAPIID(attribute));
+    }
+
+    /**
+     * Register an attribute to deploy. Attributes sharing the same datastore instance are resolved with the same call.
+     *
+     * @param attribute
+     *        The name of the attribute to deploy
+     * @param datastore
+     *        The datastore used to fetch the deployed items
+     * @param idGetter
+     *        Give the id of the item to deploy for a given item
+     */
+    public DeployBatch<ITEM> deploy(final String attribute, final DatastoreHasGetByIds<?> datastore, final Function<ITEM, APIID> idGetter) {
+        if (deploys.contains(attribute)) {
+            attributesByDatastore.computeIfAbsent(datastore, d -> new ArrayList<>()).add(new DeployedAttribute(attribute, idGetter));
+        }
+        return this;
+    }
+
+    /**
+     * Fetch all the registered deploys and set them in the items
+     */
+    public void resolve() {
+        for (final Map.Entry<DatastoreHasGetByIds<?>, List<DeployedAttribute>> entry : attributesByDatastore.entrySet()) {
+            final Set<APIID> ids = new LinkedHashSet<>();
+            for (final DeployedAttribute attribute : entry.getValue()) {
+                for (final ITEM item : items) {
+                    final APIID id = attribute.getId(item);
+                    if (id != null) {
+                        ids.add(id);
+                    }
+                }
+            }
+            if (ids.isEmpty()) {
+                continue;
+            }
+
+            final Map<APIID, ? extends IItem> deployedItems = entry.getKey().getByIds(new ArrayList<>(ids));
+            for (final DeployedAttribute attribute : entry.getValue()) {
+                for (final ITEM item : items) {
+                    final APIID id = attribute.getId(item);
+                    if (id != null && deployedItems.containsKey(id)) {
+                        item.setDeploy(attribute.name, deployedItems.get(id));
+                    }
+                }
+            }
+        }
+    }
+
+    private class DeployedAttribute {
+
+        private final String name;
+
+        private final Function<ITEM, APIID> idGetter;
+
+        DeployedAttribute(final String name, final Function<ITEM, APIID> idGetter) {
+            this.name = name;
+            this.idGetter = idGetter;
+        }
+
+        private APIID getId(final ITEM item) {
+            final String attributeValue = item.getAttributeValue(name);
+            if (attributeValue == null || APIID.makeAPIID(attributeValue) == null) {
+                return null;
+            }
+            return idGetter.apply(item);
+        }
+    }
+}
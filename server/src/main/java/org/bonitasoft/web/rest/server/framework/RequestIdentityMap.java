@@ -0,0 +1,167 @@
+/**
+ * Copyright (C) 2022 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.rest.server.framework;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Engine objects already fetched during the current REST call, by region (kind of object) and id.<br>
+ * The map is opened by the {@link APIServletCall} for the time of a read request and bound to the thread serving it, so the
+ * datastores can look an object up in it before calling the engine. When no map is open, the datastores call the engine
+ * directly.
+ */
+public class RequestIdentityMap {
+
+    private static final Logger LOGGER = Logger.getLogger(RequestIdentityMap.class.getName());
+
+    private static final ThreadLocal<RequestIdentityMap> current = new ThreadLocal<>();
+
+    private final String requestName;
+
+    private final Map<String, Map<Long, Object>> regions = new HashMap<>();
+
+    private int hitCount = 0;
+
+    private int missCount = 0;
+
+    RequestIdentityMap(final String requestName) {
+        this.requestName = requestName;
+    }
+
+    /**
+     * Open a new identity map for the request served by the current thread
+     */
+    public static RequestIdentityMap open(final String requestName) {
+        final RequestIdentityMap identityMap = new RequestIdentityMap(requestName);
+        current.set(identityMap);
+        return identityMap;
+    }
+
+    /**
+     * @return the identity map of the request served by the current thread, or null if there is none
+     */
+    public static RequestIdentityMap current() {
+        return current.get();
+    }
+
+    /**
+     * Discard the identity map of the current request
+     */
+    public void close() {
+        if (current.get() == this) {
+            current.remove();
+        }
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.log(Level.FINE, requestName + ": " + hitCount + " engine lookups saved, " + missCount + " done");
+        }
+    }
+
+    /**
+     * Get an object from the identity map of the current request, loading it on a miss.
+     *
+     * @param region
+     *        the kind of object
+     * @param id
+     *        the id of the object in the region
+     * @param loader
+     *        fetch the object from the engine
+     */
+    public static <T, E extends Exception> T get(final String region, final long id, final Loader<T, E> loader) throws E {
+        final RequestIdentityMap identityMap = current();
+        if (identityMap == null) {
+            return loader.load(id);
+        }
+        return identityMap.lookup(region, id, loader);
+    }
+
+    /**
+     * Get several objects from the identity map of the current request, loading the missing ones with a single call.
+     *
+     * @param loader
+     *        fetch the missing objects from the engine, by id
+     * @return the objects found, by id
+     */
+    public static <T> Map<Long, T> getAll(final String region, final List<Long> ids, final Function<List<Long>, Map<Long, T>> loader) {
+        final RequestIdentityMap identityMap = current();
+        if (identityMap == null) {
+            return loader.apply(ids);
+        }
+        return identityMap.lookupAll(region, ids, loader);
+    }
+
+    @SuppressWarnings("unchecked")
+    <T, E extends Exception> T lookup(final String region, final long id, final Loader<T, E> loader) throws E {
+        final Map<Long, Object> objects = getRegion(region);
+        if (objects.containsKey(id)) {
+            hitCount++;
+            return (T) objects.get(id);
+        }
+        missCount++;
+        final T object = loader.load(id);
+        if (object != null) {
+            objects.put(id, object);
+        }
+        return object;
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> Map<Long, T> lookupAll(final String region, final List<Long> ids, final Function<List<Long>, Map<Long, T>> loader) {
+        final Map<Long, Object> objects = getRegion(region);
+        final Map<Long, T> found = new HashMap<>();
+        final List<Long> missingIds = new ArrayList<>();
+        for (final Long id : ids) {
+            if (objects.containsKey(id)) {
+                found.put(id, (T) objects.get(id));
+            } else if (!missingIds.contains(id)) {
+                missingIds.add(id);
+            }
+        }
+        hitCount += found.size();
+        if (!missingIds.isEmpty()) {
+            missCount += missingIds.size();
+            final Map<Long, T> loaded = loader.apply(missingIds);
+            objects.putAll(loaded);
+            found.putAll(loaded);
+        }
+        return found;
+    }
+
+    private Map<Long, Object> getRegion(final String region) {
+        return regions.computeIfAbsent(region, r -> new HashMap<>());
+    }
+
+    public int getHitCount() {
+        return hitCount;
+    }
+
+    public int getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Fetch an object from the engine
+     */
+    @FunctionalInterface
+    public interface Loader<T, E extends Exception> {
+
+        T load(long id) throws E;
+    }
+}
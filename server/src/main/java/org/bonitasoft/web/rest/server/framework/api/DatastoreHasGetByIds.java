@@ -0,0 +1,35 @@
+/**
+ * Copyright (C) 2022 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.rest.server.framework.api;
+
+import java.util.List;
+import java.util.Map;
+
+import org.bonitasoft.web.toolkit.client.data.APIID;
+import org.bonitasoft.web.toolkit.client.data.item.IItem;
+
+/**
+ * Datastore able to fetch several items with a single engine call.
+ */
+public interface DatastoreHasGetByIds<T extends IItem> {
+
+    /**
+     * Missing items are handled the same way as by the get of the datastore: if get throws a not found exception, so does
+     * this method, otherwise the ids that do not match any item are absent from the map.
+     *
+     * @return the items found, indexed by their id
+     */
+    Map<APIID, T> getByIds(final List<APIID> ids);
+}
@@ -0,0 +1,52 @@
+/**
+ * Copyright (C) 2022 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.rest.server.framework.exception;
+
+import org.bonitasoft.web.toolkit.client.common.exception.api.APIException;
+import org.bonitasoft.web.toolkit.client.common.exception.http.JsonExceptionSerializer;
+
+/**
+ * The body of a request is larger than the size accepted by the REST API
+ */
+public class APIBodyTooLargeException extends APIException {
+
+    private static final long serialVersionUID = -6324930617745032911L;
+
+    private final long maxSize;
+
+    /**
+     * @param maxSize
+     *        the accepted size, in bytes
+     */
+    public APIBodyTooLargeException(final long maxSize) {
+        super((Exception) null);
+        this.maxSize = maxSize;
+    }
+
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    @Override
+    protected JsonExceptionSerializer buildJson() {
+        return super.buildJson()
+                .appendAttribute("maxSize", maxSize);
+    }
+
+    @Override
+    protected String defaultMessage() {
+        return "Request body larger than " + maxSize + " bytes";
+    }
+}
@@ -0,0 +1,57 @@
+/**
+ * Copyright (C) 2022 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.rest.server.framework.exception;
+
+import org.bonitasoft.web.toolkit.client.common.exception.api.APIException;
+import org.bonitasoft.web.toolkit.client.common.exception.http.JsonExceptionSerializer;
+
+/**
+ * The body of a request is not valid JSon
+ */
+public class APIMalformedBodyException extends APIException {
+
+    private static final long serialVersionUID = 2935870113564128702L;
+
+    private final int line;
+
+    private final int column;
+
+    /**
+     * @param line
+     *        the line of the error in the body, starting at 1
+     * @param column
+     *        the column of the error in the line, starting at 1
+     */
+    public APIMalformedBodyException(final String message, final int line, final int column, final Throwable cause) {
+        super(message + " at line " + line + ", column " + column, cause);
+        this.line = line;
+        this.column = column;
+    }
+
+    public int getLine() {
+        return line;
+    }
+
+    public int getColumn() {
+        return column;
+    }
+
+    @Override
+    protected JsonExceptionSerializer buildJson() {
+        return super.buildJson()
+                .appendAttribute("line", line)
+                .appendAttribute("column", column);
+    }
+}
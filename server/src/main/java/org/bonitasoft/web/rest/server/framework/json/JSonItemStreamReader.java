@@ -0,0 +1,249 @@
+/**
+ * Copyright (C) 2022 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.rest.server.framework.json;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bonitasoft.web.rest.server.framework.exception.APIBodyTooLargeException;
+import org.bonitasoft.web.rest.server.framework.exception.APIMalformedBodyException;
+import org.bonitasoft.web.toolkit.client.common.exception.api.APIException;
+import org.bonitasoft.web.toolkit.client.common.json.JSonItemReader;
+import org.bonitasoft.web.toolkit.client.common.json.JSonSerializer;
+import org.bonitasoft.web.toolkit.client.data.item.IItem;
+import org.bonitasoft.web.toolkit.client.data.item.ItemDefinition;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Read items from the JSon body of a request as it is received, setting each value in the item as soon as it is parsed.<br>
+ * The items read are the same as the ones of {@link JSonItemReader}, without building the body as a String nor as a tree
+ * first.
+ */
+public class JSonItemStreamReader {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final long maxBodySize;
+
+    /**
+     * @param maxBodySize
+     *        the maximum size of the body read, in bytes
+     */
+    public JSonItemStreamReader(final long maxBodySize) {
+        this.maxBodySize = maxBodySize;
+    }
+
+    /**
+     * Read the JSon of a single item. If the JSon is a list, its first item is read.
+     *
+     * @return the item read, or null if the body is empty
+     * @throws APIMalformedBodyException
+     *         if the body is not valid JSon
+     * @throws APIBodyTooLargeException
+     *         if the body is larger than the maximum size
+     */
+    public <E extends IItem> E readItem(final InputStream body, final ItemDefinition<E> itemDefinition) {
+        try (JsonParser parser = createParser(body)) {
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                return null;
+            }
+            if (token == JsonToken.START_ARRAY) {
+                token = parser.nextToken();
+                if (token != JsonToken.START_OBJECT) {
+                    return itemDefinition.createItem();
+                }
+            }
+            if (token != JsonToken.START_OBJECT) {
+                throw malformed("A JSon object is expected", parser.getTokenLocation(), null);
+            }
+            return readItem(parser, itemDefinition);
+        } catch (final JsonProcessingException e) {
+            throw malformed(e.getOriginalMessage(), e.getLocation(), e);
+        } catch (final IOException e) {
+            throw new APIException("Can't read the request body", e);
+        }
+    }
+
+    /**
+     * Read the JSon of a list of items, either a list or an object holding the list in its "results" attribute.
+     *
+     * @return the items read, or an empty list if the body holds no list
+     * @throws APIMalformedBodyException
+     *         if the body is not valid JSon
+     * @throws APIBodyTooLargeException
+     *         if the body is larger than the maximum size
+     */
+    public <E extends IItem> List<E> readItems(final InputStream body, final ItemDefinition<E> itemDefinition) {
+        final List<E> items = new ArrayList<E>();
+        try (JsonParser parser = createParser(body)) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_OBJECT) {
+                token = moveToResults(parser);
+            }
+            if (token != JsonToken.START_ARRAY) {
+                return items;
+            }
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token != JsonToken.START_OBJECT) {
+                    throw malformed("A JSon object is expected", parser.getTokenLocation(), null);
+                }
+                items.add(readItem(parser, itemDefinition));
+            }
+            return items;
+        } catch (final JsonProcessingException e) {
+            throw malformed(e.getOriginalMessage(), e.getLocation(), e);
+        } catch (final IOException e) {
+            throw new APIException("Can't read the request body", e);
+        }
+    }
+
+    private JsonParser createParser(final InputStream body) throws IOException {
+        return JSON_FACTORY.createParser(new SizeLimitedInputStream(body, maxBodySize));
+    }
+
+    private static JsonToken moveToResults(final JsonParser parser) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final JsonToken value = parser.nextToken();
+            if ("results".equals(parser.getCurrentName())) {
+                return value;
+            }
+            parser.skipChildren();
+        }
+        return null;
+    }
+
+    /**
+     * Read an item, the parser being on the start of the item object
+     */
+    private static <E extends IItem> E readItem(final JsonParser parser, final ItemDefinition<E> itemDefinition) throws IOException {
+        final E item = itemDefinition.createItem();
+        item.setApplyValidators(JSonItemReader.APPLY_VALIDATORS);
+        // validate the item once it is filled rather than each time an attribute is set
+        item.deferValidation();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String name = parser.getCurrentName();
+            final JsonToken value = parser.nextToken();
+            if (value == JsonToken.START_OBJECT) {
+                item.setDeploy(name, readItem(parser, itemDefinition.getDeployDefinition(name)));
+            } else if (value == JsonToken.START_ARRAY) {
+                // json list - set directly json in attribute value
+                item.setAttribute(name, readAsJson(parser, value));
+            } else {
+                item.setAttribute(name, readScalar(parser, value));
+            }
+        }
+        item.validate();
+
+        return item;
+    }
+
+    private static String readScalar(final JsonParser parser, final JsonToken token) throws IOException {
+        switch (token) {
+            case VALUE_TRUE:
+                return "1";
+            case VALUE_FALSE:
+                return "0";
+            case VALUE_NULL:
+                return null;
+            default:
+                return parser.getText();
+        }
+    }
+
+    /**
+     * Read a value as JSon, every scalar being written as a String, as the tree form does
+     */
+    private static String readAsJson(final JsonParser parser, final JsonToken token) throws IOException {
+        final StringBuilder json = new StringBuilder();
+        appendAsJson(parser, token, json);
+        return json.toString();
+    }
+
+    private static void appendAsJson(final JsonParser parser, final JsonToken token, final StringBuilder json) throws IOException {
+        if (token == JsonToken.START_ARRAY) {
+            json.append("[");
+            JsonToken element = parser.nextToken();
+            for (boolean first = true; element != JsonToken.END_ARRAY; element = parser.nextToken(), first = false) {
+                json.append(first ? "" : ",");
+                appendAsJson(parser, element, json);
+            }
+            json.append("]");
+        } else if (token == JsonToken.START_OBJECT) {
+            json.append("{");
+            for (boolean first = true; parser.nextToken() == JsonToken.FIELD_NAME; first = false) {
+                json.append(first ? "" : ",").append(JSonSerializer.serialize(parser.getCurrentName())).append(":");
+                appendAsJson(parser, parser.nextToken(), json);
+            }
+            json.append("}");
+        } else {
+            json.append(JSonSerializer.serialize(readScalar(parser, token)));
+        }
+    }
+
+    private static APIMalformedBodyException malformed(final String message, final JsonLocation location, final Throwable cause) {
+        if (location == null) {
+            return new APIMalformedBodyException(message, -1, -1, cause);
+        }
+        return new APIMalformedBodyException(message, location.getLineNr(), location.getColumnNr(), cause);
+    }
+
+    /**
+     * Fail as soon as more bytes than accepted are read
+     */
+    private static class SizeLimitedInputStream extends FilterInputStream {
+
+        private final long maxSize;
+
+        private long size = 0;
+
+        SizeLimitedInputStream(final InputStream in, final long maxSize) {
+            super(in);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int read = super.read();
+            count(read < 0 ? -1 : 1);
+            return read;
+        }
+
+        @Override
+        public int read(final byte[] buffer, final int offset, final int length) throws IOException {
+            final int read = super.read(buffer, offset, length);
+            count(read);
+            return read;
+        }
+
+        private void count(final int read) {
+            if (read > 0) {
+                size += read;
+                if (size > maxSize) {
+                    throw new APIBodyTooLargeException(maxSize);
+                }
+            }
+        }
+    }
+}
@@ -17,6 +17,7 @@
 package org.bonitasoft.web.toolkit.server;
 
 import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
@@ -24,6 +25,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.PrintWriter;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -38,7 +40,7 @@ import javax.servlet.http.HttpSession;
 import org.apache.commons.io.IOUtils;
 import org.bonitasoft.console.common.server.utils.LocaleUtils;
 import org.bonitasoft.web.toolkit.client.common.exception.http.ServerException;
-import org.bonitasoft.web.toolkit.client.common.json.JSonSerializer;
+import org.bonitasoft.web.toolkit.client.common.json.JSonStreamSerializer;
 
 /**
  * @author Séverin Moussel
@@ -48,6 +50,8 @@ import org.bonitasoft.web.toolkit.client.common.json.JSonSerializer;
  */
 public abstract class ServletCall {
 
+    private static final int OUTPUT_BUFFER_SIZE = 8192;
+
     private String inputStream = null;
 
     /**
@@ -155,6 +159,24 @@ public abstract class ServletCall {
         return inputStream;
     }
 
+    /**
+     * Open the body of the request, to read it as it is received rather than in a String
+     */
+    public InputStream getBodyInputStream() {
+        try {
+            return request.getInputStream();
+        } catch (final IOException e) {
+            throw new RuntimeException("Can't read input Stream.", e);
+        }
+    }
+
+    /**
+     * @return the length of the body announced by the client, or -1 if it is not known
+     */
+    public long getBodyLength() {
+        return request.getContentLengthLong();
+    }
+
     private void closeQuietly(final BufferedReader reader) {
         if (reader != null) {
             try {
@@ -325,7 +347,14 @@ public abstract class ServletCall {
      */
     protected void output(final Object object) {
         final PrintWriter outputWriter = getOutputWriter();
-        outputWriter.print(JSonSerializer.serialize(object));
+        try {
+            // the JSon is streamed through a bounded buffer instead of being built as a String
+            final Writer bufferedWriter = new BufferedWriter(outputWriter, OUTPUT_BUFFER_SIZE);
+            new JSonStreamSerializer(bufferedWriter).serialize(object);
+            bufferedWriter.flush();
+        } catch (final IOException e) {
+            throw new ServerException(e);
+        }
         outputWriter.flush();
     }
 
@@ -17,10 +17,10 @@
 package org.bonitasoft.web.toolkit.server.utils;
 
 import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.Date;
 
 import org.bonitasoft.web.toolkit.client.common.CommonDateFormater;
+import org.bonitasoft.web.toolkit.client.common.util.DateFormatterCache;
 
 /**
  * @author Paul AMAR
@@ -43,9 +43,8 @@ public class ServerDateFormater extends CommonDateFormater {
     @Override
     public Date _parse(final String value, final String format) {
         Date d = null;
-        final SimpleDateFormat formatter = new SimpleDateFormat(format);
         try {
-            d = formatter.parse(value);
+            d = DateFormatterCache.parse(value, format);
         } catch (final ParseException e) {
             // Exception thrown by parse method
             e.printStackTrace();
@@ -59,8 +58,7 @@ public class ServerDateFormater extends CommonDateFormater {
      */
     @Override
     public String _toString(final Date value, final String format) {
-        final SimpleDateFormat formatter = new SimpleDateFormat(format);
-        return formatter.format(value);
+        return DateFormatterCache.format(value, format);
     }
 
 }
@@ -283,8 +283,8 @@ public class AuthenticationFilterTest {
 
     @Test
     public void testFilterWithExcludedURL() throws Exception {
-        final String url = "test";
-        when(httpRequest.getRequestURL()).thenReturn(new StringBuffer(url));
+        final String url = "/test";
+        when(httpRequest.getServletPath()).thenReturn(url);
         doReturn(true).when(authenticationFilter).matchExcludePatterns(url);
         authenticationFilter.doFilter(httpRequest, httpResponse, chain);
         verify(authenticationFilter, times(0)).doAuthenticationFiltering(request, httpResponse, tenantIdAccessor, chain);
@@ -1,17 +1,23 @@
 package org.bonitasoft.console.common.server.login.filter;
 
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import java.io.BufferedReader;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 
 import javax.servlet.ReadListener;
 import javax.servlet.ServletInputStream;
 import javax.servlet.http.HttpServletRequest;
 
 import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.input.BoundedInputStream;
 import org.apache.commons.io.input.CharSequenceInputStream;
 import org.junit.Assert;
 import org.junit.Test;
@@ -67,9 +73,99 @@ public class MultiReadHttpServletRequestTest {
         }
     }
 
+    @Test
+    public void should_buffer_a_body_larger_than_the_threshold_in_a_temporary_file() throws Exception {
+        doReturn(new FakeServletInputStream()).when(request).getInputStream();
+        final MultiReadHttpServletRequest multiReadHttpServletRequest = new MultiReadHttpServletRequest(request, 4);
+
+        Assert.assertEquals("body content", IOUtils.toString(multiReadHttpServletRequest.getInputStream()));
+        Assert.assertEquals("body content", IOUtils.toString(multiReadHttpServletRequest.getReader()));
+
+        final File bodyFile = multiReadHttpServletRequest.getBodyFile();
+        Assert.assertNotNull(bodyFile);
+        Assert.assertTrue(bodyFile.exists());
+        multiReadHttpServletRequest.release();
+        Assert.assertFalse(bodyFile.exists());
+    }
+
+    @Test
+    public void should_keep_a_body_smaller_than_the_threshold_in_memory() throws Exception {
+        doReturn(new FakeServletInputStream()).when(request).getInputStream();
+        final MultiReadHttpServletRequest multiReadHttpServletRequest = new MultiReadHttpServletRequest(request, 12);
+
+        Assert.assertEquals("body content", IOUtils.toString(multiReadHttpServletRequest.getInputStream()));
+
+        Assert.assertNull(multiReadHttpServletRequest.getBodyFile());
+        Assert.assertTrue(multiReadHttpServletRequest.getInputStream().isReady());
+    }
+
+    @Test
+    public void should_read_the_body_only_once() throws Exception {
+        doReturn(new FakeServletInputStream()).when(request).getInputStream();
+        final MultiReadHttpServletRequest multiReadHttpServletRequest = new MultiReadHttpServletRequest(request);
+
+        IOUtils.toString(multiReadHttpServletRequest.getInputStream());
+        IOUtils.toString(multiReadHttpServletRequest.getInputStream());
+
+        verify(request, times(1)).getInputStream();
+    }
+
+    @Test
+    public void should_forward_the_wrapped_request_when_the_body_was_not_read() throws Exception {
+        final MultiReadHttpServletRequest multiReadHttpServletRequest = new MultiReadHttpServletRequest(request);
+
+        Assert.assertSame(request, multiReadHttpServletRequest.getRequestToForward());
+        verify(request, never()).getInputStream();
+    }
+
+    @Test
+    public void should_forward_the_wrapper_when_the_body_was_read() throws Exception {
+        doReturn(new FakeServletInputStream()).when(request).getInputStream();
+        final MultiReadHttpServletRequest multiReadHttpServletRequest = new MultiReadHttpServletRequest(request);
+
+        multiReadHttpServletRequest.getInputStream();
+
+        Assert.assertSame(multiReadHttpServletRequest, MultiReadHttpServletRequest.getWrapper(multiReadHttpServletRequest.getRequestToForward()));
+    }
+
+    @Test
+    public void should_not_record_the_part_of_the_body_only_read_by_the_servlet() throws Exception {
+        final String content = String.join("", Collections.nCopies(10000, "body content"));
+        doReturn(new FakeServletInputStream(content)).when(request).getInputStream();
+        final MultiReadHttpServletRequest multiReadHttpServletRequest = new MultiReadHttpServletRequest(request, 16 * 1024);
+
+        Assert.assertEquals("body", IOUtils.toString(new BoundedInputStream(multiReadHttpServletRequest.getInputStream(), 4)));
+        final HttpServletRequest forwardedRequest = multiReadHttpServletRequest.getRequestToForward();
+
+        Assert.assertEquals(content, IOUtils.toString(forwardedRequest.getInputStream()));
+        Assert.assertNull(multiReadHttpServletRequest.getBodyFile());
+        Assert.assertTrue(multiReadHttpServletRequest.getRecordedSize() < content.length());
+    }
+
+    @Test
+    public void should_replay_the_body_read_by_a_filter_past_the_threshold() throws Exception {
+        final String content = String.join("", Collections.nCopies(10000, "body content"));
+        doReturn(new FakeServletInputStream(content)).when(request).getInputStream();
+        final MultiReadHttpServletRequest multiReadHttpServletRequest = new MultiReadHttpServletRequest(request, 16 * 1024);
+
+        Assert.assertEquals(content, IOUtils.toString(multiReadHttpServletRequest.getInputStream()));
+
+        Assert.assertEquals(content, IOUtils.toString(multiReadHttpServletRequest.getRequestToForward().getInputStream()));
+        Assert.assertNotNull(multiReadHttpServletRequest.getBodyFile());
+        multiReadHttpServletRequest.release();
+    }
+
     class FakeServletInputStream extends ServletInputStream {
 
-        private final CharSequenceInputStream inputStream = new CharSequenceInputStream("body content", StandardCharsets.UTF_8);
+        private final CharSequenceInputStream inputStream;
+
+        FakeServletInputStream() {
+            this("body content");
+        }
+
+        FakeServletInputStream(final String content) {
+            inputStream = new CharSequenceInputStream(content, StandardCharsets.UTF_8);
+        }
 
         @Override
         public int read() throws IOException {
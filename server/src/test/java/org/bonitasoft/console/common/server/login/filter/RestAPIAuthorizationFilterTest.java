@@ -28,6 +28,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Collections;
+import java.util.Properties;
 import java.util.regex.Pattern;
 
 import javax.servlet.FilterChain;
@@ -42,6 +43,7 @@ import javax.servlet.http.HttpSession;
 
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.Condition;
+import org.bonitasoft.console.common.server.filter.URLExcludePattern;
 import org.bonitasoft.console.common.server.utils.SessionUtil;
 import org.bonitasoft.engine.api.permission.APICallContext;
 import org.bonitasoft.engine.session.APISession;
@@ -92,6 +94,9 @@ public class RestAPIAuthorizationFilterTest {
     private void initSpy(final RestAPIAuthorizationFilter restAPIAuthorizationFilterSpy) throws ServletException {
         doReturn("GET").when(request).getMethod();
         doReturn("").when(restAPIAuthorizationFilterSpy).getRequestBody(request);
+        final PermissionDecisionCache permissionDecisionCache = spy(new PermissionDecisionCache(1L, 0L, 0));
+        doReturn(new Properties()).when(permissionDecisionCache).getDynamicPermissionsChecks();
+        doReturn(permissionDecisionCache).when(restAPIAuthorizationFilterSpy).getPermissionDecisionCache(1L);
     }
 
     @Test
@@ -99,14 +104,79 @@ public class RestAPIAuthorizationFilterTest {
         final RestAPIAuthorizationFilter restAPIAuthorizationFilterSpy = spy(restAPIAuthorizationFilter);
         initSpy(restAPIAuthorizationFilterSpy);
         doReturn(true).when(restAPIAuthorizationFilterSpy).isApiAuthorizationsCheckEnabled(1L);
-        doReturn(true).when(restAPIAuthorizationFilterSpy).enginePermissionsCheck(new APICallContext("GET", "bpm", "case", null, "", ""), apiSession);
+        doReturn(true).when(restAPIAuthorizationFilterSpy).enginePermissionsCheck(new APICallContext("GET", "bpm", "case", null, "", null), apiSession);
 
         //when
         final boolean isAuthorized = restAPIAuthorizationFilterSpy.checkPermissions(request, "bpm", "case", null);
 
         //then
         assertThat(isAuthorized).isTrue();
-        verify(restAPIAuthorizationFilterSpy).enginePermissionsCheck(new APICallContext("GET", "bpm", "case", null, "", ""), apiSession);
+        verify(restAPIAuthorizationFilterSpy).enginePermissionsCheck(new APICallContext("GET", "bpm", "case", null, "", null), apiSession);
+    }
+
+    @Test
+    public void should_checkPermissions_use_cached_decision_when_cache_is_enabled() throws Exception {
+        final RestAPIAuthorizationFilter restAPIAuthorizationFilterSpy = spy(restAPIAuthorizationFilter);
+        initSpy(restAPIAuthorizationFilterSpy);
+        final PermissionDecisionCache permissionDecisionCache = spy(new PermissionDecisionCache(1L, 60000L, 100));
+        doReturn(new Properties()).when(permissionDecisionCache).getDynamicPermissionsChecks();
+        doReturn(permissionDecisionCache).when(restAPIAuthorizationFilterSpy).getPermissionDecisionCache(1L);
+        doReturn(true).when(restAPIAuthorizationFilterSpy).isApiAuthorizationsCheckEnabled(1L);
+        doReturn(true).when(restAPIAuthorizationFilterSpy).enginePermissionsCheck(new APICallContext("GET", "bpm", "case", null, "", null), apiSession);
+
+        //when
+        restAPIAuthorizationFilterSpy.checkPermissions(request, "bpm", "case", null);
+        final boolean isAuthorized = restAPIAuthorizationFilterSpy.checkPermissions(request, "bpm", "case", null);
+
+        //then
+        assertThat(isAuthorized).isTrue();
+        verify(restAPIAuthorizationFilterSpy, times(1)).enginePermissionsCheck(new APICallContext("GET", "bpm", "case", null, "", null), apiSession);
+        assertThat(permissionDecisionCache.getHitCount()).isEqualTo(1);
+        assertThat(permissionDecisionCache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void should_checkPermissions_give_the_body_to_dynamically_checked_resources() throws Exception {
+        final RestAPIAuthorizationFilter restAPIAuthorizationFilterSpy = spy(restAPIAuthorizationFilter);
+        doReturn("POST").when(request).getMethod();
+        doReturn("{\"name\":\"value\"}").when(restAPIAuthorizationFilterSpy).getRequestBody(request);
+        final PermissionDecisionCache permissionDecisionCache = spy(new PermissionDecisionCache(1L, 0L, 0));
+        final Properties dynamicPermissionsChecks = new Properties();
+        dynamicPermissionsChecks.setProperty("POST|bpm/case", "check|casePermissionRule");
+        doReturn(dynamicPermissionsChecks).when(permissionDecisionCache).getDynamicPermissionsChecks();
+        doReturn(permissionDecisionCache).when(restAPIAuthorizationFilterSpy).getPermissionDecisionCache(1L);
+        doReturn(true).when(restAPIAuthorizationFilterSpy).isApiAuthorizationsCheckEnabled(1L);
+        final APICallContext apiCallContext = new APICallContext("POST", "bpm", "case", null, "", "{\"name\":\"value\"}");
+        doReturn(true).when(restAPIAuthorizationFilterSpy).enginePermissionsCheck(apiCallContext, apiSession);
+
+        //when
+        final boolean isAuthorized = restAPIAuthorizationFilterSpy.checkPermissions(request, "bpm", "case", null);
+
+        //then
+        assertThat(isAuthorized).isTrue();
+        verify(restAPIAuthorizationFilterSpy).enginePermissionsCheck(apiCallContext, apiSession);
+    }
+
+    @Test
+    public void should_not_buffer_an_uploaded_body_when_no_dynamic_check_needs_it() throws Exception {
+        final RestAPIAuthorizationFilter restAPIAuthorizationFilterSpy = spy(restAPIAuthorizationFilter);
+        doReturn("POST").when(request).getMethod();
+        doReturn("multipart/form-data; boundary=xyz").when(request).getContentType();
+        doReturn("API/bpm/process").when(request).getRequestURI();
+        doReturn("/bpm/process").when(request).getPathInfo();
+        final PermissionDecisionCache permissionDecisionCache = spy(new PermissionDecisionCache(1L, 0L, 0));
+        doReturn(new Properties()).when(permissionDecisionCache).getDynamicPermissionsChecks();
+        doReturn(permissionDecisionCache).when(restAPIAuthorizationFilterSpy).getPermissionDecisionCache(1L);
+        doReturn(true).when(restAPIAuthorizationFilterSpy).isApiAuthorizationsCheckEnabled(1L);
+        doReturn(true).when(restAPIAuthorizationFilterSpy).enginePermissionsCheck(any(APICallContext.class), eq(apiSession));
+
+        //when
+        restAPIAuthorizationFilterSpy.proceedWithFiltering(request, response, chain);
+
+        //then
+        verify(request, never()).getInputStream();
+        verify(restAPIAuthorizationFilterSpy, never()).getRequestBody(any(HttpServletRequest.class));
+        verify(chain).doFilter(request, response);
     }
 
     @Test
@@ -264,8 +334,8 @@ public class RestAPIAuthorizationFilterTest {
     @Test
     public void testFilterWithExcludedURL() throws Exception {
         final RestAPIAuthorizationFilter restAPIAuthorizationFilterSpy = spy(restAPIAuthorizationFilter);
-        final String url = "test";
-        when(request.getRequestURL()).thenReturn(new StringBuffer(url));
+        final String url = "/test";
+        when(request.getServletPath()).thenReturn(url);
         doReturn(true).when(restAPIAuthorizationFilterSpy).matchExcludePatterns(url);
         restAPIAuthorizationFilterSpy.doFilter(request, response, chain);
         verify(restAPIAuthorizationFilterSpy, times(0)).proceedWithFiltering(request, response, chain);
@@ -285,6 +355,26 @@ public class RestAPIAuthorizationFilterTest {
         matchExcludePattern("http://host/bonita/API/bpm/activity/i18ntranslation/../?p=0&c=10", false);
     }
 
+    @Test
+    public void testMatchExcludePatternsOnRequestPath() throws Exception {
+        doReturn("/bonita").when(request).getContextPath();
+        doReturn("/API").when(request).getServletPath();
+        doReturn("/system/i18ntranslation").when(request).getPathInfo();
+
+        assertThat(restAPIAuthorizationFilter.matchExcludePatterns(URLExcludePattern.getRequestPath(request))).isTrue();
+
+        doReturn("/bpm/process").when(request).getPathInfo();
+
+        assertThat(restAPIAuthorizationFilter.matchExcludePatterns(URLExcludePattern.getRequestPath(request))).isFalse();
+    }
+
+    @Test
+    public void testMatchExcludePatternsOnPathWithDotSegments() throws Exception {
+        matchExcludePattern("/bonita/API/system/i18ntranslation", true);
+        matchExcludePattern("/bonita/API/system/i18ntranslation/../../bpm/process", false);
+        matchExcludePattern("/bonita/API/bpm/process/;i18ntranslation", false);
+    }
+
     @Test
     public void testCompileNullPattern() throws Exception {
         assertThat(restAPIAuthorizationFilter.compilePattern(null)).isNull();
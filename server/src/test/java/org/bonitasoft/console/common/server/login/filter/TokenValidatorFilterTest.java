@@ -3,6 +3,7 @@ package org.bonitasoft.console.common.server.login.filter;
 import static java.lang.String.format;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
@@ -24,10 +25,12 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpSession;
 
+import org.apache.commons.io.IOUtils;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.Condition;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockMultipartHttpServletRequest;
@@ -162,10 +165,43 @@ public class TokenValidatorFilterTest {
         verify(httpResponse).setStatus(HttpServletResponse.SC_UNAUTHORIZED);
     }
     
+    @Test
+    public void should_check_csrf_token_from_request_form_data_sent_after_a_file() throws Exception {
+        MockHttpServletRequest multipartRequest = mockMultipartRequestFor(SESSION_CSRF_TOKEN);
+        String boundary = "----WebKitFormBoundaryRmUZEc9hkTjU1FKc";
+        multipartRequest.setContent(new StringBuilder()
+                .append("--").append(boundary).append("\r\n")
+                .append("Content-Disposition: form-data; name=\"file\"; filename=\"file.txt\"").append("\r\n")
+                .append("Content-Type: text/plain").append("\r\n")
+                .append("\r\n")
+                .append("file content").append("\r\n")
+                .append(new String(multipartContent(boundary, SESSION_CSRF_TOKEN), StandardCharsets.UTF_8))
+                .toString().getBytes(StandardCharsets.UTF_8));
+
+        filter.proceedWithFiltering(multipartRequest, httpResponse, chain);
+
+        verify(chain).doFilter(any(ServletRequest.class), any(ServletResponse.class));
+    }
+
+    @Test
+    public void should_let_the_servlet_read_the_whole_form_data() throws Exception {
+        MockHttpServletRequest multipartRequest = mockMultipartRequestFor(SESSION_CSRF_TOKEN);
+        byte[] content = multipartContent("----WebKitFormBoundaryRmUZEc9hkTjU1FKc", SESSION_CSRF_TOKEN);
+        ArgumentCaptor<ServletRequest> forwardedRequest = ArgumentCaptor.forClass(ServletRequest.class);
+        doAnswer(invocation -> {
+            assertThat(IOUtils.toByteArray(((ServletRequest) invocation.getArguments()[0]).getInputStream())).isEqualTo(content);
+            return null;
+        }).when(chain).doFilter(forwardedRequest.capture(), any(ServletResponse.class));
+
+        filter.proceedWithFiltering(multipartRequest, httpResponse, chain);
+
+        assertThat(MultiReadHttpServletRequest.getWrapper(forwardedRequest.getValue())).isNotNull();
+    }
+
     @Test
     public void testFilterWithExcludedURL() throws Exception {
-        final String url = "test";
-        when(httpRequest.getRequestURL()).thenReturn(new StringBuffer(url));
+        final String url = "/test";
+        when(httpRequest.getServletPath()).thenReturn(url);
         doReturn(true).when(filter).matchExcludePatterns(url);
         filter.doFilter(httpRequest, httpResponse, chain);
         verify(filter, times(0)).proceedWithFiltering(httpRequest, httpResponse, chain);
@@ -29,6 +29,12 @@ import java.util.Date;
 import java.util.HashSet;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.servlet.http.HttpServletRequest;
 
 import groovy.lang.GroovyClassLoader;
@@ -387,6 +393,113 @@ public class CustomPageServiceTest {
                 .hasNoAdditionalCookies().hasHttpStatus(200);
     }
 
+    @Test
+    public void should_compile_page_controller_only_once_per_page_classloader() throws Exception {
+        // Given
+        final File pageFile = new File(getClass().getResource("/Index.groovy").toURI());
+        when(pageResourceProvider.getPageDirectory()).thenReturn(pageFile.getParentFile());
+        when(pageResourceProvider.getFullPageName()).thenReturn("custompage_compiledOnce");
+        doReturn(pageFile).when(customPageService).getGroovyPageFile(any(File.class));
+        doReturn(Thread.currentThread().getContextClassLoader()).when(customPageService).getParentClassloader(anyString(),
+                any(CustomPageDependenciesResolver.class), any(BDMClientDependenciesResolver.class));
+        final GroovyClassLoader classloader = customPageService.getPageClassloader(apiSession, pageResourceProvider);
+
+        // When
+        final Class<?> firstPageClass = customPageService.registerPage(classloader, pageResourceProvider);
+        final Class<?> secondPageClass = customPageService.registerPage(classloader, pageResourceProvider);
+
+        // Then
+        assertThat(secondPageClass).isSameAs(firstPageClass);
+        assertThat(((PageGroovyClassLoader) classloader).getCompiledClassesCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void should_not_block_page_folder_refresh_of_other_pages() throws Exception {
+        // Given
+        final PageResourceProviderImpl slowPageResourceProvider = mock(PageResourceProviderImpl.class);
+        when(slowPageResourceProvider.getFullPageName()).thenReturn("custompage_slow");
+        when(slowPageResourceProvider.getPageDirectory()).thenReturn(new File(temporaryFolder.getRoot(), "custompage_slow"));
+        when(pageResourceProvider.getFullPageName()).thenReturn("custompage_fast");
+        when(pageResourceProvider.getPageDirectory()).thenReturn(new File(temporaryFolder.getRoot(), "custompage_fast"));
+        final CountDownLatch slowPageRetrievalStarted = new CountDownLatch(1);
+        final CountDownLatch fastPageRetrieved = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            slowPageRetrievalStarted.countDown();
+            if (!fastPageRetrieved.await(10, TimeUnit.SECONDS)) {
+                throw new BonitaException("the other page was blocked");
+            }
+            return null;
+        }).when(customPageService).retrievePageZipContent(apiSession, slowPageResourceProvider);
+        doNothing().when(customPageService).retrievePageZipContent(apiSession, pageResourceProvider);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<?> slowPageRefresh = executor.submit(() -> {
+                customPageService.ensurePageFolderIsUpToDate(apiSession, slowPageResourceProvider);
+                return null;
+            });
+            slowPageRetrievalStarted.await(10, TimeUnit.SECONDS);
+
+            // When
+            customPageService.ensurePageFolderIsUpToDate(apiSession, pageResourceProvider);
+            fastPageRetrieved.countDown();
+
+            // Then
+            slowPageRefresh.get(10, TimeUnit.SECONDS);
+            verify(customPageService).retrievePageZipContent(apiSession, pageResourceProvider);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void should_not_refresh_page_folder_while_page_folder_presence_is_checked() throws Exception {
+        // Given
+        when(pageResourceProvider.getFullPageName()).thenReturn("custompage_test");
+        when(pageResourceProvider.getPageDirectory()).thenReturn(new File(temporaryFolder.getRoot(), "custompage_test"));
+        final CountDownLatch presenceCheckStarted = new CountDownLatch(1);
+        final CountDownLatch releasePresenceCheck = new CountDownLatch(1);
+        final AtomicInteger retrievalsInProgress = new AtomicInteger();
+        final AtomicInteger maxRetrievalsInProgress = new AtomicInteger();
+        doAnswer(invocation -> {
+            maxRetrievalsInProgress.accumulateAndGet(retrievalsInProgress.incrementAndGet(), Math::max);
+            try {
+                if (presenceCheckStarted.getCount() > 0) {
+                    presenceCheckStarted.countDown();
+                    releasePresenceCheck.await(10, TimeUnit.SECONDS);
+                }
+            } finally {
+                retrievalsInProgress.decrementAndGet();
+            }
+            return null;
+        }).when(customPageService).retrievePageZipContent(apiSession, pageResourceProvider);
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final Future<?> presenceCheck = executor.submit(() -> {
+                customPageService.ensurePageFolderIsPresent(apiSession, pageResourceProvider);
+                return null;
+            });
+            presenceCheckStarted.await(10, TimeUnit.SECONDS);
+
+            // When
+            final Future<?> refresh = executor.submit(() -> {
+                customPageService.ensurePageFolderIsUpToDate(apiSession, pageResourceProvider);
+                return null;
+            });
+            // give some time to the refresh to start if it was not blocked
+            Thread.sleep(200);
+            verify(customPageService, times(1)).retrievePageZipContent(apiSession, pageResourceProvider);
+            releasePresenceCheck.countDown();
+
+            // Then
+            presenceCheck.get(10, TimeUnit.SECONDS);
+            refresh.get(10, TimeUnit.SECONDS);
+            verify(customPageService, times(2)).retrievePageZipContent(apiSession, pageResourceProvider);
+            assertThat(maxRetrievalsInProgress.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @Test
     public void should_add_page_root_folder_in_classpath() throws Exception {
         final File pageDir = new File(getClass().getResource("/ARootPageFolder").getFile());
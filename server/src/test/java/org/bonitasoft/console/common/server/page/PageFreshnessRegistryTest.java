@@ -0,0 +1,143 @@
+/**
+ * Copyright (C) 2022 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.console.common.server.page;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class PageFreshnessRegistryTest {
+
+    private static final String PAGE = "/tenants/1/pages/custompage_test";
+
+    private long now = 10000L;
+
+    private long engineLastUpdateDate = 1L;
+
+    private final AtomicInteger engineCalls = new AtomicInteger();
+
+    private PageFreshnessRegistry registry;
+
+    @Before
+    public void setUp() {
+        registry = new PageFreshnessRegistry() {
+
+            @Override
+            protected long currentTimeMillis() {
+                return now;
+            }
+        };
+    }
+
+    private long getLastUpdateDate(final long maxStaleness) throws Exception {
+        return registry.getLastUpdateDate(PAGE, maxStaleness, () -> {
+            engineCalls.incrementAndGet();
+            return engineLastUpdateDate;
+        });
+    }
+
+    @Test
+    public void should_not_call_the_engine_while_the_date_is_fresh() throws Exception {
+        getLastUpdateDate(1000L);
+        engineLastUpdateDate = 2L;
+        now += 499L;
+
+        assertThat(getLastUpdateDate(1000L)).isEqualTo(1L);
+        assertThat(engineCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void should_let_a_single_request_refresh_once_half_of_the_staleness_window_elapsed() throws Exception {
+        getLastUpdateDate(1000L);
+        engineLastUpdateDate = 2L;
+        now += 500L;
+        final AtomicInteger dateSeenDuringRefresh = new AtomicInteger();
+
+        final long refreshedDate = registry.getLastUpdateDate(PAGE, 1000L, () -> {
+            engineCalls.incrementAndGet();
+            dateSeenDuringRefresh.set((int) getLastUpdateDate(1000L));
+            return engineLastUpdateDate;
+        });
+
+        assertThat(refreshedDate).isEqualTo(2L);
+        assertThat(dateSeenDuringRefresh.get()).isEqualTo(1);
+        assertThat(getLastUpdateDate(1000L)).isEqualTo(2L);
+        assertThat(engineCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void should_call_the_engine_once_the_staleness_window_elapsed() throws Exception {
+        getLastUpdateDate(1000L);
+        engineLastUpdateDate = 2L;
+        now += 1000L;
+
+        assertThat(getLastUpdateDate(1000L)).isEqualTo(2L);
+        assertThat(engineCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void should_always_call_the_engine_without_staleness_window() throws Exception {
+        getLastUpdateDate(0L);
+        getLastUpdateDate(0L);
+
+        assertThat(engineCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void should_use_updated_date_without_calling_the_engine() throws Exception {
+        registry.update(PAGE, 3L);
+
+        assertThat(getLastUpdateDate(1000L)).isEqualTo(3L);
+        assertThat(engineCalls.get()).isEqualTo(0);
+    }
+
+    @Test
+    public void should_call_the_engine_after_invalidation() throws Exception {
+        getLastUpdateDate(1000L);
+        engineLastUpdateDate = 2L;
+
+        registry.invalidate(PAGE);
+
+        assertThat(getLastUpdateDate(1000L)).isEqualTo(2L);
+    }
+
+    @Test
+    public void should_not_overwrite_a_date_updated_during_a_refresh() throws Exception {
+        registry.getLastUpdateDate(PAGE, 1000L, () -> {
+            registry.update(PAGE, 3L);
+            return 2L;
+        });
+
+        assertThat(getLastUpdateDate(1000L)).isEqualTo(3L);
+        assertThat(engineCalls.get()).isEqualTo(0);
+    }
+
+    @Test
+    public void should_not_store_a_date_invalidated_during_a_refresh() throws Exception {
+        getLastUpdateDate(1000L);
+        now += 1000L;
+
+        registry.getLastUpdateDate(PAGE, 1000L, () -> {
+            registry.invalidate(PAGE);
+            return 2L;
+        });
+        engineLastUpdateDate = 4L;
+
+        assertThat(getLastUpdateDate(1000L)).isEqualTo(4L);
+    }
+}
@@ -0,0 +1,133 @@
+/**
+ * Copyright (C) 2022 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.console.common.server.page;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.bonitasoft.engine.exception.BonitaException;
+import org.junit.After;
+import org.junit.Test;
+
+public class PageLocksTest {
+
+    private final PageLocks pageLocks = new PageLocks();
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void should_not_block_operations_on_other_pages() throws Exception {
+        final CountDownLatch otherPageDone = new CountDownLatch(1);
+        final Future<String> slowPage = executor.submit(() -> pageLocks.executeOnce(PageLocks.getKey("folder", 1L, "slowPage"), () -> {
+            // only completes if the other page is refreshed meanwhile
+            if (!otherPageDone.await(10, TimeUnit.SECONDS)) {
+                throw new BonitaException("other page was blocked");
+            }
+            return "slow";
+        }));
+
+        final String otherPage = pageLocks.executeOnce(PageLocks.getKey("folder", 1L, "otherPage"), () -> "other");
+        otherPageDone.countDown();
+
+        assertThat(otherPage).isEqualTo("other");
+        assertThat(slowPage.get(10, TimeUnit.SECONDS)).isEqualTo("slow");
+    }
+
+    @Test
+    public void should_run_concurrent_operations_on_the_same_page_only_once() throws Exception {
+        final String key = PageLocks.getKey("folder", 1L, "page");
+        final CountDownLatch operationStarted = new CountDownLatch(1);
+        final CountDownLatch releaseOperation = new CountDownLatch(1);
+        final AtomicInteger executions = new AtomicInteger();
+        final Future<Integer> first = executor.submit(() -> pageLocks.executeOnce(key, () -> {
+            operationStarted.countDown();
+            releaseOperation.await(10, TimeUnit.SECONDS);
+            return executions.incrementAndGet();
+        }));
+        operationStarted.await(10, TimeUnit.SECONDS);
+
+        final Future<Integer> second = executor.submit(() -> pageLocks.executeOnce(key, executions::incrementAndGet));
+        // give some time to the second call to join the operation in progress
+        Thread.sleep(200);
+        releaseOperation.countDown();
+
+        assertThat(first.get(10, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThat(second.get(10, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void should_run_the_operation_again_once_the_previous_one_is_done() throws Exception {
+        final String key = PageLocks.getKey("folder", 1L, "page");
+        final AtomicInteger executions = new AtomicInteger();
+
+        pageLocks.executeOnce(key, executions::incrementAndGet);
+        pageLocks.executeOnce(key, executions::incrementAndGet);
+
+        assertThat(executions.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void should_rethrow_the_exception_of_the_operation() throws Exception {
+        try {
+            pageLocks.executeOnce(PageLocks.getKey("folder", 1L, "page"), () -> {
+                throw new BonitaException("unable to retrieve the page");
+            });
+            fail("BonitaException expected");
+        } catch (final BonitaException e) {
+            assertThat(e.getMessage()).contains("unable to retrieve the page");
+        }
+    }
+
+    @Test
+    public void should_run_operations_sharing_a_lock_one_after_the_other() throws Exception {
+        final String lockKey = PageLocks.getKey("folder", 1L, "page");
+        final CountDownLatch firstStarted = new CountDownLatch(1);
+        final CountDownLatch releaseFirst = new CountDownLatch(1);
+        final AtomicInteger inProgress = new AtomicInteger();
+        final AtomicInteger maxInProgress = new AtomicInteger();
+        final Future<Integer> first = executor.submit(() -> pageLocks.executeOnce(lockKey, PageLocks.getKey("presence", 1L, "page"), () -> {
+            maxInProgress.accumulateAndGet(inProgress.incrementAndGet(), Math::max);
+            firstStarted.countDown();
+            releaseFirst.await(10, TimeUnit.SECONDS);
+            return inProgress.getAndDecrement();
+        }));
+        firstStarted.await(10, TimeUnit.SECONDS);
+
+        final Future<Integer> second = executor.submit(() -> pageLocks.executeOnce(lockKey, PageLocks.getKey("refresh", 1L, "page"), () -> {
+            maxInProgress.accumulateAndGet(inProgress.incrementAndGet(), Math::max);
+            return inProgress.getAndDecrement();
+        }));
+        Thread.sleep(200);
+        assertThat(second.isDone()).isFalse();
+        releaseFirst.countDown();
+
+        assertThat(first.get(10, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThat(second.get(10, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThat(maxInProgress.get()).isEqualTo(1);
+    }
+}
@@ -15,13 +15,16 @@
 package org.bonitasoft.console.common.server.servlet;
 
 import org.bonitasoft.engine.api.ApplicationAPI;
+import org.bonitasoft.engine.business.application.Application;
 import org.bonitasoft.engine.business.application.ApplicationNotFoundException;
 import org.bonitasoft.engine.business.application.ApplicationUpdater;
 import org.bonitasoft.engine.business.application.impl.IconImpl;
 import org.bonitasoft.engine.exception.NotFoundException;
 import org.bonitasoft.engine.exception.UpdateException;
+import org.bonitasoft.engine.session.APISession;
 import org.bonitasoft.web.toolkit.client.common.exception.api.APIException;
 import org.bonitasoft.web.toolkit.client.common.exception.api.APIItemNotFoundException;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -34,6 +37,8 @@ import org.springframework.mock.web.MockHttpServletResponse;
 
 import javax.servlet.http.HttpServletResponse;
 
+import java.util.Date;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
@@ -48,16 +53,32 @@ import static org.mockito.Mockito.*;
 public class ApplicationIconServletTest {
 
     private static final long APPLICATION_ID = 1328970423L;
+    private static final long TENANT_ID = 1L;
     @Spy
     private ApplicationIconServlet applicationIconServlet;
     private MockHttpServletRequest httpServletRequest = new MockHttpServletRequest();
     private MockHttpServletResponse httpServletResponse = new MockHttpServletResponse();
     @Mock
     private ApplicationAPI applicationAPI;
+    @Mock
+    private APISession apiSession;
 
     @Before
     public void before() throws Exception {
         doReturn(applicationAPI).when(applicationIconServlet).getApplicationApi(any());
+        doReturn(TENANT_ID).when(apiSession).getTenantId();
+    }
+
+    @After
+    public void after() {
+        IconCache.getInstance().invalidate(TENANT_ID, IconCache.APPLICATION_ICONS);
+    }
+
+    private MockHttpServletRequest newRequest(String method) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/API/applicationIcon/" + APPLICATION_ID);
+        request.setPathInfo("/" + APPLICATION_ID);
+        request.getSession().setAttribute("apiSession", apiSession);
+        return request;
     }
 
     private void havingIcon(long applicationId, byte[] content) throws NotFoundException {
@@ -186,4 +207,65 @@ public class ApplicationIconServletTest {
         applicationIconServlet.doDelete(httpServletRequest, httpServletResponse);
         assertThat(httpServletResponse.getStatus()).isEqualTo(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
     }
+
+    @Test
+    public void should_return_not_modified_when_the_client_has_the_icon() throws Exception {
+        havingIcon(APPLICATION_ID, "content".getBytes());
+        httpServletRequest.setPathInfo("/" + APPLICATION_ID);
+        applicationIconServlet.doGet(httpServletRequest, httpServletResponse);
+        String eTag = httpServletResponse.getHeader("ETag");
+        MockHttpServletRequest conditionalRequest = new MockHttpServletRequest();
+        conditionalRequest.setPathInfo("/" + APPLICATION_ID);
+        conditionalRequest.addHeader("If-None-Match", eTag);
+        MockHttpServletResponse conditionalResponse = new MockHttpServletResponse();
+
+        applicationIconServlet.doGet(conditionalRequest, conditionalResponse);
+
+        assertThat(eTag).startsWith("\"" + APPLICATION_ID + "-");
+        assertThat(conditionalResponse.getStatus()).isEqualTo(HttpServletResponse.SC_NOT_MODIFIED);
+        assertThat(conditionalResponse.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    public void should_return_the_icon_when_it_changed() throws Exception {
+        havingIcon(APPLICATION_ID, "new content".getBytes());
+        httpServletRequest.setPathInfo("/" + APPLICATION_ID);
+        httpServletRequest.addHeader("If-None-Match", new IconContent("content".getBytes(), "mime-type").getETag(APPLICATION_ID));
+
+        applicationIconServlet.doGet(httpServletRequest, httpServletResponse);
+
+        assertThat(httpServletResponse.getStatus()).isEqualTo(HttpServletResponse.SC_OK);
+        assertThat(httpServletResponse.getContentAsByteArray()).isEqualTo("new content".getBytes());
+    }
+
+    @Test
+    public void should_return_not_modified_when_the_application_was_not_updated_since() throws Exception {
+        havingIcon(APPLICATION_ID, "content".getBytes());
+        Application application = mock(Application.class);
+        doReturn(new Date(1600000000000L)).when(application).getLastUpdateDate();
+        doReturn(application).when(applicationAPI).getApplication(APPLICATION_ID);
+        httpServletRequest.setPathInfo("/" + APPLICATION_ID);
+        httpServletRequest.addHeader("If-Modified-Since", 1600000000000L);
+
+        applicationIconServlet.doGet(httpServletRequest, httpServletResponse);
+
+        assertThat(httpServletResponse.getHeader("Last-Modified")).isEqualTo("Sun, 13 Sep 2020 12:26:40 GMT");
+        assertThat(httpServletResponse.getStatus()).isEqualTo(HttpServletResponse.SC_NOT_MODIFIED);
+    }
+
+    @Test
+    public void should_fetch_the_icon_again_only_once_it_is_deleted() throws Exception {
+        havingIcon(APPLICATION_ID, "content".getBytes());
+        applicationIconServlet.doGet(newRequest("GET"), new MockHttpServletResponse());
+        applicationIconServlet.doGet(newRequest("GET"), new MockHttpServletResponse());
+        verify(applicationAPI, times(1)).getIconOfApplication(APPLICATION_ID);
+
+        applicationIconServlet.doDelete(newRequest("DELETE"), new MockHttpServletResponse());
+        doReturn(null).when(applicationAPI).getIconOfApplication(APPLICATION_ID);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        applicationIconServlet.doGet(newRequest("GET"), response);
+
+        verify(applicationAPI, times(2)).getIconOfApplication(APPLICATION_ID);
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_NOT_FOUND);
+    }
 }
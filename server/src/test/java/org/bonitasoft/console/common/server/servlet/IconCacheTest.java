@@ -0,0 +1,114 @@
+/**
+ * Copyright (C) 2022 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.console.common.server.servlet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+
+import org.junit.Test;
+
+public class IconCacheTest {
+
+    private final IconCache iconCache = new IconCache(10);
+
+    private int numberOfLoads = 0;
+
+    private Optional<IconContent> load(final String content) {
+        numberOfLoads++;
+        return Optional.of(new IconContent(content.getBytes(), "image/png"));
+    }
+
+    @Test
+    public void should_load_an_icon_once() {
+        final Optional<IconContent> first = iconCache.get(1L, IconCache.ORGANIZATION_ICONS, 12L, () -> load("icon"));
+        final Optional<IconContent> second = iconCache.get(1L, IconCache.ORGANIZATION_ICONS, 12L, () -> load("icon"));
+
+        assertThat(second.get()).isSameAs(first.get());
+        assertThat(numberOfLoads).isEqualTo(1);
+    }
+
+    @Test
+    public void should_keep_tenants_and_kinds_of_icons_apart() {
+        iconCache.get(1L, IconCache.ORGANIZATION_ICONS, 12L, () -> load("a"));
+        iconCache.get(2L, IconCache.ORGANIZATION_ICONS, 12L, () -> load("b"));
+        iconCache.get(1L, IconCache.APPLICATION_ICONS, 12L, () -> load("c"));
+
+        assertThat(numberOfLoads).isEqualTo(3);
+        assertThat(iconCache.getNumberOfIcons()).isEqualTo(3);
+    }
+
+    @Test
+    public void should_not_keep_icons_not_found() {
+        iconCache.get(1L, IconCache.ORGANIZATION_ICONS, 12L, Optional::empty);
+
+        assertThat(iconCache.getNumberOfIcons()).isZero();
+    }
+
+    @Test
+    public void should_evict_the_least_recently_used_icons_above_the_maximum_size() {
+        iconCache.get(1L, IconCache.ORGANIZATION_ICONS, 1L, () -> load("1234"));
+        iconCache.get(1L, IconCache.ORGANIZATION_ICONS, 2L, () -> load("1234"));
+        iconCache.get(1L, IconCache.ORGANIZATION_ICONS, 1L, () -> load("1234"));
+
+        iconCache.get(1L, IconCache.ORGANIZATION_ICONS, 3L, () -> load("1234"));
+        iconCache.get(1L, IconCache.ORGANIZATION_ICONS, 1L, () -> load("1234"));
+        iconCache.get(1L, IconCache.ORGANIZATION_ICONS, 2L, () -> load("1234"));
+
+        assertThat(numberOfLoads).isEqualTo(4);
+        assertThat(iconCache.getSize()).isLessThanOrEqualTo(10);
+    }
+
+    @Test
+    public void should_not_keep_icons_bigger_than_the_maximum_size() {
+        iconCache.get(1L, IconCache.ORGANIZATION_ICONS, 12L, () -> load("12345678901"));
+
+        assertThat(iconCache.getNumberOfIcons()).isZero();
+    }
+
+    @Test
+    public void should_reload_an_invalidated_icon() {
+        iconCache.get(1L, IconCache.APPLICATION_ICONS, 12L, () -> load("old"));
+        iconCache.get(1L, IconCache.APPLICATION_ICONS, 13L, () -> load("other"));
+
+        iconCache.invalidate(1L, IconCache.APPLICATION_ICONS, 12L);
+        final Optional<IconContent> icon = iconCache.get(1L, IconCache.APPLICATION_ICONS, 12L, () -> load("new"));
+
+        assertThat(icon.get().getContent()).isEqualTo("new".getBytes());
+        assertThat(iconCache.getNumberOfIcons()).isEqualTo(2);
+    }
+
+    @Test
+    public void should_discard_the_icons_of_a_kind_of_a_tenant() {
+        iconCache.get(1L, IconCache.ORGANIZATION_ICONS, 12L, () -> load("a"));
+        iconCache.get(1L, IconCache.APPLICATION_ICONS, 12L, () -> load("b"));
+        iconCache.get(2L, IconCache.ORGANIZATION_ICONS, 12L, () -> load("c"));
+
+        iconCache.invalidate(1L, IconCache.ORGANIZATION_ICONS);
+
+        assertThat(iconCache.getNumberOfIcons()).isEqualTo(2);
+        assertThat(iconCache.getSize()).isEqualTo(2);
+    }
+
+    @Test
+    public void should_not_keep_an_icon_loaded_while_it_is_invalidated() {
+        iconCache.get(1L, IconCache.APPLICATION_ICONS, 12L, () -> {
+            iconCache.invalidate(1L, IconCache.APPLICATION_ICONS, 12L);
+            return load("old");
+        });
+
+        assertThat(iconCache.getNumberOfIcons()).isZero();
+    }
+}
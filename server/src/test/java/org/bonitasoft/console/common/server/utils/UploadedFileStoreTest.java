@@ -0,0 +1,122 @@
+/**
+ * Copyright (C) 2022 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.console.common.server.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class UploadedFileStoreTest {
+
+    private static final long NOW = 1_000_000_000L;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private long currentTime;
+
+    private UploadedFileStore uploadedFileStore;
+
+    @Before
+    public void setUp() {
+        currentTime = NOW;
+        uploadedFileStore = new UploadedFileStore() {
+
+            @Override
+            protected long currentTimeMillis() {
+                return currentTime;
+            }
+        };
+    }
+
+    private File upload(final String content, final Long tenantId, final String sessionId) throws IOException {
+        final File file = File.createTempFile(UploadedFileStore.UPLOADED_FILE_PREFIX, ".txt", temporaryFolder.getRoot());
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        uploadedFileStore.add(file, tenantId, sessionId);
+        return file;
+    }
+
+    @Test
+    public void should_delete_a_file_once_consumed() throws Exception {
+        final File file = upload("content", 1L, "session");
+
+        uploadedFileStore.release(file);
+
+        assertThat(file).doesNotExist();
+        assertThat(uploadedFileStore.getFileCount()).isZero();
+    }
+
+    @Test
+    public void should_delete_the_files_of_a_session_when_it_ends() throws Exception {
+        final File sessionFile = upload("content", 1L, "session");
+        final File otherSessionFile = upload("content", 1L, "other session");
+
+        uploadedFileStore.releaseSessionFiles("session");
+
+        assertThat(sessionFile).doesNotExist();
+        assertThat(otherSessionFile).exists();
+        assertThat(uploadedFileStore.getFileCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void should_only_sweep_the_expired_files() throws Exception {
+        final File expiredFile = upload("content", 1L, "session");
+        currentTime = NOW + 10;
+        final File recentFile = upload("content", 1L, "session");
+
+        final int deletedFiles = uploadedFileStore.sweep(5);
+
+        assertThat(deletedFiles).isEqualTo(1);
+        assertThat(expiredFile).doesNotExist();
+        assertThat(recentFile).exists();
+    }
+
+    @Test
+    public void should_sweep_the_expired_files_left_in_the_upload_folders() throws Exception {
+        final File orphan = File.createTempFile(UploadedFileStore.UPLOADED_FILE_PREFIX, ".txt", temporaryFolder.getRoot());
+        orphan.setLastModified(NOW - 10_000);
+        final File otherFile = temporaryFolder.newFile("configuration.properties");
+        otherFile.setLastModified(NOW - 10_000);
+        upload("content", 1L, "session");
+
+        final int deletedFiles = uploadedFileStore.sweep(5_000);
+
+        assertThat(deletedFiles).isEqualTo(1);
+        assertThat(orphan).doesNotExist();
+        assertThat(otherFile).exists();
+        assertThat(uploadedFileStore.getFileCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void should_count_the_files_and_their_size() throws Exception {
+        upload("123", 1L, "session");
+        upload("12345", 1L, "session");
+        upload("1", 2L, "other session");
+        upload("12", null, null);
+
+        assertThat(uploadedFileStore.getFileCount()).isEqualTo(4);
+        assertThat(uploadedFileStore.getFileCount(1L)).isEqualTo(2);
+        assertThat(uploadedFileStore.getFileCount(2L)).isEqualTo(1);
+        assertThat(uploadedFileStore.getDiskUsage()).isEqualTo(11);
+    }
+}
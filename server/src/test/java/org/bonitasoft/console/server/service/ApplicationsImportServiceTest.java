@@ -61,6 +61,7 @@ public class ApplicationsImportServiceTest {
         MockitoAnnotations.initMocks(this);
         doReturn(LOCALE.en).when(spiedApplicationImportService).getLocale();
         Mockito.doReturn(applicationAPI).when(spiedApplicationImportService).getApplicationAPI();
+        doReturn(1L).when(spiedApplicationImportService).getTenantId();
     }
 
     @Test
@@ -0,0 +1,107 @@
+/**
+ * Copyright (C) 2022 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.livingapps;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bonitasoft.engine.business.application.Application;
+import org.bonitasoft.engine.business.application.impl.ApplicationImpl;
+import org.bonitasoft.livingapps.exception.CreationException;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ApplicationModelCacheTest {
+
+    private long now = 1000L;
+
+    private final List<String> loadedTokens = new ArrayList<>();
+
+    private ApplicationModelCache cache;
+
+    @Before
+    public void setUp() {
+        cache = new ApplicationModelCache(100L) {
+
+            @Override
+            protected long currentTimeMillis() {
+                return now;
+            }
+        };
+    }
+
+    private Application load(final String token) {
+        loadedTokens.add(token);
+        return new ApplicationImpl(token, "1.0", "description");
+    }
+
+    @Test
+    public void should_load_an_application_once_until_it_expires() {
+        final CachedApplication first = cache.get("hr", this::load);
+        final CachedApplication second = cache.get("hr", this::load);
+        now += 100L;
+        final CachedApplication third = cache.get("hr", this::load);
+
+        assertThat(second).isSameAs(first);
+        assertThat(third).isNotSameAs(first);
+        assertThat(loadedTokens).containsExactly("hr", "hr");
+    }
+
+    @Test
+    public void should_reload_applications_after_an_invalidation() {
+        cache.get("hr", this::load);
+        cache.get("sales", this::load);
+
+        cache.invalidateAll();
+
+        assertThat(cache.size()).isEqualTo(0);
+        cache.get("hr", this::load);
+        assertThat(loadedTokens).containsExactly("hr", "sales", "hr");
+    }
+
+    @Test
+    public void should_not_keep_an_application_loaded_during_an_invalidation() {
+        cache.get("hr", token -> {
+            cache.invalidateAll();
+            return load(token);
+        });
+
+        assertThat(cache.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void should_not_keep_applications_not_found() {
+        try {
+            cache.get("unknown", token -> {
+                throw new CreationException("No application found with name " + token);
+            });
+        } catch (final CreationException e) {
+            // expected
+        }
+
+        assertThat(cache.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void should_invalidate_the_cache_of_a_tenant() {
+        ApplicationModelCache.getInstance(42L).get("hr", this::load);
+
+        ApplicationModelCache.invalidate(42L);
+
+        assertThat(ApplicationModelCache.getInstance(42L).size()).isEqualTo(0);
+    }
+}
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.util.Collections;
@@ -80,4 +81,22 @@ public class ApplicationModelFactoryTest {
         assertThat(filter.getField()).isEqualTo("token");
         assertThat(filter.getValue()).isEqualTo("bar");
     }
+
+    @Test
+    public void should_share_the_application_of_the_cache_between_models() throws Exception {
+        final ApplicationImpl application = new ApplicationImpl("foobar", "1.0", "bazqux");
+        application.setId(3);
+        given(applicationApi.searchApplications(any(SearchOptions.class))).willReturn(
+                new SearchResultImpl<Application>(1, asList((Application) application)));
+        given(applicationApi.getApplicationHomePage(3)).willReturn(new ApplicationPageImpl(1, 1, "home"));
+        final ApplicationModelFactory cachedFactory = new ApplicationModelFactory(applicationApi, customPageApi, null,
+                new ApplicationModelCache(ApplicationModelCache.DEFAULT_TIME_TO_LIVE));
+
+        cachedFactory.createApplicationModel("foobar").getApplicationHomePage();
+        final ApplicationModel model = cachedFactory.createApplicationModel("foobar");
+
+        assertThat(model.getApplicationHomePage()).isEqualTo("home/");
+        verify(applicationApi, times(1)).searchApplications(any(SearchOptions.class));
+        verify(applicationApi, times(1)).getApplicationHomePage(3);
+    }
 }
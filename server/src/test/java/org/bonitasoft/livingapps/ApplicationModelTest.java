@@ -4,12 +4,14 @@ import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import org.bonitasoft.console.common.server.utils.ProfileMembershipCache;
 import org.bonitasoft.engine.api.ApplicationAPI;
 import org.bonitasoft.engine.api.PageAPI;
 import org.bonitasoft.engine.api.ProfileAPI;
@@ -33,6 +35,7 @@ import org.bonitasoft.engine.search.impl.SearchFilter;
 import org.bonitasoft.engine.search.impl.SearchResultImpl;
 import org.bonitasoft.engine.session.APISession;
 import org.bonitasoft.livingapps.menu.MenuFactory;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -71,6 +74,11 @@ public class ApplicationModelTest {
         model = new ApplicationModel(applicationApi, pageApi, profileApi, application, factory);
     }
 
+    @After
+    public void afterEach() {
+        ProfileMembershipCache.getInstance().invalidate(session);
+    }
+
     @Test
     public void should_filter_application_menu_search_for_the_given_application() throws Exception {
         givenSearchApplicationMenusWillReturns(Collections.<ApplicationMenu> emptyList());
@@ -135,6 +143,22 @@ public class ApplicationModelTest {
         assertThat(model.authorize(session)).isFalse();
     }
 
+    @Test
+    public void should_fetch_the_profiles_of_a_session_user_once() throws Exception {
+        final ProfileImpl profile = new ProfileImpl("user");
+        profile.setId(2L);
+        given(profileApi.getProfilesForUser(1L, 0, Integer.MAX_VALUE, ProfileCriterion.ID_ASC))
+        .willReturn(asList((Profile) profile));
+        given(session.getUserId()).willReturn(1L);
+        application.setProfileId(2L);
+
+        model.authorize(session);
+        application.setProfileId(3L);
+
+        assertThat(model.authorize(session)).isFalse();
+        verify(profileApi, times(1)).getProfilesForUser(1L, 0, Integer.MAX_VALUE, ProfileCriterion.ID_ASC);
+    }
+
     private void givenSearchApplicationMenusWillReturns(final List<ApplicationMenu> menuList) throws Exception {
         given(applicationApi.searchApplicationMenus(any(SearchOptions.class))).willReturn(
                 new SearchResultImpl<>(menuList.size(), menuList));
@@ -3,11 +3,20 @@ package org.bonitasoft.livingapps.menu;
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
 
 import org.bonitasoft.engine.api.ApplicationAPI;
 import org.bonitasoft.engine.business.application.ApplicationMenu;
+import org.bonitasoft.engine.business.application.ApplicationPage;
 import org.bonitasoft.engine.business.application.impl.ApplicationMenuImpl;
 import org.bonitasoft.engine.business.application.impl.ApplicationPageImpl;
+import org.bonitasoft.engine.search.SearchOptions;
+import org.bonitasoft.engine.search.impl.SearchResultImpl;
 import org.bonitasoft.livingapps.menu.MenuFactory;
 import org.junit.Before;
 import org.junit.Test;
@@ -39,9 +48,15 @@ public class MenuFactoryTest {
         aNestedMenuLink = new ApplicationMenuImpl("nested-link", 1L, 2L, 2);
         aNestedMenuLink.setId(3L);
         aNestedMenuLink.setParentId(2L);
+        aPage.setId(2L);
         given(applicationApi.getApplicationPage(aMenuLink.getApplicationPageId())).willReturn(aPage);
     }
 
+    private void givenApplicationPages(final ApplicationPage... pages) throws Exception {
+        given(applicationApi.searchApplicationPages(any(SearchOptions.class))).willReturn(
+                new SearchResultImpl<ApplicationPage>(pages.length, asList(pages)));
+    }
+
     @Test
     public void should_create_a_MenuLink_with_the_page_token_it_is_pointing_at_when_menu_is_a_link() throws Exception {
         MenuFactory factory = new MenuFactory(applicationApi);
@@ -72,4 +87,34 @@ public class MenuFactoryTest {
                         .append("<li><a href=\"token\">nested-link</a></li>")
                         .append("</ul></li>").toString());
     }
+
+    @Test
+    public void should_resolve_the_pages_of_all_the_links_with_a_single_search() throws Exception {
+        final ApplicationPageImpl anotherPage = new ApplicationPageImpl(1L, 3L, "other");
+        anotherPage.setId(4L);
+        final ApplicationMenuImpl anotherMenuLink = new ApplicationMenuImpl("other-link", 1L, 4L, 3);
+        anotherMenuLink.setId(5L);
+        givenApplicationPages(aPage, anotherPage);
+        MenuFactory factory = new MenuFactory(applicationApi);
+
+        final List<Menu> menus = factory.create(asList((ApplicationMenu) aMenuLink, aMenuContainer, aNestedMenuLink, anotherMenuLink));
+
+        assertThat(menus).hasSize(3);
+        assertThat(menus.get(0).getHtml()).isEqualTo("<li><a href=\"token\">link</a></li>");
+        assertThat(menus.get(1).getHtml()).contains("<li><a href=\"token\">nested-link</a></li>");
+        assertThat(menus.get(2).getHtml()).isEqualTo("<li><a href=\"other\">other-link</a></li>");
+        verify(applicationApi).searchApplicationPages(any(SearchOptions.class));
+        verify(applicationApi, never()).getApplicationPage(anyLong());
+    }
+
+    @Test
+    public void should_ignore_menus_whose_parent_is_not_in_the_list() throws Exception {
+        final ApplicationMenuImpl anOrphanMenuLink = new ApplicationMenuImpl("orphan", 1L, 2L, 3);
+        anOrphanMenuLink.setId(6L);
+        anOrphanMenuLink.setParentId(42L);
+        givenApplicationPages(aPage);
+        MenuFactory factory = new MenuFactory(applicationApi);
+
+        assertThat(factory.create(asList((ApplicationMenu) aMenuLink, anOrphanMenuLink))).hasSize(1);
+    }
 }
@@ -3,9 +3,14 @@ package org.bonitasoft.web.rest.server;
 import org.bonitasoft.web.rest.server.api.organization.APICustomUserInfoDefinition;
 import org.bonitasoft.web.rest.server.api.organization.APICustomUserInfoUser;
 import org.bonitasoft.web.rest.server.api.organization.APICustomUserInfoValue;
+import org.bonitasoft.web.rest.server.api.organization.APIUser;
+import org.bonitasoft.web.rest.server.api.system.APISession;
+import org.bonitasoft.web.toolkit.client.common.exception.api.APINotFoundException;
 import org.junit.Before;
 import org.junit.Test;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -34,4 +39,27 @@ public class BonitaRestAPIFactoryTest extends APITestWithMock {
     public void should_provide_an_APICustomUserInfoValue_when_requesting_custom_user_info_value() throws Exception {
         assertTrue(factory.defineApis("customuserinfo", "value") instanceof APICustomUserInfoValue);
     }
+
+    @Test
+    public void should_provide_a_new_API_instance_for_each_call() throws Exception {
+        assertTrue(factory.defineApis("identity", "user") instanceof APIUser);
+        assertNotSame(factory.defineApis("identity", "user"), factory.defineApis("identity", "user"));
+    }
+
+    @Test(expected = APINotFoundException.class)
+    public void should_fail_when_requesting_an_unknown_resource() throws Exception {
+        factory.defineApis("identity", "unknown");
+    }
+
+    @Test
+    public void should_list_registered_resources() throws Exception {
+        assertThat(factory.getRegistry().getResources()).contains("identity/user", "bpm/case", "living/application");
+    }
+
+    @Test
+    public void should_provide_additional_registered_APIs() throws Exception {
+        factory.getRegistry().register("custom", "session", APISession::new);
+
+        assertTrue(factory.defineApis("custom", "session") instanceof APISession);
+    }
 }
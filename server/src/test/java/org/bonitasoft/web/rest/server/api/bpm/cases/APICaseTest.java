@@ -236,7 +236,7 @@ public class APICaseTest {
         final List<String> deploys = Arrays.asList(CaseItem.ATTRIBUTE_STARTED_BY_USER_ID);
 
         final UserItem userItem = new UserItem();
-        doReturn(userItem).when(userDatastore).get(startedByUserID);
+        doReturn(Collections.singletonMap(startedByUserID, userItem)).when(userDatastore).getByIds(Arrays.asList(startedByUserID));
 
         // When
         apiCase.fillDeploys(item, deploys);
@@ -277,7 +277,7 @@ public class APICaseTest {
         final List<String> deploys = Arrays.asList(CaseItem.ATTRIBUTE_STARTED_BY_SUBSTITUTE_USER_ID);
 
         final UserItem userItem = new UserItem();
-        doReturn(userItem).when(userDatastore).get(startedBySubstituteUserID);
+        doReturn(Collections.singletonMap(startedBySubstituteUserID, userItem)).when(userDatastore).getByIds(Arrays.asList(startedBySubstituteUserID));
 
         // When
         apiCase.fillDeploys(item, deploys);
@@ -318,7 +318,7 @@ public class APICaseTest {
         final List<String> deploys = Arrays.asList(CaseItem.ATTRIBUTE_PROCESS_ID);
 
         final ProcessItem processItem = new ProcessItem();
-        doReturn(processItem).when(processDatastore).get(processId);
+        doReturn(Collections.singletonMap(processId, processItem)).when(processDatastore).getByIds(Arrays.asList(processId));
 
         // When
         apiCase.fillDeploys(item, deploys);
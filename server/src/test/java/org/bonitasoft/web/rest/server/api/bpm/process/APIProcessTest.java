@@ -1,13 +1,16 @@
 package org.bonitasoft.web.rest.server.api.bpm.process;
 
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Matchers.anyListOf;
 import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.anyMapOf;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.*;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -88,9 +91,8 @@ public class APIProcessTest {
         final long numberOfFailedCases = 2L;
         final Map<String, String> filters = new HashMap<>();
         filters.put(CaseItem.FILTER_CALLER, "any");
-        filters.put(CaseItem.ATTRIBUTE_PROCESS_ID, item.getId().toString());
         filters.put(CaseItem.FILTER_STATE, ProcessInstanceState.ERROR.name());
-        doReturn(numberOfFailedCases).when(caseDatastore).count(null, null, filters);
+        doReturn(Collections.singletonMap(id, numberOfFailedCases)).when(caseDatastore).countByProcess(Arrays.asList(id), filters);
 
         // When
         apiProcess.fillCounters(item, counters);
@@ -128,10 +130,9 @@ public class APIProcessTest {
         final List<String> counters = Arrays.asList(ProcessItem.COUNTER_OPEN_CASES);
         final Map<String, String> filters = new HashMap<>();
         filters.put(CaseItem.FILTER_CALLER, "any");
-        filters.put(CaseItem.ATTRIBUTE_PROCESS_ID, id.toString());
 
         final long numberOfOpenCases = 2L;
-        doReturn(numberOfOpenCases).when(caseDatastore).count(null, null, filters);
+        doReturn(Collections.singletonMap(id, numberOfOpenCases)).when(caseDatastore).countByProcess(Arrays.asList(id), filters);
 
         // When
         apiProcess.fillCounters(item, counters);
@@ -155,4 +156,38 @@ public class APIProcessTest {
         // Then
         verify(item, never()).setAttribute(anyString(), anyLong());
     }
+
+    @Test
+    public final void fillCounters_should_count_cases_of_all_processes_with_one_call_per_counter() {
+        // Given
+        final APIID id1 = APIID.makeAPIID(1L);
+        final APIID id2 = APIID.makeAPIID(2L);
+        final ProcessItem item1 = mock(ProcessItem.class);
+        doReturn(id1).when(item1).getId();
+        final ProcessItem item2 = mock(ProcessItem.class);
+        doReturn(id2).when(item2).getId();
+        final Map<APIID, Long> numberOfOpenCases = new HashMap<>();
+        numberOfOpenCases.put(id1, 3L);
+        numberOfOpenCases.put(id2, 0L);
+        final Map<APIID, Long> numberOfFailedCases = new HashMap<>();
+        numberOfFailedCases.put(id1, 1L);
+        numberOfFailedCases.put(id2, 0L);
+        final Map<String, String> openFilters = new HashMap<>();
+        openFilters.put(CaseItem.FILTER_CALLER, "any");
+        final Map<String, String> failedFilters = new HashMap<>(openFilters);
+        failedFilters.put(CaseItem.FILTER_STATE, ProcessInstanceState.ERROR.name());
+        doReturn(numberOfOpenCases).when(caseDatastore).countByProcess(Arrays.asList(id1, id2), openFilters);
+        doReturn(numberOfFailedCases).when(caseDatastore).countByProcess(Arrays.asList(id1, id2), failedFilters);
+
+        // When
+        apiProcess.fillCounters(Arrays.asList(item1, item2), Arrays.asList(ProcessItem.COUNTER_OPEN_CASES, ProcessItem.COUNTER_FAILED_CASES));
+
+        // Then
+        verify(caseDatastore, times(2)).countByProcess(anyListOf(APIID.class), anyMapOf(String.class, String.class));
+        verify(caseDatastore, never()).count(anyString(), anyString(), anyMapOf(String.class, String.class));
+        verify(item1).setAttribute(ProcessItem.COUNTER_OPEN_CASES, 3L);
+        verify(item1).setAttribute(ProcessItem.COUNTER_FAILED_CASES, 1L);
+        verify(item2).setAttribute(ProcessItem.COUNTER_OPEN_CASES, 0L);
+        verify(item2).setAttribute(ProcessItem.COUNTER_FAILED_CASES, 0L);
+    }
 }
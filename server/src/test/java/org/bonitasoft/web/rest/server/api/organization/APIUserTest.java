@@ -1,13 +1,18 @@
 package org.bonitasoft.web.rest.server.api.organization;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.bonitasoft.console.common.server.i18n.I18n;
 import org.bonitasoft.engine.session.APISession;
 import org.bonitasoft.web.rest.model.identity.UserItem;
+import org.bonitasoft.web.rest.server.datastore.bpm.flownode.HumanTaskDatastore;
 import org.bonitasoft.web.rest.server.datastore.organization.UserDatastore;
 import org.bonitasoft.web.rest.server.framework.APIServletCall;
 import org.bonitasoft.web.toolkit.client.ItemDefinitionFactory;
@@ -120,4 +125,47 @@ public class APIUserTest {
         apiUser.add(userItem);
     }
 
+    @Test
+    public void should_count_open_and_overdue_tasks_of_all_users_with_one_call_per_counter() throws Exception {
+        final HumanTaskDatastore humanTaskDatastore = mock(HumanTaskDatastore.class);
+        doReturn(humanTaskDatastore).when(apiUser).getHumanTaskDatastore();
+        final List<UserItem> users = Arrays.asList(user(1L), user(2L), user(3L));
+        final List<APIID> userIds = Arrays.asList(APIID.makeAPIID(1L), APIID.makeAPIID(2L), APIID.makeAPIID(3L));
+        doReturn(counts(1L, 5L, 2L, 0L, 3L, 7L)).when(humanTaskDatastore).getNumberOfOpenTasks(userIds);
+        doReturn(counts(1L, 1L, 2L, 0L, 3L, 2L)).when(humanTaskDatastore).getNumberOfOverdueOpenTasks(userIds);
+
+        apiUser.fillCounters(users, Arrays.asList(UserItem.COUNTER_OPEN_TASKS, UserItem.COUNTER_OVERDUE_TASKS));
+
+        verify(humanTaskDatastore).getNumberOfOpenTasks(userIds);
+        verify(humanTaskDatastore).getNumberOfOverdueOpenTasks(userIds);
+        verifyNoMoreInteractions(humanTaskDatastore);
+        assertThat(users.get(0).getAttributeValue(UserItem.COUNTER_OPEN_TASKS)).isEqualTo("5");
+        assertThat(users.get(2).getAttributeValue(UserItem.COUNTER_OPEN_TASKS)).isEqualTo("7");
+        assertThat(users.get(2).getAttributeValue(UserItem.COUNTER_OVERDUE_TASKS)).isEqualTo("2");
+    }
+
+    @Test
+    public void should_not_count_tasks_when_no_counter_is_requested() throws Exception {
+        final HumanTaskDatastore humanTaskDatastore = mock(HumanTaskDatastore.class);
+        doReturn(humanTaskDatastore).when(apiUser).getHumanTaskDatastore();
+
+        apiUser.fillCounters(Arrays.asList(user(1L)), Collections.<String> emptyList());
+
+        verifyZeroInteractions(humanTaskDatastore);
+    }
+
+    private UserItem user(final long id) {
+        final UserItem user = new UserItem();
+        user.setId(id);
+        return user;
+    }
+
+    private Map<Long, Long> counts(final Long... userIdsAndCounts) {
+        final Map<Long, Long> counts = new HashMap<>();
+        for (int i = 0; i < userIdsAndCounts.length; i += 2) {
+            counts.put(userIdsAndCounts[i], userIdsAndCounts[i + 1]);
+        }
+        return counts;
+    }
+
 }
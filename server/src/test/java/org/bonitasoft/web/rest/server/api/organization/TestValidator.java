@@ -14,6 +14,8 @@
 
 package org.bonitasoft.web.rest.server.api.organization;
 
+import java.util.List;
+
 import org.bonitasoft.web.toolkit.client.data.item.attribute.validator.AbstractStringValidator;
 
 /**
@@ -25,9 +27,11 @@ public class TestValidator extends AbstractStringValidator {
     }
 
     @Override
-    protected void _check(String attributeValue) {
+    protected List<String> _check(String attributeValue) {
         if ("this password is not accepted by the TestValidator validator".equals(attributeValue)) {
-            addError("the validator TestValidator rejected this password");
+            return error("the validator TestValidator rejected this password");
         }
+
+        return noError();
     }
 }
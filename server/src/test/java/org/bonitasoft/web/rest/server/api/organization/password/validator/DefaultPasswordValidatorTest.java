@@ -15,7 +15,6 @@ public class DefaultPasswordValidatorTest {
     public void testWithPassword() {
         I18n.getInstance();
         defaultPasswordValidator.setLocale("en");
-        defaultPasswordValidator.check("password");
-        assertTrue(defaultPasswordValidator.getErrors().isEmpty());
+        assertTrue(defaultPasswordValidator.check("password").isEmpty());
     }
 }
@@ -15,23 +15,20 @@ public class RobustnessPasswordValidatorTest {
     public void testWithWrongPassword() {
         I18n.getInstance();
         robustnessPasswordValidator.setLocale("en");
-        robustnessPasswordValidator.check("password");
-        assertFalse(robustnessPasswordValidator.getErrors().isEmpty());
+        assertFalse(robustnessPasswordValidator.check("password").isEmpty());
     }
 
     @Test
     public void testwithLongPassword() {
         I18n.getInstance();
         robustnessPasswordValidator.setLocale("en");
-        robustnessPasswordValidator.check("myreallylongpassword");
-        assertFalse(robustnessPasswordValidator.getErrors().isEmpty());
+        assertFalse(robustnessPasswordValidator.check("myreallylongpassword").isEmpty());
     }
     
     @Test
     public void testwithGoodPassword() {
         I18n.getInstance();
         robustnessPasswordValidator.setLocale("en");
-        robustnessPasswordValidator.check("MyPasswOrd!?321D*");
-        assertTrue(robustnessPasswordValidator.getErrors().isEmpty());
+        assertTrue(robustnessPasswordValidator.check("MyPasswOrd!?321D*").isEmpty());
     }
 }
@@ -40,10 +40,12 @@ import org.bonitasoft.engine.session.APISession;
 import org.bonitasoft.web.rest.model.bpm.cases.CaseItem;
 import org.bonitasoft.web.rest.server.framework.search.ItemSearchResult;
 import org.bonitasoft.web.toolkit.client.common.exception.api.APIException;
+import org.bonitasoft.web.toolkit.client.data.APIID;
 import org.bonitasoft.web.toolkit.client.data.item.IItem;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.slf4j.Logger;
@@ -431,4 +433,48 @@ public class CaseDatastoreTest {
         assertThat(itemSearchResult).isSameAs(caseSearchResult);
     }
 
+    @Test
+    public void countByProcess_should_count_cases_of_all_processes_with_a_single_search_when_there_is_none() throws Exception {
+        doReturn(new SearchResultImpl<ProcessInstance>(0L, Collections.<ProcessInstance> emptyList())).when(processAPI).searchProcessInstances(
+                any(SearchOptions.class));
+
+        final Map<APIID, Long> counts = caseDatastore.countByProcess(Arrays.asList(APIID.makeAPIID(1L), APIID.makeAPIID(2L)),
+                Collections.singletonMap(CaseItem.FILTER_CALLER, "any"));
+
+        assertThat(counts).containsEntry(APIID.makeAPIID(1L), 0L).containsEntry(APIID.makeAPIID(2L), 0L);
+        verify(processAPI, times(1)).searchProcessInstances(any(SearchOptions.class));
+    }
+
+    @Test
+    public void countByProcess_should_count_each_process_directly() throws Exception {
+        when(processAPI.searchProcessInstances(any(SearchOptions.class))).thenReturn(
+                new SearchResultImpl<ProcessInstance>(3L, Collections.<ProcessInstance> emptyList()),
+                new SearchResultImpl<ProcessInstance>(2L, Collections.<ProcessInstance> emptyList()),
+                new SearchResultImpl<ProcessInstance>(1L, Collections.<ProcessInstance> emptyList()),
+                new SearchResultImpl<ProcessInstance>(4L, Collections.<ProcessInstance> emptyList()));
+
+        final Map<APIID, Long> counts = caseDatastore.countByProcess(
+                Arrays.asList(APIID.makeAPIID(1L), APIID.makeAPIID(2L), APIID.makeAPIID(3L)),
+                Collections.singletonMap(CaseItem.FILTER_CALLER, "any"));
+
+        // a case created between the searches is counted, the counts do not depend on the first total
+        assertThat(counts).containsEntry(APIID.makeAPIID(1L), 2L).containsEntry(APIID.makeAPIID(2L), 1L).containsEntry(APIID.makeAPIID(3L), 4L);
+        final ArgumentCaptor<SearchOptions> searchOptions = ArgumentCaptor.forClass(SearchOptions.class);
+        verify(processAPI, times(4)).searchProcessInstances(searchOptions.capture());
+        for (final SearchOptions options : searchOptions.getAllValues()) {
+            assertThat(options.getMaxResults()).isEqualTo(0);
+        }
+    }
+
+    @Test
+    public void countByProcess_should_count_a_single_process_with_a_single_search() throws Exception {
+        when(processAPI.searchFailedProcessInstances(any(SearchOptions.class))).thenReturn(
+                new SearchResultImpl<ProcessInstance>(5000L, Collections.<ProcessInstance> emptyList()));
+
+        final Map<APIID, Long> counts = caseDatastore.countByProcess(Collections.singletonList(APIID.makeAPIID(1L)),
+                Collections.singletonMap(CaseItem.FILTER_STATE, ProcessInstanceState.ERROR.name()));
+
+        assertThat(counts).containsEntry(APIID.makeAPIID(1L), 5000L);
+        verify(processAPI, times(1)).searchFailedProcessInstances(any(SearchOptions.class));
+    }
 }
@@ -25,6 +25,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -47,6 +48,7 @@ import org.bonitasoft.web.rest.server.datastore.converter.AttributeConverterExce
 import org.bonitasoft.web.rest.server.engineclient.ProcessEngineClient;
 import org.bonitasoft.web.rest.server.engineclient.UserEngineClient;
 import org.bonitasoft.web.rest.server.framework.search.ItemSearchResult;
+import org.bonitasoft.web.toolkit.client.common.exception.api.APINotFoundException;
 import org.bonitasoft.web.toolkit.client.data.APIID;
 import org.junit.Assert;
 import org.junit.Before;
@@ -186,4 +188,22 @@ public class UserDatastoreTest {
         assertThat(filters.get(0).getValue()).isEqualTo(true);
     }
 
+    @Test
+    public void should_getByIds_return_the_users_found() throws Exception {
+        final UserImpl user = new UserImpl(1L, "john", "bpm");
+        final UserItem userItem = new UserItem();
+        doReturn(Collections.singletonMap(1L, user)).when(identityAPI).getUsers(Collections.singletonList(1L));
+        doReturn(userItem).when(userItemConverter).convert(user);
+
+        final Map<APIID, UserItem> users = datastore.getByIds(Collections.singletonList(APIID.makeAPIID(1L)));
+
+        assertThat(users).containsOnly(entry(APIID.makeAPIID(1L), userItem));
+    }
+
+    @Test(expected = APINotFoundException.class)
+    public void should_getByIds_throw_not_found_exception_like_get_when_a_user_is_missing() throws Exception {
+        doReturn(Collections.singletonMap(1L, new UserImpl(1L, "john", "bpm"))).when(identityAPI).getUsers(Arrays.asList(1L, 2L));
+
+        datastore.getByIds(Arrays.asList(APIID.makeAPIID(1L), APIID.makeAPIID(2L)));
+    }
 }
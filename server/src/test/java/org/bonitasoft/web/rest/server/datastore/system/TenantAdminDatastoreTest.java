@@ -2,8 +2,10 @@ package org.bonitasoft.web.rest.server.datastore.system;
 
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -31,6 +33,7 @@ public class TenantAdminDatastoreTest {
         tenantAdministrationAPI = mock(TenantAdministrationAPI.class);
         tenantAdminDatastore = spy(new TenantAdminDatastore(mock(APISession.class)));
         doReturn(new TenantManagementEngineClient(tenantAdministrationAPI)).when(tenantAdminDatastore).getTenantManagementEngineClient();
+        doNothing().when(tenantAdminDatastore).reloadTenantConfiguration();
     }
 
     @Test
@@ -71,6 +74,7 @@ public class TenantAdminDatastoreTest {
 
         verify(tenantAdministrationAPI, times(1)).isPaused();
         verify(tenantAdministrationAPI, times(1)).pause();
+        verify(tenantAdminDatastore, never()).reloadTenantConfiguration();
         assertTrue(tenantAdminItem.isPaused());
     }
 
@@ -85,6 +89,7 @@ public class TenantAdminDatastoreTest {
 
         verify(tenantAdministrationAPI, times(1)).isPaused();
         verify(tenantAdministrationAPI, times(1)).resume();
+        verify(tenantAdminDatastore).reloadTenantConfiguration();
         assertFalse(tenantAdminItem.isPaused());
     }
 
@@ -0,0 +1,103 @@
+/**
+ * Copyright (C) 2022 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.rest.server.engineclient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import javax.servlet.http.HttpSession;
+import javax.servlet.http.HttpSessionBindingEvent;
+
+import org.bonitasoft.console.common.server.utils.SessionUtil;
+import org.bonitasoft.engine.api.IdentityAPI;
+import org.bonitasoft.engine.api.ProcessAPI;
+import org.bonitasoft.engine.session.APISession;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class EngineAPICacheTest {
+
+    private static final int REQUESTS = 1000;
+
+    @Mock
+    private APISession session;
+
+    @Mock
+    private APISession otherSession;
+
+    @Mock
+    private HttpSession httpSession;
+
+    private EngineAPICache cache;
+
+    private int createdFacades;
+
+    @Before
+    public void setUp() {
+        doReturn(1L).when(session).getId();
+        doReturn(2L).when(otherSession).getId();
+        cache = new EngineAPICache();
+    }
+
+    private ProcessAPI createProcessAPI(final APISession session) {
+        createdFacades++;
+        return mock(ProcessAPI.class);
+    }
+
+    @Test
+    public void should_create_a_facade_once_per_session() throws Exception {
+        final ProcessAPI processAPI = cache.get(session, ProcessAPI.class, this::createProcessAPI);
+
+        for (int i = 0; i < REQUESTS; i++) {
+            assertThat(cache.get(session, ProcessAPI.class, this::createProcessAPI)).isSameAs(processAPI);
+        }
+
+        assertThat(createdFacades).isEqualTo(1);
+    }
+
+    @Test
+    public void should_keep_facades_of_sessions_and_apis_apart() throws Exception {
+        final ProcessAPI processAPI = cache.get(session, ProcessAPI.class, this::createProcessAPI);
+
+        assertThat(cache.get(otherSession, ProcessAPI.class, this::createProcessAPI)).isNotSameAs(processAPI);
+        assertThat(cache.get(session, IdentityAPI.class, s -> mock(IdentityAPI.class))).isNotNull();
+        assertThat(createdFacades).isEqualTo(2);
+    }
+
+    @Test
+    public void should_create_new_facades_once_the_session_is_invalidated() throws Exception {
+        final ProcessAPI processAPI = cache.get(session, ProcessAPI.class, this::createProcessAPI);
+
+        cache.invalidate(session);
+
+        assertThat(cache.getNumberOfSessions()).isEqualTo(0);
+        assertThat(cache.get(session, ProcessAPI.class, this::createProcessAPI)).isNotSameAs(processAPI);
+    }
+
+    @Test
+    public void should_invalidate_the_session_removed_from_the_http_session() throws Exception {
+        final EngineAPICache sharedCache = EngineAPICache.getInstance();
+        final ProcessAPI processAPI = sharedCache.get(session, ProcessAPI.class, this::createProcessAPI);
+
+        new EngineAPICacheSessionListener().attributeRemoved(new HttpSessionBindingEvent(httpSession, SessionUtil.API_SESSION_PARAM_KEY, session));
+
+        assertThat(sharedCache.get(session, ProcessAPI.class, this::createProcessAPI)).isNotSameAs(processAPI);
+        sharedCache.invalidate(session);
+    }
+}
@@ -21,17 +21,21 @@ import static org.mockito.Mockito.*;
 import static org.mockito.MockitoAnnotations.initMocks;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import org.bonitasoft.engine.api.ProcessAPI;
 import org.bonitasoft.engine.bpm.bar.BusinessArchive;
 import org.bonitasoft.engine.bpm.process.ProcessDefinitionNotFoundException;
 import org.bonitasoft.engine.bpm.process.ProcessDeployException;
+import org.bonitasoft.engine.bpm.process.ProcessDeploymentInfo;
 import org.bonitasoft.engine.bpm.process.V6FormDeployException;
 import org.bonitasoft.engine.bpm.process.impl.internal.DesignProcessDefinitionImpl;
 import org.bonitasoft.engine.exception.AlreadyExistsException;
 import org.bonitasoft.web.rest.server.APITestWithMock;
 import org.bonitasoft.web.toolkit.client.common.exception.api.APIException;
+import org.bonitasoft.web.toolkit.client.common.exception.api.APIItemNotFoundException;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -110,4 +114,12 @@ public class ProcessEngineClientTest extends APITestWithMock {
         processEngineClient.deploy(businessArchive);
     }
 
+    @Test
+    public void getProcessDeploymentInfos_throw_APIItemNotFoundException_if_a_process_is_not_found() throws Exception {
+        when(processAPI.getProcessDeploymentInfosFromIds(Arrays.asList(1L, 2L)))
+                .thenReturn(Collections.singletonMap(1L, mock(ProcessDeploymentInfo.class)));
+
+        expectedException.expect(APIItemNotFoundException.class);
+        processEngineClient.getProcessDeploymentInfos(Arrays.asList(1L, 2L));
+    }
 }
@@ -0,0 +1,117 @@
+/**
+ * Copyright (C) 2022 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.rest.server.framework;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.anyListOf;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.bonitasoft.web.rest.model.ModelFactory;
+import org.bonitasoft.web.rest.model.bpm.cases.CaseItem;
+import org.bonitasoft.web.rest.model.bpm.process.ProcessItem;
+import org.bonitasoft.web.rest.model.identity.UserItem;
+import org.bonitasoft.web.rest.server.framework.api.DatastoreHasGetByIds;
+import org.bonitasoft.web.toolkit.client.ItemDefinitionFactory;
+import org.bonitasoft.web.toolkit.client.data.APIID;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DeployBatchTest {
+
+    @Mock
+    private DatastoreHasGetByIds<UserItem> userDatastore;
+
+    @Mock
+    private DatastoreHasGetByIds<ProcessItem> processDatastore;
+
+    @Before
+    public void setUp() {
+        ItemDefinitionFactory.setDefaultFactory(new ModelFactory());
+    }
+
+    @Test
+    public void should_resolve_all_attributes_sharing_a_datastore_with_a_single_call() {
+        final CaseItem case1 = aCase(1L, 2L, 10L);
+        final CaseItem case2 = aCase(1L, 3L, 10L);
+        final UserItem user1 = aUser(1L);
+        final UserItem user2 = aUser(2L);
+        final UserItem user3 = aUser(3L);
+        final Map<APIID, UserItem> users = new HashMap<>();
+        users.put(APIID.makeAPIID(1L), user1);
+        users.put(APIID.makeAPIID(2L), user2);
+        users.put(APIID.makeAPIID(3L), user3);
+        doReturn(users).when(userDatastore).getByIds(Arrays.asList(APIID.makeAPIID(1L), APIID.makeAPIID(2L), APIID.makeAPIID(3L)));
+
+        new DeployBatch<>(Arrays.asList(case1, case2),
+                Arrays.asList(CaseItem.ATTRIBUTE_STARTED_BY_USER_ID, CaseItem.ATTRIBUTE_STARTED_BY_SUBSTITUTE_USER_ID))
+                        .deploy(CaseItem.ATTRIBUTE_STARTED_BY_USER_ID, userDatastore)
+                        .deploy(CaseItem.ATTRIBUTE_STARTED_BY_SUBSTITUTE_USER_ID, userDatastore)
+                        .resolve();
+
+        assertThat(case1.getDeploy(CaseItem.ATTRIBUTE_STARTED_BY_USER_ID)).isEqualTo(user1);
+        assertThat(case1.getDeploy(CaseItem.ATTRIBUTE_STARTED_BY_SUBSTITUTE_USER_ID)).isEqualTo(user2);
+        assertThat(case2.getDeploy(CaseItem.ATTRIBUTE_STARTED_BY_USER_ID)).isEqualTo(user1);
+        assertThat(case2.getDeploy(CaseItem.ATTRIBUTE_STARTED_BY_SUBSTITUTE_USER_ID)).isEqualTo(user3);
+    }
+
+    @Test
+    public void should_not_call_datastore_when_attribute_is_not_deployed() {
+        final CaseItem caseItem = aCase(1L, 2L, 10L);
+
+        new DeployBatch<>(Collections.singletonList(caseItem), Collections.singletonList(CaseItem.ATTRIBUTE_STARTED_BY_USER_ID))
+                .deploy(CaseItem.ATTRIBUTE_STARTED_BY_USER_ID, userDatastore)
+                .deploy(CaseItem.ATTRIBUTE_PROCESS_ID, processDatastore)
+                .resolve();
+
+        verify(processDatastore, never()).getByIds(anyListOf(APIID.class));
+    }
+
+    @Test
+    public void should_not_deploy_items_that_were_not_found() {
+        final CaseItem caseItem = aCase(1L, 2L, 10L);
+        doReturn(Collections.emptyMap()).when(processDatastore).getByIds(Collections.singletonList(APIID.makeAPIID(10L)));
+
+        new DeployBatch<>(Collections.singletonList(caseItem), Collections.singletonList(CaseItem.ATTRIBUTE_PROCESS_ID))
+                .deploy(CaseItem.ATTRIBUTE_PROCESS_ID, processDatastore)
+                .resolve();
+
+        assertThat(caseItem.getDeploy(CaseItem.ATTRIBUTE_PROCESS_ID)).isNull();
+    }
+
+    private CaseItem aCase(final long startedBy, final long startedBySubstitute, final long processId) {
+        final CaseItem caseItem = new CaseItem();
+        caseItem.setStartedByUserId(startedBy);
+        caseItem.setStartedBySubstituteUserId(startedBySubstitute);
+        caseItem.setProcessId(processId);
+        return caseItem;
+    }
+
+    private UserItem aUser(final long id) {
+        final UserItem user = new UserItem();
+        user.setId(id);
+        return user;
+    }
+}
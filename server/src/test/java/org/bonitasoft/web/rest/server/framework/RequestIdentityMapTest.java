@@ -0,0 +1,115 @@
+/**
+ * Copyright (C) 2022 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.rest.server.framework;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class RequestIdentityMapTest {
+
+    private final List<Long> loadedIds = new ArrayList<>();
+
+    @After
+    public void tearDown() {
+        final RequestIdentityMap identityMap = RequestIdentityMap.current();
+        if (identityMap != null) {
+            identityMap.close();
+        }
+    }
+
+    private String load(final long id) {
+        loadedIds.add(id);
+        return "object " + id;
+    }
+
+    private Map<Long, String> loadAll(final List<Long> ids) {
+        final Map<Long, String> objects = new HashMap<>();
+        for (final Long id : ids) {
+            objects.put(id, load(id));
+        }
+        return objects;
+    }
+
+    @Test
+    public void should_load_an_object_once_per_request() {
+        final RequestIdentityMap identityMap = RequestIdentityMap.open("GET bpm/case");
+
+        final String first = RequestIdentityMap.get("case", 1L, this::load);
+        final String second = RequestIdentityMap.get("case", 1L, this::load);
+
+        assertThat(second).isSameAs(first);
+        assertThat(loadedIds).containsExactly(1L);
+        assertThat(identityMap.getHitCount()).isEqualTo(1);
+        assertThat(identityMap.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void should_keep_regions_apart() {
+        RequestIdentityMap.open("GET bpm/case");
+
+        RequestIdentityMap.get("case", 1L, this::load);
+        RequestIdentityMap.get("archivedCase", 1L, this::load);
+
+        assertThat(loadedIds).containsExactly(1L, 1L);
+    }
+
+    @Test
+    public void should_not_keep_objects_not_found() {
+        RequestIdentityMap.open("GET identity/user");
+
+        RequestIdentityMap.get("user", 1L, id -> null);
+
+        assertThat(RequestIdentityMap.get("user", 1L, this::load)).isEqualTo("object 1");
+    }
+
+    @Test
+    public void should_only_load_the_missing_objects_of_a_list() {
+        final RequestIdentityMap identityMap = RequestIdentityMap.open("GET identity/user");
+        RequestIdentityMap.get("user", 2L, this::load);
+
+        final Map<Long, String> users = RequestIdentityMap.getAll("user", Arrays.asList(1L, 2L, 3L, 1L), this::loadAll);
+
+        assertThat(users).containsOnlyKeys(1L, 2L, 3L);
+        assertThat(loadedIds).containsExactly(2L, 1L, 3L);
+        assertThat(identityMap.getHitCount()).isEqualTo(1);
+        assertThat(identityMap.getMissCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void should_always_load_objects_when_no_request_is_served() {
+        RequestIdentityMap.get("user", 1L, this::load);
+        RequestIdentityMap.get("user", 1L, this::load);
+
+        assertThat(loadedIds).containsExactly(1L, 1L);
+    }
+
+    @Test
+    public void should_discard_objects_when_the_request_is_over() {
+        RequestIdentityMap.open("GET identity/user").close();
+
+        RequestIdentityMap.get("user", 1L, this::load);
+
+        assertThat(RequestIdentityMap.current()).isNull();
+        assertThat(loadedIds).containsExactly(1L);
+    }
+}
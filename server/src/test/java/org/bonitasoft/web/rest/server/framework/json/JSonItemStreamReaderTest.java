@@ -0,0 +1,114 @@
+/**
+ * Copyright (C) 2022 Bonitasoft S.A.
+ * Bonitasoft, 32 rue Gustave Eiffel - 38000 Grenoble
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2.0 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.bonitasoft.web.rest.server.framework.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import org.bonitasoft.web.rest.model.bpm.cases.CaseDefinition;
+import org.bonitasoft.web.rest.model.bpm.cases.CaseItem;
+import org.bonitasoft.web.rest.model.identity.UserDefinition;
+import org.bonitasoft.web.rest.model.identity.UserItem;
+import org.bonitasoft.web.rest.server.APITestWithMock;
+import org.bonitasoft.web.rest.server.framework.exception.APIBodyTooLargeException;
+import org.bonitasoft.web.rest.server.framework.exception.APIMalformedBodyException;
+import org.bonitasoft.web.toolkit.client.data.item.IItem;
+import org.junit.Test;
+
+/** extends APITestWithMock to avoid nullpointerException on I18n */
+public class JSonItemStreamReaderTest extends APITestWithMock {
+
+    private final JSonItemStreamReader reader = new JSonItemStreamReader(1024);
+
+    private InputStream body(final String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void should_set_json_values_as_item_attributes() {
+        final UserItem user = reader.readItem(body("{\"firstname\":\"John\",\"id\":12,\"enabled\":true,\"manager_id\":null}"),
+                UserDefinition.get());
+
+        assertThat(user.getFirstName()).isEqualTo("John");
+        assertThat(user.getAttributeValue(UserItem.ATTRIBUTE_ID)).isEqualTo("12");
+        assertThat(user.getAttributeValue(UserItem.ATTRIBUTE_ENABLED)).isEqualTo("1");
+        assertThat(user.getAttributes()).containsKey(UserItem.ATTRIBUTE_MANAGER_ID);
+    }
+
+    @Test
+    public void should_set_json_lists_as_json_attributes() {
+        final UserItem user = reader.readItem(body("{\"groups\":[1,\"a\",false,{\"ids\":[2]}]}"), UserDefinition.get());
+
+        assertThat(user.getAttributeValue("groups")).isEqualTo("[\"1\",\"a\",\"0\",{\"ids\":[\"2\"]}]");
+    }
+
+    @Test
+    public void should_read_json_objects_as_deploys() {
+        final IItem item = reader.readItem(body("{\"id\":\"3\",\"started_by\":{\"firstname\":\"Walter\"}}"), CaseDefinition.get());
+
+        assertThat(item.getAttributeValue(CaseItem.ATTRIBUTE_ID)).isEqualTo("3");
+        assertThat(item.getDeploy(CaseItem.ATTRIBUTE_STARTED_BY_USER_ID).getAttributeValue(UserItem.ATTRIBUTE_FIRSTNAME)).isEqualTo("Walter");
+    }
+
+    @Test
+    public void should_read_the_first_item_of_a_list() {
+        final UserItem user = reader.readItem(body("[{\"firstname\":\"John\"},{\"firstname\":\"Jane\"}]"), UserDefinition.get());
+
+        assertThat(user.getFirstName()).isEqualTo("John");
+    }
+
+    @Test
+    public void should_return_null_when_the_body_is_empty() {
+        assertThat(reader.readItem(body(" \n"), UserDefinition.get())).isNull();
+    }
+
+    @Test
+    public void should_read_lists_of_items() {
+        final List<UserItem> users = reader.readItems(body("{\"total\":2,\"results\":[{\"firstname\":\"John\"},{\"firstname\":\"Jane\"}]}"),
+                UserDefinition.get());
+
+        assertThat(users).extracting("firstName").containsExactly("John", "Jane");
+    }
+
+    @Test
+    public void should_give_the_position_of_json_errors() {
+        try {
+            reader.readItem(body("{\"firstname\":\n \"John\",,}"), UserDefinition.get());
+        } catch (final APIMalformedBodyException e) {
+            assertThat(e.getLine()).isEqualTo(2);
+            assertThat(e.getMessage()).contains("line 2");
+            return;
+        }
+        throw new AssertionError("APIMalformedBodyException expected");
+    }
+
+    @Test(expected = APIMalformedBodyException.class)
+    public void should_only_read_json_objects_as_items() {
+        reader.readItem(body("\"John\""), UserDefinition.get());
+    }
+
+    @Test(expected = APIBodyTooLargeException.class)
+    public void should_stop_reading_bodies_larger_than_the_max_size() {
+        final char[] name = new char[2048];
+        Arrays.fill(name, 'a');
+
+        reader.readItem(body("{\"firstname\":\"" + new String(name) + "\"}"), UserDefinition.get());
+    }
+}